@@ -0,0 +1,153 @@
+package com.agarang.domain.diary.search;
+
+import com.agarang.domain.diary.dto.DiaryIndexRow;
+import com.agarang.domain.diary.dto.DiaryKeywordRow;
+import com.agarang.global.util.HtmlProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 다이어리 10,000건에서 검색하는 비용을 비교하는 벤치마크입니다.
+ *
+ * <p>{@code scan} 은 이전처럼 모든 다이어리 내용을 하나씩 비교하는 경우로, DB 의 {@code LIKE '%검색어%'} 에서
+ * 행을 읽는 비용은 빼고 문자열 비교만 측정합니다. {@code indexSearch} 는 {@link DiaryBabyIndex} 로 검색하여 상위 20건을 반환합니다.
+ * {@code rebuild} 와 {@code readSegment} 는 색인을 올리는 비용으로, 각각 DB 에서 읽은 행으로 색인을 다시 만드는 경우와
+ * 디스크에 저장된 색인을 읽는 경우입니다 (DB 조회 시간 제외).
+ * {@code ./gradlew jmh} 로 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiarySearchBenchmark {
+    private static final int DIARIES = 10_000;
+    private static final int BABY_ID = 1;
+    private static final int LIMIT = 20;
+    private static final String[] WORDS = {
+            "오늘은", "아기가", "산책을", "다녀왔다", "이유식을", "잘", "먹었다", "낮잠을", "두", "시간", "잤다",
+            "목욕하고", "기분이", "좋아", "보였다", "할머니가", "놀러", "오셔서", "같이", "놀았다", "처음으로",
+            "뒤집기를", "성공했다", "밤에", "자주", "깼다", "분유를", "많이", "먹고", "웃었다", "공원에서", "햇볕을"
+    };
+    private static final String[] KEYWORDS = {"산책", "이유식", "낮잠", "목욕", "뒤집기", "외출", "병원", "예방접종"};
+
+    @Param({"산책", "예방접종", "이유식을 잘 먹었다"})
+    public String query;
+
+    private List<DiaryIndexRow> rows;
+    private List<List<DiaryKeywordRow>> keywords;
+    private List<String> plainTexts;
+    private DiaryBabyIndex index;
+    private Set<String> terms;
+    private String normalizedQuery;
+    private Path segmentDirectory;
+    private DiaryIndexSegmentStore segmentStore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        rows = new ArrayList<>(DIARIES);
+        keywords = new ArrayList<>(DIARIES);
+        plainTexts = new ArrayList<>(DIARIES);
+        LocalDate firstDay = LocalDate.of(2000, 1, 1);
+
+        int keywordId = 1;
+        for (int diaryId = 1; diaryId <= DIARIES; diaryId++) {
+            StringBuilder content = new StringBuilder("<p>");
+            int wordCount = 40 + random.nextInt(80);
+            for (int w = 0; w < wordCount; w++) {
+                content.append(WORDS[random.nextInt(WORDS.length)]).append(w % 12 == 11 ? ".</p><p>" : " ");
+            }
+            content.append("</p>");
+            if (diaryId % 500 == 0) {
+                content.append("<p>예방접종을 맞고 왔다</p>");
+            }
+
+            DiaryIndexRow row = new DiaryIndexRow(diaryId, firstDay.plusDays(diaryId), content.toString());
+            rows.add(row);
+            plainTexts.add(HtmlProcessor.convertHtmlToPlainText(row.content()));
+            keywords.add(List.of(
+                    new DiaryKeywordRow(keywordId++, KEYWORDS[random.nextInt(KEYWORDS.length)], diaryId),
+                    new DiaryKeywordRow(keywordId++, KEYWORDS[random.nextInt(KEYWORDS.length)], diaryId)));
+        }
+
+        List<DiaryIndexDocument> documents = documents();
+        index = new DiaryBabyIndex(BABY_ID);
+        index.replaceAll(documents, false);
+        terms = DiaryTokenizer.queryTerms(query);
+        normalizedQuery = DiaryTokenizer.normalizeKeyword(query);
+
+        segmentDirectory = Files.createTempDirectory("agarang-diary-index-benchmark");
+        segmentStore = new DiaryIndexSegmentStore(segmentDirectory);
+        segmentStore.write(BABY_ID, documents);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(segmentDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Integer> scan() {
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < DIARIES; i++) {
+            if (plainTexts.get(i).contains(query)) {
+                matches.add(rows.get(i).diaryId());
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<DiarySearchHit> indexSearch() {
+        index.lock.readLock().lock();
+        try {
+            return index.search(terms, normalizedQuery, null, null, LIMIT);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    @Benchmark
+    public DiaryBabyIndex rebuild() {
+        DiaryBabyIndex rebuilt = new DiaryBabyIndex(BABY_ID);
+        rebuilt.replaceAll(documents(), true);
+        return rebuilt;
+    }
+
+    @Benchmark
+    public Optional<List<DiaryIndexDocument>> readSegment() {
+        return segmentStore.read(BABY_ID);
+    }
+
+    private List<DiaryIndexDocument> documents() {
+        List<DiaryIndexDocument> documents = new ArrayList<>(DIARIES);
+        for (int i = 0; i < DIARIES; i++) {
+            documents.add(DiaryIndexDocument.of(rows.get(i), keywords.get(i)));
+        }
+        return documents;
+    }
+}
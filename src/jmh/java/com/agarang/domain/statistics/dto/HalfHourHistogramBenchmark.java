@@ -0,0 +1,209 @@
+package com.agarang.domain.statistics.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 활동 시간 패턴 분석 비용을 비교하는 벤치마크입니다.
+ *
+ * <p>무작위로 만든 한 주(7일)의 30분 단위 기록 칸으로 패턴을 분석합니다.
+ * {@code mapSleep} 과 {@code mapFeeding} 은 이전 방식처럼 칸마다 {@link ActiveTimeBlock} 을 만들어
+ * {@code HashMap} 으로 빈도를 세고, 수면은 정렬한 뒤 {@code LinkedList} 로 연속된 블록을 병합합니다.
+ * {@code histogramSleep} 과 {@code histogramFeeding} 은 같은 주를 {@link HalfHourHistogram} 으로 분석합니다.
+ * {@code weeks} 개의 주를 차례로 분석하며, 수면 기록이 적은 주와 많은 주를 {@code density} 로 나눕니다.
+ * {@code ./gradlew jmh} 로 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HalfHourHistogramBenchmark {
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int WEEKS = 1_000;
+    private static final int BLOCK_FREQUENCY = 4;
+
+    @Param({"sparse", "dense"})
+    public String density;
+
+    private long[][] sleepWeeks;
+    private long[][] feedingWeeks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        boolean dense = "dense".equals(density);
+        sleepWeeks = new long[WEEKS][DAYS_PER_WEEK];
+        feedingWeeks = new long[WEEKS][DAYS_PER_WEEK];
+
+        for (int week = 0; week < WEEKS; week++) {
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                sleepWeeks[week][day] = sleepDay(random, dense);
+                feedingWeeks[week][day] = feedingDay(random, dense);
+            }
+        }
+    }
+
+    @Benchmark
+    public int mapSleep() {
+        int blocks = 0;
+        for (long[] week : sleepWeeks) {
+            Map<ActiveTimeBlock, Integer> frequencyMap = extractBlocks(week);
+            List<ActiveTimeBlock> filtered = filterByFrequency(new ArrayList<>(frequencyMap.keySet()), frequencyMap, BLOCK_FREQUENCY);
+            List<ActiveTimeBlock> result = mergeActiveTimeBlocks(filtered);
+            result.sort(Comparator.comparing(ActiveTimeBlock::getStart));
+            blocks += result.size();
+        }
+        return blocks;
+    }
+
+    @Benchmark
+    public int histogramSleep() {
+        int blocks = 0;
+        for (long[] week : sleepWeeks) {
+            HalfHourHistogram histogram = new HalfHourHistogram();
+            for (long slots : week) {
+                histogram.addSlots(slots);
+            }
+            blocks += histogram.findMergedBlocks(BLOCK_FREQUENCY).size();
+        }
+        return blocks;
+    }
+
+    @Benchmark
+    public int mapFeeding() {
+        int blocks = 0;
+        for (long[] week : feedingWeeks) {
+            Map<ActiveTimeBlock, Integer> frequencyMap = extractBlocks(week);
+            List<ActiveTimeBlock> result = filterByFrequency(new ArrayList<>(frequencyMap.keySet()), frequencyMap, BLOCK_FREQUENCY);
+            result.sort(Comparator.comparing(ActiveTimeBlock::getStart));
+            blocks += result.size();
+        }
+        return blocks;
+    }
+
+    @Benchmark
+    public int histogramFeeding() {
+        int blocks = 0;
+        for (long[] week : feedingWeeks) {
+            HalfHourHistogram histogram = new HalfHourHistogram();
+            for (long slots : week) {
+                histogram.addSlots(slots);
+            }
+            blocks += histogram.findBlocks(BLOCK_FREQUENCY).size();
+        }
+        return blocks;
+    }
+
+    /**
+     * 밤잠 한 번과 낮잠 몇 번으로 이루어진 하루의 수면 칸을 만듭니다.
+     */
+    private static long sleepDay(Random random, boolean dense) {
+        long slots = occupy(0L, 0, 12 + random.nextInt(4));
+        slots = occupy(slots, 40 + random.nextInt(4), HalfHourHistogram.SLOTS);
+
+        int naps = dense ? 3 + random.nextInt(2) : 1 + random.nextInt(2);
+        for (int nap = 0; nap < naps; nap++) {
+            int start = 18 + random.nextInt(20);
+            slots = occupy(slots, start, start + 1 + random.nextInt(dense ? 4 : 2));
+        }
+        return slots;
+    }
+
+    /**
+     * 대략 2~3시간 간격으로 수유한 하루의 수유 칸을 만듭니다.
+     */
+    private static long feedingDay(Random random, boolean dense) {
+        long slots = 0L;
+        int slot = random.nextInt(4);
+        while (slot < HalfHourHistogram.SLOTS) {
+            slots |= 1L << slot;
+            slot += (dense ? 3 : 5) + random.nextInt(3);
+        }
+        return slots;
+    }
+
+    private static long occupy(long slots, int fromSlot, int toSlot) {
+        for (int slot = fromSlot; slot < Math.min(toSlot, HalfHourHistogram.SLOTS); slot++) {
+            slots |= 1L << slot;
+        }
+        return slots;
+    }
+
+    /**
+     * 이전 방식: 기록이 있는 칸마다 30분 블록을 만들어 날짜 수를 셉니다.
+     */
+    private static Map<ActiveTimeBlock, Integer> extractBlocks(long[] week) {
+        Map<ActiveTimeBlock, Integer> frequencyMap = new HashMap<>();
+
+        for (long slots : week) {
+            for (int slot = 0; slot < HalfHourHistogram.SLOTS; slot++) {
+                if ((slots & (1L << slot)) == 0) continue;
+
+                LocalTime start = LocalTime.of(slot / 2, (slot % 2) * 30);
+                ActiveTimeBlock block = new ActiveTimeBlock(start, start.plusMinutes(30));
+                frequencyMap.put(block, frequencyMap.getOrDefault(block, 0) + 1);
+            }
+        }
+
+        return frequencyMap;
+    }
+
+    /**
+     * 이전 방식: 최소 빈도 이상인 블록을 새 리스트에 담습니다.
+     */
+    private static List<ActiveTimeBlock> filterByFrequency(List<ActiveTimeBlock> blocks, Map<ActiveTimeBlock, Integer> frequencyMap, int minFrequency) {
+        List<ActiveTimeBlock> filteredBlocks = new ArrayList<>();
+
+        for (ActiveTimeBlock block : blocks) {
+            if (frequencyMap.getOrDefault(block, 0) >= minFrequency) {
+                filteredBlocks.add(block);
+            }
+        }
+
+        return filteredBlocks;
+    }
+
+    /**
+     * 이전 방식: 블록을 시작 시각으로 정렬한 뒤 이어지는 블록을 병합합니다.
+     */
+    private static List<ActiveTimeBlock> mergeActiveTimeBlocks(List<ActiveTimeBlock> blocks) {
+        LinkedList<ActiveTimeBlock> result = new LinkedList<>();
+        ActiveTimeBlock prev = null;
+
+        List<ActiveTimeBlock> sortedBlocks = new ArrayList<>(blocks);
+        sortedBlocks.sort(Comparator.comparing(ActiveTimeBlock::getStart));
+
+        for (ActiveTimeBlock block : sortedBlocks) {
+            if (prev == null) {
+                prev = block;
+            } else if (prev.getEnd().equals(block.getStart())) {
+                prev = new ActiveTimeBlock(prev.getStart(), block.getEnd());
+            } else {
+                result.add(prev);
+                prev = block;
+            }
+        }
+
+        if (prev != null) {
+            result.add(prev);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+package com.agarang.global.filter;
+
+import com.agarang.global.util.JwtUtility;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 비용을 비교하는 벤치마크입니다.
+ *
+ * <p>{@code before} 는 이전 필터처럼 토큰을 검증한 뒤 사용자 ID 를 얻기 위해 한 번 더 파싱합니다.
+ * 이전 필터는 여기에 더해 요청마다 사용자를 DB 에서 조회했으며, 이 비용은 측정에 포함하지 않았습니다.
+ * {@code after} 는 현재 필터를 그대로 실행하며, 같은 토큰의 반복 요청이므로 {@link VerifiedTokenCache} 에서 찾습니다.
+ * {@code afterContended} 는 8개 스레드가 서로 다른 사용자의 토큰으로 동시에 요청하는 경우입니다.
+ * {@code ./gradlew jmh} 로 실행합니다.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+    private static final long ACCESS_TOKEN_VALIDITY = TimeUnit.HOURS.toMillis(1);
+    private static final int USERS = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Filter {
+        JwtUtility jwtUtility;
+        JwtAuthenticationFilter filter;
+        String[] tokens;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            jwtUtility = new JwtUtility();
+            setField(jwtUtility, "secretKey", "agarang-benchmark-secret-key-for-hmac-sha-256");
+            setField(jwtUtility, "accessTokenValidity", ACCESS_TOKEN_VALIDITY);
+            Method init = JwtUtility.class.getDeclaredMethod("init");
+            init.setAccessible(true);
+            init.invoke(jwtUtility);
+
+            filter = new JwtAuthenticationFilter(jwtUtility,
+                    new VerifiedTokenCache(ACCESS_TOKEN_VALIDITY),
+                    new JwtDenyList(null, false, ACCESS_TOKEN_VALIDITY));
+
+            tokens = new String[USERS];
+            for (int userId = 0; userId < USERS; userId++) {
+                tokens[userId] = jwtUtility.generateAccessToken(userId + 1);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+        private static int nextUser;
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        FilterChain chain;
+        String token;
+
+        @Setup(Level.Trial)
+        public void setUp(Filter filter) {
+            synchronized (Request.class) {
+                token = filter.tokens[nextUser++ % USERS];
+            }
+            request = new MockHttpServletRequest("GET", "/api/babies");
+            request.addHeader("Authorization", "Bearer " + token);
+            response = new MockHttpServletResponse();
+            chain = (servletRequest, servletResponse) -> {
+            };
+        }
+    }
+
+    @Benchmark
+    public void before(Filter filter, Request request, Blackhole blackhole) {
+        if (filter.jwtUtility.validateToken(request.token)) {
+            blackhole.consume(filter.jwtUtility.getUserId(request.token));
+        }
+    }
+
+    @Benchmark
+    public Object after(Filter filter, Request request) throws Exception {
+        filter.filter.doFilter(request.request, request.response, request.chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object afterContended(Filter filter, Request request) throws Exception {
+        return after(filter, request);
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,18 @@
+package com.agarang.domain.alarm.dto;
+
+/**
+ * packageName    : com.agarang.domain.alarm.dto<br>
+ * fileName       : CaregiverToken.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  아기 보호자의 사용자 ID 와 FCM 토큰을 담는 dto 클래스입니다.<br>
+ * <p>FCM 토큰이 없는 보호자는 {@code fcmToken} 이 null 입니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18         Fiat_lux            최초생성<br>
+ */
+public record CaregiverToken(
+        Integer userId,
+        String fcmToken
+) {}
@@ -0,0 +1,19 @@
+package com.agarang.domain.alarm.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.alarm.dto<br>
+ * fileName       : PendingNotification.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  아직 전송되지 않은 예약 알림의 ID 와 예약 시간을 담는 dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18         Fiat_lux            최초생성<br>
+ */
+public record PendingNotification(
+        Integer notificationJobId,
+        LocalDateTime scheduledAt
+) {}
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
  * 25.02.06          Fiat_lux           최초생성<br>
  */
 @Entity
-@Table(name = "notification_job")
+@Table(name = "notification_job",
+        indexes = @Index(name = "idx_notification_job_flag_send_scheduled_at", columnList = "flag_send, scheduled_at"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -0,0 +1,69 @@
+package com.agarang.domain.alarm.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.alarm.entity<br>
+ * fileName       : NotificationOutbox.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  전송할 푸시 알림을 보관하는 outbox entity 클래스입니다.<br>
+ * <p>알림을 발생시킨 트랜잭션 안에서 저장되며, (baby_id, event_key) 가 유일하므로 같은 알림은 한 번만 저장됩니다.
+ * 선점할 때마다 새 {@code lease_token} 을 기록하며, 결과는 같은 토큰을 가진 작업만 기록할 수 있습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux          최초생성<br>
+ * 26.10.18           Fiat_lux          선점 토큰 추가<br>
+ */
+@Entity
+@Table(name = "notification_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_outbox_baby_id_event_key", columnNames = {"baby_id", "event_key"}),
+        indexes = @Index(name = "idx_notification_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @Column(name = "notification_outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer notificationOutboxId;
+
+    @Column(name = "baby_id", nullable = false)
+    private Integer babyId;
+
+    @Column(name = "event_key", nullable = false, length = 100)
+    private String eventKey;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+}
@@ -1,8 +1,8 @@
 package com.agarang.domain.alarm.event;
 
-import com.agarang.domain.alarm.service.FcmService;
+import com.agarang.domain.alarm.service.NotificationOutboxService;
+import com.agarang.domain.alarm.service.NotificationOutboxWorker;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -17,35 +17,28 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.05          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           중복 listener 제거, outbox 저장으로 변경<br>
  */
 @Component
 @RequiredArgsConstructor
 public class FcmTokenEventListener {
-    private final FcmService fcmService;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
-     * 트랜잭션이 성공적으로 커밋된 후, FCM 알림을 전송하는 이벤트를 처리합니다.
+     * 이벤트를 발행한 트랜잭션이 커밋되기 전에, FCM 알림을 outbox 에 저장합니다.
      *
-     * <p>이벤트가 발생하면 {@link FcmService#sendNotificationToManyToken} 메서드를 호출하여
-     * 다수의 토큰을 대상으로 알림을 전송합니다.</p>
+     * <p>알림은 발행한 트랜잭션과 함께 커밋되며, 실제 전송은 {@link NotificationOutboxWorker} 가 수행합니다.
+     * 트랜잭션 밖에서 발행된 경우에도 outbox 에 저장합니다.</p>
      *
      * @param fcmTokenSendMessageEvent FCM 알림을 전송할 이벤트 객체
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleNotificationEvent(FcmTokenSendMessageEvent fcmTokenSendMessageEvent) {
-        fcmService.sendNotificationToManyToken(fcmTokenSendMessageEvent.getBabyId(), fcmTokenSendMessageEvent.getTitle(), fcmTokenSendMessageEvent.getMessage());
-    }
-
-    /**
-     * 트랜잭션과 무관하게 즉시 실행되는 FCM 알림 전송 이벤트를 처리합니다.
-     *
-     * <p>이벤트가 발생하면 {@link FcmService#sendNotificationToManyToken} 메서드를 호출하여
-     * 다수의 토큰을 대상으로 알림을 전송합니다.</p>
-     *
-     * @param fcmTokenSendMessageEvent FCM 알림을 전송할 이벤트 객체
-     */
-    @EventListener
-    public void handleNotificationEventNoTransaction(FcmTokenSendMessageEvent fcmTokenSendMessageEvent) {
-        fcmService.sendNotificationToManyToken(fcmTokenSendMessageEvent.getBabyId(), fcmTokenSendMessageEvent.getTitle(), fcmTokenSendMessageEvent.getMessage());
+        notificationOutboxService.enqueue(
+                fcmTokenSendMessageEvent.getBabyId(),
+                fcmTokenSendMessageEvent.getEventKey(),
+                fcmTokenSendMessageEvent.getTitle(),
+                fcmTokenSendMessageEvent.getMessage()
+        );
     }
 }
@@ -9,20 +9,24 @@ import org.springframework.context.ApplicationEvent;
  * author         : Fiat_lux<br>
  * date           : 25. 2. 5.<br>
  * description    :  Fcm token 으로 메세지 보내는 event 클래스입니다.<br>
+ * <p>{@code eventKey} 는 아기별로 알림을 구분하는 키이며, 같은 키의 알림은 한 번만 전송됩니다.</p><br>
  * ===========================================================<br>
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.05          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           이벤트 키 추가<br>
  */
 @Getter
 public class FcmTokenSendMessageEvent extends ApplicationEvent {
     private final Integer babyId;
+    private final String eventKey;
     private final String message;
     private final String title;
 
-    public FcmTokenSendMessageEvent(Object source, Integer babyId, String title, String message) {
+    public FcmTokenSendMessageEvent(Object source, Integer babyId, String eventKey, String title, String message) {
         super(source);
         this.babyId = babyId;
+        this.eventKey = eventKey;
         this.title = title;
         this.message = message;
     }
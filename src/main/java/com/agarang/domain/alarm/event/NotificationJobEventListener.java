@@ -0,0 +1,37 @@
+package com.agarang.domain.alarm.event;
+
+import com.agarang.domain.alarm.dto.PendingNotification;
+import com.agarang.domain.alarm.service.NotificationTimer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.alarm.event<br>
+ * fileName       : NotificationJobEventListener.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  예약 알림 등록 event listener 입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationJobEventListener {
+    private final NotificationTimer notificationTimer;
+
+    /**
+     * 트랜잭션이 커밋된 후, 등록된 예약 알림을 타이머에 바로 등록합니다.
+     *
+     * <p>타이머 조회 범위 밖의 알림은 무시되며, 이후 주기적인 조회 때 등록됩니다.</p>
+     *
+     * @param event 예약 알림 등록 이벤트 {@link NotificationJobRegisteredEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationJobRegisteredEvent(NotificationJobRegisteredEvent event) {
+        notificationTimer.scheduleIfWithinHorizon(new PendingNotification(event.getNotificationJobId(), event.getScheduledAt()));
+    }
+}
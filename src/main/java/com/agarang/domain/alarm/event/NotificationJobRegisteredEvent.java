@@ -0,0 +1,29 @@
+package com.agarang.domain.alarm.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.alarm.event<br>
+ * fileName       : NotificationJobRegisteredEvent.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  예약 알림이 등록되었음을 알리는 event 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Getter
+public class NotificationJobRegisteredEvent extends ApplicationEvent {
+    private final Integer notificationJobId;
+    private final LocalDateTime scheduledAt;
+
+    public NotificationJobRegisteredEvent(Object source, Integer notificationJobId, LocalDateTime scheduledAt) {
+        super(source);
+        this.notificationJobId = notificationJobId;
+        this.scheduledAt = scheduledAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.agarang.domain.alarm.event;
+
+import com.agarang.domain.alarm.service.NotificationRecipientCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.alarm.event<br>
+ * fileName       : NotificationRecipientEventListener.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  캐시된 알림 수신자 정보 제거 event 를 처리하는 listener 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRecipientEventListener {
+    private final NotificationRecipientCache notificationRecipientCache;
+
+    /**
+     * 트랜잭션이 커밋된 후, 캐시된 알림 수신자 정보를 제거합니다.
+     *
+     * @param event 알림 수신자 정보 제거 이벤트 {@link NotificationRecipientEvictEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationRecipientEvictEvent(NotificationRecipientEvictEvent event) {
+        notificationRecipientCache.evict(event.getUserId(), event.getBabyId());
+    }
+}
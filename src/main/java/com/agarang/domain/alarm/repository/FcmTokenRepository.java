@@ -1,11 +1,16 @@
 package com.agarang.domain.alarm.repository;
 
+import com.agarang.domain.alarm.dto.CaregiverToken;
 import com.agarang.domain.alarm.entity.FcmToken;
 import com.agarang.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,19 +47,17 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Integer> {
     List<FcmToken> findByUser(User user);
 
     /**
-     * 특정 날짜 이전에 업데이트된 FCM 토큰을 조회합니다.
+     * 지정된 FCM 토큰 리스트에 포함된 모든 FCM 토큰을 한 번의 쿼리로 삭제합니다.
      *
-     * @param thresholdDate 비교 기준이 되는 날짜
-     * @return 특정 날짜 이전에 업데이트된 FCM 토큰 리스트
-     */
-    List<FcmToken> findByUpdatedAtBefore(LocalDate thresholdDate);
-
-    /**
-     * 지정된 FCM 토큰 리스트에 포함된 모든 FCM 토큰을 삭제합니다.
+     * <p>비동기 전송 스레드에서도 호출할 수 있도록 자체 트랜잭션에서 실행됩니다.</p>
      *
      * @param tokens 삭제할 FCM 토큰 리스트
+     * @return 삭제된 FCM 토큰 수
      */
-    void deleteByFcmTokenIn(List<String> tokens);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FcmToken f WHERE f.fcmToken IN :tokens")
+    int deleteByFcmTokenIn(@Param("tokens") Collection<String> tokens);
 
     /**
      * 특정 FCM 토큰에 해당하는 엔티티를 조회합니다.
@@ -70,4 +73,21 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Integer> {
      * @param token 삭제할 FCM 토큰
      */
     void deleteByFcmToken(String token);
+
+    /**
+     * 아기의 현재 보호자와 보호자들의 FCM 토큰을 한 번의 쿼리로 조회합니다.
+     *
+     * <p>FCM 토큰이 없는 보호자도 {@code fcmToken} 이 null 인 행으로 포함됩니다.
+     * 삭제된 아기의 경우 빈 리스트를 반환합니다.</p>
+     *
+     * @param babyId 아기 ID
+     * @return 보호자 ID 와 FCM 토큰 리스트
+     */
+    @Query("SELECT DISTINCT new com.agarang.domain.alarm.dto.CaregiverToken(c.user.userId, f.fcmToken) " +
+            "FROM Custody c " +
+            "LEFT JOIN FcmToken f ON f.user = c.user " +
+            "WHERE c.baby.babyId = :babyId " +
+            "AND c.baby.flagDeleted = false " +
+            "AND c.deletedAt IS NULL")
+    List<CaregiverToken> findCaregiverTokensByBabyId(@Param("babyId") Integer babyId);
 }
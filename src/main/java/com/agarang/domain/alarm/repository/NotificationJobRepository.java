@@ -1,7 +1,11 @@
 package com.agarang.domain.alarm.repository;
 
+import com.agarang.domain.alarm.dto.PendingNotification;
 import com.agarang.domain.alarm.entity.NotificationJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,13 +25,28 @@ import java.util.List;
 public interface NotificationJobRepository extends JpaRepository<NotificationJob, Integer> {
 
     /**
-     * 지정된 시간 이전에 예약되었으며 아직 전송되지 않은 알림 작업을 조회합니다.
+     * 지정된 시간 이전에 예약되었으며 아직 전송되지 않은 알림의 ID 와 예약 시간을 조회합니다.
      *
-     * <p>이 메서드는 `scheduledAt`이 특정 시간 이전이며, `flagSend` 값이 `false`인
-     * 알림 작업을 검색하는 데 사용됩니다.</p>
+     * <p>이미 지난 알림도 포함되므로, 서버가 멈춰 있던 동안 전송하지 못한 알림도 함께 조회됩니다.</p>
      *
-     * @param now 현재 시각 (이 시간 이전에 예약된 알림을 조회)
-     * @return 아직 전송되지 않은 알림 작업 리스트
+     * @param until 조회할 예약 시간의 상한
+     * @return 아직 전송되지 않은 예약 알림 리스트
      */
-    List<NotificationJob> findByScheduledAtBeforeAndFlagSendFalse(LocalDateTime now);
+    @Query("SELECT new com.agarang.domain.alarm.dto.PendingNotification(j.notificationJobId, j.scheduledAt) " +
+            "FROM NotificationJob j " +
+            "WHERE j.flagSend = false AND j.scheduledAt < :until")
+    List<PendingNotification> findPendingNotifications(@Param("until") LocalDateTime until);
+
+    /**
+     * 아직 전송되지 않은 알림 작업을 전송 완료로 표시하여 선점합니다.
+     *
+     * <p>조건부 update 이므로 여러 서버가 동시에 호출해도 한 서버만 1 을 반환받습니다.</p>
+     *
+     * @param notificationJobId 선점할 알림 작업 ID
+     * @return 선점에 성공하면 1, 이미 선점된 경우 0
+     */
+    @Modifying
+    @Query("UPDATE NotificationJob j SET j.flagSend = true " +
+            "WHERE j.notificationJobId = :notificationJobId AND j.flagSend = false")
+    int claim(@Param("notificationJobId") Integer notificationJobId);
 }
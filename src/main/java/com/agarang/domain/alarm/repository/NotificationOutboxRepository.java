@@ -0,0 +1,122 @@
+package com.agarang.domain.alarm.repository;
+
+import com.agarang.domain.alarm.entity.NotificationOutbox;
+import com.agarang.domain.alarm.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * packageName    : com.agarang.domain.alarm.repository<br>
+ * fileName       : NotificationOutboxRepository.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  NotificationOutbox entity 의 repository 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ * 26.10.18           Fiat_lux         선점 토큰, 선점 연장, 잠금 조회 추가<br>
+ * <br>
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Integer> {
+
+    /**
+     * 알림을 outbox 에 저장합니다. 같은 (아기, 이벤트 키) 의 알림이 이미 있으면 저장하지 않습니다.
+     *
+     * <p>중복 여부를 유니크 제약 조건으로 판단하므로, 동시에 저장하더라도 한 행만 남고 예외가 발생하지 않습니다.</p>
+     *
+     * @param babyId   알림을 받을 아기 ID
+     * @param eventKey 알림을 발생시킨 이벤트 키
+     * @param title    알림 제목
+     * @param body     알림 내용
+     * @param now      저장 시각
+     * @return 저장되었으면 1, 이미 있는 알림이면 0
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO notification_outbox
+               (baby_id, event_key, title, body, status, attempts, next_attempt_at, created_at)
+        VALUES (:babyId, :eventKey, :title, :body, 'PENDING', 0, :now, :now)
+        """, nativeQuery = true)
+    int insertIgnore(@Param("babyId") Integer babyId,
+                     @Param("eventKey") String eventKey,
+                     @Param("title") String title,
+                     @Param("body") String body,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 전송 시각이 된 알림의 ID 를 전송 예정 시각 순으로 조회합니다.
+     *
+     * @param status   조회할 상태
+     * @param now      현재 시각
+     * @param pageable 조회할 개수
+     * @return 전송할 알림 ID 리스트
+     */
+    @Query("SELECT o.notificationOutboxId FROM NotificationOutbox o " +
+            "WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+            "ORDER BY o.nextAttemptAt")
+    List<Integer> findDueIds(@Param("status") OutboxStatus status,
+                             @Param("now") LocalDateTime now,
+                             Pageable pageable);
+
+    /**
+     * 전송할 알림을 선점합니다.
+     *
+     * <p>다음 전송 예정 시각을 {@code leaseUntil} 로 미루는 조건부 update 이므로, 여러 서버가 동시에 호출해도 한 서버만 1 을 반환받습니다.
+     * 선점한 서버가 결과를 기록하지 못하고 종료되면 {@code leaseUntil} 이후 다시 전송 대상이 됩니다.
+     * 새 {@code leaseToken} 을 기록하므로, 이전 선점자는 더 이상 선점을 연장하거나 결과를 기록할 수 없습니다.</p>
+     *
+     * @param notificationOutboxId 선점할 알림 ID
+     * @param status               선점할 수 있는 상태
+     * @param now                  현재 시각
+     * @param leaseUntil           선점 만료 시각
+     * @param leaseToken           선점 토큰
+     * @return 선점에 성공하면 1, 이미 선점된 경우 0
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :leaseUntil, o.leaseToken = :leaseToken " +
+            "WHERE o.notificationOutboxId = :notificationOutboxId " +
+            "AND o.status = :status AND o.nextAttemptAt <= :now")
+    int claim(@Param("notificationOutboxId") Integer notificationOutboxId,
+              @Param("status") OutboxStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("leaseToken") String leaseToken);
+
+    /**
+     * 선점 토큰이 같을 때만 선점 만료 시각을 연장합니다.
+     *
+     * @param notificationOutboxId 알림 ID
+     * @param status               선점 중인 상태
+     * @param leaseToken           선점할 때 받은 토큰
+     * @param leaseUntil           새 선점 만료 시각
+     * @return 연장했으면 1, 다른 작업이 다시 선점했거나 결과가 기록된 경우 0
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :leaseUntil " +
+            "WHERE o.notificationOutboxId = :notificationOutboxId " +
+            "AND o.status = :status AND o.leaseToken = :leaseToken")
+    int renewLease(@Param("notificationOutboxId") Integer notificationOutboxId,
+                   @Param("status") OutboxStatus status,
+                   @Param("leaseToken") String leaseToken,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 결과를 기록할 알림을 잠그고 조회합니다.
+     *
+     * @param notificationOutboxId 알림 ID
+     * @return 잠근 알림
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.notificationOutboxId = :notificationOutboxId")
+    Optional<NotificationOutbox> findByIdForUpdate(@Param("notificationOutboxId") Integer notificationOutboxId);
+}
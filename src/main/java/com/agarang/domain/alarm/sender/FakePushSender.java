@@ -0,0 +1,70 @@
+package com.agarang.domain.alarm.sender;
+
+import com.google.firebase.messaging.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.alarm.sender<br>
+ * fileName       : FakePushSender.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  Firebase 호출 없이 알림 전송 결과를 흉내 내는 클래스입니다.<br>
+ * <p>`fcm.sender=fake` 인 경우 사용되며, 로컬 환경에서 전송량과 토큰 정리 동작을 확인할 때 사용합니다.
+ * {@link #markUnregistered(String)} 로 등록한 토큰은 `UNREGISTERED` 로 응답합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "fake")
+public class FakePushSender implements PushSender {
+    private final Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+    private final LongAdder sentBatches = new LongAdder();
+    private final LongAdder sentMessages = new LongAdder();
+
+    /**
+     * 등록 해제된 토큰을 제외한 모든 토큰에 전송에 성공한 것으로 응답합니다.
+     *
+     * @param tokens       알림을 보낼 FCM 토큰 목록
+     * @param notification 전송할 알림
+     * @return 전송 결과 {@link PushResult}
+     */
+    @Override
+    public PushResult send(List<String> tokens, Notification notification) {
+        List<String> unregistered = tokens.stream()
+                .filter(unregisteredTokens::contains)
+                .toList();
+
+        sentBatches.increment();
+        sentMessages.add(tokens.size() - unregistered.size());
+        log.debug("FCM fake 전송: {}건, 등록 해제 토큰: {}건", tokens.size(), unregistered.size());
+
+        return new PushResult(tokens.size() - unregistered.size(), unregistered.size(), unregistered);
+    }
+
+    /**
+     * 토큰을 등록 해제된 토큰으로 표시합니다.
+     *
+     * @param token 등록 해제할 FCM 토큰
+     */
+    public void markUnregistered(String token) {
+        unregisteredTokens.add(token);
+    }
+
+    public long getSentBatches() {
+        return sentBatches.sum();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.sum();
+    }
+}
@@ -0,0 +1,64 @@
+package com.agarang.domain.alarm.sender;
+
+import com.google.firebase.messaging.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.alarm.sender<br>
+ * fileName       : FirebasePushSender.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  Firebase multicast 로 알림을 전송하는 클래스입니다.<br>
+ * <p>`fcm.sender` 설정이 없거나 `firebase` 인 경우 사용되는 기본 구현입니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+
+    /**
+     * 토큰 목록에 multicast 알림을 전송합니다.
+     *
+     * <p>토큰별 응답 중 `UNREGISTERED` 오류가 발생한 토큰을 모아 반환합니다.
+     * 요청 자체가 실패한 경우 모든 토큰을 실패로 처리합니다.</p>
+     *
+     * @param tokens       알림을 보낼 FCM 토큰 목록
+     * @param notification 전송할 알림
+     * @return 전송 결과 {@link PushResult}
+     */
+    @Override
+    public PushResult send(List<String> tokens, Notification notification) {
+        MulticastMessage message = MulticastMessage.builder()
+                .setNotification(notification)
+                .addAllTokens(tokens)
+                .build();
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = FirebaseMessaging.getInstance().sendMulticast(message);
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM multicast 전송 실패: {}건", tokens.size(), e);
+            return PushResult.failed(tokens.size());
+        }
+
+        List<String> unregisteredTokens = new ArrayList<>();
+        List<SendResponse> responses = batchResponse.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            FirebaseMessagingException exception = responses.get(i).getException();
+            if (exception != null && MessagingErrorCode.UNREGISTERED.equals(exception.getMessagingErrorCode())) {
+                unregisteredTokens.add(tokens.get(i));
+            }
+        }
+
+        return new PushResult(batchResponse.getSuccessCount(), batchResponse.getFailureCount(), unregisteredTokens);
+    }
+}
@@ -0,0 +1,24 @@
+package com.agarang.domain.alarm.sender;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.alarm.sender<br>
+ * fileName       : PushResult.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  multicast 알림 전송 결과 dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ */
+public record PushResult(
+        int successCount,
+        int failureCount,
+        List<String> unregisteredTokens
+) {
+    public static PushResult failed(int tokenCount) {
+        return new PushResult(0, tokenCount, List.of());
+    }
+}
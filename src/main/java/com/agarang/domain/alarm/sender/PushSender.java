@@ -0,0 +1,34 @@
+package com.agarang.domain.alarm.sender;
+
+import com.google.firebase.messaging.Notification;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.alarm.sender<br>
+ * fileName       : PushSender.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  여러 FCM 토큰에 같은 알림을 한 번에 전송하는 인터페이스입니다.<br>
+ * <p>`fcm.sender` 설정에 따라 실제 Firebase 로 전송하는 {@link FirebasePushSender} 또는
+ * 외부 호출 없이 전송 결과를 흉내 내는 {@link FakePushSender} 가 사용됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ */
+public interface PushSender {
+    /**
+     * 한 번의 multicast 요청으로 보낼 수 있는 최대 토큰 수입니다.
+     */
+    int MAX_MULTICAST_SIZE = 500;
+
+    /**
+     * 최대 {@value #MAX_MULTICAST_SIZE} 개의 토큰에 같은 알림을 전송합니다.
+     *
+     * @param tokens       알림을 보낼 FCM 토큰 목록
+     * @param notification 전송할 알림
+     * @return 전송 결과 {@link PushResult}
+     */
+    PushResult send(List<String> tokens, Notification notification);
+}
@@ -2,25 +2,28 @@ package com.agarang.domain.alarm.service;
 
 import com.agarang.domain.alarm.dto.request.FcmTokenRequest;
 import com.agarang.domain.alarm.entity.FcmToken;
+import com.agarang.domain.alarm.event.NotificationRecipientEvictEvent;
 import com.agarang.domain.alarm.repository.FcmTokenRepository;
-import com.agarang.domain.baby.entity.Baby;
-import com.agarang.domain.baby.repository.BabyRepository;
-import com.agarang.domain.custody.entity.Custody;
-import com.agarang.domain.custody.repository.CustodyRepository;
+import com.agarang.domain.alarm.sender.PushResult;
+import com.agarang.domain.alarm.sender.PushSender;
 import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
-import com.google.firebase.messaging.*;
+import com.google.firebase.messaging.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * packageName    : com.agarang.domain.alarm.service<br>
@@ -34,6 +37,8 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.11           Fiat_lux         최초생성<br>
+ * 26.10.18           Fiat_lux         multicast 묶음 전송 및 등록 해제 토큰 일괄 삭제<br>
+ * 26.10.18           Fiat_lux         알림 수신자 캐시 사용<br>
  * <br>
  */
 @Service
@@ -42,8 +47,10 @@ import java.util.Optional;
 public class FcmService {
     private final UserRepository userRepository;
     private final FcmTokenRepository fcmTokenRepository;
-    private final BabyRepository babyRepository;
-    private final CustodyRepository custodyRepository;
+    private final PushSender pushSender;
+    private final ThreadPoolTaskExecutor fcmSendExecutor;
+    private final NotificationRecipientCache notificationRecipientCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 FCM 토큰을 저장합니다.
@@ -65,6 +72,7 @@ public class FcmService {
             existingTokenOpt.get().setUpdatedAt(LocalDate.now());
         } else {
             fcmTokenRepository.save(new FcmToken(token, user));
+            eventPublisher.publishEvent(new NotificationRecipientEvictEvent(this, userId, null));
         }
     }
 
@@ -81,69 +89,69 @@ public class FcmService {
 
 
         Optional<FcmToken> existingTokenOpt = fcmTokenRepository.findByUserAndFcmToken(user, fcmTokenRequest.getToken());
-        existingTokenOpt.ifPresent(fcmTokenRepository::delete);
+        existingTokenOpt.ifPresent(fcmToken -> {
+            fcmTokenRepository.delete(fcmToken);
+            eventPublisher.publishEvent(new NotificationRecipientEvictEvent(this, userId, null));
+        });
     }
 
     /**
      * 여러 FCM 토큰에 알림을 전송합니다.
      *
-     * <p>전송 중 `UNREGISTERED` 오류가 발생하면 해당 토큰을 삭제합니다.</p>
+     * <p>중복을 제거한 토큰을 최대 {@value PushSender#MAX_MULTICAST_SIZE} 개씩 나누어 {@code fcmSendExecutor} 에서 multicast 로 전송합니다.
+     * 모든 묶음의 전송이 끝나면 `UNREGISTERED` 오류가 발생한 토큰을 한 번의 쿼리로 삭제합니다.</p>
      *
      * @param tokens 알림을 보낼 FCM 토큰 목록
      * @param title  알림 제목
      * @param body   알림 내용
+     * @return 모든 묶음의 전송 결과를 합친 {@link PushResult}
      */
-    @Transactional
-    public void sendNotificationToTokens(List<String> tokens, String title, String body) {
+    public CompletableFuture<PushResult> sendNotificationToTokens(List<String> tokens, String title, String body) {
         if (Objects.isNull(tokens) || tokens.isEmpty()) {
-            return;
+            return CompletableFuture.completedFuture(new PushResult(0, 0, List.of()));
         }
 
-        for (String token : tokens) {
-            Message message = Message.builder()
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build())
-                    .setToken(token)
-                    .build();
-
-            try {
-                FirebaseMessaging.getInstance().send(message);
-            } catch (FirebaseMessagingException e) {
-                if (MessagingErrorCode.UNREGISTERED.equals(e.getMessagingErrorCode())) {
-                    fcmTokenRepository.findByFcmToken(token).ifPresent(fcm -> fcmTokenRepository.deleteByFcmToken(token));
-                }
-            }
+        Notification notification = Notification.builder()
+                .setTitle(title)
+                .setBody(body)
+                .build();
+
+        List<String> distinctTokens = tokens.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<CompletableFuture<PushResult>> futures = new ArrayList<>();
+        for (int from = 0; from < distinctTokens.size(); from += PushSender.MAX_MULTICAST_SIZE) {
+            List<String> batch = distinctTokens.subList(from, Math.min(from + PushSender.MAX_MULTICAST_SIZE, distinctTokens.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> pushSender.send(batch, notification), fcmSendExecutor)
+                    .exceptionally(e -> {
+                        log.error("FCM 알림 전송 실패: {}건", batch.size(), e);
+                        return PushResult.failed(batch.size());
+                    }));
         }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> mergeResults(futures))
+                .whenComplete((result, e) -> {
+                    if (result != null && !result.unregisteredTokens().isEmpty()) {
+                        deleteUnregisteredTokens(result.unregisteredTokens());
+                    }
+                });
     }
 
     /**
      * 특정 아기와 관련된 모든 보호자의 FCM 토큰에 알림을 전송합니다.
      *
-     * <p>해당 아기와 보호자 관계를 조회하여, 보호자의 모든 FCM 토큰을 찾아 알림을 전송합니다.</p>
+     * <p>{@link NotificationRecipientCache} 에서 보호자들의 FCM 토큰을 조회하여 알림을 전송합니다.</p>
      *
      * @param babyId 알림을 보낼 대상 아기의 ID
      * @param title  알림 제목
      * @param body   알림 내용
+     * @return 전송 결과 {@link PushResult}
      */
-    @Transactional
-    public void sendNotificationToManyToken(Integer babyId, String title, String body) {
-        Baby baby = babyRepository.findById(babyId).orElseThrow();
-
-        List<Custody> custodyList = custodyRepository.findByBabyAndDeletedAtIsNull(baby);
-
-        List<User> userList = custodyList.stream().map(Custody::getUser).toList();
-
-        List<FcmToken> fcmTokenList = userList.stream()
-                .map(fcmTokenRepository::findByUser)
-                .flatMap(List::stream)
-                .toList();
-
-        for (FcmToken fcmToken : fcmTokenList) {
-            sendNotification(fcmToken.getFcmToken(), title, body);
-        }
-
+    public CompletableFuture<PushResult> sendNotificationToManyToken(Integer babyId, String title, String body) {
+        return sendNotificationToTokens(notificationRecipientCache.getTokens(babyId), title, body);
     }
 
     /**
@@ -155,22 +163,30 @@ public class FcmService {
      * @param title 알림 제목
      * @param body  알림 내용
      */
-    @Transactional
     public void sendNotification(String token, String title, String body) {
-        Message message = Message.builder()
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build()
-                )
-                .setToken(token)
-                .build();
+        sendNotificationToTokens(List.of(token), title, body);
+    }
+
+    private PushResult mergeResults(List<CompletableFuture<PushResult>> futures) {
+        int successCount = 0;
+        int failureCount = 0;
+        List<String> unregisteredTokens = new ArrayList<>();
+        for (CompletableFuture<PushResult> future : futures) {
+            PushResult result = future.join();
+            successCount += result.successCount();
+            failureCount += result.failureCount();
+            unregisteredTokens.addAll(result.unregisteredTokens());
+        }
+        return new PushResult(successCount, failureCount, unregisteredTokens);
+    }
+
+    private void deleteUnregisteredTokens(List<String> unregisteredTokens) {
         try {
-            FirebaseMessaging.getInstance().send(message);
-        } catch (FirebaseMessagingException e) {
-            if (MessagingErrorCode.UNREGISTERED.equals(e.getMessagingErrorCode())) {
-                fcmTokenRepository.findByFcmToken(token).ifPresent(fcm -> fcmTokenRepository.deleteByFcmToken(token));
-            }
+            int deleted = fcmTokenRepository.deleteByFcmTokenIn(unregisteredTokens);
+            notificationRecipientCache.evictTokens(unregisteredTokens);
+            log.info("등록 해제된 FCM 토큰 삭제: {}건", deleted);
+        } catch (RuntimeException e) {
+            log.error("등록 해제된 FCM 토큰 삭제 실패: {}건", unregisteredTokens.size(), e);
         }
     }
 }
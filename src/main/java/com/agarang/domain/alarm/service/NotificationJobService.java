@@ -1,24 +1,22 @@
 package com.agarang.domain.alarm.service;
 
+import com.agarang.domain.alarm.dto.PendingNotification;
 import com.agarang.domain.alarm.dto.request.NotificationJobRegister;
-import com.agarang.domain.alarm.entity.FcmToken;
 import com.agarang.domain.alarm.entity.NotificationJob;
-import com.agarang.domain.alarm.repository.FcmTokenRepository;
+import com.agarang.domain.alarm.event.FcmTokenSendMessageEvent;
+import com.agarang.domain.alarm.event.NotificationJobRegisteredEvent;
 import com.agarang.domain.alarm.repository.NotificationJobRepository;
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.repository.BabyRepository;
-import com.agarang.domain.custody.entity.Custody;
-import com.agarang.domain.custody.repository.CustodyRepository;
-import com.agarang.domain.user.entity.User;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * packageName    : com.agarang.domain.alarm.service<br>
@@ -30,15 +28,17 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.06          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           예약 알림 선점 후 전송, 등록 이벤트 발행<br>
+ * 26.10.18          Fiat_lux           예약 알림을 알림 outbox 로 전송<br>
  */
 @Service
 @RequiredArgsConstructor
 public class NotificationJobService {
+    public static final String NOTIFICATION_EVENT_KEY_PREFIX = "job:";
+
     private final NotificationJobRepository notificationJobRepository;
     private final BabyRepository babyRepository;
-    private final CustodyRepository custodyRepository;
-    private final FcmTokenRepository fcmTokenRepository;
-    private final FcmService fcmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 알림을 등록합니다.
@@ -59,44 +59,47 @@ public class NotificationJobService {
 
         NotificationJob notificationJob = new NotificationJob(notificationJobRegister.getTitle(), notificationJobRegister.getBody(), notificationJobRegister.getScheduledAt(), baby);
         notificationJobRepository.save(notificationJob);
+        eventPublisher.publishEvent(new NotificationJobRegisteredEvent(this, notificationJob.getNotificationJobId(), notificationJob.getScheduledAt()));
     }
 
     /**
-     * 예약된 알림 중 아직 전송되지 않은 알림을 조회합니다.
+     * 아직 전송되지 않았으며 지정된 시간 이전에 예약된 알림의 ID 와 예약 시간을 조회합니다.
      *
-     * @param localDate 현재 시간 기준으로 조회할 예약된 알림의 기준 시간
-     * @return 아직 전송되지 않은 알림 목록
+     * @param until 조회할 예약 시간의 상한
+     * @return 아직 전송되지 않은 예약 알림 목록
      */
-    public List<NotificationJob> getPendingNotifications(LocalDateTime localDate) {
-        return notificationJobRepository.findByScheduledAtBeforeAndFlagSendFalse(localDate);
+    @Transactional(readOnly = true)
+    public List<PendingNotification> getPendingNotifications(LocalDateTime until) {
+        return notificationJobRepository.findPendingNotifications(until);
     }
 
     /**
-     * 예약된 알림을 처리하고 관련 보호자들에게 FCM 알림을 전송합니다.
+     * 예약된 알림을 선점한 뒤 알림 outbox 에 저장합니다.
      *
-     * <p>아기와 연결된 보호자 목록을 조회한 후, 보호자들의 FCM 토큰을 이용해 알림을 전송합니다.
-     * 알림이 성공적으로 전송되면 해당 예약된 알림의 `flagSend` 값을 `true`로 변경합니다.</p>
+     * <p>`flagSend` 를 조건부 update 로 `true` 로 바꾸어 알림을 선점하며, 다른 서버가 먼저 선점한 경우 저장하지 않습니다.
+     * 선점과 outbox 저장은 같은 트랜잭션에서 커밋되므로, 선점한 알림은 항상 {@link NotificationOutboxWorker} 가 전송하고
+     * 전송에 실패하면 outbox 의 재시도와 실패 기록을 따릅니다.
+     * 트랜잭션이 롤백되면 선점도 취소되어 {@link NotificationScheduler} 가 다시 등록합니다.</p>
      *
-     * @param job 처리할 예약된 알림 객체
+     * @param notificationJobId 처리할 예약 알림 ID
+     * @return 선점하여 outbox 에 저장했으면 true, 이미 선점된 알림이면 false
      */
     @Transactional
-    public void processNotificationJob(NotificationJob job) {
-        List<Custody> custodyList = custodyRepository.findByBabyAndDeletedAtIsNull(job.getBaby());
-        List<User> custodyUsers = custodyList.stream()
-                .map(Custody::getUser)
-                .toList();
-
-        List<String> tokens = custodyUsers.stream()
-                .flatMap(
-                        user -> fcmTokenRepository.findByUser(user)
-                                .stream()
-                                .map(FcmToken::getFcmToken))
-                .distinct()
-                .collect(Collectors.toList());
+    public boolean deliverNotificationJob(Integer notificationJobId) {
+        if (notificationJobRepository.claim(notificationJobId) == 0) {
+            return false;
+        }
 
-        fcmService.sendNotificationToTokens(tokens, job.getTitle(), job.getBody());
-        job.setFlagSend(true);
+        NotificationJob job = notificationJobRepository.findById(notificationJobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
-        notificationJobRepository.save(job);
+        eventPublisher.publishEvent(new FcmTokenSendMessageEvent(
+                this,
+                job.getBaby().getBabyId(),
+                NOTIFICATION_EVENT_KEY_PREFIX + notificationJobId,
+                job.getTitle(),
+                job.getBody()
+        ));
+        return true;
     }
 }
@@ -0,0 +1,157 @@
+package com.agarang.domain.alarm.service;
+
+import com.agarang.domain.alarm.entity.NotificationOutbox;
+import com.agarang.domain.alarm.entity.OutboxStatus;
+import com.agarang.domain.alarm.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * packageName    : com.agarang.domain.alarm.service<br>
+ * fileName       : NotificationOutboxService.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  NotificationOutbox entity 의 Service 클래스입니다.<br>
+ * <p>알림을 outbox 에 저장하고, {@link NotificationOutboxWorker} 가 전송할 알림을 선점하고 결과를 기록합니다.
+ * 전송에 실패한 알림은 지수적으로 늘어나는 간격으로 최대 {@value #MAX_ATTEMPTS} 번까지 다시 전송합니다.</p>
+ * <p>선점할 때마다 새 선점 토큰을 발급합니다. 선점이 만료되어 다른 작업이 다시 선점하면 이전 작업은 선점을 연장하거나 결과를 기록할 수 없으므로,
+ * 전송 직전에 {@link #renewLease(Integer, String)} 로 선점을 확인하면 같은 알림을 두 작업이 함께 전송하지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           선점 토큰으로 선점 연장과 결과 기록 제한<br>
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    public static final int MAX_ATTEMPTS = 8;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    /**
+     * 알림을 outbox 에 저장합니다.
+     *
+     * <p>호출한 트랜잭션에 참여하므로, 알림을 발생시킨 변경과 함께 커밋되거나 롤백됩니다.
+     * 같은 (아기, 이벤트 키) 의 알림이 이미 있으면 저장하지 않습니다.</p>
+     *
+     * @param babyId   알림을 받을 아기 ID
+     * @param eventKey 알림을 발생시킨 이벤트 키
+     * @param title    알림 제목
+     * @param body     알림 내용
+     * @return 저장되었으면 true, 이미 있는 알림이면 false
+     */
+    @Transactional
+    public boolean enqueue(Integer babyId, String eventKey, String title, String body) {
+        return notificationOutboxRepository.insertIgnore(babyId, eventKey, title, body, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 전송 시각이 된 알림의 ID 를 조회합니다.
+     *
+     * @param limit 조회할 최대 개수
+     * @return 전송할 알림 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findDueIds(int limit) {
+        return notificationOutboxRepository.findDueIds(OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 전송할 알림을 선점합니다.
+     *
+     * @param notificationOutboxId 선점할 알림 ID
+     * @return 선점한 알림 (선점 토큰 포함), 다른 서버가 먼저 선점한 경우 빈 값
+     */
+    @Transactional
+    public Optional<NotificationOutbox> claim(Integer notificationOutboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        String leaseToken = UUID.randomUUID().toString();
+        if (notificationOutboxRepository.claim(notificationOutboxId, OutboxStatus.PENDING, now, now.plus(LEASE), leaseToken) == 0) {
+            return Optional.empty();
+        }
+
+        return notificationOutboxRepository.findById(notificationOutboxId);
+    }
+
+    /**
+     * 선점 만료 시각을 지금부터 다시 {@code LEASE} 만큼 연장합니다.
+     *
+     * <p>전송 대기열에서 기다리는 동안 선점이 만료될 수 있으므로, 전송 직전에 호출합니다.</p>
+     *
+     * @param notificationOutboxId 알림 ID
+     * @param leaseToken           선점할 때 받은 토큰
+     * @return 연장했으면 true, 다른 작업이 다시 선점한 경우 false
+     */
+    @Transactional
+    public boolean renewLease(Integer notificationOutboxId, String leaseToken) {
+        return notificationOutboxRepository.renewLease(notificationOutboxId, OutboxStatus.PENDING, leaseToken, LocalDateTime.now().plus(LEASE)) == 1;
+    }
+
+    /**
+     * 알림을 전송 완료로 표시합니다.
+     *
+     * @param notificationOutboxId 전송한 알림 ID
+     * @param leaseToken           선점할 때 받은 토큰
+     * @return 기록한 상태, 다른 작업이 다시 선점한 경우 빈 값
+     */
+    @Transactional
+    public Optional<OutboxStatus> markDelivered(Integer notificationOutboxId, String leaseToken) {
+        return findLeased(notificationOutboxId, leaseToken).map(outbox -> {
+            outbox.setStatus(OutboxStatus.DELIVERED);
+            outbox.setDeliveredAt(LocalDateTime.now());
+            return outbox.getStatus();
+        });
+    }
+
+    /**
+     * 알림 전송 실패를 기록합니다.
+     *
+     * <p>최대 전송 횟수에 도달하면 실패로 표시하고, 그렇지 않으면 다음 전송 예정 시각을 지수 백오프로 미룹니다.</p>
+     *
+     * @param notificationOutboxId 전송에 실패한 알림 ID
+     * @param leaseToken           선점할 때 받은 토큰
+     * @return 다시 전송할 예정이면 {@link OutboxStatus#PENDING}, 실패로 표시했으면 {@link OutboxStatus#FAILED},
+     * 다른 작업이 다시 선점한 경우 빈 값
+     */
+    @Transactional
+    public Optional<OutboxStatus> markRetry(Integer notificationOutboxId, String leaseToken) {
+        return findLeased(notificationOutboxId, leaseToken).map(outbox -> {
+            int attempts = outbox.getAttempts() + 1;
+            outbox.setAttempts(attempts);
+
+            if (attempts >= MAX_ATTEMPTS) {
+                outbox.setStatus(OutboxStatus.FAILED);
+            } else {
+                outbox.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            }
+            return outbox.getStatus();
+        });
+    }
+
+    /**
+     * 알림을 잠그고, 선점 토큰이 같고 아직 결과가 기록되지 않았으면 반환합니다.
+     */
+    private Optional<NotificationOutbox> findLeased(Integer notificationOutboxId, String leaseToken) {
+        return notificationOutboxRepository.findByIdForUpdate(notificationOutboxId)
+                .filter(outbox -> outbox.getStatus() == OutboxStatus.PENDING && leaseToken.equals(outbox.getLeaseToken()));
+    }
+
+    private static Duration backoff(int attempts) {
+        long millis = Math.min(BASE_BACKOFF.toMillis() << (attempts - 1), MAX_BACKOFF.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(millis / 5 + 1);
+        return Duration.ofMillis(millis - millis / 10 + jitter);
+    }
+}
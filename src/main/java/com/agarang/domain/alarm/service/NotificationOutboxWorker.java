@@ -0,0 +1,162 @@
+package com.agarang.domain.alarm.service;
+
+import com.agarang.domain.alarm.entity.NotificationOutbox;
+import com.agarang.domain.alarm.entity.OutboxStatus;
+import com.agarang.domain.alarm.sender.PushResult;
+import com.agarang.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.alarm.service<br>
+ * fileName       : NotificationOutboxWorker.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  알림 outbox 를 비우며 푸시 알림을 전송하는 클래스입니다.<br>
+ * <p>1초마다 전송 시각이 된 알림을 최대 {@value #BATCH_SIZE} 건씩 선점하여 {@code notificationOutboxExecutor} 에서 전송합니다.
+ * 요청 스레드는 outbox 에 저장만 하므로, 요청 처리 시간이 푸시 전송에 영향을 받지 않습니다.</p>
+ * <p>전송 직전에 선점을 연장하며, 그 사이 선점이 만료되어 다른 작업이 다시 선점한 알림은 전송하지 않습니다.
+ * 연장한 선점 기간은 전송 제한 시간({@value #SEND_TIMEOUT_SECONDS}초)보다 길므로, 전송 중에는 다른 작업이 선점할 수 없습니다.</p>
+ * <p>executor 가 바로 받을 수 있는 만큼만 선점하므로 예약 작업 스레드에서 전송을 기다리지 않으며,
+ * 선점하지 못한 알림은 outbox 에 남아 다음 실행에서 처리됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           전송 직전 선점 연장, 선점 토큰으로 결과 기록<br>
+ * 26.10.18          Fiat_lux           executor 의 남은 수용량만큼만 선점<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxWorker {
+    private static final int BATCH_SIZE = 100;
+    private static final long SEND_TIMEOUT_SECONDS = 60;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final FcmService fcmService;
+    private final ThreadPoolTaskExecutor notificationOutboxExecutor;
+
+    private final LongAdder deliveredNotifications = new LongAdder();
+    private final LongAdder retriedNotifications = new LongAdder();
+    private final LongAdder failedNotifications = new LongAdder();
+    private final LongAdder lostLeases = new LongAdder();
+
+    /**
+     * 전송 시각이 된 알림을 선점하여 전송 스레드에 넘깁니다.
+     *
+     * <p>{@code notificationOutboxExecutor} 의 남은 수용량과 {@value #BATCH_SIZE} 중 작은 수만큼 조회하며,
+     * 조회한 알림이 그 수만큼이면 남은 알림이 있을 수 있으므로 바로 다시 조회합니다.
+     * 수용량이 없으면 선점하지 않고 다음 실행을 기다립니다.</p>
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void drain() {
+        int limit;
+        List<Integer> dueIds;
+        do {
+            limit = Math.min(BATCH_SIZE, AsyncConfig.remainingCapacity(notificationOutboxExecutor));
+            if (limit == 0) {
+                return;
+            }
+
+            dueIds = notificationOutboxService.findDueIds(limit);
+            for (Integer notificationOutboxId : dueIds) {
+                notificationOutboxService.claim(notificationOutboxId)
+                        .ifPresent(outbox -> notificationOutboxExecutor.execute(() -> deliver(outbox)));
+            }
+        } while (dueIds.size() == limit);
+    }
+
+    /**
+     * 전송을 완료한 알림 수를 반환합니다.
+     *
+     * @return 전송을 완료한 알림 수
+     */
+    public long getDeliveredNotifications() {
+        return deliveredNotifications.sum();
+    }
+
+    /**
+     * 전송에 실패하여 다시 전송하도록 예약한 횟수를 반환합니다.
+     *
+     * @return 재전송 예약 횟수
+     */
+    public long getRetriedNotifications() {
+        return retriedNotifications.sum();
+    }
+
+    /**
+     * 최대 전송 횟수를 넘겨 실패로 표시한 알림 수를 반환합니다.
+     *
+     * @return 실패한 알림 수
+     */
+    public long getFailedNotifications() {
+        return failedNotifications.sum();
+    }
+
+    /**
+     * 선점이 만료되어 전송하지 않았거나 결과를 기록하지 못한 횟수를 반환합니다.
+     *
+     * @return 선점을 잃은 횟수
+     */
+    public long getLostLeases() {
+        return lostLeases.sum();
+    }
+
+    private void deliver(NotificationOutbox outbox) {
+        Integer notificationOutboxId = outbox.getNotificationOutboxId();
+        String leaseToken = outbox.getLeaseToken();
+        if (!notificationOutboxService.renewLease(notificationOutboxId, leaseToken)) {
+            lostLeases.increment();
+            log.warn("알림 outbox 선점이 만료되어 전송하지 않습니다. notificationOutboxId: {}", notificationOutboxId);
+            return;
+        }
+
+        boolean delivered;
+        try {
+            PushResult result = fcmService.sendNotificationToManyToken(outbox.getBabyId(), outbox.getTitle(), outbox.getBody())
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            delivered = !isRetryable(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delivered = false;
+        } catch (Exception e) {
+            log.warn("알림 outbox 전송 실패. notificationOutboxId: {}", notificationOutboxId, e);
+            delivered = false;
+        }
+
+        Optional<OutboxStatus> recorded = delivered
+                ? notificationOutboxService.markDelivered(notificationOutboxId, leaseToken)
+                : notificationOutboxService.markRetry(notificationOutboxId, leaseToken);
+
+        if (recorded.isEmpty()) {
+            lostLeases.increment();
+            log.warn("알림 outbox 선점이 만료되어 결과를 기록하지 않습니다. notificationOutboxId: {}", notificationOutboxId);
+            return;
+        }
+
+        switch (recorded.get()) {
+            case DELIVERED -> deliveredNotifications.increment();
+            case PENDING -> retriedNotifications.increment();
+            case FAILED -> {
+                failedNotifications.increment();
+                log.error("알림 outbox 전송을 포기합니다. notificationOutboxId: {}, attempts: {}", notificationOutboxId, NotificationOutboxService.MAX_ATTEMPTS);
+            }
+        }
+    }
+
+    /**
+     * 한 건도 전송하지 못했고, 등록 해제된 토큰 외의 이유로 실패한 토큰이 있으면 다시 전송합니다.
+     */
+    private static boolean isRetryable(PushResult result) {
+        return result.successCount() == 0 && result.failureCount() > result.unregisteredTokens().size();
+    }
+}
@@ -0,0 +1,168 @@
+package com.agarang.domain.alarm.service;
+
+import com.agarang.domain.alarm.dto.CaregiverToken;
+import com.agarang.domain.alarm.repository.FcmTokenRepository;
+import com.agarang.global.cache.CacheInvalidationBus;
+import com.agarang.global.cache.StripedTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * packageName    : com.agarang.domain.alarm.service<br>
+ * fileName       : NotificationRecipientCache.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  아기별 알림 수신 FCM 토큰을 캐시하는 클래스입니다.<br>
+ * <p>보호자와 토큰을 한 번의 쿼리로 조회한 뒤 {@link StripedTtlCache} 에 최대 {@value #MAX_ENTRIES} 개, {@link #TTL} 동안 보관합니다.
+ * 보호자 권한이나 FCM 토큰이 바뀌면 {@link #evict(Integer, Integer)}, {@link #evictTokens(Collection)} 로 현재 서버에서 제거하고,
+ * {@link CacheInvalidationBus} 의 Redis 채널({@value #CHANNEL})로 다른 서버에서도 제거합니다.
+ * 조회하는 동안 제거 요청이 있었으면 조회한 값은 보관하지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ * 26.10.18           Fiat_lux         크기 제한, 서버 간 제거 전파<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRecipientCache {
+    private static final String CHANNEL = "notification-recipient:invalidate";
+    private static final String WILDCARD = "*";
+    private static final String RECIPIENT_PREFIX = "r:";
+    private static final String TOKEN_PREFIX = "t:";
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final FcmTokenRepository fcmTokenRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final StripedTtlCache<Integer, Recipients> recipients = new StripedTtlCache<>(MAX_ENTRIES, TTL);
+
+    /**
+     * 다른 서버의 제거 요청 채널을 구독합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        cacheInvalidationBus.subscribe(CHANNEL, this::onInvalidation);
+    }
+
+    /**
+     * 아기의 현재 보호자들이 가진 FCM 토큰 목록을 반환합니다.
+     *
+     * @param babyId 아기 ID
+     * @return 중복 없는 FCM 토큰 목록
+     */
+    public List<String> getTokens(Integer babyId) {
+        long now = System.nanoTime();
+        long generation = recipients.generation();
+        Optional<Recipients> cached = recipients.get(babyId, now);
+        if (cached.isPresent()) {
+            return cached.get().tokens();
+        }
+
+        Recipients loaded = load(babyId);
+        recipients.put(babyId, loaded, generation, now);
+
+        return loaded.tokens();
+    }
+
+    /**
+     * 현재 서버와 다른 서버에서 캐시된 알림 수신자 정보를 제거합니다.
+     *
+     * <p>{@code userId} 나 {@code babyId} 가 null 이면 해당 조건을 모든 값으로 간주합니다.
+     * {@code userId} 만 주어진 경우 해당 사용자가 보호자인 모든 아기의 정보를 제거합니다.</p>
+     *
+     * @param userId 사용자 ID (nullable)
+     * @param babyId 아기 ID (nullable)
+     */
+    public void evict(Integer userId, Integer babyId) {
+        evictLocal(userId, babyId);
+        cacheInvalidationBus.publish(CHANNEL, RECIPIENT_PREFIX
+                + (Objects.isNull(userId) ? WILDCARD : userId) + ":" + (Objects.isNull(babyId) ? WILDCARD : babyId));
+    }
+
+    /**
+     * 현재 서버와 다른 서버에서 지정된 FCM 토큰을 포함한 아기의 수신자 정보를 제거합니다.
+     *
+     * @param tokens 삭제된 FCM 토큰 목록
+     */
+    public void evictTokens(Collection<String> tokens) {
+        if (tokens.isEmpty()) return;
+
+        evictTokensLocal(Set.copyOf(tokens));
+        cacheInvalidationBus.publish(CHANNEL, TOKEN_PREFIX + String.join(",", tokens));
+    }
+
+    /**
+     * 보관된 수신자 정보를 사용한 비율을 반환합니다.
+     *
+     * @return 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        return recipients.getHitRate();
+    }
+
+    /**
+     * 다른 서버에서 발행한 제거 요청을 받아 현재 서버의 수신자 정보를 제거합니다.
+     *
+     * @param payload "r:사용자 ID:아기 ID" 또는 "t:토큰,토큰" 형식의 제거 요청
+     */
+    private void onInvalidation(String payload) {
+        if (payload.startsWith(TOKEN_PREFIX)) {
+            evictTokensLocal(Set.copyOf(Arrays.asList(payload.substring(TOKEN_PREFIX.length()).split(","))));
+            return;
+        }
+
+        String ids = payload.substring(RECIPIENT_PREFIX.length());
+        int separator = ids.indexOf(':');
+        evictLocal(parse(ids.substring(0, separator)), parse(ids.substring(separator + 1)));
+    }
+
+    private void evictLocal(Integer userId, Integer babyId) {
+        if (Objects.nonNull(babyId)) {
+            recipients.remove(babyId);
+            return;
+        }
+
+        recipients.removeIf(cached -> Objects.isNull(userId) || cached.userIds().contains(userId));
+    }
+
+    private void evictTokensLocal(Set<String> removed) {
+        recipients.removeIf(cached -> cached.tokens().stream().anyMatch(removed::contains));
+    }
+
+    private Recipients load(Integer babyId) {
+        List<CaregiverToken> caregiverTokens = fcmTokenRepository.findCaregiverTokensByBabyId(babyId);
+
+        Set<Integer> userIds = caregiverTokens.stream()
+                .map(CaregiverToken::userId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        List<String> tokens = caregiverTokens.stream()
+                .map(CaregiverToken::fcmToken)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        return new Recipients(userIds, tokens);
+    }
+
+    private static Integer parse(String value) {
+        return WILDCARD.equals(value) ? null : Integer.valueOf(value);
+    }
+
+    /**
+     * 아기의 보호자 ID 와 FCM 토큰 목록입니다.
+     */
+    private record Recipients(Set<Integer> userIds, List<String> tokens) {}
+}
@@ -1,8 +1,9 @@
 package com.agarang.domain.alarm.service;
 
-import com.agarang.domain.alarm.entity.FcmToken;
-import com.agarang.domain.alarm.entity.NotificationJob;
-import com.agarang.domain.alarm.repository.FcmTokenRepository;
+import com.agarang.domain.alarm.dto.PendingNotification;
+import com.agarang.global.purge.ChunkedPurger;
+import com.agarang.global.purge.PurgeResult;
+import com.agarang.global.purge.PurgeTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,42 +23,55 @@ import java.util.List;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.06          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           분 단위 조회 대신 타이머에 예약 알림 등록<br>
+ * 26.10.18          Fiat_lux           오래된 토큰과 알림을 구간 단위로 삭제<br>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationScheduler {
-    private final FcmTokenRepository fcmTokenRepository;
+    private final ChunkedPurger chunkedPurger;
     private final NotificationJobService notificationJobService;
+    private final NotificationTimer notificationTimer;
+    private final NotificationRecipientCache notificationRecipientCache;
 
     /**
      * 6개월 이상 사용되지 않은 FCM 토큰을 정리하는 작업을 수행합니다.
      *
      * <p>이 작업은 매일 자정(00:00:00)에 실행되며, `updatedAt` 값이 6개월 이상 지난
-     * FCM 토큰을 찾아 삭제합니다.</p>
+     * FCM 토큰을 {@link ChunkedPurger} 로 나누어 삭제합니다.</p>
      */
     @Scheduled(cron = "0 0 0 * * ?")
     public void cleanupOldTokens() {
-        LocalDate thresholdDate = LocalDate.now().minusMonths(6);
-        List<FcmToken> oldTokens = fcmTokenRepository.findByUpdatedAtBefore(thresholdDate);
-        if (!oldTokens.isEmpty()) {
-            fcmTokenRepository.deleteAll(oldTokens);
+        PurgeResult result = chunkedPurger.purge(PurgeTarget.STALE_FCM_TOKEN, LocalDate.now().minusMonths(6));
+        if (result.deletedRows() > 0) {
+            notificationRecipientCache.evict(null, null);
         }
     }
 
     /**
-     * 예약된 알림을 처리하는 작업을 수행합니다.
+     * 전송이 끝난 지 30일이 지난 예약 알림과 outbox 알림을 정리하는 작업을 수행합니다.
      *
-     * <p>이 작업은 매 분마다 실행되며, 현재 시각 이전에 예약된 알림을 찾아 FCM을 통해 전송합니다.</p>
+     * <p>이 작업은 매일 00:30:00 에 실행되며, {@link ChunkedPurger} 로 나누어 삭제합니다.</p>
      */
-    @Scheduled(cron = "0 * * * * *")
-    public void processScheduledNotifications() {
-        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
-        List<NotificationJob> pendingNotifications = notificationJobService.getPendingNotifications(now);
-        log.info("========================== " + now.toString() + " ==========================");
-        log.info("대기중인 알림 건수: " + pendingNotifications.size());
-        for (NotificationJob notificationJob : pendingNotifications) {
-            notificationJobService.processNotificationJob(notificationJob);
-        }
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void cleanupSentNotifications() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(30);
+        chunkedPurger.purge(PurgeTarget.SENT_NOTIFICATION_JOB, threshold);
+        chunkedPurger.purge(PurgeTarget.DELIVERED_NOTIFICATION_OUTBOX, threshold);
+    }
+
+    /**
+     * 곧 전송할 예약 알림을 타이머에 등록하는 작업을 수행합니다.
+     *
+     * <p>이 작업은 서버 시작 시와 이후 30초마다 실행되며, {@link NotificationTimer#HORIZON} 이내에 예약되었거나
+     * 이미 예약 시간이 지난 미전송 알림을 타이머에 등록합니다. 실제 전송은 타이머가 예약 시간에 맞춰 수행합니다.</p>
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void loadUpcomingNotifications() {
+        List<PendingNotification> pendingNotifications = notificationJobService.getPendingNotifications(LocalDateTime.now().plus(NotificationTimer.HORIZON));
+        notificationTimer.scheduleAll(pendingNotifications);
+        log.debug("대기중인 알림 건수: {}, 평균 지연: {}ms, 최대 지연: {}ms",
+                notificationTimer.getPendingNotifications(), notificationTimer.getAverageFireLagMillis(), notificationTimer.getMaxFireLagMillis());
     }
 }
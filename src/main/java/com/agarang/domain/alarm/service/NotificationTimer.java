@@ -0,0 +1,213 @@
+package com.agarang.domain.alarm.service;
+
+import com.agarang.domain.alarm.dto.PendingNotification;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.alarm.service<br>
+ * fileName       : NotificationTimer.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  예약 알림을 예약 시간에 맞춰 전송하는 메모리 타이머 클래스입니다.<br>
+ * <p>{@link #HORIZON} 이내에 예약된 알림만 {@link DelayQueue} 에 올려두고, 예약 시간이 되면 전송 스레드에 넘깁니다.
+ * 알림의 원본은 DB 에 있으므로, 서버가 재시작되어도 {@link NotificationScheduler} 의 주기적인 조회로 다시 등록됩니다.
+ * 여러 서버가 같은 알림을 등록하더라도 {@link NotificationJobService#deliverNotificationJob} 에서 선점한 서버만 전송합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationTimer {
+    /**
+     * 메모리에 올려두는 예약 알림의 범위입니다.
+     */
+    public static final Duration HORIZON = Duration.ofMinutes(5);
+    private static final long LATE_FIRE_MILLIS = 1000L;
+
+    private final NotificationJobService notificationJobService;
+    private final ThreadPoolTaskExecutor notificationDispatchExecutor;
+
+    private final DelayQueue<TimerEntry> queue = new DelayQueue<>();
+    private final Map<Integer, TimerEntry> scheduled = new ConcurrentHashMap<>();
+    private Thread dispatcher;
+
+    private final LongAdder firedNotifications = new LongAdder();
+    private final LongAdder skippedNotifications = new LongAdder();
+    private final LongAdder fireLagMillis = new LongAdder();
+    private final LongAccumulator maxFireLagMillis = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * 예약 시간이 된 알림을 꺼내 전송 스레드에 넘기는 스레드를 시작합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        dispatcher = new Thread(this::dispatchLoop, "notification-timer");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * 타이머 스레드를 종료합니다.
+     */
+    @PreDestroy
+    protected void destroy() {
+        dispatcher.interrupt();
+    }
+
+    /**
+     * 예약 알림 목록을 타이머에 등록합니다. 이미 등록된 알림은 무시합니다.
+     *
+     * @param notifications 등록할 예약 알림 목록
+     */
+    public void scheduleAll(List<PendingNotification> notifications) {
+        notifications.forEach(this::schedule);
+    }
+
+    /**
+     * 예약 시간이 {@link #HORIZON} 이내인 경우에만 예약 알림을 타이머에 등록합니다.
+     *
+     * @param notification 등록할 예약 알림
+     */
+    public void scheduleIfWithinHorizon(PendingNotification notification) {
+        if (notification.scheduledAt().isBefore(LocalDateTime.now().plus(HORIZON))) {
+            schedule(notification);
+        }
+    }
+
+    /**
+     * 예약 시간부터 실제 전송 시작까지의 평균 지연 시간을 반환합니다.
+     *
+     * @return 평균 지연 시간(ms)
+     */
+    public double getAverageFireLagMillis() {
+        long fired = firedNotifications.sum();
+        return fired == 0 ? 0 : (double) fireLagMillis.sum() / fired;
+    }
+
+    /**
+     * 예약 시간부터 실제 전송 시작까지의 최대 지연 시간을 반환합니다.
+     *
+     * @return 최대 지연 시간(ms)
+     */
+    public long getMaxFireLagMillis() {
+        return maxFireLagMillis.get();
+    }
+
+    /**
+     * 전송을 시작한 예약 알림 수를 반환합니다.
+     *
+     * @return 전송을 시작한 알림 수
+     */
+    public long getFiredNotifications() {
+        return firedNotifications.sum();
+    }
+
+    /**
+     * 다른 서버가 먼저 선점하여 전송하지 않은 예약 알림 수를 반환합니다.
+     *
+     * @return 전송하지 않은 알림 수
+     */
+    public long getSkippedNotifications() {
+        return skippedNotifications.sum();
+    }
+
+    /**
+     * 타이머에 등록되어 대기 중인 예약 알림 수를 반환합니다.
+     *
+     * @return 대기 중인 알림 수
+     */
+    public int getPendingNotifications() {
+        return scheduled.size();
+    }
+
+    private void schedule(PendingNotification notification) {
+        long fireAtMillis = notification.scheduledAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        TimerEntry entry = new TimerEntry(notification.notificationJobId(), fireAtMillis);
+        if (scheduled.putIfAbsent(entry.notificationJobId, entry) == null) {
+            queue.put(entry);
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            TimerEntry entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                notificationDispatchExecutor.execute(() -> fire(entry));
+            } catch (RuntimeException e) {
+                scheduled.remove(entry.notificationJobId);
+                log.error("예약 알림 전송 등록 실패. notificationJobId: {}", entry.notificationJobId, e);
+            }
+        }
+    }
+
+    private void fire(TimerEntry entry) {
+        try {
+            long lag = System.currentTimeMillis() - entry.fireAtMillis;
+            if (!notificationJobService.deliverNotificationJob(entry.notificationJobId)) {
+                skippedNotifications.increment();
+                return;
+            }
+
+            firedNotifications.increment();
+            fireLagMillis.add(Math.max(lag, 0));
+            maxFireLagMillis.accumulate(lag);
+            if (lag >= LATE_FIRE_MILLIS) {
+                log.warn("예약 알림 전송이 지연되었습니다. notificationJobId: {}, lag: {}ms", entry.notificationJobId, lag);
+            }
+        } catch (RuntimeException e) {
+            log.error("예약 알림 전송 실패. notificationJobId: {}", entry.notificationJobId, e);
+        } finally {
+            scheduled.remove(entry.notificationJobId);
+        }
+    }
+
+    /**
+     * 타이머에 등록된 예약 알림입니다.
+     */
+    private static final class TimerEntry implements Delayed {
+        private final Integer notificationJobId;
+        private final long fireAtMillis;
+
+        private TimerEntry(Integer notificationJobId, long fireAtMillis) {
+            this.notificationJobId = notificationJobId;
+            this.fireAtMillis = fireAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((TimerEntry) other).fireAtMillis);
+        }
+    }
+}
@@ -2,10 +2,13 @@ package com.agarang.domain.baby.repository;
 
 import com.agarang.domain.baby.entity.Baby;
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +22,28 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-22          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          일자별 통계 갱신용 잠금 조회 추가<br>
  * <br>
  */
 @Repository
 public interface BabyRepository extends JpaRepository<Baby, Integer> {
     Optional<Baby> findByBabyIdAndFlagDeletedIsFalse(Integer babyId);
-}
 
+    @Query("SELECT b.babyId FROM Baby b")
+    List<Integer> findAllBabyIds();
+
+    @Query("SELECT b.birth FROM Baby b WHERE b.babyId = :babyId")
+    Optional<LocalDateTime> findBirthByBabyId(@Param("babyId") Integer babyId);
+
+    /**
+     * 아기 행을 쓰기 잠금으로 조회합니다.
+     *
+     * <p>같은 아기의 일자별 통계를 동시에 다시 계산하지 않도록 통계 갱신 전에 호출합니다.</p>
+     *
+     * @param babyId 아기 ID
+     * @return 잠근 아기 객체
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Baby b WHERE b.babyId = :babyId")
+    Optional<Baby> findByIdForUpdate(@Param("babyId") Integer babyId);
+}
@@ -9,7 +9,9 @@ import com.agarang.domain.baby.repository.BabyRepository;
 import com.agarang.domain.chat_room.service.ChatRoomService;
 import com.agarang.domain.custody.entity.Custody;
 import com.agarang.domain.custody.entity.CustodyType;
+import com.agarang.domain.custody.event.CaregiverContextEvictEvent;
 import com.agarang.domain.custody.repository.CustodyRepository;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
 import com.agarang.domain.record.entity.enumeration.GrowthStatusType;
 import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
@@ -18,6 +20,7 @@ import com.agarang.global.exception.ErrorCode;
 import com.agarang.global.s3.S3DefaultImage;
 import com.agarang.global.s3.S3Uploader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,6 +45,7 @@ import java.util.Objects;
  * 25.01.30          Fiat_lux           exception custom 처리<br>
  * 25.01.31          Fiat_lux           등록, 수정 method 수정 <br>
  * 25.02.04          Fiat_lux           상세 조회 method <br>
+ * 26.10.18          Fiat_lux           보호자 권한 확인을 CaregiverContextResolver 로 변경<br>
  */
 @Service
 @Transactional
@@ -53,6 +57,8 @@ public class BabyService {
     private final BabyMapper babyMapper;
     private final CustodyRepository custodyRepository;
     private final ChatRoomService chatRoomService;
+    private final CaregiverContextResolver caregiverContextResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     public static final String PART_CREATE_BABY_DATA = "baby";
 
@@ -85,6 +91,7 @@ public class BabyService {
         Custody custody = new Custody(baby, user, CustodyType.MAIN);
         custodyRepository.save(custody);
         chatRoomService.saveChatRoom(baby);
+        eventPublisher.publishEvent(new CaregiverContextEvictEvent(this, userId, saveBaby.getBabyId()));
 
         return babyMapper.mapToResponse(saveBaby);
     }
@@ -99,19 +106,11 @@ public class BabyService {
      * @throws BusinessException 사용자, 아기, 또는 보호 권한이 없을 경우 예외 발생
      */
     public BabyResponse updateBaby(Integer userId, BabyUpdateRequest babyUpdateRequest, MultipartFile multipartFile) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        caregiverContextResolver.resolveMain(userId, babyUpdateRequest.getBabyId());
 
         Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyUpdateRequest.getBabyId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
 
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!CustodyType.MAIN.equals(custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
-
         updateImage(babyUpdateRequest.getBeforeImage(), multipartFile, baby);
         baby.setName(babyUpdateRequest.getName());
         baby.setBirth(babyUpdateRequest.getBirth());
@@ -130,15 +129,12 @@ public class BabyService {
      */
     @Transactional(readOnly = true)
     public BabyMainResponse getMainBaby(Integer babyId, Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        caregiverContextResolver.resolve(userId, babyId);
 
+        User user = userRepository.getReferenceById(userId);
         Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
 
-        custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
         List<Custody> custodyList = custodyRepository.findByUserAndDeletedAtIsNullAndBabyNotOrderByCreatedAtAsc(user, baby);
 
         List<BabySwitchResponse> babySwitchResponses = new ArrayList<>();
@@ -263,21 +259,14 @@ public class BabyService {
      */
     @Transactional(readOnly = true)
     public BabyGetResponse getBabyInfo(Integer babyId, Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(
-                        () ->
-                                new BusinessException(ErrorCode.USER_NOT_FOUND)
-                );
+        caregiverContextResolver.resolve(userId, babyId);
+
+        User user = userRepository.getReferenceById(userId);
         Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
                 .orElseThrow(
                         () ->
                                 new BusinessException(ErrorCode.BABY_NOT_FOUND)
                 );
-        custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(
-                        () ->
-                                new BusinessException(ErrorCode.CUSTODY_NOT_FOUND)
-                );
         int custodyCount = custodyRepository.countByBabyAndDeletedAtIsNullAndUserNot(baby, user);
 
         return new BabyGetResponse(
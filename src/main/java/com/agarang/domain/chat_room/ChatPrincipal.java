@@ -0,0 +1,32 @@
+package com.agarang.domain.chat_room;
+
+import java.security.Principal;
+
+/**
+ * packageName    : com.agarang.domain.chat_room<br>
+ * fileName       : ChatPrincipal.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : STOMP 세션에 저장되는 인증된 사용자 정보 클래스입니다.<br>
+ * <p>CONNECT 시점에 한 번 인증된 사용자 ID 를 담으며, 이후 같은 세션의 모든 메시지에 전달됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public final class ChatPrincipal implements Principal {
+    private final Integer userId;
+
+    public ChatPrincipal(Integer userId) {
+        this.userId = userId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
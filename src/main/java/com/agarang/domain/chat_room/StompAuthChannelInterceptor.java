@@ -0,0 +1,82 @@
+package com.agarang.domain.chat_room;
+
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import com.agarang.global.util.JwtUtility;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * packageName    : com.agarang.domain.chat_room<br>
+ * fileName       : StompAuthChannelInterceptor.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : STOMP CONNECT 시점에 사용자를 인증하는 inbound channel 인터셉터입니다.<br>
+ * <p>CONNECT 프레임의 `Authorization` 헤더를 한 번만 검증하여 {@link ChatPrincipal} 을 세션에 저장하며,
+ * 이후 SEND 프레임은 토큰을 다시 파싱하지 않고 세션의 사용자 정보를 사용합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtility jwtUtility;
+
+    /**
+     * CONNECT 프레임의 인증 헤더를 검증하고 세션에 사용자 정보를 저장합니다.
+     *
+     * <p>CONNECT 가 아닌 프레임은 그대로 통과시킵니다.</p>
+     *
+     * @param message 수신된 STOMP 메시지
+     * @param channel inbound channel
+     * @return 사용자 정보가 설정된 메시지
+     * @throws BusinessException - 토큰이 없거나 유효하지 않을 경우 {@link ErrorCode#UNAUTHORIZED}, {@link ErrorCode#INVALID_TOKEN}
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (Objects.nonNull(accessor) && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(new ChatPrincipal(authenticate(accessor)));
+        }
+
+        return message;
+    }
+
+    /**
+     * `Authorization` 헤더의 토큰을 검증하여 사용자 ID 를 반환합니다.
+     *
+     * <h3>예제 요청 헤더</h3>
+     * <pre>
+     * Authorization: Bearer eyJhbGciOiJIUzI1...
+     * </pre>
+     *
+     * @param accessor STOMP 헤더 액세서 {@link StompHeaderAccessor}
+     * @return 검증된 사용자 ID
+     */
+    private Integer authenticate(StompHeaderAccessor accessor) {
+        String authorizationHeader = accessor.getFirstNativeHeader("Authorization");
+
+        if (Objects.isNull(authorizationHeader) || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        try {
+            return Integer.parseInt(jwtUtility.getUserId(authorizationHeader.substring(BEARER_PREFIX.length())));
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+}
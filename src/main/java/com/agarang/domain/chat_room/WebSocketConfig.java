@@ -3,11 +3,13 @@ package com.agarang.domain.chat_room;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -30,7 +32,9 @@ import java.util.List;
  */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
 
     /**
      * STOMP(WebSocket) 엔드포인트를 등록합니다.
@@ -58,7 +62,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * 메시지 브로커를 설정합니다.
      *
      * <p>애플리케이션에서 처리하는 목적지 프리픽스를 `/app`으로 설정하고,
-     * 메시지 브로커를 활성화하여 `/topic`, `/queue` 접두사를 가진 목적지를 구독할 수 있도록 합니다.</p>
+     * 메시지 브로커를 활성화하여 `/topic`, `/queue` 접두사를 가진 목적지를 구독할 수 있도록 합니다.
+     * 여러 서버로 채팅 메시지를 전달하는 경우에도 각 서버의 in-memory 브로커가 자신에게 연결된 세션으로 전달하며,
+     * 서버 간 전달은 {@link com.agarang.domain.chat_room.broker.ChatBroadcaster} 가 담당합니다.</p>
      *
      * <h3>예제 STOMP 메시지 전송</h3>
      * <pre>
@@ -83,6 +89,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.enableSimpleBroker("/topic", "/queue");
     }
 
+    /**
+     * 클라이언트로부터 들어오는 메시지 채널에 인터셉터를 등록합니다.
+     *
+     * <p>{@link StompAuthChannelInterceptor} 가 CONNECT 시점에 한 번 사용자를 인증하여 세션에 저장합니다.</p>
+     *
+     * @param registration inbound channel 설정
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
     /**
      * JSON 메시지를 처리하는 `MappingJackson2MessageConverter` 빈을 등록합니다.
      *
@@ -1,5 +1,6 @@
 package com.agarang.domain.chat_room;
 
+import com.agarang.domain.chat_room.broker.ChatBroadcaster;
 import com.agarang.domain.chat_room.dto.response.MessageResponse;
 import com.agarang.domain.chat_room.entity.ChatRoom;
 import com.agarang.domain.chat_room.service.ChatRoomService;
@@ -8,7 +9,6 @@ import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
-import com.agarang.global.util.JwtUtility;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.Message;
@@ -17,8 +17,6 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 
-import java.util.Objects;
-
 /**
  * packageName    : com.agarang.domain.chat_room<br>
  * fileName       : WebSocketEventListener.java<br>
@@ -35,10 +33,10 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class WebSocketEventListener {
     private final UserRepository userRepository;
-    private final JwtUtility jwtUtility;
     private final ChatRoomService chatRoomService;
     private final SimpMessagingTemplate messagingTemplate;
     private final ChattingService chattingService;
+    private final ChatBroadcaster chatBroadcaster;
 
     /**
      * 사용자의 WebSocket 연결 이벤트를 처리합니다.
@@ -49,7 +47,7 @@ public class WebSocketEventListener {
      * <h3>예상 시나리오</h3>
      * <ul>
      *     <li>사용자가 WebSocket 연결 요청을 보냅니다.</li>
-     *     <li>헤더에서 토큰을 추출하여 사용자 ID를 검증합니다.</li>
+     *     <li>{@link StompAuthChannelInterceptor} 가 CONNECT 시점에 인증한 사용자 ID를 사용합니다.</li>
      *     <li>채팅방 ID(`baby_id`)를 확인하고 해당 채팅방을 찾습니다.</li>
      *     <li>사용자가 처음 입장하는 경우, 채팅방에 추가 후 입장 메시지를 전송합니다.</li>
      * </ul>
@@ -68,7 +66,11 @@ public class WebSocketEventListener {
 
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(connectMessage);
         try {
-            Integer userId = validationAuthorization(headerAccessor);
+            if (!(event.getUser() instanceof ChatPrincipal chatPrincipal)) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED);
+            }
+
+            Integer userId = chatPrincipal.getUserId();
             String chatRoomIdHeader = headerAccessor.getFirstNativeHeader("baby_id");
 
             Integer babyId = Integer.parseInt(chatRoomIdHeader);
@@ -81,40 +83,13 @@ public class WebSocketEventListener {
 
                 MessageResponse firstJoinMessage = chattingService.firstJoinMessage(user, chatRoom);
 
-                messagingTemplate.convertAndSend("/topic/chat-room/" + chatRoom.getBaby().getBabyId(), firstJoinMessage);
+                chatBroadcaster.broadcast(babyId, firstJoinMessage);
             }
         } catch (Exception e) {
             sendErrorMessageToUser(headerAccessor, e.getMessage());
         }
     }
 
-    /**
-     * WebSocket 연결 요청의 인증 헤더를 검증하여 사용자 ID를 반환합니다.
-     *
-     * <p>헤더에서 `Authorization` 토큰을 추출하고 검증하여 사용자 ID를 파싱합니다.</p>
-     *
-     * <h3>예제 요청 헤더</h3>
-     * <pre>
-     * Authorization: Bearer eyJhbGciOiJIUzI1...
-     * </pre>
-     *
-     * @param headerAccessor STOMP 헤더 액세서 {@link StompHeaderAccessor}
-     * @return 검증된 사용자 ID
-     * @throws BusinessException - 토큰이 없거나 유효하지 않을 경우 {@link ErrorCode#INVALID_TOKEN}, {@link ErrorCode#UNAUTHORIZED}
-     */
-    private Integer validationAuthorization(StompHeaderAccessor headerAccessor) {
-        String authorizationHeader = headerAccessor.getFirstNativeHeader("Authorization");
-        if (Objects.nonNull(authorizationHeader) && authorizationHeader.startsWith("Bearer ")) {
-            String token = authorizationHeader.substring(7);
-            try {
-                return Integer.parseInt(jwtUtility.getUserId(token));
-            } catch (Exception e) {
-                throw new BusinessException(ErrorCode.INVALID_TOKEN);
-            }
-        }
-        throw new BusinessException(ErrorCode.UNAUTHORIZED);
-    }
-
     /**
      * WebSocket 클라이언트에게 오류 메시지를 전송합니다.
      *
@@ -0,0 +1,30 @@
+package com.agarang.domain.chat_room.broker;
+
+import com.agarang.domain.chat_room.dto.response.MessageResponse;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.broker<br>
+ * fileName       : ChatBroadcaster.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 채팅 메시지를 채팅방 구독자에게 전달하는 인터페이스입니다.<br>
+ * <p>`chat.broker.type` 설정에 따라 한 서버 안에서만 전달하는 {@link SimpleChatBroadcaster} 또는
+ * Redis pub/sub 을 통해 모든 서버로 전달하는 {@link RedisChatBroadcaster} 가 사용됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public interface ChatBroadcaster {
+    String CHAT_ROOM_TOPIC_PREFIX = "/topic/chat-room/";
+
+    /**
+     * 특정 아기의 채팅방을 구독 중인 모든 사용자에게 메시지를 전달합니다.
+     *
+     * <p>같은 채팅방의 메시지는 호출된 순서대로 전달됩니다.</p>
+     *
+     * @param babyId  채팅방이 속한 아기의 ID
+     * @param message 전달할 메시지 {@link MessageResponse}
+     */
+    void broadcast(Integer babyId, MessageResponse message);
+}
@@ -0,0 +1,22 @@
+package com.agarang.domain.chat_room.broker;
+
+import com.agarang.domain.chat_room.dto.response.MessageResponse;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.broker<br>
+ * fileName       : ChatRelayBatch.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : Redis 채널로 전달되는 채팅방 메시지 묶음 dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record ChatRelayBatch(
+        Integer babyId,
+        long publishedAt,
+        List<MessageResponse> messages
+) {}
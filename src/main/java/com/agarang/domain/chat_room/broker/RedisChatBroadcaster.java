@@ -0,0 +1,345 @@
+package com.agarang.domain.chat_room.broker;
+
+import com.agarang.domain.chat_room.dto.response.MessageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.broker<br>
+ * fileName       : RedisChatBroadcaster.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : Redis pub/sub 을 통해 모든 서버의 채팅방 구독자에게 메시지를 전달하는 클래스입니다.<br>
+ * <p>`chat.broker.type=redis` 인 경우 사용됩니다. 메시지는 채팅방별 Redis 채널(`chat-room:{babyId}`)로 발행되고,
+ * 각 서버는 채널을 구독하여 자신에게 연결된 세션으로 메시지를 전달합니다. 메시지를 보낸 서버도 구독을 통해서만 전달하므로
+ * 모든 서버가 같은 순서로 메시지를 받습니다.</p>
+ * <ul>
+ *     <li>발행: 채팅방마다 대기열을 두고, 밀린 메시지를 최대 {@value #MAX_BATCH_SIZE} 개씩 묶어 한 번에 발행합니다.</li>
+ *     <li>순서: 같은 채팅방은 발행과 전달 모두 항상 같은 단일 스레드에서 처리됩니다.</li>
+ *     <li>계측: 발행 시각과 전달 시각의 차이를 fan-out 지연 시간으로 기록합니다.</li>
+ *     <li>실패: 발행은 최대 {@value #MAX_PUBLISH_ATTEMPTS} 번 시도하며, 모두 실패하면 현재 서버의 구독자에게만 직접 전달합니다.</li>
+ *     <li>정리: 대기열이 비면 채팅방 대기열을 제거하므로, 보관하는 대기열은 메시지가 오가는 채팅방 수를 넘지 않습니다.</li>
+ * </ul><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           발행 재시도와 현재 서버 전달, 빈 대기열 제거<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+    private static final String CHANNEL_PREFIX = "chat-room:";
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long SLOW_FAN_OUT_MILLIS = 1000L;
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
+    private static final long PUBLISH_RETRY_DELAY_MILLIS = 50L;
+    private static final int LANES = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Integer, RoomOutbox> outboxes = new ConcurrentHashMap<>();
+    private final ExecutorService[] publishLanes = new ExecutorService[LANES];
+    private final ExecutorService[] deliveryLanes = new ExecutorService[LANES];
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final LongAdder deliveredBatches = new LongAdder();
+    private final LongAdder failedPublishes = new LongAdder();
+    private final LongAdder fanOutLatencyMillis = new LongAdder();
+    private final LongAccumulator maxFanOutLatencyMillis = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * 채팅방별 발행/전달 스레드를 만들고 Redis 채팅방 채널을 구독합니다.
+     *
+     * <p>구독 메시지는 수신 스레드에서 바로 채팅방의 전달 스레드로 넘겨, 채팅방 내 순서를 유지합니다.</p>
+     */
+    @PostConstruct
+    protected void init() {
+        for (int i = 0; i < LANES; i++) {
+            publishLanes[i] = Executors.newSingleThreadExecutor(laneThreadFactory("chat-relay-publish-" + i));
+            deliveryLanes[i] = Executors.newSingleThreadExecutor(laneThreadFactory("chat-relay-deliver-" + i));
+        }
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    /**
+     * 구독을 해제하고 발행/전달 스레드를 종료합니다.
+     */
+    @PreDestroy
+    protected void destroy() throws Exception {
+        listenerContainer.destroy();
+
+        for (int i = 0; i < LANES; i++) {
+            publishLanes[i].shutdown();
+            deliveryLanes[i].shutdown();
+        }
+    }
+
+    /**
+     * 메시지를 채팅방 대기열에 넣고, 대기열을 비우는 작업이 없으면 발행 스레드에 등록합니다.
+     *
+     * <p>대기열 제거와 겹치지 않도록, 메시지는 대기열을 찾는 것과 같은 잠금 안에서 넣습니다.</p>
+     *
+     * @param babyId  채팅방이 속한 아기의 ID
+     * @param message 전달할 메시지 {@link MessageResponse}
+     */
+    @Override
+    public void broadcast(Integer babyId, MessageResponse message) {
+        RoomOutbox outbox = outboxes.compute(babyId, (id, existing) -> {
+            RoomOutbox roomOutbox = Objects.isNull(existing) ? new RoomOutbox(id) : existing;
+            roomOutbox.queue.add(message);
+            return roomOutbox;
+        });
+
+        if (outbox.scheduled.compareAndSet(false, true)) {
+            lane(publishLanes, babyId).execute(() -> drain(outbox));
+        }
+    }
+
+    /**
+     * Redis 채널에서 받은 메시지 묶음을 현재 서버에 연결된 구독자에게 전달합니다.
+     *
+     * @param message Redis 메시지
+     * @param pattern 구독한 채널 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ChatRelayBatch batch;
+        try {
+            batch = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), ChatRelayBatch.class);
+        } catch (Exception e) {
+            log.error("채팅 메시지 묶음을 읽을 수 없습니다. channel: {}", new String(message.getChannel(), StandardCharsets.UTF_8), e);
+            return;
+        }
+
+        lane(deliveryLanes, batch.babyId()).execute(() -> deliver(batch));
+    }
+
+    /**
+     * 현재까지 전달한 메시지 묶음 수를 반환합니다.
+     *
+     * @return 전달한 메시지 묶음 수
+     */
+    public long getDeliveredBatches() {
+        return deliveredBatches.sum();
+    }
+
+    /**
+     * 재시도 후에도 Redis 로 발행하지 못해 현재 서버에만 전달한 메시지 묶음 수를 반환합니다.
+     *
+     * @return 발행에 실패한 메시지 묶음 수
+     */
+    public long getFailedPublishes() {
+        return failedPublishes.sum();
+    }
+
+    /**
+     * 메시지를 보관 중인 채팅방 대기열 수를 반환합니다.
+     *
+     * @return 채팅방 대기열 수
+     */
+    public int getOutboxCount() {
+        return outboxes.size();
+    }
+
+    /**
+     * 발행부터 전달까지의 평균 fan-out 지연 시간을 반환합니다.
+     *
+     * @return 평균 지연 시간(ms)
+     */
+    public double getAverageFanOutLatencyMillis() {
+        long batches = deliveredBatches.sum();
+        return batches == 0 ? 0 : (double) fanOutLatencyMillis.sum() / batches;
+    }
+
+    /**
+     * 발행부터 전달까지의 최대 fan-out 지연 시간을 반환합니다.
+     *
+     * @return 최대 지연 시간(ms)
+     */
+    public long getMaxFanOutLatencyMillis() {
+        return maxFanOutLatencyMillis.get();
+    }
+
+    /**
+     * 채팅방 대기열이 빌 때까지 메시지를 묶어 Redis 채널로 발행합니다.
+     *
+     * <p>대기열이 비면 예약 상태를 해제하며, 해제 직후 새 메시지가 들어온 경우 다시 예약하여 계속 발행합니다.
+     * 예약을 해제한 후에도 대기열이 비어 있으면 채팅방 대기열을 제거합니다.</p>
+     *
+     * @param outbox 채팅방 대기열
+     */
+    private void drain(RoomOutbox outbox) {
+        while (true) {
+            List<MessageResponse> messages = new ArrayList<>();
+            MessageResponse next;
+            while (messages.size() < MAX_BATCH_SIZE && (next = outbox.queue.poll()) != null) {
+                messages.add(next);
+            }
+
+            if (messages.isEmpty()) {
+                outbox.scheduled.set(false);
+                if (outbox.queue.isEmpty() || !outbox.scheduled.compareAndSet(false, true)) {
+                    removeIfIdle(outbox);
+                    return;
+                }
+                continue;
+            }
+
+            publish(new ChatRelayBatch(outbox.babyId, System.currentTimeMillis(), messages));
+        }
+    }
+
+    /**
+     * 비어 있고 발행이 예약되지 않은 채팅방 대기열을 제거합니다.
+     *
+     * <p>{@link #broadcast(Integer, MessageResponse)} 와 같은 잠금 안에서 확인하므로, 메시지가 남은 대기열은 제거되지 않습니다.</p>
+     *
+     * @param outbox 채팅방 대기열
+     */
+    private void removeIfIdle(RoomOutbox outbox) {
+        outboxes.computeIfPresent(outbox.babyId, (id, existing) ->
+                existing == outbox && existing.queue.isEmpty() && !existing.scheduled.get() ? null : existing);
+    }
+
+    /**
+     * 메시지 묶음을 채팅방 Redis 채널로 발행합니다.
+     *
+     * <p>발행에 실패하면 발행 스레드에서 잠시 기다린 후 다시 시도하므로, 같은 채팅방의 다음 묶음이 먼저 발행되지 않습니다.
+     * {@value #MAX_PUBLISH_ATTEMPTS} 번 모두 실패하면 다른 서버에는 전달할 수 없으므로, 현재 서버의 구독자에게만 직접 전달합니다.</p>
+     *
+     * @param batch 메시지 묶음 {@link ChatRelayBatch}
+     */
+    private void publish(ChatRelayBatch batch) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(batch);
+        } catch (JsonProcessingException e) {
+            log.error("채팅 메시지 묶음을 직렬화할 수 없습니다. babyId: {}", batch.babyId(), e);
+            deliverLocally(batch);
+            return;
+        }
+
+        for (int attempt = 1; attempt <= MAX_PUBLISH_ATTEMPTS; attempt++) {
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + batch.babyId(), payload);
+                return;
+            } catch (Exception e) {
+                if (attempt == MAX_PUBLISH_ATTEMPTS) {
+                    log.error("채팅 메시지 묶음 발행에 실패하여 현재 서버에만 전달합니다. babyId: {}, size: {}", batch.babyId(), batch.messages().size(), e);
+                } else {
+                    log.warn("채팅 메시지 묶음 발행 재시도. babyId: {}, attempt: {}", batch.babyId(), attempt, e);
+                    if (!sleep(PUBLISH_RETRY_DELAY_MILLIS * attempt)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        deliverLocally(batch);
+    }
+
+    /**
+     * Redis 로 발행하지 못한 메시지 묶음을 현재 서버의 구독자에게 전달합니다.
+     *
+     * @param batch 메시지 묶음 {@link ChatRelayBatch}
+     */
+    private void deliverLocally(ChatRelayBatch batch) {
+        failedPublishes.increment();
+        lane(deliveryLanes, batch.babyId()).execute(() -> deliver(batch));
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 메시지 묶음을 현재 서버의 채팅방 구독자에게 순서대로 전달하고 fan-out 지연 시간을 기록합니다.
+     *
+     * @param batch 메시지 묶음 {@link ChatRelayBatch}
+     */
+    private void deliver(ChatRelayBatch batch) {
+        String destination = CHAT_ROOM_TOPIC_PREFIX + batch.babyId();
+        for (MessageResponse message : batch.messages()) {
+            messagingTemplate.convertAndSend(destination, message);
+        }
+
+        long latency = Math.max(System.currentTimeMillis() - batch.publishedAt(), 0L);
+        deliveredBatches.increment();
+        fanOutLatencyMillis.add(latency);
+        maxFanOutLatencyMillis.accumulate(latency);
+
+        if (latency >= SLOW_FAN_OUT_MILLIS) {
+            log.warn("채팅 메시지 전달이 지연되었습니다. babyId: {}, size: {}, latency: {}ms", batch.babyId(), batch.messages().size(), latency);
+        } else {
+            log.debug("채팅 메시지 전달 완료. babyId: {}, size: {}, latency: {}ms", batch.babyId(), batch.messages().size(), latency);
+        }
+    }
+
+    private static ExecutorService lane(ExecutorService[] lanes, Integer babyId) {
+        return lanes[Math.floorMod(babyId, lanes.length)];
+    }
+
+    private static ThreadFactory laneThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 채팅방별 발행 대기열입니다.
+     */
+    private static final class RoomOutbox {
+        private final Integer babyId;
+        private final Queue<MessageResponse> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private RoomOutbox(Integer babyId) {
+            this.babyId = babyId;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.agarang.domain.chat_room.broker;
+
+import com.agarang.domain.chat_room.dto.response.MessageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.broker<br>
+ * fileName       : SimpleChatBroadcaster.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 현재 서버의 in-memory 브로커로 채팅 메시지를 전달하는 클래스입니다.<br>
+ * <p>`chat.broker.type` 설정이 없거나 `simple` 인 경우 사용되는 기본 구현입니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "simple", matchIfMissing = true)
+public class SimpleChatBroadcaster implements ChatBroadcaster {
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(Integer babyId, MessageResponse message) {
+        messagingTemplate.convertAndSend(CHAT_ROOM_TOPIC_PREFIX + babyId, message);
+    }
+}
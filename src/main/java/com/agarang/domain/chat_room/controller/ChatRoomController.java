@@ -28,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.19          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           커서와 개수가 없으면 전체 메시지 조회<br>
  */
 @RestController
 @RequiredArgsConstructor
@@ -41,9 +42,13 @@ public class ChatRoomController {
      *
      * <p>이 메서드는 사용자의 인증 정보를 기반으로 특정 아기 ID에 해당하는 채팅방 메시지를 조회하여 반환합니다.</p>
      *
+     * <p>메시지는 {@code before} 이전의 최신 메시지부터 {@code limit} 개씩 조회되며,
+     * 응답의 {@code next_cursor} 를 다음 요청의 {@code before} 로 전달하면 이전 메시지를 이어서 조회합니다.
+     * {@code before} 와 {@code limit} 을 모두 생략하면 이전과 같이 참여 이후의 모든 메시지를 반환합니다.</p>
+     *
      * <h3>예시 요청:</h3>
      * <pre>
-     *     GET /api/chat-rooms/{babyId}
+     *     GET /api/chat-rooms/{babyId}?before=1001&amp;limit=50
      * </pre>
      *
      * <h3>예시 응답:</h3>
@@ -66,6 +71,8 @@ public class ChatRoomController {
      *
      * @param customUserDetails 인증된 사용자 정보
      * @param babyId            조회할 아기의 ID
+     * @param before            이 ID 보다 이전 메시지만 조회 (생략 시 최신 메시지부터)
+     * @param limit             조회할 최대 메시지 수 (생략 시 {@code before} 가 있으면 50, 없으면 전체)
      * @return 채팅 메시지 목록을 포함한 {@link ChatRoomMessageListResponse}재하지 않거나 권한이 없을 경우 예외 발생
      */
     @Operation(summary = "채팅방 메시지 조회", description = "특정 아기의 채팅방 메시지를 조회합니다.")
@@ -79,10 +86,12 @@ public class ChatRoomController {
     })
     @GetMapping("/{babyId}")
     public ResponseEntity<ChatRoomMessageListResponse> getChatRoomMessage(@Parameter(description = "인증된 사용자 정보", required = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
-                                                                          @Parameter(description = "조회할 아기의 ID", required = true) @PathVariable Integer babyId) {
+                                                                          @Parameter(description = "조회할 아기의 ID", required = true) @PathVariable Integer babyId,
+                                                                          @Parameter(description = "이 ID 보다 이전 메시지만 조회 (생략 시 최신 메시지부터)") @RequestParam(required = false) Integer before,
+                                                                          @Parameter(description = "조회할 최대 메시지 수 (최대 100, 생략 시 before 가 있으면 50, 없으면 전체)") @RequestParam(required = false) Integer limit) {
 
         int userId = customUserDetails.getUserId();
-        ChatRoomMessageListResponse messageResponse = chatRoomService.getMessageResponse(babyId, userId);
+        ChatRoomMessageListResponse messageResponse = chatRoomService.getMessageResponse(babyId, userId, before, limit);
 
         return ResponseEntity.status(HttpStatus.OK).body(messageResponse);
     }
@@ -1,11 +1,12 @@
 package com.agarang.domain.chat_room.controller;
 
+import com.agarang.domain.chat_room.ChatPrincipal;
+import com.agarang.domain.chat_room.broker.ChatBroadcaster;
 import com.agarang.domain.chat_room.dto.request.ChattingRequest;
 import com.agarang.domain.chat_room.dto.response.MessageResponse;
 import com.agarang.domain.chat_room.service.ChattingService;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
-import com.agarang.global.util.JwtUtility;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,11 +17,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
-import java.util.Objects;
+import java.security.Principal;
 
 /**
  * packageName    : com.agarang.domain.chat_room.controller<br>
@@ -40,13 +39,13 @@ import java.util.Objects;
 @Tag(name = "채팅 API", description = "채팅 메시지를 WebSocket을 통해 전송하는 API")
 public class ChattingController {
     private final ChattingService chattingService;
-    private final JwtUtility jwtUtility;
+    private final ChatBroadcaster chatBroadcaster;
 
     /**
      * 특정 아기의 채팅방에서 메시지를 전송합니다.
      *
      * <p>클라이언트가 `/chat-room/{babyId}/sendMessage`로 메시지를 전송하면,
-     * 해당 메시지를 처리하여 `/topic/chat-room/{babyId}` 주제로 브로드캐스트합니다.</p>
+     * 해당 메시지를 처리하여 {@link ChatBroadcaster} 를 통해 `/topic/chat-room/{babyId}` 주제로 브로드캐스트합니다.</p>
      *
      * <h3>예시 STOMP 요청:</h3>
      * <pre>
@@ -67,10 +66,8 @@ public class ChattingController {
      *
      * @param babyId          채팅방이 속한 아기의 ID
      * @param chattingRequest 전송할 채팅 메시지 {@link ChattingRequest}
-     * @param headerAccessor  STOMP 메시지 헤더
-     * @return 메시지 응답 {@link MessageResponse}
-     * @throws BusinessException - 토큰이 유효하지 않을 경우 {@link ErrorCode#INVALID_TOKEN}
-     *                           - 인증되지 않은 사용자인 경우 {@link ErrorCode#UNAUTHORIZED}
+     * @param principal       CONNECT 시점에 인증된 사용자 {@link ChatPrincipal}
+     * @throws BusinessException - 인증되지 않은 세션인 경우 {@link ErrorCode#UNAUTHORIZED}
      */
     @Operation(summary = "채팅 메시지 전송", description = "사용자가 특정 채팅방에서 메시지를 전송합니다.")
     @ApiResponses(value = {
@@ -84,38 +81,15 @@ public class ChattingController {
                     content = @Content(schema = @Schema(hidden = true)))
     })
     @MessageMapping("/chat-room/{babyId}/sendMessage")
-    @SendTo("/topic/chat-room/{babyId}")
-    public MessageResponse sendMessage(@Parameter(description = "채팅 메시지를 전송할 아기의 ID", required = true) @DestinationVariable Integer babyId,
-                                       ChattingRequest chattingRequest,
-                                       SimpMessageHeaderAccessor headerAccessor) {
+    public void sendMessage(@Parameter(description = "채팅 메시지를 전송할 아기의 ID", required = true) @DestinationVariable Integer babyId,
+                            ChattingRequest chattingRequest,
+                            Principal principal) {
 
-        Integer userId = validationAuthorization(headerAccessor);
-        return chattingService.createMessage(userId, babyId, chattingRequest);
-    }
-
-    /**
-     * STOMP 메시지 헤더에서 Authorization 토큰을 검증하여 사용자 ID를 추출합니다.
-     *
-     * <p>Authorization 헤더에서 JWT를 추출한 후, 토큰을 검증하여 사용자 ID를 반환합니다.
-     * 유효하지 않은 토큰이거나 헤더가 존재하지 않으면 예외가 발생합니다.</p>
-     *
-     * @param headerAccessor STOMP 메시지 헤더
-     * @return 검증된 사용자 ID
-     * @throws BusinessException - 토큰이 유효하지 않을 경우 {@link ErrorCode#INVALID_TOKEN}
-     *                           - 인증되지 않은 사용자인 경우 {@link ErrorCode#UNAUTHORIZED}
-     */
-    private Integer validationAuthorization(SimpMessageHeaderAccessor headerAccessor) {
-        String authorizationHeader = headerAccessor.getFirstNativeHeader("Authorization");
-
-        if (Objects.nonNull(authorizationHeader) && authorizationHeader.startsWith("Bearer ")) {
-            String token = authorizationHeader.substring(7);
-            try {
-                return Integer.parseInt(jwtUtility.getUserId(token));
-            } catch (Exception e) {
-                throw new BusinessException(ErrorCode.INVALID_TOKEN);
-            }
+        if (!(principal instanceof ChatPrincipal chatPrincipal)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
 
-        throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        MessageResponse messageResponse = chattingService.createMessage(chatPrincipal.getUserId(), babyId, chattingRequest);
+        chatBroadcaster.broadcast(babyId, messageResponse);
     }
 }
@@ -0,0 +1,24 @@
+package com.agarang.domain.chat_room.dto;
+
+import com.agarang.domain.custody.entity.CustodyType;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.dto<br>
+ * fileName       : ChatContext.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 사용자가 특정 아기의 채팅방에 메시지를 보낼 때 필요한 정보를 담는 dto 클래스입니다.<br>
+ * <p>채팅방 참여와 보호자 권한이 확인된 (사용자, 아기) 쌍에 대해서만 생성됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record ChatContext(
+        Integer userId,
+        Integer babyId,
+        Integer chatRoomId,
+        String userName,
+        String userImage,
+        CustodyType custodyType
+) {}
@@ -30,4 +30,8 @@ public class ChatRoomMessageListResponse {
     @Schema(description = "채팅 메시지 목록")
     @JsonProperty("message_response")
     private List<MessageResponse> messageResponses;
+
+    @Schema(description = "이전 메시지 조회에 사용할 커서 (더 이전 메시지가 없으면 null)", example = "1001")
+    @JsonProperty("next_cursor")
+    private Integer nextCursor;
 }
\ No newline at end of file
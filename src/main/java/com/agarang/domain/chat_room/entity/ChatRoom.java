@@ -10,10 +10,12 @@ import lombok.*;
  * author         : Fiat_lux<br>
  * date           : 2025-02-19<br>
  * description    : chat_room entity 클래스입니다.<br>
+ * <p>공지를 바꿀 때마다 {@code notice_revision} 을 올려, 같은 메시지를 다시 공지로 지정해도 새 공지 알림으로 구분합니다.</p><br>
  * ===========================================================<br>
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.19          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           공지 번호 추가<br>
  */
 @Entity
 @Table(name = "chat_room")
@@ -34,7 +36,20 @@ public class ChatRoom {
     @Column(columnDefinition = "TEXT")
     private String notice;
 
+    @Column(name = "notice_revision", nullable = false)
+    private int noticeRevision;
+
     public ChatRoom(Baby baby) {
         this.baby = baby;
     }
+
+    /**
+     * 공지를 변경하고 공지 번호를 올립니다.
+     *
+     * @param notice 새 공지 내용
+     */
+    public void changeNotice(String notice) {
+        this.notice = notice;
+        this.noticeRevision++;
+    }
 }
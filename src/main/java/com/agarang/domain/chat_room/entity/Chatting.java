@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
  * 25.02.19          Fiat_lux           최초생성<br>
  */
 @Entity
-@Table(name = "chatting")
+@Table(name = "chatting",
+        indexes = @Index(name = "idx_chatting_chat_room_id_chatting_id", columnList = "chat_room_id, chatting_id"))
 @Getter
 @Setter
 @AllArgsConstructor
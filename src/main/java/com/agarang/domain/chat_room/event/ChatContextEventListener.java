@@ -0,0 +1,36 @@
+package com.agarang.domain.chat_room.event;
+
+import com.agarang.domain.chat_room.service.ChatContextService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.event<br>
+ * fileName       : ChatContextEventListener.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    :  캐시된 채팅 정보 제거 event 를 처리하는 listener 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatContextEventListener {
+    private final ChatContextService chatContextService;
+
+    /**
+     * 트랜잭션이 커밋된 후, 캐시된 채팅 정보를 제거합니다.
+     *
+     * <p>커밋 이후에 제거하므로, 다음 조회 시 변경된 보호자 권한과 사용자 정보가 반영됩니다.</p>
+     *
+     * @param event 채팅 정보 제거 이벤트 {@link ChatContextEvictEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatContextEvictEvent(ChatContextEvictEvent event) {
+        chatContextService.evict(event.getUserId(), event.getBabyId());
+    }
+}
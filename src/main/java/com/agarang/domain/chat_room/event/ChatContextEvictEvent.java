@@ -0,0 +1,29 @@
+package com.agarang.domain.chat_room.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.event<br>
+ * fileName       : ChatContextEvictEvent.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    :  캐시된 채팅 정보를 제거하는 event 클래스입니다.<br>
+ * <p>보호자 권한, 채팅방 참여, 사용자 정보가 변경될 때 발행합니다.
+ * {@code userId} 나 {@code babyId} 가 null 이면 해당 조건의 모든 채팅 정보를 제거합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Getter
+public class ChatContextEvictEvent extends ApplicationEvent {
+    private final Integer userId;
+    private final Integer babyId;
+
+    public ChatContextEvictEvent(Object source, Integer userId, Integer babyId) {
+        super(source);
+        this.userId = userId;
+        this.babyId = babyId;
+    }
+}
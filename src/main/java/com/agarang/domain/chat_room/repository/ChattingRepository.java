@@ -2,7 +2,10 @@ package com.agarang.domain.chat_room.repository;
 
 import com.agarang.domain.chat_room.entity.ChatRoom;
 import com.agarang.domain.chat_room.entity.Chatting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,8 +20,47 @@ import java.util.List;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.19          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           커서 유무에 따라 조회 쿼리 분리<br>
  */
 public interface ChattingRepository extends JpaRepository<Chatting, Integer> {
 
-    List<Chatting> findByChatRoomAndCreatedAtAfterOrderByCreatedAtAsc(ChatRoom chatRoom, LocalDateTime createdAt);
+    /**
+     * 채팅방의 최신 메시지부터 최신순으로 조회합니다.
+     *
+     * <p>(chat_room_id, chatting_id) 인덱스를 따라 조회하며, 보낸 사용자를 함께 fetch join 합니다.</p>
+     *
+     * @param chatRoom 조회할 채팅방
+     * @param joinedAt 사용자의 채팅방 참여 시각 (이후 메시지만 조회)
+     * @param pageable 조회할 메시지 수 ({@link Pageable#unpaged()} 이면 전체)
+     * @return chatting_id 내림차순으로 정렬된 메시지 목록
+     */
+    @Query("SELECT c FROM Chatting c JOIN FETCH c.user " +
+            "WHERE c.chatRoom = :chatRoom " +
+            "AND c.createdAt > :joinedAt " +
+            "ORDER BY c.chattingId DESC")
+    List<Chatting> findLatestByChatRoom(@Param("chatRoom") ChatRoom chatRoom,
+                                        @Param("joinedAt") LocalDateTime joinedAt,
+                                        Pageable pageable);
+
+    /**
+     * 채팅방에서 {@code before} 보다 이전 메시지를 최신순으로 한 페이지 조회합니다.
+     *
+     * <p>(chat_room_id, chatting_id) 인덱스를 따라 {@code before} 보다 작은 ID 의 메시지를 조회하며,
+     * 보낸 사용자를 함께 fetch join 합니다.</p>
+     *
+     * @param chatRoom 조회할 채팅방
+     * @param joinedAt 사용자의 채팅방 참여 시각 (이후 메시지만 조회)
+     * @param before   이 ID 보다 이전 메시지만 조회
+     * @param pageable 조회할 메시지 수
+     * @return chatting_id 내림차순으로 정렬된 메시지 목록
+     */
+    @Query("SELECT c FROM Chatting c JOIN FETCH c.user " +
+            "WHERE c.chatRoom = :chatRoom " +
+            "AND c.createdAt > :joinedAt " +
+            "AND c.chattingId < :before " +
+            "ORDER BY c.chattingId DESC")
+    List<Chatting> findPageByChatRoomBefore(@Param("chatRoom") ChatRoom chatRoom,
+                                            @Param("joinedAt") LocalDateTime joinedAt,
+                                            @Param("before") Integer before,
+                                            Pageable pageable);
 }
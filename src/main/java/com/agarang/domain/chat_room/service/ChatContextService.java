@@ -0,0 +1,164 @@
+package com.agarang.domain.chat_room.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.chat_room.dto.ChatContext;
+import com.agarang.domain.chat_room.entity.ChatRoom;
+import com.agarang.domain.chat_room.repository.ChatRoomRepository;
+import com.agarang.domain.chat_room.repository.UserChatRoomRepository;
+import com.agarang.domain.custody.dto.CaregiverContext;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.user.entity.User;
+import com.agarang.domain.user.repository.UserRepository;
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.cache.CacheInvalidationBus;
+import com.agarang.global.cache.StripedTtlCache;
+import com.agarang.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.service<br>
+ * fileName       : ChatContextService.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : (사용자, 아기) 별 채팅 정보를 캐시하는 service 클래스입니다.<br>
+ * <p>채팅방 ID, 채팅방 참여 여부, 보호자 타입, 사용자 이름과 이미지를 한 번 조회한 뒤
+ * {@link StripedTtlCache} 에 최대 {@value #MAX_ENTRIES} 개, {@link #TTL} 동안 보관합니다.
+ * 보호자 권한이나 채팅방 참여, 사용자 정보가 바뀌면 {@link #evict(Integer, Integer)} 로 현재 서버에서 제거하고,
+ * {@link CacheInvalidationBus} 의 Redis 채널({@value #CHANNEL})로 다른 서버에서도 제거합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           보호자 타입을 CaregiverContextResolver 로 조회<br>
+ * 26.10.18          Fiat_lux           크기와 보관 기간 제한, 서버 간 제거 전파<br>
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatContextService {
+    private static final String CHANNEL = "chat-context:invalidate";
+    private static final String WILDCARD = "*";
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final UserRepository userRepository;
+    private final BabyRepository babyRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserChatRoomRepository userChatRoomRepository;
+    private final CaregiverContextResolver caregiverContextResolver;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final StripedTtlCache<Long, ChatContext> chatContexts = new StripedTtlCache<>(MAX_ENTRIES, TTL);
+
+    /**
+     * 다른 서버의 제거 요청 채널을 구독합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        cacheInvalidationBus.subscribe(CHANNEL, payload -> {
+            int separator = payload.indexOf(':');
+            evictLocal(parse(payload.substring(0, separator)), parse(payload.substring(separator + 1)));
+        });
+    }
+
+    /**
+     * 사용자가 특정 아기의 채팅방에 메시지를 보낼 때 필요한 정보를 조회합니다.
+     *
+     * <p>캐시에 없는 경우에만 DB 에서 조회하며, 채팅방에 참여하지 않았거나 보호자 권한이 없으면 캐시하지 않습니다.
+     * DB 를 읽는 동안 제거 요청이 있었으면 읽은 결과는 이번 요청에만 사용하고 캐시하지 않습니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 채팅 정보 {@link ChatContext}
+     * @throws BusinessException - 사용자 또는 아기가 존재하지 않을 경우 {@link ErrorCode#USER_NOT_FOUND}, {@link ErrorCode#BABY_NOT_FOUND}
+     *                           - 사용자가 채팅방에 참여하지 않은 경우 {@link ErrorCode#USER_CHATROOM_NOT_JOIN}
+     *                           - 사용자의 양육권 정보가 없을 경우 {@link ErrorCode#CUSTODY_NOT_FOUND}
+     */
+    @Transactional(readOnly = true)
+    public ChatContext getChatContext(Integer userId, Integer babyId) {
+        long now = System.nanoTime();
+        long generation = chatContexts.generation();
+        Optional<ChatContext> chatContext = chatContexts.get(key(userId, babyId), now);
+        if (chatContext.isPresent()) {
+            return chatContext.get();
+        }
+
+        ChatContext loaded = loadChatContext(userId, babyId);
+        chatContexts.put(key(userId, babyId), loaded, generation, now);
+
+        return loaded;
+    }
+
+    /**
+     * 현재 서버와 다른 서버에서 캐시된 채팅 정보를 제거합니다.
+     *
+     * <p>{@code userId} 나 {@code babyId} 가 null 이면 해당 조건을 모든 값으로 간주합니다.</p>
+     *
+     * @param userId 사용자 ID (nullable)
+     * @param babyId 아기 ID (nullable)
+     */
+    public void evict(Integer userId, Integer babyId) {
+        evictLocal(userId, babyId);
+        cacheInvalidationBus.publish(CHANNEL,
+                (Objects.isNull(userId) ? WILDCARD : userId) + ":" + (Objects.isNull(babyId) ? WILDCARD : babyId));
+    }
+
+    private void evictLocal(Integer userId, Integer babyId) {
+        if (Objects.nonNull(userId) && Objects.nonNull(babyId)) {
+            chatContexts.remove(key(userId, babyId));
+            return;
+        }
+
+        chatContexts.removeIf(chatContext ->
+                (Objects.isNull(userId) || userId.equals(chatContext.userId()))
+                        && (Objects.isNull(babyId) || babyId.equals(chatContext.babyId())));
+    }
+
+    /**
+     * DB 에서 채팅 정보를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 채팅 정보 {@link ChatContext}
+     */
+    private ChatContext loadChatContext(Integer userId, Integer babyId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Baby baby = babyRepository.findById(babyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
+
+        ChatRoom chatRoom = chatRoomRepository.findByBaby(baby);
+
+        if (!userChatRoomRepository.existsByUserAndChatRoom(user, chatRoom)) {
+            throw new BusinessException(ErrorCode.USER_CHATROOM_NOT_JOIN);
+        }
+
+        CaregiverContext caregiverContext = caregiverContextResolver.find(userId, babyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
+
+        return new ChatContext(
+                userId,
+                babyId,
+                chatRoom.getChatRoomId(),
+                user.getName(),
+                user.getUserImage(),
+                caregiverContext.custodyType()
+        );
+    }
+
+    private static Integer parse(String value) {
+        return WILDCARD.equals(value) ? null : Integer.valueOf(value);
+    }
+
+    private static Long key(Integer userId, Integer babyId) {
+        return ((long) userId << 32) | (babyId & 0xFFFFFFFFL);
+    }
+}
@@ -7,12 +7,13 @@ import com.agarang.domain.chat_room.dto.request.ChatNoticeRequest;
 import com.agarang.domain.chat_room.dto.response.ChatRoomMessageListResponse;
 import com.agarang.domain.chat_room.dto.response.MessageResponse;
 import com.agarang.domain.chat_room.entity.ChatRoom;
+import com.agarang.domain.chat_room.event.ChatContextEvictEvent;
 import com.agarang.domain.chat_room.entity.Chatting;
 import com.agarang.domain.chat_room.entity.UserChatRoom;
 import com.agarang.domain.chat_room.repository.ChatRoomRepository;
 import com.agarang.domain.chat_room.repository.ChattingRepository;
 import com.agarang.domain.chat_room.repository.UserChatRoomRepository;
-import com.agarang.domain.custody.entity.Custody;
+import com.agarang.domain.custody.dto.UserCustodyType;
 import com.agarang.domain.custody.entity.CustodyType;
 import com.agarang.domain.custody.repository.CustodyRepository;
 import com.agarang.domain.user.entity.User;
@@ -21,11 +22,12 @@ import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +40,9 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.19          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           채팅 메시지 커서 기반 조회로 변경<br>
+ * 26.10.18          Fiat_lux           커서와 개수가 없으면 이전처럼 전체 메시지 조회<br>
+ * 26.10.18          Fiat_lux           공지 알림 키에 공지 번호 추가<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -53,6 +58,9 @@ public class ChatRoomService {
 
     public static final String NOTIFICATION_MESSAGE = "\uD83D\uDEA8 삐용 삐용! \uD83D\uDEA8";
     public static final String NOTIFICATION_CONTENT_MESSAGE = "아기의 공지가 새로 등록 되었습니다.";
+    public static final String NOTICE_EVENT_KEY_PREFIX = "notice:";
+    public static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    public static final int MAX_MESSAGE_PAGE_SIZE = 100;
 
     /**
      * 새로운 채팅방을 생성합니다.
@@ -108,12 +116,20 @@ public class ChatRoomService {
         }
 
         userChatRoomRepository.save(new UserChatRoom(chatRoom, user));
+        eventPublisher.publishEvent(new ChatContextEvictEvent(this, user.getUserId(), chatRoom.getBaby().getBabyId()));
     }
 
     /**
-     * 특정 아기의 채팅 메시지를 조회합니다.
+     * 특정 아기의 채팅 메시지를 커서 기반으로 조회합니다.
      *
-     * <p>사용자가 채팅방에 참여한 이후의 메시지만 조회됩니다.</p>
+     * <p>사용자가 채팅방에 참여한 이후의 메시지 중, {@code before} 보다 이전 메시지를 최대 {@code limit} 개 조회합니다.
+     * 메시지는 오래된 순으로 정렬되며, 응답의 {@code next_cursor} 를 다음 요청의 {@code before} 로 사용하면
+     * 그 이전 메시지를 이어서 조회할 수 있습니다.</p>
+     *
+     * <p>{@code before} 와 {@code limit} 이 모두 없으면 이전 API 와 같이 참여 이후의 모든 메시지를 조회하며,
+     * 이때 {@code next_cursor} 는 항상 null 입니다. {@code before} 만 있으면 {@value #DEFAULT_MESSAGE_PAGE_SIZE} 개씩 조회합니다.</p>
+     *
+     * <p>보낸 사용자 정보는 fetch join 으로, 양육자 타입은 페이지 당 한 번의 조회로 가져옵니다.</p>
      *
      * <h3>예시 응답:</h3>
      * <pre>
@@ -130,17 +146,20 @@ public class ChatRoomService {
      *             "createdAt": "2025-02-18T12:34:56",
      *             "chattingType": "TEXT"
      *         }
-     *     ]
+     *     ],
+     *     "next_cursor": null
      * }
      * </pre>
      *
      * @param babyId 채팅방이 속한 아기의 ID
      * @param userId 조회하는 사용자 ID
+     * @param before 이 ID 보다 이전 메시지만 조회 (null 이면 최신 메시지부터)
+     * @param limit  조회할 최대 메시지 수 (1 ~ {@value #MAX_MESSAGE_PAGE_SIZE}, null 이면 커서가 없을 때 전체)
      * @return 채팅 메시지 목록을 포함한 {@link ChatRoomMessageListResponse}
      * @throws BusinessException - 아기 또는 사용자 정보가 없을 경우 예외 발생
      */
     @Transactional(readOnly = true)
-    public ChatRoomMessageListResponse getMessageResponse(Integer babyId, Integer userId) {
+    public ChatRoomMessageListResponse getMessageResponse(Integer babyId, Integer userId, Integer before, Integer limit) {
         Baby baby = babyRepository.findById(babyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
 
@@ -151,19 +170,38 @@ public class ChatRoomService {
         UserChatRoom userChatRoom = userChatRoomRepository.findByUserAndChatRoom(user, chatRoom)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_CHATROOM_NOT_FOUND));
 
-        List<MessageResponse> responseList = chattingRepository
-                .findByChatRoomAndCreatedAtAfterOrderByCreatedAtAsc(chatRoom, userChatRoom.getCreatedAt())
-                .stream()
+        boolean unpaged = Objects.isNull(before) && Objects.isNull(limit);
+        int pageSize = Objects.isNull(limit) ? DEFAULT_MESSAGE_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_MESSAGE_PAGE_SIZE);
+        Pageable pageable = unpaged ? Pageable.unpaged() : PageRequest.of(0, pageSize + 1);
+
+        List<Chatting> chattings = new ArrayList<>(Objects.isNull(before)
+                ? chattingRepository.findLatestByChatRoom(chatRoom, userChatRoom.getCreatedAt(), pageable)
+                : chattingRepository.findPageByChatRoomBefore(chatRoom, userChatRoom.getCreatedAt(), before, pageable));
+
+        boolean hasNext = !unpaged && chattings.size() > pageSize;
+        if (hasNext) {
+            chattings.remove(pageSize);
+        }
+        Collections.reverse(chattings);
+
+        Set<Integer> senderIds = chattings.stream()
+                .map(chatting -> chatting.getUser().getUserId())
+                .collect(Collectors.toSet());
+
+        Map<Integer, CustodyType> custodyTypes = senderIds.isEmpty()
+                ? Collections.emptyMap()
+                : custodyRepository.findCustodyTypesByBabyAndUserIds(baby, senderIds).stream()
+                .collect(Collectors.toMap(UserCustodyType::userId, UserCustodyType::custodyType, (first, second) -> first));
+
+        List<MessageResponse> responseList = chattings.stream()
                 .map(chatting -> {
                     User sender = chatting.getUser();
-                    Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(sender, baby)
-                            .orElse(null);
 
                     return new MessageResponse(
                             chatting.getChattingId(),
                             sender.getUserId(),
                             sender.getName(),
-                            Objects.isNull(custody) ? CustodyType.LOSS : custody.getCustodyType(),
+                            custodyTypes.getOrDefault(sender.getUserId(), CustodyType.LOSS),
                             sender.getUserImage(),
                             chatting.getContent(),
                             chatting.getCreatedAt(),
@@ -171,13 +209,16 @@ public class ChatRoomService {
                     );
                 }).collect(Collectors.toList());
 
-        return new ChatRoomMessageListResponse(chatRoom.getNotice(), responseList);
+        Integer nextCursor = hasNext ? chattings.get(0).getChattingId() : null;
+
+        return new ChatRoomMessageListResponse(chatRoom.getNotice(), responseList, nextCursor);
     }
 
     /**
      * 특정 채팅방의 공지를 업데이트합니다.
      *
-     * <p>공지 메시지는 채팅방에 있는 기존 메시지 중 하나로 설정됩니다.</p>
+     * <p>공지 메시지는 채팅방에 있는 기존 메시지 중 하나로 설정됩니다.
+     * 공지 알림 키에 공지 번호를 포함하므로, 이전에 공지했던 메시지를 다시 공지해도 알림이 전송됩니다.</p>
      *
      * <h3>예시 요청:</h3>
      * <pre>
@@ -202,11 +243,12 @@ public class ChatRoomService {
         Chatting chatting = chattingRepository.findById(chatNoticeRequest.getMessageId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHATTING_NOT_FOUND));
 
-        chatRoom.setNotice(chatting.getContent());
+        chatRoom.changeNotice(chatting.getContent());
 
         eventPublisher.publishEvent(new FcmTokenSendMessageEvent(
                 this,
                 baby.getBabyId(),
+                NOTICE_EVENT_KEY_PREFIX + chatting.getChattingId() + ":" + chatRoom.getNoticeRevision(),
                 NOTIFICATION_MESSAGE,
                 baby.getName() + NOTIFICATION_CONTENT_MESSAGE
         ));
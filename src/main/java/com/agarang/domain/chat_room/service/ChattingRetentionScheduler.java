@@ -0,0 +1,47 @@
+package com.agarang.domain.chat_room.service;
+
+import com.agarang.global.purge.ChunkedPurger;
+import com.agarang.global.purge.PurgeTarget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.chat_room.service<br>
+ * fileName       : ChattingRetentionScheduler.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 보관 기간이 지난 채팅 메시지를 정리하는 스케줄러 클래스입니다.<br>
+ * <p>`chat.retention-days` 가 0 보다 큰 경우에만 동작하며, 기본값은 0 으로 채팅 메시지를 삭제하지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+public class ChattingRetentionScheduler {
+    private final ChunkedPurger chunkedPurger;
+    private final int retentionDays;
+
+    public ChattingRetentionScheduler(ChunkedPurger chunkedPurger,
+                                      @Value("${chat.retention-days:0}") int retentionDays) {
+        this.chunkedPurger = chunkedPurger;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 보관 기간이 지난 채팅 메시지를 {@link ChunkedPurger} 로 나누어 삭제합니다.
+     *
+     * <p>이 작업은 매일 01:00:00 에 실행됩니다.</p>
+     */
+    @Scheduled(cron = "0 0 1 * * ?")
+    public void cleanupOldChattings() {
+        if (retentionDays <= 0) {
+            return;
+        }
+
+        chunkedPurger.purge(PurgeTarget.OLD_CHATTING, LocalDateTime.now().minusDays(retentionDays));
+    }
+}
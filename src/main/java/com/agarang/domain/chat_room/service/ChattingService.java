@@ -1,7 +1,6 @@
 package com.agarang.domain.chat_room.service;
 
-import com.agarang.domain.baby.entity.Baby;
-import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.chat_room.dto.ChatContext;
 import com.agarang.domain.chat_room.dto.request.ChattingRequest;
 import com.agarang.domain.chat_room.dto.response.MessageResponse;
 import com.agarang.domain.chat_room.entity.ChatRoom;
@@ -9,9 +8,8 @@ import com.agarang.domain.chat_room.entity.Chatting;
 import com.agarang.domain.chat_room.entity.ChattingType;
 import com.agarang.domain.chat_room.repository.ChatRoomRepository;
 import com.agarang.domain.chat_room.repository.ChattingRepository;
-import com.agarang.domain.chat_room.repository.UserChatRoomRepository;
-import com.agarang.domain.custody.entity.Custody;
-import com.agarang.domain.custody.repository.CustodyRepository;
+import com.agarang.domain.custody.dto.CaregiverContext;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
 import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
 import com.agarang.global.exception.BusinessException;
@@ -30,6 +28,8 @@ import org.springframework.transaction.annotation.Transactional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.19          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           메시지 전송 시 캐시된 채팅 정보 사용<br>
+ * 26.10.18          Fiat_lux           입장 메시지의 보호자 타입을 CaregiverContextResolver 로 조회<br>
  */
 @RequiredArgsConstructor
 @Service
@@ -38,17 +38,17 @@ public class ChattingService {
 
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final UserChatRoomRepository userChatRoomRepository;
     private final ChattingRepository chattingRepository;
-    private final CustodyRepository custodyRepository;
-    private final BabyRepository babyRepository;
+    private final CaregiverContextResolver caregiverContextResolver;
+    private final ChatContextService chatContextService;
 
     private static final String FIRST_JOIN_MESSAGE = "님이 들어왔습니다.";
 
     /**
      * 채팅 메시지를 생성하고 저장합니다.
      *
-     * <p>사용자가 특정 채팅방에서 메시지를 전송하면, 이 메시지를 저장한 후 해당 메시지 정보를 반환합니다.</p>
+     * <p>사용자가 특정 채팅방에서 메시지를 전송하면, 이 메시지를 저장한 후 해당 메시지 정보를 반환합니다.
+     * 채팅방, 참여 여부, 보호자 타입은 {@link ChatContextService} 에 캐시된 정보를 사용하므로 메시지 저장만 수행합니다.</p>
      *
      * <h3>예시 요청:</h3>
      * <pre>
@@ -81,30 +81,21 @@ public class ChattingService {
      *                           - 사용자의 양육권 정보가 없을 경우 {@link ErrorCode#CUSTODY_NOT_FOUND}
      */
     public MessageResponse createMessage(Integer userId, Integer babyId, ChattingRequest chattingRequest) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        ChatContext chatContext = chatContextService.getChatContext(userId, babyId);
 
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        ChatRoom chatRoom = chatRoomRepository.findByBaby(baby);
-
-        if (!userChatRoomRepository.existsByUserAndChatRoom(user, chatRoom)) {
-            throw new BusinessException(ErrorCode.USER_CHATROOM_NOT_JOIN);
-        }
-
-        Chatting chatting = new Chatting(chattingRequest.getContent(), user, chatRoom, chattingRequest.getChattingType());
+        Chatting chatting = new Chatting(
+                chattingRequest.getContent(),
+                userRepository.getReferenceById(chatContext.userId()),
+                chatRoomRepository.getReferenceById(chatContext.chatRoomId()),
+                chattingRequest.getChattingType());
         Chatting savedChatting = chattingRepository.save(chatting);
 
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
         return new MessageResponse(
                 savedChatting.getChattingId(),
-                user.getUserId(),
-                user.getName(),
-                custody.getCustodyType(),
-                user.getUserImage(),
+                chatContext.userId(),
+                chatContext.userName(),
+                chatContext.custodyType(),
+                chatContext.userImage(),
                 savedChatting.getContent(),
                 savedChatting.getCreatedAt(),
                 savedChatting.getChattingType()
@@ -138,11 +129,11 @@ public class ChattingService {
     public MessageResponse firstJoinMessage(User user, ChatRoom chatRoom) {
         Chatting chatting = new Chatting(user.getName() + FIRST_JOIN_MESSAGE, user, chatRoom, ChattingType.JOIN);
         Chatting saveChatting = chattingRepository.save(chatting);
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, chatRoom.getBaby())
+        CaregiverContext caregiverContext = caregiverContextResolver.find(user.getUserId(), chatRoom.getBaby().getBabyId())
                 .orElseThrow(
                         () -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND)
                 );
 
-        return new MessageResponse(saveChatting.getChattingId(), user.getUserId(), user.getName(), custody.getCustodyType(), user.getUserImage(), saveChatting.getContent(), saveChatting.getCreatedAt(), saveChatting.getChattingType());
+        return new MessageResponse(saveChatting.getChattingId(), user.getUserId(), user.getName(), caregiverContext.custodyType(), user.getUserImage(), saveChatting.getContent(), saveChatting.getCreatedAt(), saveChatting.getChattingType());
     }
 }
@@ -0,0 +1,40 @@
+package com.agarang.domain.custody.dto;
+
+import com.agarang.domain.custody.entity.CustodyType;
+
+/**
+ * packageName    : com.agarang.domain.custody.dto<br>
+ * fileName       : CaregiverContext.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  사용자가 아기의 보호자로서 요청할 때 필요한 권한 정보를 담는 dto 클래스입니다.<br>
+ * <p>사용자 ID, 아기 ID, 양육자 타입과 아기 삭제 여부만 담으며, entity 가 필요하면 ID 로 참조를 만들어 사용합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18         Fiat_lux            최초생성<br>
+ */
+public record CaregiverContext(
+        Integer userId,
+        Integer babyId,
+        CustodyType custodyType,
+        Boolean babyDeleted
+) {
+    /**
+     * 주 양육자인지 확인합니다.
+     *
+     * @return 주 양육자이면 true
+     */
+    public boolean isMain() {
+        return CustodyType.MAIN.equals(custodyType);
+    }
+
+    /**
+     * 아기가 삭제되었는지 확인합니다.
+     *
+     * @return 삭제된 아기이면 true
+     */
+    public boolean isBabyDeleted() {
+        return Boolean.TRUE.equals(babyDeleted);
+    }
+}
@@ -0,0 +1,19 @@
+package com.agarang.domain.custody.dto;
+
+import com.agarang.domain.custody.entity.CustodyType;
+
+/**
+ * packageName    : com.agarang.domain.custody.dto<br>
+ * fileName       : UserCustodyType.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  사용자 ID 와 해당 사용자의 양육자 타입을 담는 dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18         Fiat_lux            최초생성<br>
+ */
+public record UserCustodyType(
+        Integer userId,
+        CustodyType custodyType
+) {}
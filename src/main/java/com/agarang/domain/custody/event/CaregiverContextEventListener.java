@@ -0,0 +1,37 @@
+package com.agarang.domain.custody.event;
+
+import com.agarang.domain.custody.service.CustodyIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.custody.event<br>
+ * fileName       : CaregiverContextEventListener.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  캐시된 보호자 권한 정보 제거 event 를 처리하는 listener 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           CustodyIndex 에서 제거하도록 변경<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class CaregiverContextEventListener {
+    private final CustodyIndex custodyIndex;
+
+    /**
+     * 트랜잭션이 커밋된 후, 캐시된 보호자 권한 정보를 제거합니다.
+     *
+     * <p>커밋 이후에 제거하므로, 다음 조회 시 변경된 보호자 권한이 반영됩니다. 다른 서버의 정보도 함께 제거합니다.</p>
+     *
+     * @param event 보호자 권한 정보 제거 이벤트 {@link CaregiverContextEvictEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCaregiverContextEvictEvent(CaregiverContextEvictEvent event) {
+        custodyIndex.invalidate(event.getUserId(), event.getBabyId());
+    }
+}
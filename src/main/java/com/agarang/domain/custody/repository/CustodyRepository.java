@@ -1,10 +1,15 @@
 package com.agarang.domain.custody.repository;
 
 import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.custody.dto.CaregiverContext;
+import com.agarang.domain.custody.dto.UserCustodyType;
 import com.agarang.domain.custody.entity.Custody;
 import com.agarang.domain.user.entity.User;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +23,7 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.22           Fiat_lux          최초생성<br>
+ * 26.10.18           Fiat_lux          보호자 권한 정보 조회 추가<br>
  */
 public interface CustodyRepository extends CrudRepository<Custody, Integer> {
     List<Custody> findByUserAndDeletedAtIsNullAndBabyNotOrderByCreatedAtAsc(User user, Baby baby);
@@ -37,4 +43,27 @@ public interface CustodyRepository extends CrudRepository<Custody, Integer> {
     boolean existsByBabyAndUser(Baby baby, User user);
 
     Optional<Custody> findByUserAndBaby(User user, Baby baby);
+
+    @Query("SELECT new com.agarang.domain.custody.dto.UserCustodyType(c.user.userId, c.custodyType) " +
+            "FROM Custody c " +
+            "WHERE c.baby = :baby " +
+            "AND c.user.userId IN :userIds " +
+            "AND c.deletedAt IS NULL")
+    List<UserCustodyType> findCustodyTypesByBabyAndUserIds(@Param("baby") Baby baby,
+                                                           @Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * 사용자의 아기에 대한 보호자 권한 정보를 보호자와 아기를 조인한 쿼리 하나로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 보호자 권한 정보, 유효한 보호자 권한이 없으면 빈 값
+     */
+    @Query("SELECT new com.agarang.domain.custody.dto.CaregiverContext(c.user.userId, b.babyId, c.custodyType, b.flagDeleted) " +
+            "FROM Custody c JOIN c.baby b " +
+            "WHERE c.user.userId = :userId " +
+            "AND b.babyId = :babyId " +
+            "AND c.deletedAt IS NULL")
+    Optional<CaregiverContext> findCaregiverContext(@Param("userId") Integer userId,
+                                                    @Param("babyId") Integer babyId);
 }
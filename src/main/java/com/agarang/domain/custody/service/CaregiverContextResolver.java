@@ -0,0 +1,178 @@
+package com.agarang.domain.custody.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.custody.dto.CaregiverContext;
+import com.agarang.domain.custody.repository.CustodyRepository;
+import com.agarang.domain.user.repository.UserRepository;
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.custody.service<br>
+ * fileName       : CaregiverContextResolver.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  (사용자, 아기) 별 보호자 권한 정보를 조회하는 service 클래스입니다.<br>
+ * <p>사용자, 아기, 보호자 권한을 각각 조회하는 대신 {@link CustodyRepository#findCaregiverContext(Integer, Integer)} 쿼리 하나로 조회합니다.
+ * 조회한 정보는 같은 요청 안에서 다시 조회하지 않도록 요청 속성에 보관하고, 여러 요청에서 재사용할 수 있도록
+ * {@link CustodyIndex} 에 보관합니다.</p>
+ * <p>권한이 없는 경우에만 사용자와 아기를 따로 조회하여, 기존과 같은 오류 코드를 반환합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           요청 간 캐시를 CustodyIndex 로 변경<br>
+ * 26.10.18          Fiat_lux           DB 조회 중 제거된 정보는 보관하지 않도록 변경<br>
+ */
+@Service
+@RequiredArgsConstructor
+public class CaregiverContextResolver {
+    private static final String REQUEST_ATTRIBUTE_PREFIX = CaregiverContextResolver.class.getName() + ":";
+
+    private final CustodyRepository custodyRepository;
+    private final UserRepository userRepository;
+    private final BabyRepository babyRepository;
+    private final CustodyIndex custodyIndex;
+
+    private final LongAdder requestHitCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+
+    /**
+     * 주 양육자 권한을 확인하고 보호자 권한 정보를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 보호자 권한 정보 {@link CaregiverContext}
+     * @throws BusinessException - 사용자가 존재하지 않을 경우 {@link ErrorCode#USER_NOT_FOUND}
+     *                           - 아기가 존재하지 않거나 삭제된 경우 {@link ErrorCode#BABY_NOT_FOUND}
+     *                           - 보호자 권한이 없을 경우 {@link ErrorCode#CUSTODY_NOT_FOUND}
+     *                           - 주 양육자가 아닐 경우 {@link ErrorCode#CUSTODY_NOT_AUTHORIZED}
+     */
+    public CaregiverContext resolveMain(Integer userId, Integer babyId) {
+        CaregiverContext context = resolve(userId, babyId);
+        if (!context.isMain()) {
+            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
+        }
+        return context;
+    }
+
+    /**
+     * 보호자 권한을 확인하고 보호자 권한 정보를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 보호자 권한 정보 {@link CaregiverContext}
+     * @throws BusinessException - 사용자가 존재하지 않을 경우 {@link ErrorCode#USER_NOT_FOUND}
+     *                           - 아기가 존재하지 않거나 삭제된 경우 {@link ErrorCode#BABY_NOT_FOUND}
+     *                           - 보호자 권한이 없을 경우 {@link ErrorCode#CUSTODY_NOT_FOUND}
+     */
+    public CaregiverContext resolve(Integer userId, Integer babyId) {
+        CaregiverContext context = find(userId, babyId)
+                .orElseThrow(() -> notFound(userId, babyId, false, ErrorCode.CUSTODY_NOT_FOUND));
+        if (context.isBabyDeleted()) {
+            throw new BusinessException(ErrorCode.BABY_NOT_FOUND);
+        }
+        return context;
+    }
+
+    /**
+     * 기록 조회와 변경에 필요한 보호자 권한을 확인하고 보호자 권한 정보를 반환합니다.
+     *
+     * <p>기록은 삭제된 아기의 기록도 보호자 권한이 있으면 접근할 수 있습니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 보호자 권한 정보 {@link CaregiverContext}
+     * @throws BusinessException - 사용자가 존재하지 않을 경우 {@link ErrorCode#USER_NOT_FOUND}
+     *                           - 아기가 존재하지 않을 경우 {@link ErrorCode#BABY_NOT_FOUND}
+     *                           - 보호자 권한이 없을 경우 {@link ErrorCode#CUSTODY_PERMISSION_DENIED}
+     */
+    public CaregiverContext resolveForRecord(Integer userId, Integer babyId) {
+        return find(userId, babyId)
+                .orElseThrow(() -> notFound(userId, babyId, true, ErrorCode.CUSTODY_PERMISSION_DENIED));
+    }
+
+    /**
+     * 보호자 권한 정보를 조회합니다.
+     *
+     * <p>같은 요청에서 이미 조회했거나 {@link CustodyIndex} 에 있으면 DB 를 조회하지 않습니다. 권한이 없는 결과는 보관하지 않습니다.
+     * DB 를 읽는 동안 보호자 권한이 바뀌어 제거 요청이 있었으면, 읽은 결과는 이번 요청에만 사용하고 보관하지 않습니다.
+     * 이미 열린 트랜잭션 안에서 호출되어 커밋 전의 값을 읽은 경우에는 최대 보관 기간 동안 이전 값이 남을 수 있습니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param babyId 아기 ID
+     * @return 보호자 권한 정보, 유효한 보호자 권한이 없으면 빈 값
+     */
+    public Optional<CaregiverContext> find(Integer userId, Integer babyId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String requestAttribute = REQUEST_ATTRIBUTE_PREFIX + userId + ":" + babyId;
+        if (Objects.nonNull(requestAttributes)
+                && requestAttributes.getAttribute(requestAttribute, RequestAttributes.SCOPE_REQUEST) instanceof CaregiverContext context) {
+            requestHitCount.increment();
+            return Optional.of(context);
+        }
+
+        long now = System.nanoTime();
+        long generation = custodyIndex.generation();
+        Optional<CaregiverContext> indexed = custodyIndex.get(userId, babyId, now);
+        CaregiverContext context;
+        if (indexed.isPresent()) {
+            context = indexed.get();
+        } else {
+            loadCount.increment();
+            Optional<CaregiverContext> loaded = custodyRepository.findCaregiverContext(userId, babyId);
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            context = loaded.get();
+            custodyIndex.put(context, generation, now);
+        }
+
+        if (Objects.nonNull(requestAttributes)) {
+            requestAttributes.setAttribute(requestAttribute, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(context);
+    }
+
+    /**
+     * 같은 요청에서 이미 조회한 정보를 재사용한 횟수를 반환합니다.
+     *
+     * @return 요청 내 재사용 횟수
+     */
+    public long getRequestHitCount() {
+        return requestHitCount.sum();
+    }
+
+    /**
+     * DB 에서 조회한 횟수를 반환합니다.
+     *
+     * @return DB 조회 수
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * 보호자 권한이 없는 이유를 찾아 예외를 생성합니다. 기존과 같이 사용자, 아기, 보호자 권한 순서로 확인합니다.
+     */
+    private BusinessException notFound(Integer userId, Integer babyId, boolean allowDeletedBaby, ErrorCode custodyErrorCode) {
+        if (!userRepository.existsById(userId)) {
+            return new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        Optional<Baby> baby = babyRepository.findById(babyId);
+        if (baby.isEmpty() || (!allowDeletedBaby && Boolean.TRUE.equals(baby.get().getFlagDeleted()))) {
+            return new BusinessException(ErrorCode.BABY_NOT_FOUND);
+        }
+        return new BusinessException(custodyErrorCode);
+    }
+}
@@ -0,0 +1,164 @@
+package com.agarang.domain.custody.service;
+
+import com.agarang.domain.custody.dto.CaregiverContext;
+import com.agarang.global.cache.CacheInvalidationBus;
+import com.agarang.global.cache.StripedTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.custody.service<br>
+ * fileName       : CustodyIndex.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  (사용자, 아기) 별 보호자 권한 정보를 서버 메모리에 보관하는 클래스입니다.<br>
+ * <p>보호자 권한은 아기마다 몇 번밖에 바뀌지 않으므로, 권한 확인마다 DB 를 조회하지 않도록 조회 결과를
+ * {@link StripedTtlCache} 에 최대 {@value #MAX_ENTRIES} 개까지 보관합니다.</p>
+ * <p>보호자 권한이 바뀌면 {@link #invalidate(Integer, Integer)} 로 현재 서버의 항목을 제거하고,
+ * {@link CacheInvalidationBus} 의 Redis 채널({@value #CHANNEL})로 발행하여 다른 서버의 항목도 제거합니다.
+ * 발행이 유실되더라도 항목은 {@link #TTL} 이 지나면 다시 조회됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           StripedTtlCache, CacheInvalidationBus 로 변경, 세대 확인 후 보관<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class CustodyIndex {
+    private static final String CHANNEL = "custody-index:invalidate";
+    private static final String WILDCARD = "*";
+    private static final int MAX_ENTRIES = 10_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final StripedTtlCache<Long, CaregiverContext> contexts = new StripedTtlCache<>(MAX_ENTRIES, TTL);
+    private final LongAdder remoteInvalidationCount = new LongAdder();
+
+    /**
+     * 다른 서버의 제거 요청 채널을 구독합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        cacheInvalidationBus.subscribe(CHANNEL, this::onInvalidation);
+    }
+
+    /**
+     * 보관된 보호자 권한 정보를 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param babyId   아기 ID
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return 보호자 권한 정보, 없거나 만료되었으면 빈 값
+     */
+    public Optional<CaregiverContext> get(Integer userId, Integer babyId, long nowNanos) {
+        return contexts.get(key(userId, babyId), nowNanos);
+    }
+
+    /**
+     * 현재 세대 번호를 반환합니다. DB 에서 보호자 권한 정보를 읽기 전에 받아 {@link #put(CaregiverContext, long, long)} 에 넘깁니다.
+     *
+     * @return 세대 번호
+     */
+    public long generation() {
+        return contexts.generation();
+    }
+
+    /**
+     * 받아 둔 세대 이후에 제거 요청이 없었으면 보호자 권한 정보를 {@link #TTL} 동안 보관합니다.
+     *
+     * @param context    보호자 권한 정보 {@link CaregiverContext}
+     * @param generation DB 에서 읽기 전에 받은 세대 번호
+     * @param nowNanos   현재 시각 ({@link System#nanoTime()})
+     */
+    public void put(CaregiverContext context, long generation, long nowNanos) {
+        contexts.put(key(context.userId(), context.babyId()), context, generation, nowNanos);
+    }
+
+    /**
+     * 현재 서버와 다른 서버에서 보호자 권한 정보를 제거합니다.
+     *
+     * <p>{@code userId} 나 {@code babyId} 가 null 이면 해당 조건을 모든 값으로 간주합니다.</p>
+     *
+     * @param userId 사용자 ID (nullable)
+     * @param babyId 아기 ID (nullable)
+     */
+    public void invalidate(Integer userId, Integer babyId) {
+        evictLocal(userId, babyId);
+        cacheInvalidationBus.publish(CHANNEL,
+                (Objects.isNull(userId) ? WILDCARD : userId) + ":" + (Objects.isNull(babyId) ? WILDCARD : babyId));
+    }
+
+    /**
+     * 보관된 정보를 사용한 횟수를 반환합니다.
+     *
+     * @return 적중 수
+     */
+    public long getHitCount() {
+        return contexts.getHitCount();
+    }
+
+    /**
+     * 보관된 정보가 없어 DB 를 조회해야 했던 횟수를 반환합니다.
+     *
+     * @return 미적중 수
+     */
+    public long getMissCount() {
+        return contexts.getMissCount();
+    }
+
+    /**
+     * 보관된 정보를 사용한 비율을 반환합니다.
+     *
+     * @return 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        return contexts.getHitRate();
+    }
+
+    /**
+     * 다른 서버의 제거 요청을 처리한 횟수를 반환합니다.
+     *
+     * @return 처리한 제거 요청 수
+     */
+    public long getRemoteInvalidationCount() {
+        return remoteInvalidationCount.sum();
+    }
+
+    /**
+     * 다른 서버에서 발행한 제거 요청을 받아 현재 서버의 보호자 권한 정보를 제거합니다.
+     *
+     * @param payload "사용자 ID:아기 ID" 형식의 제거 요청
+     */
+    private void onInvalidation(String payload) {
+        int separator = payload.indexOf(':');
+        evictLocal(parse(payload.substring(0, separator)), parse(payload.substring(separator + 1)));
+        remoteInvalidationCount.increment();
+    }
+
+    private void evictLocal(Integer userId, Integer babyId) {
+        if (Objects.nonNull(userId) && Objects.nonNull(babyId)) {
+            contexts.remove(key(userId, babyId));
+            return;
+        }
+
+        contexts.removeIf(context ->
+                (Objects.isNull(userId) || Objects.equals(userId, context.userId()))
+                        && (Objects.isNull(babyId) || Objects.equals(babyId, context.babyId())));
+    }
+
+    private static Integer parse(String value) {
+        return WILDCARD.equals(value) ? null : Integer.valueOf(value);
+    }
+
+    private static long key(Integer userId, Integer babyId) {
+        return ((long) userId << 32) | (babyId & 0xffffffffL);
+    }
+}
@@ -1,14 +1,17 @@
 package com.agarang.domain.custody.service;
 
+import com.agarang.domain.alarm.event.NotificationRecipientEvictEvent;
 import com.agarang.domain.baby.dto.response.BabyResponse;
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.chat_room.event.ChatContextEvictEvent;
 import com.agarang.domain.custody.dto.request.CustodyInviteCodeRequest;
 import com.agarang.domain.custody.dto.request.CustodyInviteRequest;
 import com.agarang.domain.custody.dto.response.CustodyInviteResponse;
 import com.agarang.domain.custody.dto.response.CustodyResponse;
 import com.agarang.domain.custody.entity.Custody;
 import com.agarang.domain.custody.entity.CustodyType;
+import com.agarang.domain.custody.event.CaregiverContextEvictEvent;
 import com.agarang.domain.custody.repository.CustodyRepository;
 import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
@@ -16,6 +19,7 @@ import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +43,8 @@ import java.util.stream.Collectors;
  * 25.01.30          Fiat_lux           exception custom 처리<br>
  * 25.01.30          nature1216         양육권 존재여부 확인 메소드 추가<br>
  * 25.01.31          Fiat_lux           custody invite code <br>
+ * 26.10.18          Fiat_lux           보호자 권한 변경 시 보호자 권한 정보 캐시 제거<br>
+ * 26.10.18          Fiat_lux           보호자 권한 확인을 CaregiverContextResolver 로 변경<br>
  **/
 @Service
 @Transactional(readOnly = true)
@@ -49,6 +55,8 @@ public class CustodyService {
     private final BabyRepository babyRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CaregiverContextResolver caregiverContextResolver;
 
     private static final String INVITE_PREFIX = "custody:invite:";
     private static final Duration INVITE_EXPIRATION = Duration.ofMinutes(30);
@@ -62,18 +70,10 @@ public class CustodyService {
      * @throws BusinessException 사용자가 존재하지 않거나, 보호자 권한이 없을 경우 예외 발생
      */
     public List<CustodyResponse> getCustodyListByBaby(Integer userId, Integer babyId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
+        caregiverContextResolver.resolveMain(userId, babyId);
 
-        Custody userCustody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!CustodyType.MAIN.equals(userCustody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        User user = userRepository.getReferenceById(userId);
+        Baby baby = babyRepository.getReferenceById(babyId);
 
         return custodyRepository.findByBabyAndDeletedAtIsNullAndUserNot(baby, user)
                 .stream()
@@ -108,6 +108,9 @@ public class CustodyService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
 
         custody.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new ChatContextEvictEvent(this, userId, babyId));
+        eventPublisher.publishEvent(new CaregiverContextEvictEvent(this, userId, babyId));
+        eventPublisher.publishEvent(new NotificationRecipientEvictEvent(this, userId, babyId));
     }
 
     /**
@@ -143,11 +146,13 @@ public class CustodyService {
         }
 
         anotherCustody.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new ChatContextEvictEvent(this, anotherUserId, babyId));
+        eventPublisher.publishEvent(new CaregiverContextEvictEvent(this, anotherUserId, babyId));
+        eventPublisher.publishEvent(new NotificationRecipientEvictEvent(this, anotherUserId, babyId));
     }
 
     public void checkCustody(User user, Baby baby) {
-        custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_PERMISSION_DENIED));
+        caregiverContextResolver.resolveForRecord(user.getUserId(), baby.getBabyId());
     }
 
     /**
@@ -159,18 +164,7 @@ public class CustodyService {
      */
     @Transactional
     public CustodyInviteResponse generateInviteCode(Integer userId, CustodyInviteRequest custodyInviteRequest) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(custodyInviteRequest.getBabyId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!CustodyType.MAIN.equals(custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        caregiverContextResolver.resolveMain(userId, custodyInviteRequest.getBabyId());
 
         String inviteCode = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
         Map<String, Object> inviteData = new HashMap<>();
@@ -239,11 +233,16 @@ public class CustodyService {
             }
             custody.setDeletedAt(null);
             custody.setCustodyType(custodyType);
+            eventPublisher.publishEvent(new ChatContextEvictEvent(this, userId, babyId));
+            eventPublisher.publishEvent(new CaregiverContextEvictEvent(this, userId, babyId));
+            eventPublisher.publishEvent(new NotificationRecipientEvictEvent(this, userId, babyId));
             return new BabyResponse(baby.getBabyId());
         }
 
         Custody custody = new Custody(baby, user, custodyType);
         custodyRepository.save(custody);
+        eventPublisher.publishEvent(new CaregiverContextEvictEvent(this, userId, babyId));
+        eventPublisher.publishEvent(new NotificationRecipientEvictEvent(this, userId, babyId));
 
         redisTemplate.delete(INVITE_PREFIX + custodyInviteCodeRequest.getInviteCode());
 
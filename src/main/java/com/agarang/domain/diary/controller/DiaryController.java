@@ -38,12 +38,15 @@ import java.util.Objects;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.24          Fiat_lux            최초생성<br>
+ * 26.10.18          Fiat_lux            다이어리 검색 API 추가<br>
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/diaries")
 @Tag(name = "다이어리 API", description = "다이어리 관련 기능을 제공합니다.")
 public class DiaryController {
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final DiaryService diaryService;
 
     /**
@@ -172,6 +175,42 @@ public class DiaryController {
         return ResponseEntity.status(HttpStatus.OK).body(diaryList);
     }
 
+    /**
+     * 특정 아기의 다이어리를 검색어와의 관련도 순으로 검색합니다.
+     *
+     * @param customUserDetails 인증된 사용자 정보
+     * @param babyId            조회할 아기의 ID
+     * @param query             검색어
+     * @param startDate         조회 시작 날짜 (선택 사항)
+     * @param endDate           조회 종료 날짜 (선택 사항)
+     * @param size              최대 결과 수 (최대 {@value #MAX_SEARCH_SIZE})
+     * @return 관련도가 높은 순서의 다이어리 목록 {@link List} of {@link DiaryListResponse}
+     */
+    @Operation(summary = "다이어리 검색", description = "주 양육자가 특정 아기의 다이어리를 내용과 키워드로 검색합니다. 검색어와 관련도가 높은 순서로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "다이어리 검색 결과 반환",
+                    content = @Content(schema = @Schema(implementation = DiaryListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "조회 권한이 없는 사용자",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 아기",
+                    content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/babies/{babyId}/search")
+    public ResponseEntity<List<DiaryListResponse>> searchDiaries(@Parameter(description = "인증된 사용자 정보", required = true) @AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                                 @Parameter(description = "다이어리를 검색할 아기의 ID", required = true) @PathVariable Integer babyId,
+                                                                 @Parameter(description = "검색어 (다이어리 내용과 키워드에서 검색)", required = true, example = "산책") @RequestParam(value = "query") String query,
+                                                                 @Parameter(description = "조회 시작 날짜 (yyyy-MM-dd 형식)", required = false, example = "2025-02-01") @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                                 @Parameter(description = "조회 종료 날짜 (yyyy-MM-dd 형식)", required = false, example = "2025-02-28") @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                                 @Parameter(description = "최대 결과 수 (기본값: 20, 최대: 100)", required = false, example = "20") @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        Integer userId = customUserDetails.getUserId();
+        List<DiaryListResponse> diaryList = diaryService.searchDiaries(userId, babyId, query, startDate, endDate, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
+
+        return ResponseEntity.status(HttpStatus.OK).body(diaryList);
+    }
+
     /**
      * 특정 다이어리의 상세 정보를 조회합니다.
      *
@@ -0,0 +1,15 @@
+package com.agarang.domain.diary.dto;
+
+/**
+ * packageName    : com.agarang.domain.diary.dto<br>
+ * fileName       : DiaryKeywordRow.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  다이어리 키워드의 ID, 이름, 다이어리 ID 만 조회하는 dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record DiaryKeywordRow(Integer keywordId, String name, Integer diaryId) {
+}
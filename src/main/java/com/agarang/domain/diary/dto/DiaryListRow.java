@@ -0,0 +1,17 @@
+package com.agarang.domain.diary.dto;
+
+import java.time.LocalDate;
+
+/**
+ * packageName    : com.agarang.domain.diary.dto<br>
+ * fileName       : DiaryListRow.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  다이어리 목록 응답에 필요한 다이어리 컬럼만 조회하는 dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record DiaryListRow(Integer diaryId, String emoji, LocalDate writtenDate) {
+}
@@ -14,6 +14,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.24          Fiat_lux             최초생성<br>
+ * 26.10.18          Fiat_lux             자동 추출 여부 추가<br>
  * <br>
  */
 @Entity
@@ -37,8 +38,20 @@ public class DiaryKeyword {
     @JoinColumn(name = "diary_id", nullable = false)
     private Diary diary;
 
+    /**
+     * 일기 내용에서 자동으로 추출한 키워드인지 여부입니다. 일기 내용이 바뀌어 키워드를 다시 추출하면 자동 추출한 키워드만 교체합니다.
+     */
+    @Column(name = "auto_extracted", nullable = false)
+    private boolean autoExtracted;
+
     public DiaryKeyword(String name, Diary diary) {
         this.name = name;
         this.diary = diary;
     }
+
+    public DiaryKeyword(String name, Diary diary, boolean autoExtracted) {
+        this.name = name;
+        this.diary = diary;
+        this.autoExtracted = autoExtracted;
+    }
 }
@@ -0,0 +1,58 @@
+package com.agarang.domain.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.diary.entity<br>
+ * fileName       : DiaryKeywordJob.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  일기 키워드 추출 작업 entity 클래스입니다.<br>
+ * <p>일기를 저장한 트랜잭션 안에서 저장되며, (diary_id, content_hash) 가 유일하므로 같은 내용의 일기는 한 번만 추출합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux          최초생성<br>
+ */
+@Entity
+@Table(name = "diary_keyword_job",
+        uniqueConstraints = @UniqueConstraint(name = "uk_diary_keyword_job_diary_id_content_hash", columnNames = {"diary_id", "content_hash"}),
+        indexes = @Index(name = "idx_diary_keyword_job_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryKeywordJob {
+
+    @Id
+    @Column(name = "diary_keyword_job_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer diaryKeywordJobId;
+
+    @Column(name = "diary_id", nullable = false)
+    private Integer diaryId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private DiaryKeywordJobStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
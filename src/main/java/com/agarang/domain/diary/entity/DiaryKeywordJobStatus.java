@@ -0,0 +1,16 @@
+package com.agarang.domain.diary.entity;
+
+/**
+ * packageName    : com.agarang.domain.diary.entity<br>
+ * fileName       : DiaryKeywordJobStatus.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  Diary keyword job status enum 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux          최초생성<br>
+ */
+public enum DiaryKeywordJobStatus {
+    PENDING, DONE, FAILED;
+}
@@ -0,0 +1,28 @@
+package com.agarang.domain.diary.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * packageName    : com.agarang.domain.diary.event<br>
+ * fileName       : DiarySearchIndexEvent.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  다이어리 검색 색인을 갱신하는 event 클래스입니다.<br>
+ * <p>다이어리가 등록, 수정, 삭제되거나 키워드가 바뀔 때 발행합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Getter
+public class DiarySearchIndexEvent extends ApplicationEvent {
+    private final Integer babyId;
+    private final Integer diaryId;
+
+    public DiarySearchIndexEvent(Object source, Integer babyId, Integer diaryId) {
+        super(source);
+        this.babyId = babyId;
+        this.diaryId = diaryId;
+    }
+}
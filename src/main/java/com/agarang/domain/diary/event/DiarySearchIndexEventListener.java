@@ -0,0 +1,43 @@
+package com.agarang.domain.diary.event;
+
+import com.agarang.domain.diary.search.DiarySearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.diary.event<br>
+ * fileName       : DiarySearchIndexEventListener.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  다이어리 검색 색인 갱신 event 를 처리하는 listener 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiarySearchIndexEventListener {
+    private final DiarySearchIndex diarySearchIndex;
+
+    /**
+     * 트랜잭션이 커밋된 후, 변경된 다이어리를 검색 색인에 반영합니다.
+     *
+     * <p>색인 갱신에 실패해도 다이어리 저장은 이미 커밋되었으므로 예외를 전파하지 않습니다.
+     * 반영하지 못한 변경은 다음에 색인을 올릴 때 지문 비교로 감지되어 다시 만들어집니다.</p>
+     *
+     * @param event 다이어리 검색 색인 갱신 이벤트 {@link DiarySearchIndexEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDiarySearchIndexEvent(DiarySearchIndexEvent event) {
+        try {
+            diarySearchIndex.refresh(event.getBabyId(), event.getDiaryId());
+        } catch (Exception e) {
+            log.warn("다이어리 검색 색인 갱신 실패. babyId: {}, diaryId: {}", event.getBabyId(), event.getDiaryId(), e);
+        }
+    }
+}
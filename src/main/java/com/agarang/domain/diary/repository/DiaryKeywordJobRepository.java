@@ -0,0 +1,99 @@
+package com.agarang.domain.diary.repository;
+
+import com.agarang.domain.diary.entity.DiaryKeywordJob;
+import com.agarang.domain.diary.entity.DiaryKeywordJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.diary.repository<br>
+ * fileName       : DiaryKeywordJobRepository.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  DiaryKeywordJob entity 의 repository 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18           Fiat_lux         최초생성<br>
+ * <br>
+ */
+public interface DiaryKeywordJobRepository extends JpaRepository<DiaryKeywordJob, Integer> {
+
+    /**
+     * 키워드 추출 작업을 저장합니다.
+     *
+     * <p>같은 (일기, 내용 해시) 의 작업이 대기 중이면 그대로 두고, 이미 끝난 작업이면 다시 대기 상태로 되돌립니다.
+     * 일기 내용을 이전 내용으로 되돌린 경우에도 키워드를 다시 추출하기 위함입니다.
+     * 중복 여부를 유니크 제약 조건으로 판단하므로, 동시에 저장하더라도 한 행만 남고 예외가 발생하지 않습니다.</p>
+     *
+     * @param diaryId     키워드를 추출할 일기 ID
+     * @param contentHash 일기 내용의 해시
+     * @param now         저장 시각
+     * @return 저장되었거나 다시 대기 상태로 되돌렸으면 1 이상, 이미 대기 중인 작업이면 0
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO diary_keyword_job
+               (diary_id, content_hash, status, attempts, next_attempt_at, created_at)
+        VALUES (:diaryId, :contentHash, 'PENDING', 0, :now, :now)
+        ON DUPLICATE KEY UPDATE
+               attempts = IF(status = 'PENDING', attempts, 0),
+               next_attempt_at = IF(status = 'PENDING', next_attempt_at, :now),
+               completed_at = IF(status = 'PENDING', completed_at, NULL),
+               status = 'PENDING'
+        """, nativeQuery = true)
+    int upsertPending(@Param("diaryId") Integer diaryId,
+                      @Param("contentHash") String contentHash,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 시각이 된 작업의 ID 를 실행 예정 시각 순으로 조회합니다.
+     *
+     * @param status   조회할 상태
+     * @param now      현재 시각
+     * @param pageable 조회할 개수
+     * @return 실행할 작업 ID 리스트
+     */
+    @Query("SELECT j.diaryKeywordJobId FROM DiaryKeywordJob j " +
+            "WHERE j.status = :status AND j.nextAttemptAt <= :now " +
+            "ORDER BY j.nextAttemptAt")
+    List<Integer> findDueIds(@Param("status") DiaryKeywordJobStatus status,
+                             @Param("now") LocalDateTime now,
+                             Pageable pageable);
+
+    /**
+     * 실행할 작업을 선점합니다.
+     *
+     * <p>다음 실행 예정 시각을 {@code leaseUntil} 로 미루는 조건부 update 이므로, 여러 서버가 동시에 호출해도 한 서버만 1 을 반환받습니다.
+     * 선점한 서버가 결과를 기록하지 못하고 종료되면 {@code leaseUntil} 이후 다시 실행 대상이 됩니다.</p>
+     *
+     * @param diaryKeywordJobId 선점할 작업 ID
+     * @param status            선점할 수 있는 상태
+     * @param now               현재 시각
+     * @param leaseUntil        선점 만료 시각
+     * @return 선점에 성공하면 1, 이미 선점된 경우 0
+     */
+    @Modifying
+    @Query("UPDATE DiaryKeywordJob j SET j.nextAttemptAt = :leaseUntil " +
+            "WHERE j.diaryKeywordJobId = :diaryKeywordJobId " +
+            "AND j.status = :status AND j.nextAttemptAt <= :now")
+    int claim(@Param("diaryKeywordJobId") Integer diaryKeywordJobId,
+              @Param("status") DiaryKeywordJobStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 일기의 키워드 추출 작업을 모두 삭제합니다.
+     *
+     * @param diaryId 삭제된 일기 ID
+     */
+    @Modifying
+    @Query("DELETE FROM DiaryKeywordJob j WHERE j.diaryId = :diaryId")
+    void deleteByDiaryId(@Param("diaryId") Integer diaryId);
+}
@@ -1,9 +1,14 @@
 package com.agarang.domain.diary.repository;
 
+import com.agarang.domain.diary.dto.DiaryKeywordRow;
 import com.agarang.domain.diary.entity.Diary;
 import com.agarang.domain.diary.entity.DiaryKeyword;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,9 +21,51 @@ import java.util.List;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.30          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           자동 추출한 키워드 삭제 추가<br>
+ * 26.10.18          Fiat_lux           검색 색인용 조회 추가<br>
+ * 26.10.18          Fiat_lux           여러 다이어리의 키워드 일괄 조회 추가<br>
  */
 public interface DiaryKeywordRepository extends JpaRepository<DiaryKeyword, Integer> {
     List<DiaryKeyword> findByDiary(Diary diary);
 
     void deleteByDiary(Diary diary);
+
+    /**
+     * 일기 내용에서 자동으로 추출한 키워드를 삭제합니다. 사용자가 직접 등록하거나 수정한 키워드는 남깁니다.
+     *
+     * @param diary 키워드를 삭제할 일기
+     */
+    @Modifying
+    @Query("DELETE FROM DiaryKeyword k WHERE k.diary = :diary AND k.autoExtracted = true")
+    void deleteAutoExtractedByDiary(@Param("diary") Diary diary);
+
+    /**
+     * 아기의 모든 다이어리 키워드를 조회합니다.
+     *
+     * @param babyId 아기 ID
+     * @return 키워드 리스트
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryKeywordRow(k.keywordId, k.name, k.diary.diaryId) " +
+            "FROM DiaryKeyword k WHERE k.diary.baby.babyId = :babyId")
+    List<DiaryKeywordRow> findRowsByBabyId(@Param("babyId") Integer babyId);
+
+    /**
+     * 다이어리 하나의 키워드를 조회합니다.
+     *
+     * @param diaryId 다이어리 ID
+     * @return 키워드 리스트
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryKeywordRow(k.keywordId, k.name, k.diary.diaryId) " +
+            "FROM DiaryKeyword k WHERE k.diary.diaryId = :diaryId")
+    List<DiaryKeywordRow> findRowsByDiaryId(@Param("diaryId") Integer diaryId);
+
+    /**
+     * 여러 다이어리의 키워드를 한 번에 조회합니다.
+     *
+     * @param diaryIds 다이어리 ID 목록
+     * @return 키워드 리스트
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryKeywordRow(k.keywordId, k.name, k.diary.diaryId) " +
+            "FROM DiaryKeyword k WHERE k.diary.diaryId IN :diaryIds ORDER BY k.keywordId")
+    List<DiaryKeywordRow> findRowsByDiaryIdIn(@Param("diaryIds") Collection<Integer> diaryIds);
 }
@@ -1,6 +1,8 @@
 package com.agarang.domain.diary.repository;
 
 import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.diary.dto.DiaryIndexRow;
+import com.agarang.domain.diary.dto.DiaryListRow;
 import com.agarang.domain.diary.entity.Diary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +24,8 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.24           Fiat_lux          최초 생성<br>
+ * 26.10.18           Fiat_lux          검색 색인용 조회 추가<br>
+ * 26.10.18           Fiat_lux          다이어리 목록을 필요한 컬럼만 조회하도록 변경<br>
  */
 @Repository
 public interface DiaryRepository extends JpaRepository<Diary, Integer> {
@@ -28,16 +33,76 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
 
     Optional<Diary> findByBabyAndWrittenDate(Baby baby, LocalDate date);
 
-    @Query("SELECT DISTINCT d FROM Diary d " +
-            "LEFT JOIN DiaryKeyword dk ON d.diaryId = dk.diary.diaryId " +
+    /**
+     * 특정 기간의 다이어리 목록을 응답에 필요한 컬럼만 조회합니다.
+     *
+     * <p>아기와 작성자 entity 를 읽지 않으며, 검색어가 있으면 키워드 이름이 검색어와 같은 다이어리만 조회합니다.</p>
+     *
+     * @param babyId    아기 ID
+     * @param startDate 조회 시작 날짜
+     * @param endDate   조회 종료 날짜
+     * @param search    검색 키워드 (null 이면 전체)
+     * @return 작성 날짜 순서의 다이어리 목록
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryListRow(d.diaryId, d.emoji, d.writtenDate) FROM Diary d " +
             "WHERE d.baby.babyId = :babyId " +
             "AND d.writtenDate BETWEEN :startDate AND :endDate " +
-            "AND (:search IS NULL OR dk.name = :search)" +
+            "AND (:search IS NULL OR EXISTS (SELECT 1 FROM DiaryKeyword dk WHERE dk.diary = d AND dk.name = :search)) " +
             "ORDER BY d.writtenDate ASC")
-    List<Diary> findDiariesByMonthAndSearch(@Param("babyId") Integer babyId,
-                                            @Param("startDate") LocalDate startDate,
-                                            @Param("endDate") LocalDate endDate,
-                                            @Param("search") String search);
+    List<DiaryListRow> findListRowsByMonthAndSearch(@Param("babyId") Integer babyId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate,
+                                                    @Param("search") String search);
+
+    /**
+     * 주어진 ID 의 다이어리 목록을 응답에 필요한 컬럼만 조회합니다.
+     *
+     * @param diaryIds 다이어리 ID 목록
+     * @return 다이어리 목록 (순서 보장하지 않음)
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryListRow(d.diaryId, d.emoji, d.writtenDate) FROM Diary d " +
+            "WHERE d.diaryId IN :diaryIds")
+    List<DiaryListRow> findListRowsByIdIn(@Param("diaryIds") Collection<Integer> diaryIds);
 
     boolean existsByBabyAndWrittenDate(Baby baby, LocalDate date);
+
+    /**
+     * 아기의 모든 다이어리를 검색 색인에 필요한 컬럼만 조회합니다.
+     *
+     * @param babyId 아기 ID
+     * @return 다이어리 색인 정보 리스트
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryIndexRow(d.diaryId, d.writtenDate, d.content) " +
+            "FROM Diary d WHERE d.baby.babyId = :babyId")
+    List<DiaryIndexRow> findIndexRowsByBabyId(@Param("babyId") Integer babyId);
+
+    /**
+     * 다이어리 하나를 검색 색인에 필요한 컬럼만 조회합니다.
+     *
+     * @param diaryId 다이어리 ID
+     * @return 다이어리 색인 정보, 삭제된 다이어리면 빈 값
+     */
+    @Query("SELECT new com.agarang.domain.diary.dto.DiaryIndexRow(d.diaryId, d.writtenDate, d.content) " +
+            "FROM Diary d WHERE d.diaryId = :diaryId")
+    Optional<DiaryIndexRow> findIndexRowById(@Param("diaryId") Integer diaryId);
+
+    /**
+     * 아기의 다이어리와 키워드 전체를 요약한 지문을 계산합니다.
+     *
+     * <p>"다이어리 수:다이어리 CRC32 합/키워드 수:키워드 CRC32 합" 형식이며, 디스크에 저장된 검색 색인이
+     * 현재 DB 와 같은 내용으로 만들어졌는지 확인할 때 사용합니다. 다이어리의 CRC32 는 "diary_id:written_date:content",
+     * 키워드의 CRC32 는 "keyword_id:name" 의 UTF-8 바이트로 계산합니다.</p>
+     *
+     * @param babyId 아기 ID
+     * @return 색인 지문
+     */
+    @Query(value = """
+        SELECT CONCAT(
+               (SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT(d.diary_id, ':', d.written_date, ':', COALESCE(d.content, '')))), 0))
+                  FROM diary d WHERE d.baby_id = :babyId),
+               '/',
+               (SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT(k.keyword_id, ':', k.name))), 0))
+                  FROM diary_keyword k JOIN diary d ON d.diary_id = k.diary_id WHERE d.baby_id = :babyId))
+        """, nativeQuery = true)
+    String findIndexFingerprint(@Param("babyId") Integer babyId);
 }
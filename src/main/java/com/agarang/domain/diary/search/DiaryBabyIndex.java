@@ -0,0 +1,226 @@
+package com.agarang.domain.diary.search;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * packageName    : com.agarang.domain.diary.search<br>
+ * fileName       : DiaryBabyIndex.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  아기 한 명의 다이어리 역색인 클래스입니다.<br>
+ * <p>bigram 별로 (다이어리 ID, 등장 횟수) 목록을 가지며, 검색어의 모든 bigram 을 포함하는 다이어리를 BM25 점수 순으로 반환합니다.
+ * 검색어가 키워드와 정확히 같은 다이어리는 점수를 더 받습니다. 읽기와 쓰기는 {@link ReentrantReadWriteLock} 으로 보호합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           지문 확인 시각 추가<br>
+ */
+class DiaryBabyIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double KEYWORD_MATCH_BOOST = 5.0;
+    private static final Comparator<DiarySearchHit> RANKING = Comparator
+            .comparingDouble(DiarySearchHit::score)
+            .thenComparing(DiarySearchHit::writtenDate)
+            .thenComparing(DiarySearchHit::diaryId);
+
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    final Integer babyId;
+
+    private final Map<Integer, DiaryIndexDocument> documents = new HashMap<>();
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private long totalLength;
+    private boolean loaded;
+    private volatile boolean dirty;
+    private long verifiedAtNanos;
+
+    DiaryBabyIndex(Integer babyId) {
+        this.babyId = babyId;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 마지막으로 DB 와 지문을 비교한 후 {@code intervalNanos} 가 지났는지 반환합니다.
+     */
+    boolean needsVerification(long nowNanos, long intervalNanos) {
+        return nowNanos - verifiedAtNanos >= intervalNanos;
+    }
+
+    /**
+     * DB 와 지문을 비교한 시각을 기록합니다. 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    void markVerified(long nowNanos) {
+        verifiedAtNanos = nowNanos;
+    }
+
+    /**
+     * 현재 색인의 지문을 반환합니다. 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    String fingerprint() {
+        return fingerprint(documents.values());
+    }
+
+    /**
+     * 색인을 비우고 주어진 문서로 다시 채웁니다. 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    void replaceAll(Collection<DiaryIndexDocument> newDocuments, boolean markDirty) {
+        documents.clear();
+        postings.clear();
+        totalLength = 0;
+        newDocuments.forEach(this::add);
+        loaded = true;
+        dirty = markDirty;
+    }
+
+    /**
+     * 문서를 추가하거나 교체합니다. 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    void put(DiaryIndexDocument document) {
+        remove(document.diaryId());
+        add(document);
+        dirty = true;
+    }
+
+    /**
+     * 문서를 제거합니다. 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    void remove(int diaryId) {
+        DiaryIndexDocument removed = documents.remove(diaryId);
+        if (Objects.isNull(removed)) {
+            return;
+        }
+
+        for (String term : removed.terms().keySet()) {
+            Map<Integer, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(diaryId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= removed.length();
+        dirty = true;
+    }
+
+    /**
+     * 디스크에 저장할 문서 목록을 반환하고, 저장할 변경이 없는 상태로 표시합니다. 읽기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    List<DiaryIndexDocument> snapshotForFlush() {
+        dirty = false;
+        return new ArrayList<>(documents.values());
+    }
+
+    /**
+     * 다시 저장해야 하는 상태로 표시합니다.
+     */
+    void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * 검색어의 모든 bigram 을 포함하는 다이어리를 점수 순으로 반환합니다. 읽기 잠금을 잡은 상태에서 호출해야 합니다.
+     *
+     * @param terms           검색어의 bigram
+     * @param normalizedQuery 키워드와 비교할 정규화된 검색어
+     * @param startDate       조회 시작 날짜 (null 이면 제한 없음)
+     * @param endDate         조회 종료 날짜 (null 이면 제한 없음)
+     * @param limit           최대 결과 수
+     * @return 점수가 높은 순서의 검색 결과
+     */
+    List<DiarySearchHit> search(Set<String> terms, String normalizedQuery, LocalDate startDate, LocalDate endDate, int limit) {
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map<Integer, Integer>> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Integer, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return List.of();
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = documents.size();
+        double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+        double[] idf = new double[termPostings.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int df = termPostings.get(i).size();
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        PriorityQueue<DiarySearchHit> top = new PriorityQueue<>(limit + 1, RANKING);
+        candidates:
+        for (Integer diaryId : termPostings.get(0).keySet()) {
+            DiaryIndexDocument document = documents.get(diaryId);
+            if ((startDate != null && document.writtenDate().isBefore(startDate))
+                    || (endDate != null && document.writtenDate().isAfter(endDate))) {
+                continue;
+            }
+
+            double lengthNorm = K1 * (1 - B + B * document.length() / averageLength);
+            double score = 0;
+            for (int i = 0; i < termPostings.size(); i++) {
+                Integer tf = termPostings.get(i).get(diaryId);
+                if (tf == null) {
+                    continue candidates;
+                }
+                score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+            }
+            if (!normalizedQuery.isEmpty() && document.keywords().contains(normalizedQuery)) {
+                score += KEYWORD_MATCH_BOOST;
+            }
+
+            top.add(new DiarySearchHit(diaryId, document.writtenDate(), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<DiarySearchHit> hits = new ArrayList<>(top);
+        hits.sort(RANKING.reversed());
+        return hits;
+    }
+
+    private void add(DiaryIndexDocument document) {
+        documents.put(document.diaryId(), document);
+        document.terms().forEach((term, count) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.diaryId(), count));
+        totalLength += document.length();
+    }
+
+    /**
+     * 색인된 문서의 지문을 {@link com.agarang.domain.diary.repository.DiaryRepository#findIndexFingerprint(Integer)} 와 같은 형식으로 계산합니다.
+     */
+    static String fingerprint(Collection<DiaryIndexDocument> documents) {
+        long contentChecksum = 0;
+        long keywordCount = 0;
+        long keywordChecksum = 0;
+        for (DiaryIndexDocument document : documents) {
+            contentChecksum += document.contentChecksum();
+            keywordCount += document.keywordCount();
+            keywordChecksum += document.keywordChecksum();
+        }
+        return documents.size() + ":" + contentChecksum + "/" + keywordCount + ":" + keywordChecksum;
+    }
+}
@@ -0,0 +1,71 @@
+package com.agarang.domain.diary.search;
+
+import com.agarang.domain.diary.dto.DiaryIndexRow;
+import com.agarang.domain.diary.dto.DiaryKeywordRow;
+import com.agarang.global.util.HtmlProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * packageName    : com.agarang.domain.diary.search<br>
+ * fileName       : DiaryIndexDocument.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  검색 색인에 들어가는 다이어리 하나를 나타내는 클래스입니다.<br>
+ * <p>다이어리 내용의 일반 텍스트와 키워드를 bigram 으로 나눈 등장 횟수를 가지며, 키워드의 bigram 은
+ * {@value #KEYWORD_WEIGHT} 배로 셉니다. {@code contentChecksum} 과 {@code keywordChecksum} 은
+ * {@link com.agarang.domain.diary.repository.DiaryRepository#findIndexFingerprint(Integer)} 와 같은 방식으로 계산하여,
+ * 디스크에 저장된 색인이 현재 DB 와 같은지 확인하는 데 사용합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record DiaryIndexDocument(int diaryId,
+                                 LocalDate writtenDate,
+                                 int length,
+                                 Map<String, Integer> terms,
+                                 List<String> keywords,
+                                 long contentChecksum,
+                                 int keywordCount,
+                                 long keywordChecksum) {
+    private static final int KEYWORD_WEIGHT = 3;
+
+    /**
+     * DB 에서 조회한 다이어리와 키워드로 색인 문서를 생성합니다.
+     *
+     * @param row      다이어리 색인 정보
+     * @param keywords 다이어리의 키워드 리스트
+     * @return {@link DiaryIndexDocument}
+     */
+    public static DiaryIndexDocument of(DiaryIndexRow row, List<DiaryKeywordRow> keywords) {
+        Map<String, Integer> terms = new HashMap<>(DiaryTokenizer.termFrequencies(HtmlProcessor.convertHtmlToPlainText(row.content())));
+        long keywordChecksum = 0;
+        for (DiaryKeywordRow keyword : keywords) {
+            DiaryTokenizer.termFrequencies(keyword.name())
+                    .forEach((term, count) -> terms.merge(term, count * KEYWORD_WEIGHT, Integer::sum));
+            keywordChecksum += crc32(keyword.keywordId() + ":" + keyword.name());
+        }
+
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        List<String> normalizedKeywords = keywords.stream()
+                .map(keyword -> DiaryTokenizer.normalizeKeyword(keyword.name()))
+                .toList();
+        long contentChecksum = crc32(row.diaryId() + ":" + row.writtenDate() + ":" + Objects.requireNonNullElse(row.content(), ""));
+
+        return new DiaryIndexDocument(row.diaryId(), row.writtenDate(), length, Map.copyOf(terms), normalizedKeywords,
+                contentChecksum, keywords.size(), keywordChecksum);
+    }
+
+    private static long crc32(String value) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(value.getBytes(StandardCharsets.UTF_8));
+        return crc32.getValue();
+    }
+}
@@ -0,0 +1,156 @@
+package com.agarang.domain.diary.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * packageName    : com.agarang.domain.diary.search<br>
+ * fileName       : DiaryIndexSegmentStore.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  아기별 다이어리 검색 색인을 디스크에 저장하고 읽는 클래스입니다.<br>
+ * <p>아기 한 명의 색인 문서를 gzip 으로 압축한 파일 하나({@code baby-{babyId}.idx})에 저장합니다.
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로, 저장 도중 서버가 종료되어도 이전 파일이 깨지지 않습니다.
+ * 파일 형식이 다르거나 읽을 수 없는 파일은 없는 것으로 보고, 호출한 쪽에서 DB 로 색인을 다시 만듭니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+class DiaryIndexSegmentStore {
+    private static final int MAGIC = 0x44494458;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    DiaryIndexSegmentStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 저장된 색인 문서를 읽습니다.
+     *
+     * @param babyId 아기 ID
+     * @return 저장된 색인 문서 리스트, 파일이 없거나 읽을 수 없으면 빈 값
+     */
+    Optional<List<DiaryIndexDocument>> read(Integer babyId) {
+        Path path = segmentPath(babyId);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.info("다이어리 검색 색인 파일 형식이 다릅니다. babyId: {}", babyId);
+                return Optional.empty();
+            }
+
+            int documentCount = in.readInt();
+            List<DiaryIndexDocument> documents = new ArrayList<>(documentCount);
+            for (int i = 0; i < documentCount; i++) {
+                documents.add(readDocument(in));
+            }
+            return Optional.of(documents);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("다이어리 검색 색인 파일을 읽지 못했습니다. babyId: {}", babyId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 색인 문서를 파일에 저장합니다.
+     *
+     * @param babyId    아기 ID
+     * @param documents 저장할 색인 문서 리스트
+     * @throws IOException 파일을 저장하지 못한 경우
+     */
+    void write(Integer babyId, List<DiaryIndexDocument> documents) throws IOException {
+        Files.createDirectories(directory);
+        Path target = segmentPath(babyId);
+        Path temp = Files.createTempFile(directory, "baby-" + babyId + "-", ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(documents.size());
+                for (DiaryIndexDocument document : documents) {
+                    writeDocument(out, document);
+                }
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path segmentPath(Integer babyId) {
+        return directory.resolve("baby-" + babyId + ".idx");
+    }
+
+    private static void writeDocument(DataOutputStream out, DiaryIndexDocument document) throws IOException {
+        out.writeInt(document.diaryId());
+        out.writeLong(document.writtenDate().toEpochDay());
+        out.writeInt(document.length());
+        out.writeLong(document.contentChecksum());
+        out.writeInt(document.keywordCount());
+        out.writeLong(document.keywordChecksum());
+
+        out.writeInt(document.keywords().size());
+        for (String keyword : document.keywords()) {
+            out.writeUTF(keyword);
+        }
+
+        out.writeInt(document.terms().size());
+        for (Map.Entry<String, Integer> term : document.terms().entrySet()) {
+            out.writeUTF(term.getKey());
+            out.writeInt(term.getValue());
+        }
+    }
+
+    private static DiaryIndexDocument readDocument(DataInputStream in) throws IOException {
+        int diaryId = in.readInt();
+        LocalDate writtenDate = LocalDate.ofEpochDay(in.readLong());
+        int length = in.readInt();
+        long contentChecksum = in.readLong();
+        int keywordCount = in.readInt();
+        long keywordChecksum = in.readLong();
+
+        int keywordSize = in.readInt();
+        List<String> keywords = new ArrayList<>(keywordSize);
+        for (int i = 0; i < keywordSize; i++) {
+            keywords.add(in.readUTF());
+        }
+
+        int termSize = in.readInt();
+        Map<String, Integer> terms = new HashMap<>(termSize * 2);
+        for (int i = 0; i < termSize; i++) {
+            terms.put(in.readUTF(), in.readInt());
+        }
+
+        return new DiaryIndexDocument(diaryId, writtenDate, length, Map.copyOf(terms), List.copyOf(keywords),
+                contentChecksum, keywordCount, keywordChecksum);
+    }
+}
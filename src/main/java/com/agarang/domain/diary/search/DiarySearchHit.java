@@ -0,0 +1,17 @@
+package com.agarang.domain.diary.search;
+
+import java.time.LocalDate;
+
+/**
+ * packageName    : com.agarang.domain.diary.search<br>
+ * fileName       : DiarySearchHit.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  다이어리 검색 결과 하나를 나타내는 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record DiarySearchHit(Integer diaryId, LocalDate writtenDate, double score) {
+}
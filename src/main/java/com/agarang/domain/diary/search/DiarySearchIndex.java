@@ -0,0 +1,290 @@
+package com.agarang.domain.diary.search;
+
+import com.agarang.domain.diary.dto.DiaryIndexRow;
+import com.agarang.domain.diary.dto.DiaryKeywordRow;
+import com.agarang.domain.diary.repository.DiaryKeywordRepository;
+import com.agarang.domain.diary.repository.DiaryRepository;
+import com.agarang.global.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * packageName    : com.agarang.domain.diary.search<br>
+ * fileName       : DiarySearchIndex.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  아기별 다이어리 검색 색인을 관리하는 클래스입니다.<br>
+ * <p>아기의 다이어리를 처음 검색할 때 색인을 메모리에 올립니다. 디스크에 저장된 색인이 있고 그 지문이
+ * {@link DiaryRepository#findIndexFingerprint(Integer)} 와 같으면 그대로 사용하고, 다르면 DB 에서 다시 만듭니다.
+ * 메모리에는 최근에 검색한 {@value #MAX_LOADED_BABIES} 명의 색인만 유지합니다.</p>
+ * <p>다이어리나 키워드가 바뀌면 {@link #refresh(Integer, Integer)} 로 해당 다이어리만 다시 색인하고,
+ * 바뀐 색인은 {@value #FLUSH_INTERVAL_MILLIS}ms 마다, 그리고 서버가 종료될 때 디스크에 저장합니다.
+ * 저장하지 못한 변경은 다음에 색인을 올릴 때 지문이 달라 DB 에서 다시 만들어지므로 검색 결과가 DB 와 어긋나지 않습니다.</p>
+ * <p>색인은 서버마다 따로 있으므로, 다시 색인할 다이어리는 {@link CacheInvalidationBus} 로 모든 서버에 알립니다.
+ * 알림이 유실되더라도 메모리의 색인은 {@value #VERIFY_INTERVAL_MILLIS}ms 마다 검색 전에 DB 와 지문을 비교하여, 다르면 다시 만듭니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           다른 서버에 색인 갱신 전달, 주기적 지문 확인<br>
+ * 26.10.18          Fiat_lux           색인을 올리거나 확인할 때만 검색에서 쓰기 잠금 사용<br>
+ */
+@Slf4j
+@Component
+public class DiarySearchIndex {
+    private static final int MAX_LOADED_BABIES = 200;
+    private static final long FLUSH_INTERVAL_MILLIS = 30_000;
+    private static final long VERIFY_INTERVAL_MILLIS = 300_000;
+    private static final String REFRESH_CHANNEL = "diary-search-index:refresh";
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryKeywordRepository diaryKeywordRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DiaryIndexSegmentStore segmentStore;
+    private final Queue<DiaryBabyIndex> pendingFlush = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, DiaryBabyIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, DiaryBabyIndex> eldest) {
+            if (size() <= MAX_LOADED_BABIES) {
+                return false;
+            }
+            if (eldest.getValue().isDirty()) {
+                pendingFlush.add(eldest.getValue());
+            }
+            return true;
+        }
+    };
+
+    public DiarySearchIndex(DiaryRepository diaryRepository,
+                            DiaryKeywordRepository diaryKeywordRepository,
+                            CacheInvalidationBus cacheInvalidationBus,
+                            @Value("${diary.search.index-dir:#{systemProperties['java.io.tmpdir']}/agarang-diary-index}") String indexDirectory) {
+        this.diaryRepository = diaryRepository;
+        this.diaryKeywordRepository = diaryKeywordRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.segmentStore = new DiaryIndexSegmentStore(Path.of(indexDirectory));
+    }
+
+    /**
+     * 다른 서버가 보낸 색인 갱신 요청을 구독합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        cacheInvalidationBus.subscribe(REFRESH_CHANNEL, this::handleRefreshMessage);
+    }
+
+    /**
+     * 아기의 다이어리에서 검색어의 모든 bigram 을 포함하는 다이어리를 관련도 순으로 검색합니다.
+     *
+     * <p>색인이 올라와 있고 지문을 확인할 때가 아니면 읽기 잠금만 잡고 검색하므로, 같은 아기의 검색끼리 서로 기다리지 않습니다.
+     * 색인을 올리거나 지문을 확인해야 할 때만 쓰기 잠금을 잡고, 작업을 마치면 읽기 잠금으로 바꾸어 검색합니다.</p>
+     *
+     * @param babyId    아기 ID
+     * @param query     검색어
+     * @param startDate 조회 시작 날짜 (null 이면 제한 없음)
+     * @param endDate   조회 종료 날짜 (null 이면 제한 없음)
+     * @param limit     최대 결과 수
+     * @return 관련도가 높은 순서의 검색 결과
+     */
+    public List<DiarySearchHit> search(Integer babyId, String query, LocalDate startDate, LocalDate endDate, int limit) {
+        Set<String> terms = DiaryTokenizer.queryTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        DiaryBabyIndex index = holder(babyId);
+        String normalizedQuery = DiaryTokenizer.normalizeKeyword(query);
+        long verifyIntervalNanos = TimeUnit.MILLISECONDS.toNanos(VERIFY_INTERVAL_MILLIS);
+
+        index.lock.readLock().lock();
+        try {
+            if (index.isLoaded() && !index.needsVerification(System.nanoTime(), verifyIntervalNanos)) {
+                return index.search(terms, normalizedQuery, startDate, endDate, limit);
+            }
+        } finally {
+            index.lock.readLock().unlock();
+        }
+
+        index.lock.writeLock().lock();
+        try {
+            long now = System.nanoTime();
+            if (!index.isLoaded()) {
+                load(index);
+                index.markVerified(now);
+            } else if (index.needsVerification(now, verifyIntervalNanos)) {
+                verify(index, now);
+            }
+            index.lock.readLock().lock();
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+
+        try {
+            return index.search(terms, normalizedQuery, startDate, endDate, limit);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 다이어리 하나를 현재 서버의 색인에 반영하고, 다른 서버에도 다시 색인하도록 알립니다.
+     *
+     * <p>알림은 현재 서버에도 전달되므로 현재 서버는 같은 다이어리를 한 번 더 읽습니다.</p>
+     *
+     * @param babyId  아기 ID
+     * @param diaryId 변경된 다이어리 ID
+     */
+    public void refresh(Integer babyId, Integer diaryId) {
+        refreshLocal(babyId, diaryId);
+        cacheInvalidationBus.publish(REFRESH_CHANNEL, babyId + ":" + diaryId);
+    }
+
+    /**
+     * 다이어리 하나를 DB 에서 다시 읽어 현재 서버의 색인에 반영합니다. 삭제된 다이어리는 색인에서 제거합니다.
+     *
+     * <p>아기의 색인이 메모리에 없으면 아무것도 하지 않습니다. 다음에 색인을 올릴 때 지문으로 변경을 감지합니다.</p>
+     *
+     * @param babyId  아기 ID
+     * @param diaryId 변경된 다이어리 ID
+     */
+    private void refreshLocal(Integer babyId, Integer diaryId) {
+        DiaryBabyIndex index;
+        synchronized (indexes) {
+            index = indexes.get(babyId);
+        }
+        if (index == null) {
+            return;
+        }
+
+        index.lock.writeLock().lock();
+        try {
+            if (!index.isLoaded()) {
+                return;
+            }
+
+            Optional<DiaryIndexRow> row = diaryRepository.findIndexRowById(diaryId);
+            if (row.isEmpty()) {
+                index.remove(diaryId);
+                return;
+            }
+            index.put(DiaryIndexDocument.of(row.get(), diaryKeywordRepository.findRowsByDiaryId(diaryId)));
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 바뀐 색인을 디스크에 저장합니다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flush() {
+        DiaryBabyIndex evicted;
+        while ((evicted = pendingFlush.poll()) != null) {
+            write(evicted);
+        }
+
+        List<DiaryBabyIndex> loaded;
+        synchronized (indexes) {
+            loaded = new ArrayList<>(indexes.values());
+        }
+        for (DiaryBabyIndex index : loaded) {
+            if (index.isDirty()) {
+                write(index);
+            }
+        }
+    }
+
+    /**
+     * 서버가 종료될 때 바뀐 색인을 디스크에 저장합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void handleRefreshMessage(String payload) {
+        String[] ids = payload.split(":");
+        refreshLocal(Integer.valueOf(ids[0]), Integer.valueOf(ids[1]));
+    }
+
+    private DiaryBabyIndex holder(Integer babyId) {
+        synchronized (indexes) {
+            return indexes.computeIfAbsent(babyId, DiaryBabyIndex::new);
+        }
+    }
+
+    private void load(DiaryBabyIndex index) {
+        Optional<List<DiaryIndexDocument>> stored = segmentStore.read(index.babyId);
+        if (stored.isPresent()
+                && DiaryBabyIndex.fingerprint(stored.get()).equals(diaryRepository.findIndexFingerprint(index.babyId))) {
+            index.replaceAll(stored.get(), false);
+            log.debug("다이어리 검색 색인을 파일에서 읽었습니다. babyId: {}, 다이어리 {}건", index.babyId, stored.get().size());
+            return;
+        }
+
+        rebuild(index);
+    }
+
+    /**
+     * 메모리의 색인과 DB 의 지문을 비교하여, 다르면 DB 에서 다시 만듭니다.
+     *
+     * <p>다른 서버의 갱신 알림을 받지 못한 경우에도 검색 결과가 DB 와 어긋나는 기간을 {@value #VERIFY_INTERVAL_MILLIS}ms 이내로 제한합니다.</p>
+     */
+    private void verify(DiaryBabyIndex index, long now) {
+        index.markVerified(now);
+        if (index.fingerprint().equals(diaryRepository.findIndexFingerprint(index.babyId))) {
+            return;
+        }
+
+        log.info("다이어리 검색 색인이 DB 와 달라 다시 만듭니다. babyId: {}", index.babyId);
+        rebuild(index);
+    }
+
+    private void rebuild(DiaryBabyIndex index) {
+        long startedAt = System.nanoTime();
+        Map<Integer, List<DiaryKeywordRow>> keywordsByDiary = diaryKeywordRepository.findRowsByBabyId(index.babyId).stream()
+                .collect(Collectors.groupingBy(DiaryKeywordRow::diaryId));
+        List<DiaryIndexDocument> documents = diaryRepository.findIndexRowsByBabyId(index.babyId).stream()
+                .map(row -> DiaryIndexDocument.of(row, keywordsByDiary.getOrDefault(row.diaryId(), List.of())))
+                .toList();
+
+        index.replaceAll(documents, true);
+        log.info("다이어리 검색 색인을 DB 에서 만들었습니다. babyId: {}, 다이어리 {}건, {}ms",
+                index.babyId, documents.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void write(DiaryBabyIndex index) {
+        List<DiaryIndexDocument> documents;
+        index.lock.readLock().lock();
+        try {
+            documents = index.snapshotForFlush();
+        } finally {
+            index.lock.readLock().unlock();
+        }
+
+        try {
+            segmentStore.write(index.babyId, documents);
+        } catch (IOException e) {
+            index.markDirty();
+            log.warn("다이어리 검색 색인을 저장하지 못했습니다. babyId: {}", index.babyId, e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.agarang.domain.diary.search;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * packageName    : com.agarang.domain.diary.search<br>
+ * fileName       : DiaryTokenizer.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    : 다이어리 검색 색인과 검색어를 문자 bigram 으로 나누는 클래스입니다.<br>
+ * <p>한국어는 조사와 어미가 붙어 단어 단위로 나누면 "산책을", "산책했다" 가 서로 다른 단어가 되므로,
+ * 글자나 숫자가 아닌 문자로 나눈 단어를 다시 두 글자씩 겹쳐 나눕니다. 한 글자 단어는 그대로 사용합니다.
+ * "밥" 처럼 한 글자 검색어로도 "밥을" 을 찾을 수 있도록, 색인할 때는 단어의 첫 글자도 함께 색인합니다.
+ * 검색어도 같은 방식으로 나누므로, 검색어의 모든 bigram 을 포함하는 다이어리가 검색어를 포함하는 다이어리가 됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public final class DiaryTokenizer {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * 텍스트를 bigram 으로 나누고 bigram 별 등장 횟수를 반환합니다.
+     *
+     * @param text 나눌 텍스트
+     * @return bigram 별 등장 횟수
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String word : words(text)) {
+            forEachTerm(word, term -> frequencies.merge(term, 1, Integer::sum));
+            if (word.codePointCount(0, word.length()) > 1) {
+                frequencies.merge(word.substring(0, word.offsetByCodePoints(0, 1)), 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 검색어를 중복 없는 bigram 으로 나눕니다.
+     *
+     * @param query 검색어
+     * @return 검색어의 bigram 집합 (등장 순서 유지)
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            forEachTerm(word, terms::add);
+        }
+        return terms;
+    }
+
+    /**
+     * 키워드 비교에 사용할 형태로 정규화합니다.
+     *
+     * @param keyword 키워드
+     * @return 공백과 문장 부호를 제거하고 소문자로 바꾼 키워드
+     */
+    public static String normalizeKeyword(String keyword) {
+        return String.join("", words(keyword));
+    }
+
+    private static String[] words(String text) {
+        if (Objects.isNull(text) || text.isBlank()) {
+            return new String[0];
+        }
+        return SEPARATOR.splitAsStream(text.toLowerCase())
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static void forEachTerm(String word, Consumer<String> consumer) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            consumer.accept(word);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            consumer.accept(new String(codePoints, i, 2));
+        }
+    }
+
+    private DiaryTokenizer() {
+    }
+}
@@ -0,0 +1,222 @@
+package com.agarang.domain.diary.service;
+
+import com.agarang.domain.diary.entity.Diary;
+import com.agarang.domain.diary.entity.DiaryKeyword;
+import com.agarang.domain.diary.entity.DiaryKeywordJob;
+import com.agarang.domain.diary.entity.DiaryKeywordJobStatus;
+import com.agarang.domain.diary.event.DiarySearchIndexEvent;
+import com.agarang.domain.diary.repository.DiaryKeywordJobRepository;
+import com.agarang.domain.diary.repository.DiaryKeywordRepository;
+import com.agarang.domain.diary.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * packageName    : com.agarang.domain.diary.service<br>
+ * fileName       : DiaryKeywordJobService.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  DiaryKeywordJob entity 의 Service 클래스입니다.<br>
+ * <p>일기를 저장할 때 키워드 추출 작업을 대기열에 넣고, {@link DiaryKeywordJobWorker} 가 작업을 선점하고 결과를 기록합니다.
+ * 작업은 일기 내용의 해시로 구분하므로, 작업이 실행될 때 일기 내용이 이미 바뀌었으면 키워드를 저장하지 않습니다.
+ * 실패한 작업은 지수적으로 늘어나는 간격으로 최대 {@value #MAX_ATTEMPTS} 번까지 다시 실행합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           키워드 저장 시 검색 색인 갱신<br>
+ */
+@Service
+@RequiredArgsConstructor
+public class DiaryKeywordJobService {
+    public static final int MAX_ATTEMPTS = 5;
+    private static final int MAX_KEYWORDS = 6;
+    private static final int MAX_KEYWORD_LENGTH = 10;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final DiaryKeywordJobRepository diaryKeywordJobRepository;
+    private final DiaryRepository diaryRepository;
+    private final DiaryKeywordRepository diaryKeywordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일기 키워드 추출 작업을 대기열에 넣습니다.
+     *
+     * <p>호출한 트랜잭션에 참여하므로, 일기 저장과 함께 커밋되거나 롤백됩니다.</p>
+     *
+     * @param diaryId 키워드를 추출할 일기 ID
+     * @param content 일기 내용
+     */
+    @Transactional
+    public void enqueue(Integer diaryId, String content) {
+        diaryKeywordJobRepository.upsertPending(diaryId, contentHash(content), LocalDateTime.now());
+    }
+
+    /**
+     * 일기의 키워드 추출 작업을 모두 삭제합니다.
+     *
+     * @param diaryId 삭제된 일기 ID
+     */
+    @Transactional
+    public void deleteByDiaryId(Integer diaryId) {
+        diaryKeywordJobRepository.deleteByDiaryId(diaryId);
+    }
+
+    /**
+     * 실행 시각이 된 작업의 ID 를 조회합니다.
+     *
+     * @param limit 조회할 최대 개수
+     * @return 실행할 작업 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findDueIds(int limit) {
+        return diaryKeywordJobRepository.findDueIds(DiaryKeywordJobStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 실행할 작업을 선점합니다.
+     *
+     * @param diaryKeywordJobId 선점할 작업 ID
+     * @return 선점한 작업, 다른 서버가 먼저 선점한 경우 빈 값
+     */
+    @Transactional
+    public Optional<DiaryKeywordJob> claim(Integer diaryKeywordJobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (diaryKeywordJobRepository.claim(diaryKeywordJobId, DiaryKeywordJobStatus.PENDING, now, now.plus(LEASE)) == 0) {
+            return Optional.empty();
+        }
+
+        return diaryKeywordJobRepository.findById(diaryKeywordJobId);
+    }
+
+    /**
+     * 작업이 추출할 일기 내용을 조회합니다.
+     *
+     * @param job 선점한 작업
+     * @return 일기 내용, 일기가 삭제되었거나 내용이 작업 이후 바뀌었으면 빈 값
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findContent(DiaryKeywordJob job) {
+        return diaryRepository.findById(job.getDiaryId())
+                .map(Diary::getContent)
+                .filter(content -> Objects.equals(job.getContentHash(), contentHash(content)));
+    }
+
+    /**
+     * 추출한 키워드를 일기에 저장하고 작업을 완료로 표시합니다.
+     *
+     * <p>이전에 자동으로 추출한 키워드를 새 키워드로 교체하며, 사용자가 직접 등록하거나 수정한 키워드는 남깁니다.
+     * 사용자 키워드와 이름이 같거나 {@value #MAX_KEYWORD_LENGTH} 자를 넘는 키워드는 제외하고, 일기당 키워드가 최대 {@value #MAX_KEYWORDS} 개를 넘지 않도록 합니다.
+     * 키워드를 추출하는 사이 일기가 삭제되었거나 내용이 바뀌었으면 키워드를 저장하지 않습니다.</p>
+     *
+     * @param job      선점한 작업
+     * @param keywords 추출한 키워드 목록
+     * @return 키워드를 저장했으면 true, 일기가 바뀌어 저장하지 않았으면 false
+     */
+    @Transactional
+    public boolean complete(DiaryKeywordJob job, List<String> keywords) {
+        Optional<Diary> diary = diaryRepository.findById(job.getDiaryId())
+                .filter(found -> Objects.equals(job.getContentHash(), contentHash(found.getContent())));
+
+        diary.ifPresent(found -> {
+            replaceAutoExtractedKeywords(found, keywords);
+            eventPublisher.publishEvent(new DiarySearchIndexEvent(this, found.getBaby().getBabyId(), found.getDiaryId()));
+        });
+        markDone(job.getDiaryKeywordJobId());
+        return diary.isPresent();
+    }
+
+    /**
+     * 작업을 완료로 표시합니다.
+     *
+     * @param diaryKeywordJobId 완료한 작업 ID
+     */
+    @Transactional
+    public void markDone(Integer diaryKeywordJobId) {
+        diaryKeywordJobRepository.findById(diaryKeywordJobId).ifPresent(job -> {
+            job.setStatus(DiaryKeywordJobStatus.DONE);
+            job.setCompletedAt(LocalDateTime.now());
+        });
+    }
+
+    /**
+     * 작업 실패를 기록합니다.
+     *
+     * <p>최대 실행 횟수에 도달하면 실패로 표시하고, 그렇지 않으면 다음 실행 예정 시각을 지수 백오프로 미룹니다.</p>
+     *
+     * @param diaryKeywordJobId 실패한 작업 ID
+     * @return 다시 실행할 예정이면 true, 실패로 표시했으면 false
+     */
+    @Transactional
+    public boolean markRetry(Integer diaryKeywordJobId) {
+        return diaryKeywordJobRepository.findById(diaryKeywordJobId).map(job -> {
+            int attempts = job.getAttempts() + 1;
+            job.setAttempts(attempts);
+
+            if (attempts >= MAX_ATTEMPTS) {
+                job.setStatus(DiaryKeywordJobStatus.FAILED);
+                return false;
+            }
+
+            job.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            return true;
+        }).orElse(false);
+    }
+
+    /**
+     * 일기 내용의 SHA-256 해시를 반환합니다.
+     *
+     * @param content 일기 내용
+     * @return 16진수 해시 문자열
+     */
+    public static String contentHash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(Objects.requireNonNullElse(content, "").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void replaceAutoExtractedKeywords(Diary diary, List<String> keywords) {
+        diaryKeywordRepository.deleteAutoExtractedByDiary(diary);
+
+        Set<String> userKeywordNames = diaryKeywordRepository.findByDiary(diary).stream()
+                .map(DiaryKeyword::getName)
+                .collect(Collectors.toSet());
+
+        List<DiaryKeyword> diaryKeywords = keywords.stream()
+                .filter(keyword -> keyword.length() <= MAX_KEYWORD_LENGTH && !userKeywordNames.contains(keyword))
+                .distinct()
+                .limit(Math.max(0, MAX_KEYWORDS - userKeywordNames.size()))
+                .map(keyword -> new DiaryKeyword(keyword, diary, true))
+                .toList();
+
+        diaryKeywordRepository.saveAll(diaryKeywords);
+    }
+
+    private static Duration backoff(int attempts) {
+        long millis = Math.min(BASE_BACKOFF.toMillis() << (attempts - 1), MAX_BACKOFF.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(millis / 5 + 1);
+        return Duration.ofMillis(millis - millis / 10 + jitter);
+    }
+}
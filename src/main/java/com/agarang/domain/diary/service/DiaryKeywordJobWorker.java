@@ -0,0 +1,173 @@
+package com.agarang.domain.diary.service;
+
+import com.agarang.domain.diary.entity.DiaryKeywordJob;
+import com.agarang.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.diary.service<br>
+ * fileName       : DiaryKeywordJobWorker.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 26. 10. 18.<br>
+ * description    :  일기 키워드 추출 작업 대기열을 비우며 키워드를 추출하는 클래스입니다.<br>
+ * <p>1초마다 실행 시각이 된 작업을 최대 {@value #BATCH_SIZE} 건씩 선점하여 {@code diaryKeywordExecutor} 에서 실행합니다.
+ * 일기 내용 조회와 키워드 저장은 각각 짧은 트랜잭션으로 나누고 OpenAI 호출은 트랜잭션 밖에서 하므로,
+ * OpenAI 응답을 기다리는 동안 DB 커넥션을 점유하지 않습니다.</p>
+ * <p>executor 가 바로 받을 수 있는 만큼만 선점하므로 예약 작업 스레드에서 추출을 실행하지 않으며,
+ * 선점하지 못한 작업은 대기열에 남아 다음 실행에서 처리됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           executor 의 남은 수용량만큼만 선점<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiaryKeywordJobWorker {
+    private static final int BATCH_SIZE = 20;
+    private static final Duration EXTRACT_TIMEOUT = Duration.ofSeconds(60);
+
+    private final DiaryKeywordJobService diaryKeywordJobService;
+    private final KeywordService keywordService;
+    private final ThreadPoolTaskExecutor diaryKeywordExecutor;
+
+    private final LongAdder completedJobs = new LongAdder();
+    private final LongAdder skippedJobs = new LongAdder();
+    private final LongAdder retriedJobs = new LongAdder();
+    private final LongAdder failedJobs = new LongAdder();
+    private final LongAdder extractNanos = new LongAdder();
+    private final LongAdder transactionNanos = new LongAdder();
+
+    /**
+     * 실행 시각이 된 작업을 선점하여 추출 스레드에 넘깁니다.
+     *
+     * <p>{@code diaryKeywordExecutor} 의 남은 수용량과 {@value #BATCH_SIZE} 중 작은 수만큼 조회하며,
+     * 조회한 작업이 그 수만큼이면 남은 작업이 있을 수 있으므로 바로 다시 조회합니다.
+     * 수용량이 없으면 선점하지 않고 다음 실행을 기다립니다.</p>
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void drain() {
+        int limit;
+        List<Integer> dueIds;
+        do {
+            limit = Math.min(BATCH_SIZE, AsyncConfig.remainingCapacity(diaryKeywordExecutor));
+            if (limit == 0) {
+                return;
+            }
+
+            dueIds = diaryKeywordJobService.findDueIds(limit);
+            for (Integer diaryKeywordJobId : dueIds) {
+                diaryKeywordJobService.claim(diaryKeywordJobId)
+                        .ifPresent(job -> diaryKeywordExecutor.execute(() -> extract(job)));
+            }
+        } while (dueIds.size() == limit);
+    }
+
+    /**
+     * 키워드를 저장하고 완료한 작업 수를 반환합니다.
+     *
+     * @return 완료한 작업 수
+     */
+    public long getCompletedJobs() {
+        return completedJobs.sum();
+    }
+
+    /**
+     * 일기가 삭제되었거나 내용이 바뀌어 키워드를 저장하지 않고 완료한 작업 수를 반환합니다.
+     *
+     * @return 건너뛴 작업 수
+     */
+    public long getSkippedJobs() {
+        return skippedJobs.sum();
+    }
+
+    /**
+     * 실패하여 다시 실행하도록 예약한 횟수를 반환합니다.
+     *
+     * @return 재실행 예약 횟수
+     */
+    public long getRetriedJobs() {
+        return retriedJobs.sum();
+    }
+
+    /**
+     * 최대 실행 횟수를 넘겨 실패로 표시한 작업 수를 반환합니다.
+     *
+     * @return 실패한 작업 수
+     */
+    public long getFailedJobs() {
+        return failedJobs.sum();
+    }
+
+    /**
+     * 완료한 작업의 평균 OpenAI 키워드 추출 시간을 반환합니다. 이 시간 동안 DB 커넥션은 점유하지 않습니다.
+     *
+     * @return 평균 추출 시간(ms)
+     */
+    public double getAverageExtractMillis() {
+        long count = completedJobs.sum();
+        return count == 0 ? 0 : extractNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * 완료한 작업의 평균 트랜잭션 시간(일기 조회 + 키워드 저장)을 반환합니다. DB 커넥션을 점유하는 시간입니다.
+     *
+     * @return 평균 트랜잭션 시간(ms)
+     */
+    public double getAverageTransactionMillis() {
+        long count = completedJobs.sum();
+        return count == 0 ? 0 : transactionNanos.sum() / 1_000_000.0 / count;
+    }
+
+    private void extract(DiaryKeywordJob job) {
+        try {
+            long readStartedAt = System.nanoTime();
+            Optional<String> content = diaryKeywordJobService.findContent(job);
+            long readNanos = System.nanoTime() - readStartedAt;
+
+            if (content.isEmpty()) {
+                diaryKeywordJobService.markDone(job.getDiaryKeywordJobId());
+                skippedJobs.increment();
+                return;
+            }
+
+            long extractStartedAt = System.nanoTime();
+            List<String> keywords = Objects.requireNonNullElse(
+                    keywordService.extractKeywords(content.get()).block(EXTRACT_TIMEOUT), List.of());
+            long extractElapsedNanos = System.nanoTime() - extractStartedAt;
+
+            long writeStartedAt = System.nanoTime();
+            boolean saved = diaryKeywordJobService.complete(job, keywords);
+            long writeNanos = System.nanoTime() - writeStartedAt;
+
+            if (saved) {
+                completedJobs.increment();
+                extractNanos.add(extractElapsedNanos);
+                transactionNanos.add(readNanos + writeNanos);
+                log.debug("일기 키워드 추출 완료. diaryId: {}, 추출 {}ms, 트랜잭션 {}ms",
+                        job.getDiaryId(), extractElapsedNanos / 1_000_000, (readNanos + writeNanos) / 1_000_000);
+            } else {
+                skippedJobs.increment();
+            }
+        } catch (Exception e) {
+            log.warn("일기 키워드 추출 실패. diaryKeywordJobId: {}, diaryId: {}", job.getDiaryKeywordJobId(), job.getDiaryId(), e);
+            if (diaryKeywordJobService.markRetry(job.getDiaryKeywordJobId())) {
+                retriedJobs.increment();
+            } else {
+                failedJobs.increment();
+                log.error("일기 키워드 추출을 포기합니다. diaryKeywordJobId: {}, attempts: {}", job.getDiaryKeywordJobId(), DiaryKeywordJobService.MAX_ATTEMPTS);
+            }
+        }
+    }
+}
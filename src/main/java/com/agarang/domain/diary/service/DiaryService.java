@@ -2,10 +2,8 @@ package com.agarang.domain.diary.service;
 
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.repository.BabyRepository;
-import com.agarang.domain.custody.entity.Custody;
-import com.agarang.domain.custody.entity.CustodyType;
-import com.agarang.domain.custody.repository.CustodyRepository;
-import com.agarang.domain.diary.dto.mapper.DiaryKeywordMapper;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.diary.dto.DiaryListRow;
 import com.agarang.domain.diary.dto.mapper.DiaryMapper;
 import com.agarang.domain.diary.dto.request.DiaryKeywordRequest;
 import com.agarang.domain.diary.dto.request.DiaryRegisterRequest;
@@ -13,13 +11,17 @@ import com.agarang.domain.diary.dto.request.DiaryUpdateRequest;
 import com.agarang.domain.diary.dto.response.*;
 import com.agarang.domain.diary.entity.Diary;
 import com.agarang.domain.diary.entity.DiaryKeyword;
+import com.agarang.domain.diary.event.DiarySearchIndexEvent;
 import com.agarang.domain.diary.repository.DiaryKeywordRepository;
 import com.agarang.domain.diary.repository.DiaryRepository;
+import com.agarang.domain.diary.search.DiarySearchHit;
+import com.agarang.domain.diary.search.DiarySearchIndex;
 import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,19 +41,27 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.24          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           키워드 추출을 트랜잭션 커밋 이후로 이동<br>
+ * 26.10.18          Fiat_lux           키워드 추출을 작업 대기열로 이동<br>
+ * 26.10.18          Fiat_lux           다이어리 검색 색인 추가<br>
+ * 26.10.18          Fiat_lux           다이어리 목록 키워드를 일괄 조회하도록 변경<br>
+ * 26.10.18          Fiat_lux           보호자 권한 확인을 CaregiverContextResolver 로 변경<br>
  */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DiaryService {
+    private static final int KEYWORD_BATCH_SIZE = 500;
+
     private final DiaryRepository diaryRepository;
     private final DiaryMapper diaryMapper;
     private final BabyRepository babyRepository;
     private final UserRepository userRepository;
-    private final CustodyRepository custodyRepository;
+    private final CaregiverContextResolver caregiverContextResolver;
     private final DiaryKeywordRepository diaryKeywordRepository;
-    private final DiaryKeywordMapper diaryKeywordMapper;
-    private final KeywordService keywordService;
+    private final DiaryKeywordJobService diaryKeywordJobService;
+    private final DiarySearchIndex diarySearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 월의 다이어리 이모지 목록을 조회합니다.
@@ -89,18 +99,7 @@ public class DiaryService {
      * @throws BusinessException 미래 날짜를 요청할 경우 예외 발생
      */
     public DiaryResponse getDiaryByYearMonth(Integer userId, Integer babyId, LocalDate date) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!Objects.equals(CustodyType.MAIN, custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        caregiverContextResolver.resolveMain(userId, babyId);
 
         if (Objects.isNull(date)) {
             date = LocalDate.now();
@@ -108,7 +107,7 @@ public class DiaryService {
             throw new BusinessException(ErrorCode.INVALID_DATE_REQUEST);
         }
 
-        Optional<Diary> optionalDiary = diaryRepository.findByBabyAndWrittenDate(baby, date);
+        Optional<Diary> optionalDiary = diaryRepository.findByBabyAndWrittenDate(babyRepository.getReferenceById(babyId), date);
 
         return optionalDiary.map(diaryMapper::mapToDiaryResponse).orElse(null);
     }
@@ -123,18 +122,7 @@ public class DiaryService {
      * @return 다이어리 목록 {@link List} of {@link DiaryListResponse}
      */
     public List<DiaryListResponse> getDiaryList(Integer userId, Integer babyId, YearMonth yearMonth, String search) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!Objects.equals(CustodyType.MAIN, custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        caregiverContextResolver.resolveMain(userId, babyId);
 
         if (Objects.isNull(yearMonth)) {
             yearMonth = YearMonth.now();
@@ -142,16 +130,45 @@ public class DiaryService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<Diary> diaryList = diaryRepository.findDiariesByMonthAndSearch(babyId, startDate, endDate, search);
-        List<DiaryListResponse> diaryListResponseList = new ArrayList<>();
+        List<DiaryListRow> diaryList = diaryRepository.findListRowsByMonthAndSearch(babyId, startDate, endDate, search);
 
-        for (Diary diary : diaryList) {
-            List<DiaryKeyword> diaryKeywords = diaryKeywordRepository.findByDiary(diary);
-            List<DiaryKeyWordResponse> diaryKeyWordResponses = diaryKeywordMapper.mapToResponseList(diaryKeywords);
+        return mapToDiaryListResponses(diaryList);
+    }
+
+    /**
+     * 특정 아기의 다이어리를 검색어와의 관련도 순으로 검색합니다.
+     *
+     * <p>{@link DiarySearchIndex} 의 bigram 역색인으로 다이어리 내용과 키워드를 검색하며,
+     * 검색어가 비어 있으면 빈 목록을 반환합니다.</p>
+     *
+     * @param userId    사용자 ID
+     * @param babyId    조회할 아기의 ID
+     * @param query     검색어
+     * @param startDate 조회 시작 날짜 (선택 사항)
+     * @param endDate   조회 종료 날짜 (선택 사항)
+     * @param size      최대 결과 수
+     * @return 관련도가 높은 순서의 다이어리 목록 {@link List} of {@link DiaryListResponse}
+     * @throws BusinessException - 사용자가 존재하지 않을 경우 {@link ErrorCode#USER_NOT_FOUND}
+     *                           - 아기가 존재하지 않을 경우 {@link ErrorCode#BABY_NOT_FOUND}
+     *                           - 보호자 권한이 없을 경우 {@link ErrorCode#CUSTODY_NOT_AUTHORIZED}
+     */
+    public List<DiaryListResponse> searchDiaries(Integer userId, Integer babyId, String query, LocalDate startDate, LocalDate endDate, int size) {
+        caregiverContextResolver.resolveMain(userId, babyId);
 
-            diaryListResponseList.add(new DiaryListResponse(diary.getDiaryId(), diary.getEmoji(), diary.getWrittenDate(), diaryKeyWordResponses));
+        List<DiarySearchHit> hits = diarySearchIndex.search(babyId, query, startDate, endDate, size);
+        if (hits.isEmpty()) {
+            return List.of();
         }
-        return diaryListResponseList;
+
+        Map<Integer, DiaryListRow> diaryById = diaryRepository.findListRowsByIdIn(hits.stream().map(DiarySearchHit::diaryId).toList()).stream()
+                .collect(Collectors.toMap(DiaryListRow::diaryId, row -> row));
+
+        List<DiaryListRow> diaryList = hits.stream()
+                .map(hit -> diaryById.get(hit.diaryId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return mapToDiaryListResponses(diaryList);
     }
 
     /**
@@ -163,22 +180,12 @@ public class DiaryService {
      * @return 다이어리 상세 정보 {@link DiaryGetResponse}
      */
     public DiaryGetResponse getDiaryById(Integer userId, Integer babyId, Integer diaryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!Objects.equals(CustodyType.MAIN, custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        caregiverContextResolver.resolveMain(userId, babyId);
 
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_NOT_FOUND));
 
+        Baby baby = babyRepository.getReferenceById(babyId);
         Long birthDay = ChronoUnit.DAYS.between(baby.getBirth().toLocalDate(), LocalDate.now());
 
         List<DiaryKeyword> diaryKeywordList = diaryKeywordRepository.findByDiary(diary);
@@ -201,7 +208,8 @@ public class DiaryService {
     /**
      * 기존 다이어리의 내용을 수정합니다.
      *
-     * <p>이 메서드는 사용자가 특정 다이어리의 내용을 수정하고, 관련 키워드를 업데이트합니다.</p>
+     * <p>이 메서드는 사용자가 특정 다이어리의 내용을 수정하고, 관련 키워드를 업데이트합니다.
+     * 내용이 바뀐 경우에만 키워드 추출 작업을 대기열에 넣으며, 사용자가 수정한 키워드는 이후 자동 추출로 교체되지 않습니다.</p>
      *
      * @param userId             사용자 ID
      * @param babyId             다이어리가 속한 아기의 ID
@@ -218,25 +226,16 @@ public class DiaryService {
      */
     @Transactional
     public DiaryResponse updateDiary(Integer userId, Integer babyId, Integer diaryId, DiaryUpdateRequest diaryUpdateRequest) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!Objects.equals(CustodyType.MAIN, custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        caregiverContextResolver.resolveMain(userId, babyId);
 
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_NOT_FOUND));
 
+        boolean contentChanged = !Objects.equals(diary.getContent(), diaryUpdateRequest.getContent());
+
         diary.setContent(diaryUpdateRequest.getContent());
         diary.setEmoji(diaryUpdateRequest.getEmoji());
-        diary.setUser(user);
+        diary.setUser(userRepository.getReferenceById(userId));
 
         List<DiaryKeyword> existingKeywords = diaryKeywordRepository.findByDiary(diary);
         Set<Integer> existingKeywordIds = existingKeywords.stream()
@@ -268,6 +267,7 @@ public class DiaryService {
             DiaryKeyword diaryKeyword = diaryKeywordRepository.findById(updateKeyword.getId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_KEYWORD_NOT_FOUND));
             diaryKeyword.setName(updateKeyword.getName());
+            diaryKeyword.setAutoExtracted(false);
         }
 
         if (keywordsAfterDeletion.size() + diaryUpdateRequest.getNewKeyword().size() > 6) {
@@ -280,13 +280,19 @@ public class DiaryService {
 
         diaryKeywordRepository.saveAll(newKeywords);
 
+        if (contentChanged) {
+            diaryKeywordJobService.enqueue(diary.getDiaryId(), diary.getContent());
+        }
+        eventPublisher.publishEvent(new DiarySearchIndexEvent(this, diary.getBaby().getBabyId(), diary.getDiaryId()));
+
         return diaryMapper.mapToDiaryResponse(diary);
     }
 
     /**
      * 새로운 다이어리를 등록합니다.
      *
-     * <p>이 메서드는 사용자가 특정 날짜의 다이어리를 생성하고, 키워드를 자동으로 추출하여 저장합니다.</p>
+     * <p>이 메서드는 사용자가 특정 날짜의 다이어리를 생성하고, 키워드 추출 작업을 대기열에 넣습니다.
+     * 키워드는 {@link DiaryKeywordJobWorker} 가 커밋 이후 추출하여 저장하므로, 다이어리 저장이 OpenAI 응답을 기다리지 않습니다.</p>
      *
      * @param userId               사용자 ID
      * @param babyId               다이어리를 등록할 아기의 ID
@@ -299,18 +305,10 @@ public class DiaryService {
      */
     @Transactional
     public DiaryResponse registerDiary(Integer userId, Integer babyId, DiaryRegisterRequest diaryRegisterRequest) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
+        caregiverContextResolver.resolveMain(userId, babyId);
 
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!Objects.equals(CustodyType.MAIN, custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        Baby baby = babyRepository.getReferenceById(babyId);
+        User user = userRepository.getReferenceById(userId);
 
         if (diaryRepository.existsByBabyAndWrittenDate(baby, diaryRegisterRequest.getWrittenDate())) {
             throw new BusinessException(ErrorCode.DIARY_ALREADY_EXISTS);
@@ -326,12 +324,8 @@ public class DiaryService {
 
         Diary savedDiary = diaryRepository.save(diary);
 
-        List<String> keywords = keywordService.extractKeywords(savedDiary.getContent());
-        List<DiaryKeyword> diaryKeywords = keywords.stream()
-                .map(keyword -> new DiaryKeyword(keyword, diary))
-                .toList();
-
-        diaryKeywordRepository.saveAll(diaryKeywords);
+        diaryKeywordJobService.enqueue(savedDiary.getDiaryId(), savedDiary.getContent());
+        eventPublisher.publishEvent(new DiarySearchIndexEvent(this, babyId, savedDiary.getDiaryId()));
 
         return diaryMapper.mapToDiaryResponse(savedDiary);
     }
@@ -345,24 +339,40 @@ public class DiaryService {
      */
     @Transactional
     public void deleteDiary(Integer userId, Integer babyId, Integer diaryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Baby baby = babyRepository.findByBabyIdAndFlagDeletedIsFalse(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_NOT_FOUND));
-
-        if (!CustodyType.MAIN.equals(custody.getCustodyType())) {
-            throw new BusinessException(ErrorCode.CUSTODY_NOT_AUTHORIZED);
-        }
+        caregiverContextResolver.resolveMain(userId, babyId);
 
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DIARY_NOT_FOUND));
 
         diaryKeywordRepository.deleteByDiary(diary);
+        diaryKeywordJobService.deleteByDiaryId(diary.getDiaryId());
         diaryRepository.delete(diary);
+        eventPublisher.publishEvent(new DiarySearchIndexEvent(this, diary.getBaby().getBabyId(), diaryId));
+    }
+
+    /**
+     * 다이어리 목록에 키워드를 붙여 응답 목록으로 변환합니다.
+     *
+     * <p>다이어리마다 키워드를 조회하지 않고, 최대 {@value #KEYWORD_BATCH_SIZE} 개의 다이어리 ID 씩 IN 조건으로 한 번에 조회하여 메모리에서 묶습니다.</p>
+     *
+     * @param diaryList 다이어리 목록
+     * @return 다이어리 목록과 같은 순서의 {@link List} of {@link DiaryListResponse}
+     */
+    private List<DiaryListResponse> mapToDiaryListResponses(List<DiaryListRow> diaryList) {
+        List<Integer> diaryIds = diaryList.stream().map(DiaryListRow::diaryId).toList();
+
+        Map<Integer, List<DiaryKeyWordResponse>> keywordsByDiary = new HashMap<>();
+        for (int from = 0; from < diaryIds.size(); from += KEYWORD_BATCH_SIZE) {
+            List<Integer> batch = diaryIds.subList(from, Math.min(from + KEYWORD_BATCH_SIZE, diaryIds.size()));
+            diaryKeywordRepository.findRowsByDiaryIdIn(batch).forEach(row ->
+                    keywordsByDiary.computeIfAbsent(row.diaryId(), key -> new ArrayList<>())
+                            .add(new DiaryKeyWordResponse(row.keywordId(), row.name())));
+        }
+
+        return diaryList.stream()
+                .map(row -> new DiaryListResponse(row.diaryId(), row.emoji(), row.writtenDate(),
+                        keywordsByDiary.getOrDefault(row.diaryId(), List.of())))
+                .toList();
     }
 
 
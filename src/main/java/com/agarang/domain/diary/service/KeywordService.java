@@ -5,6 +5,7 @@ import com.agarang.global.util.HtmlProcessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Objects;
@@ -19,6 +20,7 @@ import java.util.Objects;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.02.13          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           키워드 추출 결과를 Mono 로 반환하도록 변경<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -31,7 +33,8 @@ public class KeywordService {
      * 주어진 일기 텍스트에서 핵심 키워드를 추출합니다.
      *
      * <p>이 메서드는 HTML 형식의 일기 내용을 일반 텍스트로 변환한 후, OpenAI API를 사용하여
-     * 1개에서 최대 6개의 핵심 키워드를 추출합니다. 추출된 키워드는 JSON 배열로 반환됩니다.</p>
+     * 1개에서 최대 6개의 핵심 키워드를 추출합니다. 추출된 키워드는 JSON 배열로 반환됩니다.
+     * OpenAI 응답을 기다리는 동안 스레드를 점유하지 않도록 {@link Mono} 로 반환합니다.</p>
      *
      * <h3>키워드 추출 방식:</h3>
      * <ul>
@@ -52,9 +55,9 @@ public class KeywordService {
      * </pre>
      *
      * @param diaryText 키워드를 추출할 일기 텍스트 (HTML 형식 포함 가능)
-     * @return 추출된 키워드 목록 (최대 6개)
+     * @return 추출된 키워드 목록 (최대 6개)의 {@link Mono}
      */
-    public List<String> extractKeywords(String diaryText) {
+    public Mono<List<String>> extractKeywords(String diaryText) {
 
         String plainText = HtmlProcessor.convertHtmlToPlainText(diaryText);
         String promptText = """
@@ -79,8 +82,11 @@ public class KeywordService {
                 ["기분", "사랑", "산책"]
                 """.formatted(plainText);
 
-        String responseJson = openAiService.sendPrompt(promptText).block();
+        return openAiService.sendPrompt(promptText)
+                .map(this::parseKeywords);
+    }
 
+    private List<String> parseKeywords(String responseJson) {
         if (Objects.nonNull(responseJson)) {
             responseJson = responseJson.trim();
 
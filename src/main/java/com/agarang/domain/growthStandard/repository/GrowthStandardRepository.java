@@ -1,14 +1,9 @@
 package com.agarang.domain.growthStandard.repository;
 
 import com.agarang.domain.growthStandard.entity.GrowthStandard;
-import com.agarang.domain.growthStandard.entity.GrowthStandardType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 /**
  * packageName    : com.agarang.domain.growthStandard.repository<br>
  * fileName       : GrowthStandardRepository.java<br>
@@ -23,8 +18,4 @@ import java.util.List;
  */
 @Repository
 public interface GrowthStandardRepository extends JpaRepository<GrowthStandard, Integer> {
-    List<GrowthStandard> findByStartDayLessThanEqualAndEndDayGreaterThanEqualAndGrowthStandardType(int startDay, int endDay, GrowthStandardType growthStandardType);
-
-    @Query("SELECT g FROM GrowthStandard g WHERE g.startDay <= :day AND g.endDay >= :day AND g.growthStandardType IN :growthStandardTypes")
-    List<GrowthStandard> findByDayAndGrowthStandardTypes(@Param("day") int day, @Param("growthStandardTypes") List<String> growthStandardTypes);
 }
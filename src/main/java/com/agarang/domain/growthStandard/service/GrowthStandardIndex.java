@@ -0,0 +1,156 @@
+package com.agarang.domain.growthStandard.service;
+
+import com.agarang.domain.growthStandard.entity.GrowthStandard;
+import com.agarang.domain.growthStandard.entity.GrowthStandardType;
+import com.agarang.domain.growthStandard.repository.GrowthStandardRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * packageName    : com.agarang.domain.growthStandard.service<br>
+ * fileName       : GrowthStandardIndex.java<br>
+ * author         : okeio<br>
+ * date           : 26. 10. 18.<br>
+ * description    : 성장 발달 정보를 일령 구간별로 메모리에 올려 조회하는 index 입니다.<br>
+ * <p>
+ * 타입별로 모든 구간의 시작일과 (종료일 + 1)을 정렬한 경계 배열을 만들고,
+ * 인접한 두 경계 사이 구간마다 해당 구간을 포함하는 성장 발달 정보를 미리 저장합니다.
+ * 일령 조회는 경계 배열에 대한 이진 탐색 한 번으로 끝납니다.
+ * </p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          okeio           최초생성<br>
+ * <br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrowthStandardIndex {
+    private static final GrowthStandard[] EMPTY = new GrowthStandard[0];
+
+    private final GrowthStandardRepository growthStandardRepository;
+
+    private volatile Map<GrowthStandardType, IntervalTable> tables = new EnumMap<>(GrowthStandardType.class);
+
+    /**
+     * 애플리케이션 시작 시 성장 발달 정보를 적재합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        refresh();
+    }
+
+    /**
+     * baby_growth_standard 테이블을 다시 읽어 index를 교체합니다.
+     *
+     * <p>
+     * 성장 발달 내용이 수정된 경우 호출합니다. 새 index를 모두 만든 뒤 한 번에 교체하므로,
+     * 갱신 중에도 조회는 이전 index를 사용합니다.
+     * </p>
+     */
+    public void refresh() {
+        List<GrowthStandard> growthStandards = growthStandardRepository.findAll();
+        Map<GrowthStandardType, List<GrowthStandard>> byType = new EnumMap<>(GrowthStandardType.class);
+
+        for (GrowthStandard growthStandard : growthStandards) {
+            byType.computeIfAbsent(growthStandard.getGrowthStandardType(), type -> new ArrayList<>())
+                    .add(growthStandard);
+        }
+
+        Map<GrowthStandardType, IntervalTable> loaded = new EnumMap<>(GrowthStandardType.class);
+        byType.forEach((type, list) -> loaded.put(type, IntervalTable.of(list)));
+
+        this.tables = loaded;
+        log.info("성장 발달 정보 index 적재 완료: {}건", growthStandards.size());
+    }
+
+    /**
+     * 특정 일령을 포함하는 성장 발달 정보를 조회합니다.
+     *
+     * @param day                일령
+     * @param growthStandardType 성장 발달 타입
+     * @return id 순으로 정렬된 성장 발달 정보 리스트 (없으면 빈 리스트)
+     */
+    public List<GrowthStandard> find(int day, GrowthStandardType growthStandardType) {
+        IntervalTable table = tables.get(growthStandardType);
+
+        return table == null ? Collections.emptyList() : Arrays.asList(table.find(day));
+    }
+
+    /**
+     * 특정 일령을 포함하는 성장 발달 정보 중 첫 번째 항목을 조회합니다.
+     *
+     * @param day                일령
+     * @param growthStandardType 성장 발달 타입
+     * @return 성장 발달 정보 (없으면 {@code null})
+     */
+    public GrowthStandard findFirst(int day, GrowthStandardType growthStandardType) {
+        IntervalTable table = tables.get(growthStandardType);
+        if (table == null) return null;
+
+        GrowthStandard[] found = table.find(day);
+        return found.length == 0 ? null : found[0];
+    }
+
+    /**
+     * 한 타입의 성장 발달 구간을 정렬된 경계 배열로 저장하는 클래스입니다.
+     */
+    private static final class IntervalTable {
+        /**
+         * 오름차순으로 정렬된 구간 경계입니다. i번째 구간은 [boundaries[i], boundaries[i + 1]) 입니다.
+         */
+        private final int[] boundaries;
+        private final GrowthStandard[][] segments;
+
+        private IntervalTable(int[] boundaries, GrowthStandard[][] segments) {
+            this.boundaries = boundaries;
+            this.segments = segments;
+        }
+
+        /**
+         * 성장 발달 정보 리스트로 구간 테이블을 생성합니다.
+         *
+         * @param growthStandards 같은 타입의 성장 발달 정보 리스트
+         * @return 생성된 {@link IntervalTable}
+         */
+        private static IntervalTable of(List<GrowthStandard> growthStandards) {
+            int[] boundaries = growthStandards.stream()
+                    .flatMapToInt(gs -> Arrays.stream(new int[]{gs.getStartDay(), gs.getEndDay() + 1}))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+
+            List<GrowthStandard> sorted = new ArrayList<>(growthStandards);
+            sorted.sort(Comparator.comparing(GrowthStandard::getId));
+
+            GrowthStandard[][] segments = new GrowthStandard[Math.max(boundaries.length - 1, 0)][];
+            for (int i = 0; i < segments.length; i++) {
+                int day = boundaries[i];
+                segments[i] = sorted.stream()
+                        .filter(gs -> gs.getStartDay() <= day && gs.getEndDay() >= day)
+                        .toArray(GrowthStandard[]::new);
+            }
+
+            return new IntervalTable(boundaries, segments);
+        }
+
+        /**
+         * 일령을 포함하는 구간의 성장 발달 정보를 반환합니다.
+         *
+         * @param day 일령
+         * @return 해당 구간의 성장 발달 정보 배열
+         */
+        private GrowthStandard[] find(int day) {
+            int index = Arrays.binarySearch(boundaries, day);
+            int segment = index >= 0 ? index : -index - 2;
+
+            if (segment < 0 || segment >= segments.length) return EMPTY;
+            return segments[segment];
+        }
+    }
+}
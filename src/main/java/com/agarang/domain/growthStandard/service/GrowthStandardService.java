@@ -1,6 +1,5 @@
 package com.agarang.domain.growthStandard.service;
 
-import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.repository.BabyRepository;
 import com.agarang.domain.growthStandard.dto.mapper.GrowthStandardMapper;
 import com.agarang.domain.growthStandard.dto.response.DetailGrowthStandardResponse;
@@ -8,7 +7,6 @@ import com.agarang.domain.growthStandard.dto.response.GrowthStandardItemResponse
 import com.agarang.domain.growthStandard.dto.response.GrowthStandardResponse;
 import com.agarang.domain.growthStandard.entity.GrowthStandard;
 import com.agarang.domain.growthStandard.entity.GrowthStandardType;
-import com.agarang.domain.growthStandard.repository.GrowthStandardRepository;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import jakarta.transaction.Transactional;
@@ -16,10 +14,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * packageName    : com.agarang.domain.growthStandard.service<br>
@@ -33,6 +31,7 @@ import java.util.Optional;
  * 25.01.24          okeio           최초생성<br>
  * 25.02.05          okeio           calculateDayFromBirthOfBaby 메서드 수정<br>
  * 25.02.06          okeio           DB에서 가져온 데이터 null 체크<br>
+ * 26.10.18          okeio           성장 발달 정보를 GrowthStandardIndex에서 조회<br>
  * <br>
  */
 @Service
@@ -40,9 +39,12 @@ import java.util.Optional;
 @Transactional
 public class GrowthStandardService {
     private final BabyRepository babyRepository;
-    private final GrowthStandardRepository growthStandardRepository;
+    private final GrowthStandardIndex growthStandardIndex;
     private final GrowthStandardMapper growthStandardMapper;
 
+    private static final List<GrowthStandardType> BABY_GROWTH_STANDARD_TYPES =
+            List.of(GrowthStandardType.GROWTH, GrowthStandardType.SLEEP, GrowthStandardType.LACTATION);
+
 
     /**
      * 아기 개월 수에 따른 SUMMARY 타입의 성장 발달 정보를 조회합니다.
@@ -53,14 +55,13 @@ public class GrowthStandardService {
     public GrowthStandardResponse getSummaryGrowthData(Integer babyId) {
         int dayFromBirth = calculateDayFromBirthOfBaby(babyId);
 
-        List<GrowthStandard> list = growthStandardRepository.findByStartDayLessThanEqualAndEndDayGreaterThanEqualAndGrowthStandardType
-                (dayFromBirth, dayFromBirth, GrowthStandardType.SUMMARY);
+        GrowthStandard summary = growthStandardIndex.findFirst(dayFromBirth, GrowthStandardType.SUMMARY);
 
-        if (list.isEmpty()) {
+        if (summary == null) {
             return new GrowthStandardResponse(null);
         }
 
-        return growthStandardMapper.mapToGrowthStandardResponse(list.get(0));
+        return growthStandardMapper.mapToGrowthStandardResponse(summary);
     }
 
 
@@ -73,27 +74,17 @@ public class GrowthStandardService {
     public DetailGrowthStandardResponse getDetailGrowthData(Integer babyId) {
         int dayFromBirth = calculateDayFromBirthOfBaby(babyId);
 
-        List<GrowthStandard> babyDatalist = growthStandardRepository.findByDayAndGrowthStandardTypes(
-                dayFromBirth,
-                List.of(GrowthStandardType.GROWTH.toString(),
-                        GrowthStandardType.SLEEP.toString(),
-                        GrowthStandardType.LACTATION.toString()));
-
-        List<GrowthStandardItemResponse> babyData = Optional.ofNullable(babyDatalist)
-                .filter(list -> !list.isEmpty())
-                .map(list -> list.stream()
-                        .map(gs -> new GrowthStandardItemResponse(gs.getDescription(), gs.getGrowthStandardType().name()))
-                        .toList())
-                .orElse(Collections.emptyList());
-
-        List<GrowthStandard> motherDataList = growthStandardRepository.findByStartDayLessThanEqualAndEndDayGreaterThanEqualAndGrowthStandardType
-                (dayFromBirth, dayFromBirth, GrowthStandardType.MOTHER);
+        List<GrowthStandardItemResponse> babyData = BABY_GROWTH_STANDARD_TYPES.stream()
+                .flatMap(type -> growthStandardIndex.find(dayFromBirth, type).stream())
+                .sorted(Comparator.comparing(GrowthStandard::getId))
+                .map(gs -> new GrowthStandardItemResponse(gs.getDescription(), gs.getGrowthStandardType().name()))
+                .toList();
 
-        List<GrowthStandard> fatherDataList = growthStandardRepository.findByStartDayLessThanEqualAndEndDayGreaterThanEqualAndGrowthStandardType
-                (dayFromBirth, dayFromBirth, GrowthStandardType.FATHER);
+        GrowthStandard motherData = growthStandardIndex.findFirst(dayFromBirth, GrowthStandardType.MOTHER);
+        GrowthStandard fatherData = growthStandardIndex.findFirst(dayFromBirth, GrowthStandardType.FATHER);
 
-        String motherDescription = motherDataList.isEmpty() ? null : motherDataList.get(0).getDescription();
-        String fatherDescription = fatherDataList.isEmpty() ? null : fatherDataList.get(0).getDescription();
+        String motherDescription = motherData == null ? null : motherData.getDescription();
+        String fatherDescription = fatherData == null ? null : fatherData.getDescription();
 
         return new DetailGrowthStandardResponse(babyData, motherDescription, fatherDescription);
     }
@@ -105,12 +96,12 @@ public class GrowthStandardService {
      * @return 생후 몇 일, 일령
      */
     public int calculateDayFromBirthOfBaby(int babyId) {
-        Baby baby = babyRepository.findById(babyId)
+        LocalDateTime birth = babyRepository.findBirthByBabyId(babyId)
                 .orElseThrow(
                         () ->
                                 new BusinessException(ErrorCode.BABY_NOT_FOUND)
                 );
 
-        return (int) ChronoUnit.DAYS.between(baby.getBirth().toLocalDate(), LocalDate.now());
+        return (int) ChronoUnit.DAYS.between(birth.toLocalDate(), LocalDate.now());
     }
 }
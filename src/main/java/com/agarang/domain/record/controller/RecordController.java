@@ -4,8 +4,10 @@ import com.agarang.domain.record.dto.request.AntipyreticCheckRequest;
 import com.agarang.domain.record.dto.request.BaseRecordCreateRequest;
 import com.agarang.domain.record.dto.request.BaseRecordUpdateRequest;
 import com.agarang.domain.record.dto.request.ClipCreateRequest;
+import com.agarang.domain.record.dto.request.RecordBatchCreateRequest;
 import com.agarang.domain.record.dto.response.*;
 import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.service.RecordBatchService;
 import com.agarang.domain.record.service.RecordLookupService;
 import com.agarang.domain.record.service.RecordQueryService;
 import com.agarang.domain.record.service.RecordService;
@@ -42,6 +44,8 @@ import java.time.LocalDate;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-22          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          기록 일괄 추가 API 추가<br>
+ * 2026-10-18          nature1216          기록 변경분 조회 API 추가<br>
  * <br>
  */
 @Tag(name = "기록", description = "기록 관리 API")
@@ -57,6 +61,7 @@ import java.time.LocalDate;
 public class RecordController {
     private final RecordLookupService recordLookupService;
     private final RecordQueryService recordQueryService;
+    private final RecordBatchService recordBatchService;
     private final ClipService clipService;
     private final MedicationService medicationService;
 
@@ -94,6 +99,32 @@ public class RecordController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 여러 기록을 한 번에 추가합니다.
+     *
+     * <p>
+     * 오프라인에서 작성한 기록을 동기화할 때 사용합니다. 항목마다 멱등성 키를 포함하며,
+     * 같은 키로 다시 요청하면 기록을 추가하지 않고 기존 기록 id를 반환합니다.
+     * 올바르지 않은 항목은 추가하지 않고, 나머지 항목만 추가합니다.
+     * </p>
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @param babyId      기록을 추가할 아기의 ID (URL 경로 변수)
+     * @param request     기록 일괄 추가 요청 객체
+     * @return 요청 순서대로의 항목별 결과를 포함한 {@link RecordBatchCreateResponse} 객체 (200 OK 상태 코드)
+     */
+    @Operation(summary = "기록 일괄 추가", responses = {@ApiResponse(responseCode = "200")}, description = "항목별 결과 반환")
+    @PostMapping("/{babyId}/batch")
+    public ResponseEntity<RecordBatchCreateResponse> createRecords(@Parameter(description = "회원 인증 정보", required = true)
+                                                                   @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                   @Parameter(description = "아기 id", required = true)
+                                                                   @PathVariable(name = "babyId") Integer babyId,
+                                                                   @RequestBody @Valid RecordBatchCreateRequest request) {
+        RecordBatchCreateResponse response = recordBatchService.createRecords(userDetails.getUserId(), babyId, request);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 이미지와 함께 클립을 추가합니다.
      *
@@ -261,6 +292,32 @@ public class RecordController {
         return ResponseEntity.ok().body(response);
     }
 
+    /**
+     * 커서 이후에 변경된 기록을 조회합니다.
+     *
+     * <p>
+     * 일자별 기록 목록을 다시 조회하지 않고, 마지막으로 받은 커서 이후에 추가, 수정, 삭제된 기록만 반환합니다.
+     * 응답의 `has_more` 가 true 이면 `next_cursor` 로 다시 조회합니다.
+     * </p>
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @param babyId      기록을 조회할 아기의 ID (URL 경로 변수)
+     * @param since       마지막으로 받은 커서 (처음 조회하면 0)
+     * @return 변경된 기록과 다음 커서를 포함한 {@link RecordChangesResponse} 객체 (200 OK 상태 코드)
+     */
+    @Operation(summary = "기록 변경분 조회", responses = {@ApiResponse(responseCode = "200")}, description = "변경분 조회 성공")
+    @GetMapping("/{babyId}/changes")
+    public ResponseEntity<RecordChangesResponse> getRecordChanges(@Parameter(description = "회원 인증 정보", required = true)
+                                                                  @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                  @Parameter(description = "아기 id", required = true)
+                                                                  @PathVariable(name = "babyId") Integer babyId,
+                                                                  @Parameter(description = "마지막으로 받은 커서")
+                                                                  @RequestParam(name = "since", defaultValue = "0") Long since) {
+        RecordChangesResponse response = recordQueryService.getRecordChanges(userDetails.getUserId(), babyId, since);
+
+        return ResponseEntity.ok().body(response);
+    }
+
     /**
      * 카테고리별 최근 기록의 경과 시간을 조회합니다.
      *
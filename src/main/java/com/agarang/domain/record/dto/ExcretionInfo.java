@@ -0,0 +1,25 @@
+package com.agarang.domain.record.dto;
+
+import com.agarang.domain.record.entity.enumeration.ExcretionColor;
+import com.agarang.domain.record.entity.enumeration.ExcretionStatus;
+import com.agarang.domain.record.entity.enumeration.ExcretionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.record.dto<br>
+ * fileName       : ExcretionInfo.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 배변 기록 정보 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+public record ExcretionInfo (
+        LocalDateTime startedAt,
+        ExcretionType excretionType,
+        ExcretionColor color,
+        ExcretionStatus excretionStatus
+) {}
@@ -0,0 +1,22 @@
+package com.agarang.domain.record.dto;
+
+import com.agarang.domain.record.entity.enumeration.FeedingType;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.record.dto<br>
+ * fileName       : FeedingAmount.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 수유 기록의 시작 시각, 수유 타입, 수유량 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+public record FeedingAmount (
+        LocalDateTime startedAt,
+        FeedingType feedingType,
+        Integer amount
+) {}
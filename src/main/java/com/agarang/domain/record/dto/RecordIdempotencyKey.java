@@ -0,0 +1,18 @@
+package com.agarang.domain.record.dto;
+
+/**
+ * packageName    : com.agarang.domain.record.dto<br>
+ * fileName       : RecordIdempotencyKey.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 일괄 추가한 기록의 멱등성 키와 기록 ID DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * <br>
+ */
+public record RecordIdempotencyKey(
+    String idempotencyKey,
+    Integer recordId
+) {}
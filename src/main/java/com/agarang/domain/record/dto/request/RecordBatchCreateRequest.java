@@ -0,0 +1,38 @@
+package com.agarang.domain.record.dto.request;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.record.dto.request<br>
+ * fileName       : RecordBatchCreateRequest.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가 요청 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Schema(description = "기록 일괄 추가 요청 DTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class RecordBatchCreateRequest {
+    public static final int MAX_RECORDS = 200;
+
+    @Schema(description = "추가할 기록 목록 (요청 순서대로 처리)")
+    @NotEmpty
+    @Size(max = MAX_RECORDS)
+    private List<@Valid RecordBatchItemRequest> records;
+}
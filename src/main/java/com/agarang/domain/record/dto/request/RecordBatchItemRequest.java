@@ -0,0 +1,40 @@
+package com.agarang.domain.record.dto.request;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * packageName    : com.agarang.domain.record.dto.request<br>
+ * fileName       : RecordBatchItemRequest.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가 요청의 기록 하나에 대한 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Schema(description = "기록 일괄 추가 항목 DTO")
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class RecordBatchItemRequest {
+    @Schema(description = "멱등성 키 (같은 키로 다시 요청하면 기록을 추가하지 않고 기존 기록 id를 반환)")
+    @NotBlank
+    @Size(max = 64)
+    private String idempotencyKey;
+
+    @Schema(description = "기록 추가 정보", implementation = BaseRecordCreateRequest.class)
+    @NotNull
+    @Valid
+    private BaseRecordCreateRequest record;
+}
@@ -0,0 +1,33 @@
+package com.agarang.domain.record.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.record.dto.response<br>
+ * fileName       : RecordBatchCreateResponse.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가 응답 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Schema(description = "기록 일괄 추가 응답 DTO")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public class RecordBatchCreateResponse {
+    @Schema(description = "요청 순서대로의 항목별 결과")
+    private List<RecordBatchItemResponse> results;
+}
@@ -0,0 +1,54 @@
+package com.agarang.domain.record.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * packageName    : com.agarang.domain.record.dto.response<br>
+ * fileName       : RecordBatchItemResponse.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가 응답의 항목별 결과 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Schema(description = "기록 일괄 추가 항목 결과 DTO")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public class RecordBatchItemResponse {
+    @Schema(description = "멱등성 키")
+    private String idempotencyKey;
+
+    @Schema(description = "처리 결과")
+    private Status status;
+
+    @Schema(description = "기록 id (CREATED, DUPLICATE 인 경우)")
+    private Integer recordId;
+
+    @Schema(description = "오류 코드 (REJECTED 인 경우)")
+    private String errorCode;
+
+    /**
+     * 항목별 처리 결과입니다.
+     */
+    public enum Status {
+        /** 기록을 추가했습니다. */
+        CREATED,
+        /** 같은 멱등성 키로 이미 추가된 기록이 있어 추가하지 않았습니다. */
+        DUPLICATE,
+        /** 요청이 올바르지 않아 추가하지 않았습니다. */
+        REJECTED,
+        /** 같은 멱등성 키의 이전 요청을 처리 중이어서 추가하지 않았습니다. 잠시 후 같은 키로 다시 요청할 수 있습니다. */
+        IN_PROGRESS
+    }
+}
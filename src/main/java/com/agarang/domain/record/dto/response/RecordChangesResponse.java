@@ -0,0 +1,48 @@
+package com.agarang.domain.record.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.record.dto.response<br>
+ * fileName       : RecordChangesResponse.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 변경분 조회 응답 DTO입니다. <br>
+ * <p>{@code fullSyncRequired} 가 true 이면 커서 이후의 변경 이력 일부가 정리되었으므로,
+ * 클라이언트는 저장한 기록을 모두 지우고 커서 0 부터 다시 받아야 합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          전체 동기화 필요 여부 추가<br>
+ */
+@Schema(description = "기록 변경분 조회 응답 DTO")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Builder
+public class RecordChangesResponse {
+    @Schema(description = "추가되거나 수정된 기록 목록 (변경 순)")
+    private List<BaseRecordGetResponse> records;
+
+    @Schema(description = "삭제된 기록 id 목록")
+    private List<Integer> deletedRecordIds;
+
+    @Schema(description = "다음 조회에 사용할 커서")
+    private Long nextCursor;
+
+    @Schema(description = "조회하지 않은 변경분이 남아 있는지 여부")
+    private Boolean hasMore;
+
+    @Schema(description = "커서가 보관 기간을 지나 저장한 기록을 모두 지우고 커서 0 부터 다시 받아야 하는지 여부")
+    private Boolean fullSyncRequired;
+}
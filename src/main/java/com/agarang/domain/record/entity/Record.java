@@ -19,10 +19,12 @@ import java.time.LocalDateTime;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/24/25          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          일괄 추가 멱등성 키 추가<br>
  */
 @Entity
 @Data
-@Table(name = "record")
+@Table(name = "record",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"baby_id", "idempotency_key"}))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -56,4 +58,10 @@ public class Record {
     @Column(name = "record_type", nullable = false, updatable = false, length = 15)
     @Enumerated(EnumType.STRING)
     private RecordType recordType;
+
+    /**
+     * 일괄 추가로 생성한 기록의 멱등성 키입니다. 아기별로 유일하며, 일괄 추가가 아닌 기록은 {@code null} 입니다.
+     */
+    @Column(name = "idempotency_key", updatable = false, length = 64)
+    private String idempotencyKey;
 }
@@ -0,0 +1,58 @@
+package com.agarang.domain.record.entity;
+
+import com.agarang.domain.record.entity.enumeration.RecordChangeType;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.record.entity<br>
+ * fileName       : RecordChange.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 아기별 기록 변경 이력 entity입니다.
+ * <p>{@code changeSeq} 는 아기별로 1씩 증가하는 번호로, 변경분 조회의 커서로 사용합니다.
+ * 삭제된 기록도 조회할 수 있도록 기록과 아기는 연관관계 없이 ID 만 저장합니다.
+ * 보관 기간이 지난 이력은 {@link com.agarang.global.purge.PurgeTarget#OLD_RECORD_CHANGE} 로 정리됩니다.</p> <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          기록별 조회 인덱스 추가<br>
+ */
+@Entity
+@Table(name = "record_change",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"baby_id", "change_seq"}),
+        indexes = @Index(name = "idx_record_change_baby_id_record_id", columnList = "baby_id, record_id"))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecordChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "record_change_id")
+    private Long recordChangeId;
+
+    @Column(name = "baby_id", nullable = false)
+    private Integer babyId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "record_id", nullable = false)
+    private Integer recordId;
+
+    @Column(name = "record_type", nullable = false, length = 15)
+    @Enumerated(EnumType.STRING)
+    private RecordType recordType;
+
+    @Column(name = "change_type", nullable = false, length = 6)
+    @Enumerated(EnumType.STRING)
+    private RecordChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
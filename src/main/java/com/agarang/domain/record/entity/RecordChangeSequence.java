@@ -0,0 +1,31 @@
+package com.agarang.domain.record.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * packageName    : com.agarang.domain.record.entity<br>
+ * fileName       : RecordChangeSequence.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 아기별 기록 변경 이력 번호의 마지막 값을 저장하는 entity입니다.
+ * <p>번호를 발급하는 트랜잭션이 커밋될 때까지 행 잠금을 유지하므로,
+ * 같은 아기의 변경 이력은 번호 순서대로 커밋됩니다.</p> <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+@Entity
+@Table(name = "record_change_sequence")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecordChangeSequence {
+    @Id
+    @Column(name = "baby_id")
+    private Integer babyId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+}
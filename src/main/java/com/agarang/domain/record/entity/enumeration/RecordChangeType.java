@@ -0,0 +1,17 @@
+package com.agarang.domain.record.entity.enumeration;
+
+/**
+ * packageName    : com.agarang.domain.record.entity.enumeration<br>
+ * fileName       : RecordChangeType.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 기록 변경 이력의 변경 유형 enum입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+public enum RecordChangeType {
+    UPSERT,
+    DELETE;
+}
@@ -0,0 +1,38 @@
+package com.agarang.domain.record.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Map;
+
+/**
+ * packageName    : com.agarang.domain.record.event<br>
+ * fileName       : RecordBatchCreatedEvent.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가로 예약한 멱등성 키를 처리하는 이벤트 클래스입니다.
+ * <p>멱등성 키를 예약한 직후 발행하며, {@code recordIds} 에는 예약한 키가 모두 들어 있습니다.
+ * 기록 ID 는 기록을 저장한 후 같은 트랜잭션 안에서 채워집니다.</p> <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Getter
+public class RecordBatchCreatedEvent extends ApplicationEvent {
+    private final Integer babyId;
+    private final Map<String, Integer> recordIds;
+
+    /**
+     * {@code RecordBatchCreatedEvent} 생성자입니다.
+     *
+     * @param source    이벤트 발생 객체
+     * @param babyId    기록을 추가한 아기의 ID
+     * @param recordIds 예약한 멱등성 키별 생성된 기록 ID
+     */
+    public RecordBatchCreatedEvent(Object source, Integer babyId, Map<String, Integer> recordIds) {
+        super(source);
+        this.babyId = babyId;
+        this.recordIds = recordIds;
+    }
+}
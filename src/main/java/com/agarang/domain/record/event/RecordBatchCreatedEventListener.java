@@ -0,0 +1,47 @@
+package com.agarang.domain.record.event;
+
+import com.agarang.domain.record.service.RecordIdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.record.event<br>
+ * fileName       : RecordBatchCreatedEventListener.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가 이벤트를 처리하는 리스너 클래스입니다.
+ * <p>이 클래스는 {@link RecordBatchCreatedEvent} 이벤트를 구독하며,
+ * 트랜잭션 결과에 따라 예약한 멱등성 키를 완료하거나 해제합니다.
+ * 기록 ID 는 트랜잭션 안에서 채워지므로, 트랜잭션 밖에서는 처리하지 않습니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordBatchCreatedEventListener {
+    private final RecordIdempotencyStore recordIdempotencyStore;
+
+    /**
+     * 트랜잭션이 커밋된 후, 멱등성 키에 생성된 기록 ID 를 기록합니다.
+     *
+     * @param event 기록 일괄 추가 이벤트 {@link RecordBatchCreatedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCommit(RecordBatchCreatedEvent event) {
+        recordIdempotencyStore.complete(event.getBabyId(), event.getRecordIds());
+    }
+
+    /**
+     * 트랜잭션이 롤백된 후, 예약한 멱등성 키를 해제하여 같은 키로 다시 요청할 수 있도록 합니다.
+     *
+     * @param event 기록 일괄 추가 이벤트 {@link RecordBatchCreatedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleRollback(RecordBatchCreatedEvent event) {
+        recordIdempotencyStore.release(event.getBabyId(), event.getRecordIds().keySet());
+    }
+}
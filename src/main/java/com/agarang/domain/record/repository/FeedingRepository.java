@@ -1,7 +1,14 @@
 package com.agarang.domain.record.repository;
 
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.record.dto.FeedingAmount;
 import com.agarang.domain.record.entity.type.Feeding;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * packageName    : com.agarang.domain.record.repository<br>
@@ -16,4 +23,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 
 public interface FeedingRepository extends JpaRepository<Feeding, Integer> {
+
+    @Query("SELECT new com.agarang.domain.record.dto.FeedingAmount" +
+            "(r.startedAt, f.feedingType, COALESCE(nf.amount, ff.amount, pf.amount)) " +
+            "FROM Feeding f " +
+            "JOIN Record r ON r.recordId = f.recordId " +
+            "LEFT JOIN NormalFeeding nf ON nf.recordId = f.recordId " +
+            "LEFT JOIN FormulaFeeding ff ON ff.recordId = f.recordId " +
+            "LEFT JOIN PumpingFeeding pf ON pf.recordId = f.recordId " +
+            "WHERE r.baby = :baby " +
+            "AND r.recordType = 'FEEDING' " +
+            "AND r.startedAt BETWEEN :start AND :end")
+    List<FeedingAmount> findFeedingAmountByBabyAndDateBetween(@Param("baby") Baby baby,
+                                                             @Param("start") LocalDateTime start,
+                                                             @Param("end") LocalDateTime end);
 }
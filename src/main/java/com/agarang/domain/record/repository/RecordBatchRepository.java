@@ -0,0 +1,136 @@
+package com.agarang.domain.record.repository;
+
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.RecordChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName    : com.agarang.domain.record.repository<br>
+ * fileName       : RecordBatchRepository.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 여러 기록을 여러 행 INSERT 문으로 한 번에 저장하는 repository 클래스입니다. <br>
+ * <p>{@link Record} 는 IDENTITY 전략을 사용하므로 JPA 로 저장하면 기록마다 INSERT 를 실행해야 합니다.
+ * 여기서는 최대 {@value #MAX_ROWS_PER_STATEMENT} 행을 INSERT 문 하나로 저장하고, 생성된 키를 행 순서대로 받아옵니다.
+ * 호출하는 쪽의 트랜잭션에 참여하며, 영속성 컨텍스트를 거치지 않습니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          기록 변경 이력 저장 추가<br>
+ * <br>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordBatchRepository {
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final String RECORD_INSERT_SQL =
+            "INSERT INTO record (user_id, baby_id, record_image, content, started_at, created_at, record_type, idempotency_key) VALUES ";
+    private static final int RECORD_COLUMN_COUNT = 8;
+    private static final String RECORD_CHANGE_INSERT_SQL =
+            "INSERT INTO record_change (baby_id, change_seq, record_id, record_type, change_type, changed_at) VALUES ";
+    private static final int RECORD_CHANGE_COLUMN_COUNT = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기록을 저장하고, 생성된 기록 ID 를 각 기록에 설정합니다.
+     *
+     * @param records 저장할 기록 목록 (사용자와 아기는 ID 만 사용합니다)
+     * @param now     생성 시각
+     */
+    public void insertRecords(List<Record> records, LocalDateTime now) {
+        for (int from = 0; from < records.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Record> chunk = records.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, records.size()));
+            String sql = RECORD_INSERT_SQL + placeholders(RECORD_COLUMN_COUNT, chunk.size());
+
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int index = 1;
+                for (Record record : chunk) {
+                    statement.setObject(index++, record.getUser().getUserId());
+                    statement.setObject(index++, record.getBaby().getBabyId());
+                    statement.setObject(index++, record.getRecordImage());
+                    statement.setObject(index++, record.getContent());
+                    statement.setObject(index++, record.getStartedAt());
+                    statement.setObject(index++, now);
+                    statement.setObject(index++, record.getRecordType().name());
+                    statement.setObject(index++, record.getIdempotencyKey());
+                }
+                return statement;
+            }, keyHolder);
+
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != chunk.size()) {
+                throw new IllegalStateException("생성된 기록 ID 개수가 다릅니다. expected: " + chunk.size() + ", actual: " + keys.size());
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                Number recordId = (Number) keys.get(i).values().iterator().next();
+                chunk.get(i).setRecordId(recordId.intValue());
+                chunk.get(i).setCreatedAt(now);
+            }
+        }
+    }
+
+    /**
+     * 카테고리별 상세 테이블에 행을 저장합니다. 테이블은 등록된 순서대로 저장됩니다.
+     *
+     * @param detailRows 저장할 상세 행 {@link RecordDetailRows}
+     */
+    public void insertDetails(RecordDetailRows detailRows) {
+        for (RecordDetailRows.Table table : detailRows.tables()) {
+            String insertSql = "INSERT INTO " + table.name() + " (" + String.join(", ", table.columns()) + ") VALUES ";
+            int columnCount = table.columns().size();
+
+            for (int from = 0; from < table.rows().size(); from += MAX_ROWS_PER_STATEMENT) {
+                List<Object[]> chunk = table.rows().subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, table.rows().size()));
+
+                Object[] args = new Object[chunk.size() * columnCount];
+                for (int i = 0; i < chunk.size(); i++) {
+                    System.arraycopy(chunk.get(i), 0, args, i * columnCount, columnCount);
+                }
+                jdbcTemplate.update(insertSql + placeholders(columnCount, chunk.size()), args);
+            }
+        }
+    }
+
+    /**
+     * 기록 변경 이력을 저장합니다.
+     *
+     * @param changes 저장할 변경 이력 목록
+     */
+    public void insertChanges(List<RecordChange> changes) {
+        for (int from = 0; from < changes.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<RecordChange> chunk = changes.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, changes.size()));
+
+            Object[] args = new Object[chunk.size() * RECORD_CHANGE_COLUMN_COUNT];
+            int index = 0;
+            for (RecordChange change : chunk) {
+                args[index++] = change.getBabyId();
+                args[index++] = change.getChangeSeq();
+                args[index++] = change.getRecordId();
+                args[index++] = change.getRecordType().name();
+                args[index++] = change.getChangeType().name();
+                args[index++] = change.getChangedAt();
+            }
+            jdbcTemplate.update(RECORD_CHANGE_INSERT_SQL + placeholders(RECORD_CHANGE_COLUMN_COUNT, chunk.size()), args);
+        }
+    }
+
+    private static String placeholders(int columnCount, int rowCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+}
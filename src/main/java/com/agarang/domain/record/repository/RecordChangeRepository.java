@@ -0,0 +1,42 @@
+package com.agarang.domain.record.repository;
+
+import com.agarang.domain.record.entity.RecordChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.record.repository<br>
+ * fileName       : RecordChangeRepository.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 변경 이력 entity의 repository 클래스입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          커서 이력 존재 여부 조회 추가<br>
+ * <br>
+ */
+public interface RecordChangeRepository extends JpaRepository<RecordChange, Long> {
+
+    /**
+     * 주어진 번호 이후의 변경 이력을 번호 순으로 조회합니다.
+     *
+     * @param babyId    아기 ID
+     * @param changeSeq 마지막으로 받은 변경 이력 번호
+     * @param pageable  조회할 개수
+     * @return 변경 이력 리스트
+     */
+    List<RecordChange> findAllByBabyIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(Integer babyId, Long changeSeq, Pageable pageable);
+
+    /**
+     * 주어진 번호의 변경 이력이 남아 있는지 확인합니다.
+     *
+     * @param babyId    아기 ID
+     * @param changeSeq 변경 이력 번호
+     * @return 남아 있으면 true, 보관 기간이 지나 정리되었으면 false
+     */
+    boolean existsByBabyIdAndChangeSeq(Integer babyId, Long changeSeq);
+}
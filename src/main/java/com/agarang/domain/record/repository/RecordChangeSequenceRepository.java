@@ -0,0 +1,47 @@
+package com.agarang.domain.record.repository;
+
+import com.agarang.domain.record.entity.RecordChangeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * packageName    : com.agarang.domain.record.repository<br>
+ * fileName       : RecordChangeSequenceRepository.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 변경 이력 번호 entity의 repository 클래스입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * <br>
+ */
+public interface RecordChangeSequenceRepository extends JpaRepository<RecordChangeSequence, Integer> {
+
+    /**
+     * 아기의 마지막 변경 이력 번호를 {@code count} 만큼 증가시킵니다. 행이 없으면 새로 저장합니다.
+     *
+     * <p>증가시킨 행은 트랜잭션이 끝날 때까지 잠기므로, 같은 아기의 번호 발급은 커밋 순서대로 이루어집니다.</p>
+     *
+     * @param babyId 아기 ID
+     * @param count  발급할 번호 개수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO record_change_sequence (baby_id, last_seq)
+        VALUES (:babyId, :count)
+        ON DUPLICATE KEY UPDATE last_seq = last_seq + :count
+        """, nativeQuery = true)
+    void increase(@Param("babyId") Integer babyId, @Param("count") long count);
+
+    /**
+     * 아기의 마지막 변경 이력 번호를 조회합니다.
+     *
+     * @param babyId 아기 ID
+     * @return 마지막 변경 이력 번호
+     */
+    @Query(value = "SELECT last_seq FROM record_change_sequence WHERE baby_id = :babyId", nativeQuery = true)
+    Long findLastSeq(@Param("babyId") Integer babyId);
+}
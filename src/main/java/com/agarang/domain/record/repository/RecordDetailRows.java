@@ -0,0 +1,100 @@
+package com.agarang.domain.record.repository;
+
+import com.agarang.domain.baby.entity.Baby;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.agarang.domain.record.repository<br>
+ * fileName       : RecordDetailRows.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록을 일괄 생성할 때 카테고리별 상세 테이블에 추가할 행을 모으는 클래스입니다. <br>
+ * <p>테이블은 처음 추가된 순서대로 저장되므로, 상위 테이블(feeding, medication)의 행을 하위 테이블보다 먼저 추가하면 됩니다.
+ * 요청에 값이 없어 최근 기록의 값을 기본값으로 사용하는 카테고리는 {@link #latest(Object, Supplier)} 로
+ * 같은 요청에서 앞서 추가한 값을 이어서 사용합니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * <br>
+ */
+public class RecordDetailRows {
+    private final Baby baby;
+    private final Map<String, Table> tables = new LinkedHashMap<>();
+    private final Map<Object, Object> latestValues = new HashMap<>();
+
+    public RecordDetailRows(Baby baby) {
+        this.baby = baby;
+    }
+
+    /**
+     * 기록을 생성할 아기를 반환합니다.
+     *
+     * @return 아기 {@link Baby}
+     */
+    public Baby getBaby() {
+        return baby;
+    }
+
+    /**
+     * 상세 테이블에 추가할 행을 등록합니다. enum 값은 이름으로 저장됩니다.
+     *
+     * @param table   테이블 이름
+     * @param columns 컬럼 이름 목록 (같은 테이블은 항상 같은 목록이어야 합니다)
+     * @param values  컬럼 순서대로의 값
+     */
+    public void add(String table, List<String> columns, Object... values) {
+        if (columns.size() != values.length) {
+            throw new IllegalArgumentException("컬럼과 값의 개수가 다릅니다. table: " + table);
+        }
+
+        Table rows = tables.computeIfAbsent(table, name -> new Table(name, columns, new ArrayList<>()));
+        if (!rows.columns().equals(columns)) {
+            throw new IllegalArgumentException("같은 테이블에 다른 컬럼 목록이 등록되었습니다. table: " + table);
+        }
+
+        Object[] row = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            row[i] = values[i] instanceof Enum<?> value ? value.name() : values[i];
+        }
+        rows.rows().add(row);
+    }
+
+    /**
+     * 같은 요청에서 마지막으로 기록한 값을 반환합니다. 없으면 {@code loader} 로 조회한 값을 보관하고 반환합니다.
+     *
+     * @param key    값의 종류
+     * @param loader DB 에서 최근 값을 조회하는 함수
+     * @return 최근 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T latest(Object key, Supplier<T> loader) {
+        if (!latestValues.containsKey(key)) {
+            latestValues.put(key, loader.get());
+        }
+        return (T) latestValues.get(key);
+    }
+
+    /**
+     * 같은 요청의 다음 기록이 기본값으로 사용할 값을 기록합니다.
+     *
+     * @param key   값의 종류
+     * @param value 최근 값
+     */
+    public void updateLatest(Object key, Object value) {
+        latestValues.put(key, value);
+    }
+
+    Collection<Table> tables() {
+        return tables.values();
+    }
+
+    record Table(String name, List<String> columns, List<Object[]> rows) {}
+}
@@ -2,6 +2,7 @@ package com.agarang.domain.record.repository;
 
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.record.dto.LatestStartedAt;
+import com.agarang.domain.record.dto.RecordIdempotencyKey;
 import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.user.entity.User;
@@ -12,6 +13,7 @@ import org.springframework.security.core.parameters.P;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,8 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-22          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          멱등성 키 조회 추가<br>
+ * 2026-10-18          nature1216          변경 이력이 없는 기록 조회 추가<br>
  * <br>
  */
 
@@ -68,4 +72,25 @@ public interface RecordRepository extends JpaRepository<Record, Integer> {
                                                                                        Baby baby,
                                                                                        LocalDateTime start,
                                                                                        LocalDateTime end);
+
+    @Query("SELECT MIN(r.startedAt) FROM Record r WHERE r.baby = :baby AND r.recordType = :recordType")
+    Optional<LocalDateTime> findFirstStartedAtByBabyAndRecordType(@Param("baby") Baby baby,
+                                                                  @Param("recordType") RecordType recordType);
+
+    @Query("SELECT MAX(r.startedAt) FROM Record r WHERE r.baby = :baby AND r.recordType = :recordType")
+    Optional<LocalDateTime> findLastStartedAtByBabyAndRecordType(@Param("baby") Baby baby,
+                                                                 @Param("recordType") RecordType recordType);
+
+    @Query("SELECT new com.agarang.domain.record.dto.RecordIdempotencyKey(r.idempotencyKey, r.recordId) " +
+            "FROM Record r " +
+            "WHERE r.baby.babyId = :babyId " +
+            "AND r.idempotencyKey IN :idempotencyKeys")
+    List<RecordIdempotencyKey> findIdempotencyKeys(@Param("babyId") Integer babyId,
+                                                   @Param("idempotencyKeys") Collection<String> idempotencyKeys);
+
+    @Query("SELECT r FROM Record r " +
+            "WHERE r.baby.babyId = :babyId " +
+            "AND NOT EXISTS (SELECT 1 FROM RecordChange c WHERE c.babyId = :babyId AND c.recordId = r.recordId) " +
+            "ORDER BY r.recordId")
+    List<Record> findAllWithoutChangeByBabyId(@Param("babyId") Integer babyId);
 }
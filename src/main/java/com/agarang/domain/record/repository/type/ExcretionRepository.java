@@ -1,6 +1,7 @@
 package com.agarang.domain.record.repository.type;
 
 import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.record.dto.ExcretionInfo;
 import com.agarang.domain.record.entity.type.Excretion;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,36 +23,13 @@ import java.util.List;
  */
 public interface ExcretionRepository extends JpaRepository<Excretion, Integer> {
 
-    @Query("SELECT COUNT(*) FROM Excretion e " +
-            "JOIN Record r " +
-            "ON r.recordId = e.recordId " +
-            "WHERE r.startedAt BETWEEN :start AND :end " +
-            "AND r.baby = :baby " +
-            "AND e.excretionType != 'PEE' " +
-            "AND e.excretionStatus != 'GOOD'")
-    Integer countAbnormalExcretionByDateAndBaby(@Param("baby")Baby baby,
-                                                @Param("start")LocalDateTime start,
-                                                @Param("end")LocalDateTime end);
-
-    @Query("SELECT e.excretionStatus, COUNT(e) " +
-            "FROM Excretion e JOIN Record r " +
-            "ON e.recordId = r.recordId " +
-            "WHERE r.baby = :baby " +
-            "AND e.excretionType != 'PEE'" +
-            "AND r.startedAt BETWEEN :start AND :end " +
-            "GROUP BY e.excretionStatus")
-    List<Object[]> countExcretionStatusByBabyDateBetween(@Param("baby")Baby baby,
-                                                         @Param("start")LocalDateTime start,
-                                                         @Param("end")LocalDateTime end);
-
-    @Query("SELECT e.color, COUNT(e) " +
+    @Query("SELECT new com.agarang.domain.record.dto.ExcretionInfo" +
+            "(r.startedAt, e.excretionType, e.color, e.excretionStatus) " +
             "FROM Excretion e JOIN Record r " +
             "ON e.recordId = r.recordId " +
             "WHERE r.baby = :baby " +
-            "AND e.excretionType != 'PEE'" +
-            "AND r.startedAt BETWEEN :start AND :end " +
-            "GROUP BY e.color")
-    List<Object[]> countExcretionColorByBabyDateBetween(@Param("baby")Baby baby,
-                                                        @Param("start")LocalDateTime start,
-                                                        @Param("end")LocalDateTime end);
+            "AND r.startedAt BETWEEN :start AND :end")
+    List<ExcretionInfo> findExcretionInfoByBabyAndDateBetween(@Param("baby")Baby baby,
+                                                              @Param("start")LocalDateTime start,
+                                                              @Param("end")LocalDateTime end);
 }
@@ -24,15 +24,6 @@ import java.util.Optional;
  */
 public interface FormulaFeedingRepository extends JpaRepository<FormulaFeeding, Integer> {
 
-    @Query("SELECT COALESCE(AVG(ff.amount), 0) " +
-            "FROM FormulaFeeding ff JOIN Record r " +
-            "ON ff.recordId = r.recordId " +
-            "WHERE r.recordType = 'FEEDING' " +
-            "AND r.baby = :baby " +
-            "AND DATE(r.startedAt) = :date")
-    Double findAverageByBabyAndDate(@Param("baby") Baby baby,
-                                    @Param("date") LocalDate date);
-
     @Query("SELECT ff " +
             "FROM FormulaFeeding ff " +
             "JOIN Record r " +
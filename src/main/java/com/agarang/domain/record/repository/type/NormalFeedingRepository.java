@@ -23,15 +23,6 @@ import java.util.Optional;
  */
 public interface NormalFeedingRepository extends JpaRepository<NormalFeeding, Integer> {
 
-    @Query("SELECT COALESCE(AVG(nf.amount), 0) " +
-            "FROM NormalFeeding nf JOIN Record r " +
-            "ON nf.recordId = r.recordId " +
-            "WHERE r.recordType = 'FEEDING' " +
-            "AND r.baby = :baby " +
-            "AND DATE(r.startedAt) = :date")
-    Double findAverageByBabyAndDate(@Param("baby") Baby baby,
-                                    @Param("date") LocalDate date);
-
     @Query("SELECT nf " +
             "FROM NormalFeeding nf " +
             "JOIN Record r " +
@@ -23,15 +23,6 @@ import java.util.Optional;
  */
 public interface PumpingFeedingRepository extends JpaRepository<PumpingFeeding, Integer> {
 
-    @Query("SELECT COALESCE(AVG(pf.amount), 0) " +
-            "FROM PumpingFeeding pf JOIN Record r " +
-            "ON pf.recordId = r.recordId " +
-            "WHERE r.recordType = 'FEEDING' " +
-            "AND r.baby = :baby " +
-            "AND DATE(r.startedAt) = :date")
-    Double findAverageByBabyAndDate(@Param("baby") Baby baby,
-                                    @Param("date") LocalDate date);
-
     @Query("SELECT pf " +
             "FROM PumpingFeeding  pf " +
             "JOIN Record r " +
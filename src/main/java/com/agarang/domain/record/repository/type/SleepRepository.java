@@ -32,4 +32,14 @@ public interface SleepRepository extends JpaRepository<Sleep, Integer> {
     List<SleepHour> findSleepByBabyAndDateRange(@Param("baby") Baby baby,
                                                 @Param("start") LocalDateTime start,
                                                 @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.agarang.domain.record.dto.SleepHour(r.startedAt, s.endedAt) " +
+            "FROM Record r JOIN Sleep s " +
+            "ON r.recordId = s.recordId " +
+            "WHERE r.baby = :baby " +
+            "AND r.startedAt <= :end " +
+            "AND s.endedAt >= :start")
+    List<SleepHour> findSleepByBabyAndOverlapping(@Param("baby") Baby baby,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end);
 }
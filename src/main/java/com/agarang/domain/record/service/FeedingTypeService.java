@@ -1,14 +1,14 @@
 package com.agarang.domain.record.service;
 
-import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.record.dto.request.FeedingCreateRequest;
 import com.agarang.domain.record.dto.request.FeedingUpdateRequest;
 import com.agarang.domain.record.dto.response.FeedingGetResponse;
 import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.FeedingType;
 import com.agarang.domain.record.entity.type.Feeding;
+import com.agarang.domain.record.repository.RecordDetailRows;
 
-import java.time.LocalDate;
+import java.util.List;
 
 /**
  * packageName    : com.agarang.domain.record.service<br>
@@ -20,13 +20,15 @@ import java.time.LocalDate;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/29/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 상세 행 등록 추가<br>
  */
 
 public interface FeedingTypeService<R extends FeedingGetResponse, Q extends FeedingUpdateRequest> {
     void createFeedingRecord(Feeding feeding, FeedingCreateRequest request);
     R getFeedingRecord(Record record, Feeding feeding);
+    List<R> getFeedingRecords(List<Feeding> feedings);
     void updateFeedingRecord(Integer recordId, Q request);
     void deleteFeedingRecord(Integer recordId);
     FeedingType getFeedingType();
-    Integer getDailyTotalAmount(Baby baby, LocalDate date);
+    void appendCreateRows(RecordDetailRows rows, Record record, FeedingCreateRequest request);
 }
@@ -0,0 +1,314 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.record.dto.RecordIdempotencyKey;
+import com.agarang.domain.record.dto.request.BaseRecordCreateRequest;
+import com.agarang.domain.record.dto.request.BaseRecordUpdateRequest;
+import com.agarang.domain.record.dto.request.RecordBatchCreateRequest;
+import com.agarang.domain.record.dto.request.RecordBatchItemRequest;
+import com.agarang.domain.record.dto.response.BaseRecordGetResponse;
+import com.agarang.domain.record.dto.response.RecordBatchCreateResponse;
+import com.agarang.domain.record.dto.response.RecordBatchItemResponse;
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.enumeration.RecordChangeType;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.event.RecordBatchCreatedEvent;
+import com.agarang.domain.record.repository.RecordBatchRepository;
+import com.agarang.domain.record.repository.RecordDetailRows;
+import com.agarang.domain.record.repository.RecordRepository;
+import com.agarang.domain.statistics.event.BabyDailyStatsEvent;
+import com.agarang.domain.user.entity.User;
+import com.agarang.domain.user.repository.UserRepository;
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * packageName    : com.agarang.domain.record.service<br>
+ * fileName       : RecordBatchService.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 오프라인에서 작성한 여러 기록을 한 번에 추가하는 service 클래스입니다.
+ * <p>보호 권한은 한 번만 확인하고, 모든 항목을 먼저 검증한 후 올바른 항목만 추가합니다.
+ * 기록과 카테고리별 상세 행은 {@link RecordBatchRepository} 로 테이블마다 여러 행 INSERT 문으로 저장하며,
+ * 하나의 트랜잭션에서 처리합니다. 항목별 결과는 멱등성 키와 함께 요청 순서대로 반환합니다.
+ * 멱등성 키는 기록 테이블의 (아기, 멱등성 키) 유일 제약으로 보장하며, {@link RecordIdempotencyStore} 는 그 앞의 캐시입니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          기록 변경 이력 추가<br>
+ * 2026-10-18          nature1216          멱등성 키를 DB 에서 확인, 처리 중 상태 추가<br>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RecordBatchService {
+    private final CaregiverContextResolver caregiverContextResolver;
+    private final RecordLookupService recordLookupService;
+    private final RecordBatchRepository recordBatchRepository;
+    private final RecordIdempotencyStore recordIdempotencyStore;
+    private final RecordChangeLogService recordChangeLogService;
+    private final RecordRepository recordRepository;
+    private final UserRepository userRepository;
+    private final BabyRepository babyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 여러 기록을 한 번에 추가합니다.
+     *
+     * <p>
+     * 올바르지 않은 항목은 REJECTED, 이미 처리된 멱등성 키의 항목은 DUPLICATE,
+     * 같은 키의 이전 요청이 아직 커밋되지 않은 항목은 IN_PROGRESS 로 반환하고 나머지 항목만 추가합니다.
+     * Redis 에 완료 기록이 없는 키는 DB 에서 한 번 더 확인하므로, Redis 기록이 사라지거나 완료 기록에 실패해도 같은 기록을 다시 추가하지 않습니다.
+     * 같은 요청 안에서 멱등성 키가 중복되면 처음 나온 항목의 결과를 따릅니다.
+     * </p>
+     *
+     * @param userId  기록을 추가하는 사용자 ID
+     * @param babyId  기록을 추가할 아기의 ID
+     * @param request 기록 일괄 추가 요청 객체
+     * @return 요청 순서대로의 항목별 결과를 포함한 {@link RecordBatchCreateResponse} 객체
+     * @throws BusinessException 보호 권한이 없거나, 멱등성 키를 확인할 수 없거나, 같은 키의 요청이 동시에 기록을 추가한 경우 발생
+     */
+    public RecordBatchCreateResponse createRecords(Integer userId, Integer babyId, RecordBatchCreateRequest request) {
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+
+        List<RecordBatchItemRequest> items = request.getRecords();
+        RecordBatchItemResponse[] results = new RecordBatchItemResponse[items.size()];
+        List<RecordService<BaseRecordCreateRequest, BaseRecordGetResponse, BaseRecordUpdateRequest>> services = new ArrayList<>();
+        Map<String, Integer> firstIndexes = new HashMap<>();
+        List<Integer> accepted = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            RecordBatchItemRequest item = items.get(i);
+            RecordService<BaseRecordCreateRequest, BaseRecordGetResponse, BaseRecordUpdateRequest> service =
+                    recordLookupService.getRecordService(item.getRecord().getRecordType());
+            services.add(service);
+
+            if (firstIndexes.putIfAbsent(item.getIdempotencyKey(), i) != null) continue;
+            if (service == null) {
+                results[i] = rejected(item.getIdempotencyKey(), ErrorCode.RECORD_TYPE_NOT_SUPPORTED);
+                continue;
+            }
+
+            try {
+                service.validateCreateRequest(item.getRecord());
+                accepted.add(i);
+            } catch (BusinessException e) {
+                results[i] = rejected(item.getIdempotencyKey(), e.getErrorCode());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            Map<String, Optional<Integer>> existing = recordIdempotencyStore.reserve(babyId, accepted.stream()
+                    .map(i -> items.get(i).getIdempotencyKey())
+                    .toList());
+
+            Map<String, Integer> reservedIds = new LinkedHashMap<>();
+            accepted.stream()
+                    .map(i -> items.get(i).getIdempotencyKey())
+                    .filter(key -> !existing.containsKey(key))
+                    .forEach(key -> reservedIds.put(key, null));
+            if (!reservedIds.isEmpty()) {
+                eventPublisher.publishEvent(new RecordBatchCreatedEvent(this, babyId, reservedIds));
+            }
+
+            Map<String, Integer> storedIds = findStoredRecordIds(babyId, accepted.stream()
+                    .map(i -> items.get(i).getIdempotencyKey())
+                    .filter(key -> !existing.containsKey(key) || existing.get(key).isEmpty())
+                    .toList());
+
+            List<Integer> creating = new ArrayList<>();
+            for (Integer i : accepted) {
+                String key = items.get(i).getIdempotencyKey();
+                if (storedIds.containsKey(key)) {
+                    if (reservedIds.containsKey(key)) reservedIds.put(key, storedIds.get(key));
+                    results[i] = duplicate(key, storedIds.get(key));
+                } else if (existing.containsKey(key)) {
+                    results[i] = existing.get(key)
+                            .map(recordId -> duplicate(key, recordId))
+                            .orElseGet(() -> inProgress(key));
+                } else {
+                    creating.add(i);
+                }
+            }
+
+            if (!creating.isEmpty()) {
+                createRecords(userId, babyId, items, services, creating, reservedIds, results);
+            }
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) continue;
+
+            String key = items.get(i).getIdempotencyKey();
+            RecordBatchItemResponse first = results[firstIndexes.get(key)];
+            results[i] = switch (first.getStatus()) {
+                case REJECTED -> rejected(key, first.getErrorCode());
+                case IN_PROGRESS -> inProgress(key);
+                default -> duplicate(key, first.getRecordId());
+            };
+        }
+
+        return RecordBatchCreateResponse.builder()
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * 주어진 멱등성 키로 이미 저장된 기록 ID 를 조회합니다.
+     *
+     * @param babyId          아기 ID
+     * @param idempotencyKeys 확인할 멱등성 키 목록
+     * @return 멱등성 키별 기록 ID (저장된 기록이 없는 키는 포함하지 않습니다)
+     */
+    private Map<String, Integer> findStoredRecordIds(Integer babyId, List<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) return Map.of();
+
+        return recordRepository.findIdempotencyKeys(babyId, idempotencyKeys).stream()
+                .collect(Collectors.toMap(RecordIdempotencyKey::idempotencyKey, RecordIdempotencyKey::recordId));
+    }
+
+    /**
+     * 멱등성 키를 예약한 항목의 기록과 상세 행을 저장하고, 카테고리별 이벤트를 발행합니다.
+     *
+     * @param userId      기록을 추가하는 사용자 ID
+     * @param babyId      기록을 추가할 아기의 ID
+     * @param items       요청 항목 목록
+     * @param services    요청 항목별 기록 서비스
+     * @param creating    저장할 항목의 인덱스 목록
+     * @param reservedIds 예약한 멱등성 키별 기록 ID (저장한 기록의 ID 를 채웁니다)
+     * @param results     항목별 결과 (저장한 항목의 결과를 채웁니다)
+     * @throws BusinessException 같은 멱등성 키의 기록이 동시에 추가된 경우 발생
+     */
+    private void createRecords(Integer userId, Integer babyId, List<RecordBatchItemRequest> items,
+                               List<RecordService<BaseRecordCreateRequest, BaseRecordGetResponse, BaseRecordUpdateRequest>> services,
+                               List<Integer> creating, Map<String, Integer> reservedIds, RecordBatchItemResponse[] results) {
+        User user = userRepository.getReferenceById(userId);
+        Baby baby = babyRepository.getReferenceById(babyId);
+
+        List<Record> records = creating.stream()
+                .map(i -> {
+                    BaseRecordCreateRequest request = items.get(i).getRecord();
+                    return Record.builder()
+                            .user(user)
+                            .baby(baby)
+                            .startedAt(request.getStartedAt())
+                            .recordType(request.getRecordType())
+                            .content(request.getContent())
+                            .idempotencyKey(items.get(i).getIdempotencyKey())
+                            .build();
+                })
+                .toList();
+        try {
+            recordBatchRepository.insertRecords(records, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ErrorCode.RECORD_BATCH_CONFLICT);
+        }
+
+        RecordDetailRows detailRows = new RecordDetailRows(baby);
+        for (int j = 0; j < creating.size(); j++) {
+            int i = creating.get(j);
+            services.get(i).appendCreateRows(detailRows, records.get(j), items.get(i).getRecord());
+        }
+        recordBatchRepository.insertDetails(detailRows);
+        recordChangeLogService.append(babyId, records, RecordChangeType.UPSERT);
+
+        publishDailyStatsEvents(babyId, records);
+
+        for (int j = 0; j < creating.size(); j++) {
+            int i = creating.get(j);
+            Record record = records.get(j);
+            String key = items.get(i).getIdempotencyKey();
+
+            services.get(i).publishCreatedEvents(record, items.get(i).getRecord());
+            reservedIds.put(key, record.getRecordId());
+            results[i] = RecordBatchItemResponse.builder()
+                    .idempotencyKey(key)
+                    .status(RecordBatchItemResponse.Status.CREATED)
+                    .recordId(record.getRecordId())
+                    .build();
+        }
+    }
+
+    /**
+     * 추가한 기록의 일자별 통계 갱신 이벤트를 발행합니다.
+     *
+     * <p>
+     * 기록마다 발행하지 않고, 카테고리별로 연속된 날짜를 하나의 구간으로 묶어 발행합니다.
+     * </p>
+     *
+     * @param babyId  기록을 추가한 아기의 ID
+     * @param records 추가한 기록 목록
+     */
+    private void publishDailyStatsEvents(Integer babyId, List<Record> records) {
+        Map<RecordType, TreeSet<LocalDate>> datesByType = new EnumMap<>(RecordType.class);
+        for (Record record : records) {
+            datesByType.computeIfAbsent(record.getRecordType(), type -> new TreeSet<>())
+                    .add(record.getStartedAt().toLocalDate());
+        }
+
+        datesByType.forEach((recordType, dates) -> {
+            LocalDate startDate = null;
+            LocalDate endDate = null;
+            for (LocalDate date : dates) {
+                if (endDate != null && date.equals(endDate.plusDays(1))) {
+                    endDate = date;
+                    continue;
+                }
+                if (startDate != null) {
+                    eventPublisher.publishEvent(new BabyDailyStatsEvent(this, babyId, recordType, startDate, endDate));
+                }
+                startDate = date;
+                endDate = date;
+            }
+            eventPublisher.publishEvent(new BabyDailyStatsEvent(this, babyId, recordType, startDate, endDate));
+        });
+    }
+
+    private RecordBatchItemResponse rejected(String idempotencyKey, ErrorCode errorCode) {
+        return rejected(idempotencyKey, errorCode.getCode());
+    }
+
+    private RecordBatchItemResponse rejected(String idempotencyKey, String errorCode) {
+        return RecordBatchItemResponse.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(RecordBatchItemResponse.Status.REJECTED)
+                .errorCode(errorCode)
+                .build();
+    }
+
+    private RecordBatchItemResponse inProgress(String idempotencyKey) {
+        return RecordBatchItemResponse.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(RecordBatchItemResponse.Status.IN_PROGRESS)
+                .build();
+    }
+
+    private RecordBatchItemResponse duplicate(String idempotencyKey, Integer recordId) {
+        return RecordBatchItemResponse.builder()
+                .idempotencyKey(idempotencyKey)
+                .status(RecordBatchItemResponse.Status.DUPLICATE)
+                .recordId(recordId)
+                .build();
+    }
+}
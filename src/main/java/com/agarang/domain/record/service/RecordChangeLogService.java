@@ -0,0 +1,100 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.RecordChange;
+import com.agarang.domain.record.entity.enumeration.RecordChangeType;
+import com.agarang.domain.record.repository.RecordBatchRepository;
+import com.agarang.domain.record.repository.RecordChangeSequenceRepository;
+import com.agarang.domain.record.repository.RecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.record.service<br>
+ * fileName       : RecordChangeLogService.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록이 생성, 수정, 삭제될 때 아기별 변경 이력을 남기는 service 클래스입니다.
+ * <p>변경 이력 번호는 아기별 번호 행을 잠가 발급하므로, 같은 아기의 이력은 번호 순서대로 커밋됩니다.
+ * 따라서 클라이언트가 받은 마지막 번호 이후만 조회해도 변경분을 빠뜨리지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          변경 이력이 없는 기록의 이력 보충 추가<br>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RecordChangeLogService {
+    private final RecordChangeSequenceRepository recordChangeSequenceRepository;
+    private final RecordBatchRepository recordBatchRepository;
+    private final RecordRepository recordRepository;
+
+    /**
+     * 기록 하나의 변경 이력을 남깁니다.
+     *
+     * @param record     변경된 기록
+     * @param changeType 변경 유형 {@link RecordChangeType}
+     */
+    public void append(Record record, RecordChangeType changeType) {
+        append(record.getBaby().getBabyId(), List.of(record), changeType);
+    }
+
+    /**
+     * 같은 아기의 여러 기록의 변경 이력을 기록 순서대로 남깁니다.
+     *
+     * @param babyId     아기 ID
+     * @param records    변경된 기록 목록
+     * @param changeType 변경 유형 {@link RecordChangeType}
+     */
+    public void append(Integer babyId, List<Record> records, RecordChangeType changeType) {
+        if (records.isEmpty()) return;
+
+        recordChangeSequenceRepository.increase(babyId, records.size());
+        appendLocked(babyId, records, changeType);
+    }
+
+    /**
+     * 변경 이력이 하나도 없는 아기의 기록마다 UPSERT 변경 이력을 남깁니다.
+     *
+     * <p>변경 이력을 남기기 전에 저장된 기록과, 보관 기간이 지나 변경 이력이 정리된 기록이 대상입니다.
+     * 아기의 번호 발급 행을 먼저 잠근 후 조회하므로, 같은 아기의 기록 변경과 겹치지 않습니다.
+     * 최신 커밋을 읽어야 하므로 READ COMMITTED 트랜잭션에서 호출해야 합니다.</p>
+     *
+     * @param babyId 아기 ID
+     * @return 변경 이력을 남긴 기록 수
+     */
+    public int backfill(Integer babyId) {
+        recordChangeSequenceRepository.increase(babyId, 0);
+        List<Record> records = recordRepository.findAllWithoutChangeByBabyId(babyId);
+        if (records.isEmpty()) return 0;
+
+        recordChangeSequenceRepository.increase(babyId, records.size());
+        appendLocked(babyId, records, RecordChangeType.UPSERT);
+        return records.size();
+    }
+
+    private void appendLocked(Integer babyId, List<Record> records, RecordChangeType changeType) {
+        long nextSeq = recordChangeSequenceRepository.findLastSeq(babyId) - records.size() + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<RecordChange> changes = new ArrayList<>(records.size());
+        for (Record record : records) {
+            changes.add(RecordChange.builder()
+                    .babyId(babyId)
+                    .changeSeq(nextSeq++)
+                    .recordId(record.getRecordId())
+                    .recordType(record.getRecordType())
+                    .changeType(changeType)
+                    .changedAt(now)
+                    .build());
+        }
+        recordBatchRepository.insertChanges(changes);
+    }
+}
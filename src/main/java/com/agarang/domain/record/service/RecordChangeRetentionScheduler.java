@@ -0,0 +1,49 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.global.purge.ChunkedPurger;
+import com.agarang.global.purge.PurgeTarget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.record.service<br>
+ * fileName       : RecordChangeRetentionScheduler.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 보관 기간이 지난 기록 변경 이력을 정리하는 스케줄러 클래스입니다.<br>
+ * <p>`record.change-retention-days` (기본값 90) 가 0 보다 큰 경우에만 동작합니다.
+ * 정리된 이력 이전의 커서로 조회한 클라이언트는 {@link RecordQueryService#getRecordChanges(Integer, Integer, Long)} 에서
+ * 전체 동기화를 안내받습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Component
+public class RecordChangeRetentionScheduler {
+    private final ChunkedPurger chunkedPurger;
+    private final int retentionDays;
+
+    public RecordChangeRetentionScheduler(ChunkedPurger chunkedPurger,
+                                          @Value("${record.change-retention-days:90}") int retentionDays) {
+        this.chunkedPurger = chunkedPurger;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 보관 기간이 지난 기록 변경 이력을 {@link ChunkedPurger} 로 나누어 삭제합니다.
+     *
+     * <p>이 작업은 매일 01:30:00 에 실행됩니다.</p>
+     */
+    @Scheduled(cron = "0 30 1 * * ?")
+    public void cleanupOldRecordChanges() {
+        if (retentionDays <= 0) {
+            return;
+        }
+
+        chunkedPurger.purge(PurgeTarget.OLD_RECORD_CHANGE, LocalDateTime.now().minusDays(retentionDays));
+    }
+}
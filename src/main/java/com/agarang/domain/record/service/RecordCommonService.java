@@ -2,22 +2,24 @@ package com.agarang.domain.record.service;
 
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.repository.BabyRepository;
-import com.agarang.domain.custody.entity.Custody;
+import com.agarang.domain.custody.dto.CaregiverContext;
 import com.agarang.domain.custody.entity.CustodyType;
-import com.agarang.domain.custody.repository.CustodyRepository;
-import com.agarang.domain.custody.service.CustodyService;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
 import com.agarang.domain.record.dto.mapper.RecordMapper;
 import com.agarang.domain.record.dto.request.BaseRecordUpdateRequest;
 import com.agarang.domain.record.dto.request.BaseRecordCreateRequest;
 import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.enumeration.RecordChangeType;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.repository.RecordRepository;
+import com.agarang.domain.statistics.event.BabyDailyStatsEvent;
 import com.agarang.domain.user.entity.User;
-import com.agarang.domain.user.service.UserService;
+import com.agarang.domain.user.repository.UserRepository;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import com.agarang.global.s3.S3Uploader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -36,18 +38,22 @@ import java.util.Objects;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-26         nature1216          최초생성<br>
+ * 2026-10-18         nature1216          보호자 권한 확인을 CaregiverContextResolver 로 변경<br>
+ * 2026-10-18         nature1216          기록 변경 이력 추가<br>
+ * 2026-10-18         nature1216          일자별 통계 갱신 시점 주석 수정<br>
  * <br>
  */
 @Service
 @RequiredArgsConstructor
 public class RecordCommonService {
-    private final CustodyService custodyService;
+    private final CaregiverContextResolver caregiverContextResolver;
     private final RecordRepository recordRepository;
     private final BabyRepository babyRepository;
-    private final UserService userService;
-    private final CustodyRepository custodyRepository;
+    private final UserRepository userRepository;
     private final RecordMapper recordMapper;
     private final S3Uploader s3Uploader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecordChangeLogService recordChangeLogService;
 
     public static final String PART_CREATE_RECORD_DATA = "record";
 
@@ -64,14 +70,10 @@ public class RecordCommonService {
      * @throws BusinessException 기록 또는 아기를 찾을 수 없는 경우 발생
      */
     public Record getRecord(Integer userId, Integer recordId) {
-        User user = userService.findUserById(userId);
         Record record = recordRepository.findById(recordId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
 
-        Baby baby = babyRepository.findById(record.getBaby().getBabyId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        custodyService.checkCustody(user, baby);
+        caregiverContextResolver.resolveForRecord(userId, record.getBaby().getBabyId());
         return record;
     }
 
@@ -89,12 +91,9 @@ public class RecordCommonService {
      * @throws BusinessException 아기 정보를 찾을 수 없거나 보호 권한이 없는 경우 발생
      */
     public Record createRecord(Integer userId, Integer babyId, BaseRecordCreateRequest request) {
-        User user = userService.findUserById(userId);
-
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        custodyService.checkCustody(user, baby);
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+        User user = userRepository.getReferenceById(userId);
+        Baby baby = babyRepository.getReferenceById(babyId);
 
         Record record = Record.builder()
                 .user(user)
@@ -104,7 +103,11 @@ public class RecordCommonService {
                 .content(request.getContent())
                 .build();
 
-        return recordRepository.save(record);
+        recordRepository.save(record);
+        recordChangeLogService.append(record, RecordChangeType.UPSERT);
+        publishDailyStatsEvent(record, record.getStartedAt().toLocalDate());
+
+        return record;
     }
 
     /**
@@ -122,12 +125,9 @@ public class RecordCommonService {
      * @throws BusinessException 아기 정보를 찾을 수 없거나 보호 권한이 없는 경우 발생
      */
     public Record createRecord(Integer userId, Integer babyId, BaseRecordCreateRequest request, MultipartFile image) {
-        User user = userService.findUserById(userId);
-
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        custodyService.checkCustody(user, baby);
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+        User user = userRepository.getReferenceById(userId);
+        Baby baby = babyRepository.getReferenceById(babyId);
 
         Record record = Record.builder()
                 .user(user)
@@ -138,7 +138,11 @@ public class RecordCommonService {
                 .build();
         saveImage(image, record);
 
-        return recordRepository.save(record);
+        recordRepository.save(record);
+        recordChangeLogService.append(record, RecordChangeType.UPSERT);
+        publishDailyStatsEvent(record, record.getStartedAt().toLocalDate());
+
+        return record;
     }
 
     /**
@@ -159,8 +163,16 @@ public class RecordCommonService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
 
         checkUpdateDeletePermission(userId, record);
+        LocalDate previousDate = record.getStartedAt().toLocalDate();
+
         updateImage(image, request.getExistingImage(), record);
         recordMapper.updateRecordFromBaseUpdateRequest(request, record);
+
+        recordChangeLogService.append(record, RecordChangeType.UPSERT);
+        publishDailyStatsEvent(record, previousDate);
+        if(!previousDate.isEqual(record.getStartedAt().toLocalDate())) {
+            publishDailyStatsEvent(record, record.getStartedAt().toLocalDate());
+        }
     }
 
     /**
@@ -181,6 +193,23 @@ public class RecordCommonService {
         checkUpdateDeletePermission(userId, record);
 
         recordRepository.delete(record);
+        recordChangeLogService.append(record, RecordChangeType.DELETE);
+        publishDailyStatsEvent(record, record.getStartedAt().toLocalDate());
+    }
+
+    /**
+     * 기록이 변경된 날짜의 일자별 통계 갱신 이벤트를 발행합니다.
+     *
+     * <p>
+     * 통계는 기록 변경이 커밋된 후 별도의 트랜잭션에서 다시 계산됩니다.
+     * 계산에 실패한 날짜는 재시도 대상으로 기록되어 {@code BabyDailyStatsRebuildJob} 이 다시 계산합니다.
+     * </p>
+     *
+     * @param record 변경된 기록
+     * @param date   통계를 다시 계산할 날짜
+     */
+    private void publishDailyStatsEvent(Record record, LocalDate date) {
+        eventPublisher.publishEvent(new BabyDailyStatsEvent(this, record.getBaby().getBabyId(), record.getRecordType(), date, date));
     }
 
     /**
@@ -196,15 +225,9 @@ public class RecordCommonService {
      * @throws BusinessException 권한이 없는 경우 발생
      */
     private void checkUpdateDeletePermission(Integer userId, Record record) {
-        User user = userService.findUserById(userId);
-
-        Baby baby = babyRepository.findById(record.getBaby().getBabyId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        Custody custody = custodyRepository.findByUserAndBabyAndDeletedAtIsNull(user, baby)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTODY_PERMISSION_DENIED));
+        CaregiverContext context = caregiverContextResolver.resolveForRecord(userId, record.getBaby().getBabyId());
 
-        if(record.getUser().getUserId() != user.getUserId() && custody.getCustodyType() == CustodyType.SUB) {
+        if(!Objects.equals(record.getUser().getUserId(), userId) && context.custodyType() == CustodyType.SUB) {
             throw new BusinessException(ErrorCode.DELETE_MODIFY_PERMISSION_DENIED);
         }
     }
@@ -0,0 +1,155 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * packageName    : com.agarang.domain.record.service<br>
+ * fileName       : RecordIdempotencyStore.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 기록 일괄 추가 요청의 멱등성 키를 Redis 에 기록하는 클래스입니다.
+ * <p>멱등성은 기록 테이블의 (아기, 멱등성 키) 유일 제약으로 보장하며, 이 클래스는 처리 중인 키를 표시하고
+ * 완료된 키의 기록 ID 를 DB 조회 없이 돌려주기 위한 캐시입니다.</p>
+ * <p>키를 먼저 처리 중({@value #PENDING}) 상태로 예약하고, 트랜잭션이 커밋되면 생성된 기록 ID 로 바꿉니다.
+ * 롤백되면 예약을 지워 같은 키로 다시 요청할 수 있도록 합니다.
+ * 예약은 {@link #PENDING_TTL} 이 지나면 사라지므로, 서버가 중간에 종료되어도 키가 계속 잠기지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          완료 기록 실패를 오류로 기록<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordIdempotencyStore {
+    private static final String KEY_PREFIX = "record:idempotency:";
+    private static final String PENDING = "PENDING";
+    private static final Duration PENDING_TTL = Duration.ofMinutes(5);
+    private static final Duration COMPLETED_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 멱등성 키를 한 번의 파이프라인으로 예약합니다.
+     *
+     * @param babyId          아기 ID
+     * @param idempotencyKeys 예약할 멱등성 키 목록 (중복 없음)
+     * @return 이미 예약된 키와 기록 ID (처리 중이면 빈 값). 반환되지 않은 키는 새로 예약된 키입니다.
+     * @throws BusinessException Redis 에 접근할 수 없는 경우 발생
+     */
+    public Map<String, Optional<Integer>> reserve(Integer babyId, List<String> idempotencyKeys) {
+        List<String> redisKeys = idempotencyKeys.stream()
+                .map(key -> redisKey(babyId, key))
+                .toList();
+
+        List<String> storedValues = List.of();
+        List<Integer> takenIndexes = new ArrayList<>();
+        try {
+            List<Object> reserved = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String redisKey : redisKeys) {
+                    connection.stringCommands().set(bytes(redisKey), bytes(PENDING),
+                            Expiration.from(PENDING_TTL), RedisStringCommands.SetOption.SET_IF_ABSENT);
+                }
+                return null;
+            });
+
+            List<String> takenKeys = new ArrayList<>();
+            for (int i = 0; i < redisKeys.size(); i++) {
+                if (!Boolean.TRUE.equals(reserved.get(i))) {
+                    takenIndexes.add(i);
+                    takenKeys.add(redisKeys.get(i));
+                }
+            }
+            if (!takenKeys.isEmpty()) {
+                storedValues = redisTemplate.opsForValue().multiGet(takenKeys);
+            }
+        } catch (Exception e) {
+            log.warn("멱등성 키 예약 실패. babyId: {}", babyId, e);
+            throw new BusinessException(ErrorCode.RECORD_BATCH_UNAVAILABLE);
+        }
+
+        Map<String, Optional<Integer>> existing = new HashMap<>();
+        for (int i = 0; i < takenIndexes.size(); i++) {
+            String value = storedValues == null ? null : storedValues.get(i);
+            existing.put(idempotencyKeys.get(takenIndexes.get(i)), parseRecordId(value));
+        }
+        return existing;
+    }
+
+    /**
+     * 예약한 멱등성 키에 생성된 기록 ID 를 기록합니다.
+     *
+     * <p>기록에 실패하면 키는 {@link #PENDING_TTL} 동안 처리 중으로 남지만, 그동안의 재요청은 DB 에서 기록 ID 를 찾아 응답합니다.</p>
+     *
+     * @param babyId    아기 ID
+     * @param recordIds 멱등성 키별 생성된 기록 ID
+     */
+    public void complete(Integer babyId, Map<String, Integer> recordIds) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                recordIds.forEach((key, recordId) -> {
+                    if (recordId != null) {
+                        connection.stringCommands().set(bytes(redisKey(babyId, key)), bytes(String.valueOf(recordId)),
+                                Expiration.from(COMPLETED_TTL), RedisStringCommands.SetOption.UPSERT);
+                    }
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("멱등성 키 완료 기록 실패. babyId: {}, keys: {}", babyId, recordIds.keySet(), e);
+        }
+    }
+
+    /**
+     * 예약한 멱등성 키를 지웁니다.
+     *
+     * @param babyId          아기 ID
+     * @param idempotencyKeys 지울 멱등성 키 목록
+     */
+    public void release(Integer babyId, Collection<String> idempotencyKeys) {
+        try {
+            redisTemplate.delete(idempotencyKeys.stream()
+                    .map(key -> redisKey(babyId, key))
+                    .toList());
+        } catch (Exception e) {
+            log.warn("멱등성 키 예약 해제 실패. babyId: {}, keys: {}", babyId, idempotencyKeys, e);
+        }
+    }
+
+    private static Optional<Integer> parseRecordId(String value) {
+        if (value == null || PENDING.equals(value)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.valueOf(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String redisKey(Integer babyId, String idempotencyKey) {
+        return KEY_PREFIX + babyId + ":" + idempotencyKey;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -2,24 +2,29 @@ package com.agarang.domain.record.service;
 
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.repository.BabyRepository;
-import com.agarang.domain.custody.service.CustodyService;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
 import com.agarang.domain.record.dto.LatestStartedAt;
 import com.agarang.domain.record.dto.LatestTimeAgoEntry;
 import com.agarang.domain.record.dto.mapper.ClipMapper;
 import com.agarang.domain.record.dto.mapper.RecordMapper;
 import com.agarang.domain.record.dto.response.*;
 import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.RecordChange;
+import com.agarang.domain.record.entity.enumeration.RecordChangeType;
 import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.repository.RecordChangeRepository;
 import com.agarang.domain.record.repository.RecordRepository;
 import com.agarang.domain.record.service.factory.RecordServiceFactory;
-import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.repository.UserRepository;
-import com.agarang.domain.user.service.UserService;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cglib.core.Local;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -27,10 +32,15 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -43,20 +53,27 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/30/25          nature1216          최초생성<br>
+ * 2026-10-18       nature1216          보호자 권한 확인을 CaregiverContextResolver 로 변경<br>
+ * 2026-10-18       nature1216          기록 변경분 조회 추가<br>
+ * 2026-10-18       nature1216          처음 조회 시 변경 이력 보충, 정리된 커서 감지<br>
+ * 2026-10-18       nature1216          상세 정보가 없는 기록은 목록에서 제외<br>
  */
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecordQueryService {
-    private final CustodyService custodyService;
+    private final CaregiverContextResolver caregiverContextResolver;
     private final ClipMapper clipMapper;
     private final BabyRepository babyRepository;
-    private final UserService userService;
     private final RecordRepository recordRepository;
+    private final RecordChangeRepository recordChangeRepository;
+    private final RecordChangeLogService recordChangeLogService;
     private final RecordServiceFactory recordServiceFactory;
     private final List<RecordService<?, ?, ?>> recordServices;
 
     public static final List<RecordType> EXCLUDED_RECORD_TYPES = List.of(RecordType.CLIP, RecordType.GROWTH_STATUS);
+    public static final int MAX_CHANGES_PER_REQUEST = 500;
 
     /**
      * 특정 날짜의 클립 목록을 조회합니다.
@@ -73,11 +90,8 @@ public class RecordQueryService {
      * @throws BusinessException 아기를 찾을 수 없거나 보호 권한이 없는 경우 발생
      */
     public ClipListResponse getClipList(Integer userId, Integer babyId, LocalDate date) {
-        User user = userService.findUserById(userId);
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        custodyService.checkCustody(user, baby);
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+        Baby baby = babyRepository.getReferenceById(babyId);
 
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.atTime(LocalTime.MAX);
@@ -105,22 +119,17 @@ public class RecordQueryService {
      * @return 해당 날짜의 기록 목록을 포함한 {@link RecordListResponse} 객체
      * @throws BusinessException 아기를 찾을 수 없거나 보호 권한이 없는 경우 발생
      */
+    @Transactional(readOnly = true)
     public RecordListResponse getRecordListByDate(Integer userId, Integer babyId, LocalDate date) {
-        User user = userService.findUserById(userId);
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        custodyService.checkCustody(user, baby);
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+        Baby baby = babyRepository.getReferenceById(babyId);
 
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.atTime(LocalTime.MAX);
 
         List<Record> records = recordRepository
                 .findAllByBabyAndStartedAtBetweenAndRecordTypeNotInOrderByStartedAtDesc(baby, start, end, EXCLUDED_RECORD_TYPES);
-        List<BaseRecordGetResponse> responses = records.stream()
-                .map(record -> recordServiceFactory.getService(record.getRecordType())
-                        .getRecord(userId, record.getRecordId()))
-                .collect(Collectors.toList());
+        List<BaseRecordGetResponse> responses = getRecordResponses(records);
 
         return RecordListResponse.builder()
                 .date(date)
@@ -141,11 +150,8 @@ public class RecordQueryService {
      * @throws BusinessException 아기를 찾을 수 없거나 보호 권한이 없는 경우 발생
      */
     public LatestTimeAgoResponse getRecordTimeAgo(Integer userId, Integer babyId) {
-        User user = userService.findUserById(userId);
-        Baby baby = babyRepository.findById(babyId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
-
-        custodyService.checkCustody(user, baby);
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+        Baby baby = babyRepository.getReferenceById(babyId);
 
         LocalDateTime end = LocalDateTime.now();
         LocalDateTime start = end.minusMonths(1);
@@ -172,6 +178,121 @@ public class RecordQueryService {
                 .build();
     }
 
+    /**
+     * 커서 이후에 변경된 기록을 조회합니다.
+     *
+     * <p>
+     * 변경 이력을 번호 순으로 최대 {@value #MAX_CHANGES_PER_REQUEST}개 조회하고, 기록마다 마지막 변경만 반영합니다.
+     * 추가되거나 수정된 기록은 기록 타입별 일괄 조회로 상세 정보를 가져오고, 삭제된 기록은 ID 만 반환합니다.
+     * 응답의 다음 커서로 다시 조회하면 이후의 변경분만 받을 수 있습니다.
+     * </p>
+     *
+     * <p>
+     * 처음 조회(커서 0)할 때는 변경 이력이 없는 기록(변경 이력 도입 전 기록, 이력이 정리된 기록)에 UPSERT 이력을 먼저 남기므로,
+     * 커서 0 부터 받으면 아기의 모든 기록을 받습니다.
+     * 커서에 해당하는 변경 이력이 보관 기간이 지나 정리되었으면 그 사이의 삭제를 알 수 없으므로,
+     * 변경분 없이 {@code fullSyncRequired} 를 반환하며 클라이언트는 저장한 기록을 지우고 커서 0 부터 다시 받아야 합니다.
+     * 보충한 이력과 이후 변경이 번호 순서대로 보이도록 READ COMMITTED 로 조회합니다.
+     * </p>
+     *
+     * @param userId 변경분을 조회하는 사용자 ID
+     * @param babyId 변경분을 조회할 아기의 ID
+     * @param since  마지막으로 받은 커서 (처음 조회하면 0)
+     * @return 변경된 기록과 삭제된 기록 ID, 다음 커서를 포함한 {@link RecordChangesResponse} 객체
+     * @throws BusinessException 보호 권한이 없는 경우 발생
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public RecordChangesResponse getRecordChanges(Integer userId, Integer babyId, Long since) {
+        caregiverContextResolver.resolveForRecord(userId, babyId);
+
+        if (since == 0) {
+            recordChangeLogService.backfill(babyId);
+        } else if (!recordChangeRepository.existsByBabyIdAndChangeSeq(babyId, since)) {
+            return RecordChangesResponse.builder()
+                    .records(List.of())
+                    .deletedRecordIds(List.of())
+                    .nextCursor(0L)
+                    .hasMore(true)
+                    .fullSyncRequired(true)
+                    .build();
+        }
+
+        List<RecordChange> changes = recordChangeRepository.findAllByBabyIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(
+                babyId, since, PageRequest.of(0, MAX_CHANGES_PER_REQUEST + 1));
+        boolean hasMore = changes.size() > MAX_CHANGES_PER_REQUEST;
+        if (hasMore) {
+            changes = changes.subList(0, MAX_CHANGES_PER_REQUEST);
+        }
+
+        Map<Integer, RecordChange> latestChanges = new LinkedHashMap<>();
+        for (RecordChange change : changes) {
+            latestChanges.remove(change.getRecordId());
+            latestChanges.put(change.getRecordId(), change);
+        }
+
+        List<Integer> upsertedIds = new ArrayList<>();
+        List<Integer> deletedIds = new ArrayList<>();
+        latestChanges.values().forEach(change -> {
+            if (change.getChangeType() == RecordChangeType.DELETE) {
+                deletedIds.add(change.getRecordId());
+            } else {
+                upsertedIds.add(change.getRecordId());
+            }
+        });
+
+        Map<Integer, Record> recordMap = recordRepository.findAllById(upsertedIds).stream()
+                .collect(Collectors.toMap(Record::getRecordId, Function.identity()));
+        // 이후 변경 이력에서 삭제된 기록은 다음 조회에서 삭제로 전달되므로 제외합니다.
+        List<Record> records = upsertedIds.stream()
+                .map(recordMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Long nextCursor = changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangeSeq();
+
+        return RecordChangesResponse.builder()
+                .records(getRecordResponses(records))
+                .deletedRecordIds(deletedIds)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .fullSyncRequired(false)
+                .build();
+    }
+
+    /**
+     * 기록 목록을 기록 타입별로 묶어 한 번에 조회합니다.
+     *
+     * <p>
+     * 기록마다 개별 조회하지 않고, 기록 타입별 서비스의 일괄 조회를 호출하여
+     * 타입별 상세 데이터를 한 번의 쿼리로 가져옵니다.
+     * 반환되는 목록은 주어진 기록 목록의 순서를 따르며, 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * 타입별 상세 데이터가 없는 기록은 경고 로그를 남기고 목록에서 제외합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 기록 타입별 상세 정보를 포함한 {@link BaseRecordGetResponse} 목록
+     */
+    public List<BaseRecordGetResponse> getRecordResponses(List<Record> records) {
+        Map<RecordType, List<Record>> recordsByType = records.stream()
+                .collect(Collectors.groupingBy(Record::getRecordType, () -> new EnumMap<>(RecordType.class), Collectors.toList()));
+
+        Map<Integer, BaseRecordGetResponse> responseMap = new HashMap<>();
+        recordsByType.forEach((recordType, typedRecords) ->
+                recordServiceFactory.getService(recordType).getRecords(typedRecords)
+                        .forEach(response -> responseMap.put(response.getRecordId(), response)));
+
+        List<BaseRecordGetResponse> responses = new ArrayList<>(records.size());
+        for (Record record : records) {
+            BaseRecordGetResponse response = responseMap.get(record.getRecordId());
+            if (response == null) {
+                log.warn("기록 상세 정보가 없어 목록에서 제외합니다. recordId: {}, recordType: {}", record.getRecordId(), record.getRecordType());
+                continue;
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+
     /**
      * 기록이 마지막으로 생성된 시간으로부터 현재까지 경과한 시간을 계산합니다.
      *
@@ -6,9 +6,13 @@ import com.agarang.domain.record.dto.request.BaseRecordCreateRequest;
 import com.agarang.domain.record.dto.response.BaseRecordGetResponse;
 import com.agarang.domain.record.dto.response.RecordCreateResponse;
 import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.repository.RecordDetailRows;
+import com.agarang.global.exception.BusinessException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.util.List;
 
 
 /**
@@ -21,12 +25,42 @@ import java.time.LocalDate;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-22          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          일괄 생성용 메소드 추가<br>
  * <br>
  */
 public interface RecordService<C extends BaseRecordCreateRequest, R extends BaseRecordGetResponse, Q extends BaseRecordUpdateRequest> {
     RecordCreateResponse createRecord(Integer userId, Integer babyId, C request);
     R getRecord(Integer userId, Integer recordId);
+    List<R> getRecords(List<Record> records);
     void updateRecord(Integer userId, Integer recordId, Q request, MultipartFile image);
     void deleteRecord(Integer userId, Integer recordId);
     RecordType getRecordType();
+
+    /**
+     * 기록을 일괄 생성하기 전에 요청을 검증합니다. 기본 구현은 검증하지 않습니다.
+     *
+     * @param request 기록 생성 요청 객체
+     * @throws BusinessException 요청이 올바르지 않은 경우 발생
+     */
+    default void validateCreateRequest(C request) {
+    }
+
+    /**
+     * 기록을 일괄 생성할 때 카테고리별 상세 테이블에 추가할 행을 등록합니다. 기본 구현은 상세 테이블이 없는 카테고리입니다.
+     *
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록 (기록 ID 가 설정되어 있습니다)
+     * @param request 기록 생성 요청 객체
+     */
+    default void appendCreateRows(RecordDetailRows rows, Record record, C request) {
+    }
+
+    /**
+     * 기록을 일괄 생성한 후 카테고리별 이벤트를 발행합니다. 일자별 통계 갱신 이벤트는 호출하는 쪽에서 발행합니다.
+     *
+     * @param record  저장된 기록
+     * @param request 기록 생성 요청 객체
+     */
+    default void publishCreatedEvents(Record record, C request) {
+    }
 }
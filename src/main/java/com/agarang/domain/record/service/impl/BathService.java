@@ -17,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
@@ -78,6 +80,24 @@ public class BathService implements RecordService<BathCreateRequest, BathGetResp
         return bathMapper.mapToBathGetResponse(record);
     }
 
+    /**
+     * 여러 목욕 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록을 변환된 {@link BathGetResponse} 목록으로 반환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 목욕 기록 정보를 포함한 {@link BathGetResponse} 목록
+     */
+    @Override
+    public List<BathGetResponse> getRecords(List<Record> records) {
+        return records.stream()
+                .map(bathMapper::mapToBathGetResponse)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 목욕 기록을 업데이트합니다.
      *
@@ -1,6 +1,5 @@
 package com.agarang.domain.record.service.impl;
 
-import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.record.dto.mapper.BreastFeedingMapper;
 import com.agarang.domain.record.dto.request.FeedingCreateRequest;
 import com.agarang.domain.record.dto.request.FeedingUpdateRequest;
@@ -9,6 +8,7 @@ import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.FeedingType;
 import com.agarang.domain.record.entity.type.BreastFeeding;
 import com.agarang.domain.record.entity.type.Feeding;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.BreastFeedingRepository;
 import com.agarang.domain.record.service.FeedingTypeService;
 import com.agarang.global.exception.BusinessException;
@@ -16,7 +16,11 @@ import com.agarang.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
@@ -28,6 +32,7 @@ import java.time.LocalDate;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 상세 행 등록 추가<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -35,6 +40,9 @@ public class BreastFeedingService implements FeedingTypeService<BreastFeedingGet
     private final BreastFeedingRepository breastFeedingRepository;
     private final BreastFeedingMapper breastFeedingMapper;
 
+    private static final String DETAIL_TABLE = "breast_feeding";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "position", "left_time", "right_time", "total_time");
+
     /**
      * 모유 수유 기록을 생성합니다.
      *
@@ -80,6 +88,37 @@ public class BreastFeedingService implements FeedingTypeService<BreastFeedingGet
         return breastFeedingMapper.mapToGetResponse(record, feeding, breastFeeding);
     }
 
+    /**
+     * 여러 모유 수유 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 수유 기록 목록에 해당하는 모유 수유 데이터를 단일 쿼리로 조회하고,
+     * 변환된 {@link BreastFeedingGetResponse} 목록을 반환합니다.
+     * </p>
+     *
+     * @param feedings 조회할 수유 기록 목록
+     * @return 조회된 모유 수유 기록 정보를 포함한 {@link BreastFeedingGetResponse} 목록
+     * @throws BusinessException 모유 수유 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<BreastFeedingGetResponse> getFeedingRecords(List<Feeding> feedings) {
+        List<Integer> recordIds = feedings.stream()
+                .map(Feeding::getRecordId)
+                .toList();
+
+        Map<Integer, BreastFeeding> breastFeedingMap = breastFeedingRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(BreastFeeding::getRecordId, Function.identity()));
+
+        return feedings.stream()
+                .map(feeding -> {
+                    BreastFeeding breastFeeding = Optional.ofNullable(breastFeedingMap.get(feeding.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    return breastFeedingMapper.mapToGetResponse(feeding.getRecord(), feeding, breastFeeding);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 모유 수유 기록을 업데이트합니다.
      *
@@ -130,14 +169,14 @@ public class BreastFeedingService implements FeedingTypeService<BreastFeedingGet
     }
 
     /**
-     * 특정 날짜의 총 모유 수유량을 반환합니다.
+     * 일괄 생성할 모유 수유 기록의 상세 행을 등록합니다.
      *
-     * @param baby 조회할 아기 정보
-     * @param date 조회할 날짜
-     * @return 해당 날짜의 총 수유량 (현재 0 반환)
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 수유 기록 생성 요청 객체
      */
     @Override
-    public Integer getDailyTotalAmount(Baby baby, LocalDate date) {
-        return 0;
+    public void appendCreateRows(RecordDetailRows rows, Record record, FeedingCreateRequest request) {
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), request.getPosition(), request.getLeftTime(), request.getRightTime(), request.getTotalTime());
     }
 }
@@ -16,6 +16,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
  * fileName       : ClipService.java<br>
@@ -26,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          알림 이벤트 발행 메소드 분리<br>
  */
 
 @Service
@@ -37,6 +40,7 @@ public class ClipService implements RecordService<ClipCreateRequest, ClipGetResp
     private final ApplicationEventPublisher eventPublisher;
 
     public static final String NOTIFICATION_MESSAGE = " 클립이 도착했어요!";
+    public static final String NOTIFICATION_EVENT_KEY_PREFIX = "clip:";
 
     /**
      * 새로운 클립 기록을 생성합니다.
@@ -54,7 +58,7 @@ public class ClipService implements RecordService<ClipCreateRequest, ClipGetResp
     @Override
     public RecordCreateResponse createRecord(Integer userId, Integer babyId, ClipCreateRequest request) {
         Record record = recordCommonService.createRecord(userId, babyId, request);
-        eventPublisher.publishEvent(new FcmTokenSendMessageEvent(this, babyId, record.getBaby().getName() + NOTIFICATION_MESSAGE, record.getContent()));
+        publishCreatedEvents(record, request);
         return RecordCreateResponse.builder()
                 .recordId(record.getRecordId())
                 .build();
@@ -77,7 +81,7 @@ public class ClipService implements RecordService<ClipCreateRequest, ClipGetResp
      */
     public RecordCreateResponse createRecord(Integer userId, Integer babyId, ClipCreateRequest request, MultipartFile image) {
         Record record = recordCommonService.createRecord(userId, babyId, request, image);
-        eventPublisher.publishEvent(new FcmTokenSendMessageEvent(this, babyId, record.getBaby().getName() + NOTIFICATION_MESSAGE, record.getContent()));
+        publishCreatedEvents(record, request);
         return RecordCreateResponse.builder()
                 .recordId(record.getRecordId())
                 .build();
@@ -102,6 +106,22 @@ public class ClipService implements RecordService<ClipCreateRequest, ClipGetResp
         return clipMapper.mapToGetResponse(record);
     }
 
+    /**
+     * 여러 클립 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록을 변환된 {@link ClipGetResponse} 목록으로 반환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 클립 기록 정보를 포함한 {@link ClipGetResponse} 목록
+     */
+    @Override
+    public List<ClipGetResponse> getRecords(List<Record> records) {
+        return clipMapper.mapToGetResponseList(records);
+    }
+
     /**
      * 특정 클립 기록을 업데이트합니다.
      *
@@ -144,4 +164,15 @@ public class ClipService implements RecordService<ClipCreateRequest, ClipGetResp
     public RecordType getRecordType() {
         return RecordType.CLIP;
     }
+
+    /**
+     * 생성된 클립 기록의 FCM 푸시 알림 이벤트를 발행합니다.
+     *
+     * @param record  저장된 기록
+     * @param request 클립 기록 생성 요청 객체
+     */
+    @Override
+    public void publishCreatedEvents(Record record, ClipCreateRequest request) {
+        eventPublisher.publishEvent(new FcmTokenSendMessageEvent(this, record.getBaby().getBabyId(), NOTIFICATION_EVENT_KEY_PREFIX + record.getRecordId(), record.getBaby().getName() + NOTIFICATION_MESSAGE, record.getContent()));
+    }
 }
@@ -1,6 +1,5 @@
 package com.agarang.domain.record.service.impl;
 
-import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.record.dto.request.FeedingCreateRequest;
 import com.agarang.domain.record.dto.request.FeedingUpdateRequest;
 import com.agarang.domain.record.dto.response.FeedingGetResponse;
@@ -10,6 +9,7 @@ import com.agarang.domain.record.entity.enumeration.FeedingType;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.entity.type.Feeding;
 import com.agarang.domain.record.repository.FeedingRepository;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.service.FeedingTypeService;
 import com.agarang.domain.record.service.RecordCommonService;
 import com.agarang.domain.record.service.RecordService;
@@ -19,9 +19,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +36,7 @@ import java.util.stream.Collectors;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/29/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 검증, 상세 행 등록 추가<br>
  */
 
 @Service
@@ -43,6 +46,9 @@ public class FeedingService implements RecordService<FeedingCreateRequest, Feedi
     private final RecordCommonService recordCommonService;
     private final FeedingRepository feedingRepository;
 
+    private static final String DETAIL_TABLE = "feeding";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "feeding_type");
+
     /**
      * FeedingService 생성자.
      *
@@ -113,6 +119,40 @@ public class FeedingService implements RecordService<FeedingCreateRequest, Feedi
         return getService(feeding.getFeedingType()).getFeedingRecord(record, feeding);
     }
 
+    /**
+     * 여러 수유 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록의 수유 데이터를 단일 쿼리로 조회한 후 수유 타입별로 묶어,
+     * 각 수유 타입 서비스에서 타입별 데이터를 한 번에 조회하도록 합니다.
+     * 반환되는 목록은 주어진 기록 목록의 순서를 따릅니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 수유 기록 정보를 포함한 {@link FeedingGetResponse} 목록
+     * @throws BusinessException 수유 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<FeedingGetResponse> getRecords(List<Record> records) {
+        List<Integer> recordIds = records.stream()
+                .map(Record::getRecordId)
+                .toList();
+
+        Map<FeedingType, List<Feeding>> feedingsByType = feedingRepository.findAllById(recordIds).stream()
+                .collect(Collectors.groupingBy(Feeding::getFeedingType, () -> new EnumMap<>(FeedingType.class), Collectors.toList()));
+
+        Map<Integer, FeedingGetResponse> responseMap = new HashMap<>();
+        feedingsByType.forEach((feedingType, feedings) ->
+                getService(feedingType).getFeedingRecords(feedings)
+                        .forEach(response -> responseMap.put(response.getRecordId(), response)));
+
+        return records.stream()
+                .map(record -> Optional.ofNullable(responseMap.get(record.getRecordId()))
+                        .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND)))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 수유 기록을 업데이트합니다.
      *
@@ -197,33 +237,31 @@ public class FeedingService implements RecordService<FeedingCreateRequest, Feedi
     }
 
     /**
-     * 특정 아기의 주간 평균 수유량을 계산합니다.
+     * 일괄 생성할 수유 기록의 수유 타입을 검증합니다.
+     *
+     * @param request 수유 기록 생성 요청 객체
+     * @throws BusinessException 지원되지 않는 수유 타입일 경우 발생
+     */
+    @Override
+    public void validateCreateRequest(FeedingCreateRequest request) {
+        getService(request.getFeedingType());
+    }
+
+    /**
+     * 일괄 생성할 수유 기록의 상세 행을 등록합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 총 수유량을 계산하고,
-     * 일주일 평균을 반환합니다.
+     * `feeding` 행을 등록한 후 수유 타입 서비스에서 타입별 상세 행을 등록합니다.
      * </p>
      *
-     * @param baby 조회할 아기 정보
-     * @param date 기준 날짜
-     * @return 주간 평균 수유량
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 수유 기록 생성 요청 객체
      */
-    public Integer getWeeklyAverageAmount(Baby baby, LocalDate date) {
-        int totalWeeklyAmount = 0;
-
-        for(int i=0;i<7;i++) {
-            LocalDate currentDate = date.minusDays(i);
-
-            int dailyTotalAmount = feedingTypeServices.values().stream()
-                    .map(service -> service.getDailyTotalAmount(baby, currentDate))
-                    .filter(amount -> amount != null && amount > 0)
-                    .mapToInt(Integer::intValue)
-                    .sum();
-
-            totalWeeklyAmount += dailyTotalAmount;
-        }
-
-        return (int) Math.round((double) totalWeeklyAmount / 7);
+    @Override
+    public void appendCreateRows(RecordDetailRows rows, Record record, FeedingCreateRequest request) {
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), request.getFeedingType());
+        getService(request.getFeedingType()).appendCreateRows(rows, record, request);
     }
 
     /**
@@ -9,6 +9,7 @@ import com.agarang.domain.record.dto.response.RecordCreateResponse;
 import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.entity.type.GrowthStatus;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.GrowthStatusRepository;
 import com.agarang.domain.record.service.RecordCommonService;
 import com.agarang.domain.record.service.RecordService;
@@ -20,6 +21,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
  * fileName       : GrowthStatusService.java<br>
@@ -30,6 +37,7 @@ import org.springframework.web.multipart.MultipartFile;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 상세 행 등록 추가<br>
  */
 
 @Service
@@ -41,6 +49,9 @@ public class GrowthStatusService implements RecordService<GrowthStatusCreateRequ
     private final GrowthStatusMapper growthStatusMapper;
     private final ApplicationEventPublisher eventPublisher;
 
+    private static final String DETAIL_TABLE = "growth_status";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "growth_status_type", "size");
+
     /**
      * 새로운 성장 상태 기록을 생성합니다.
      *
@@ -97,6 +108,38 @@ public class GrowthStatusService implements RecordService<GrowthStatusCreateRequ
         return growthStatusMapper.mapToGetResponse(record, growthStatus);
     }
 
+    /**
+     * 여러 성장 상태 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록에 해당하는 성장 상태 데이터를 단일 쿼리로 조회하고,
+     * 변환된 {@link GrowthStatusGetResponse} 목록을 반환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 성장 상태 기록 정보를 포함한 {@link GrowthStatusGetResponse} 목록
+     * @throws BusinessException 성장 상태 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<GrowthStatusGetResponse> getRecords(List<Record> records) {
+        List<Integer> recordIds = records.stream()
+                .map(Record::getRecordId)
+                .toList();
+
+        Map<Integer, GrowthStatus> growthStatusMap = growthStatusRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(GrowthStatus::getRecordId, Function.identity()));
+
+        return records.stream()
+                .map(record -> {
+                    GrowthStatus growthStatus = Optional.ofNullable(growthStatusMap.get(record.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    return growthStatusMapper.mapToGetResponse(record, growthStatus);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 성장 상태 기록을 업데이트합니다.
      *
@@ -152,4 +195,27 @@ public class GrowthStatusService implements RecordService<GrowthStatusCreateRequ
     public RecordType getRecordType() {
         return RecordType.GROWTH_STATUS;
     }
+
+    /**
+     * 일괄 생성할 성장 상태 기록의 상세 행을 등록합니다.
+     *
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 성장 상태 기록 생성 요청 객체
+     */
+    @Override
+    public void appendCreateRows(RecordDetailRows rows, Record record, GrowthStatusCreateRequest request) {
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), request.getGrowthStatusType(), request.getSize());
+    }
+
+    /**
+     * 일괄 생성한 성장 상태 기록으로 아기의 성장 상태를 갱신하는 이벤트를 발행합니다.
+     *
+     * @param record  저장된 기록
+     * @param request 성장 상태 기록 생성 요청 객체
+     */
+    @Override
+    public void publishCreatedEvents(Record record, GrowthStatusCreateRequest request) {
+        eventPublisher.publishEvent(new BabyGrowthStatusRecordEvent(this, record.getBaby().getBabyId(), request.getGrowthStatusType(), request.getSize()));
+    }
 }
@@ -8,6 +8,7 @@ import com.agarang.domain.record.dto.response.RecordCreateResponse;
 import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.entity.type.Hospital;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.HospitalRepository;
 import com.agarang.domain.record.service.RecordCommonService;
 import com.agarang.domain.record.service.RecordService;
@@ -18,6 +19,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
  * fileName       : HospitalService.java<br>
@@ -28,6 +35,7 @@ import org.springframework.web.multipart.MultipartFile;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 상세 행 등록 추가<br>
  */
 
 @Service
@@ -38,6 +46,9 @@ public class HospitalService implements RecordService<HospitalCreateRequest, Hos
     private final HospitalRepository hospitalRepository;
     private final HospitalMapper hospitalMapper;
 
+    private static final String DETAIL_TABLE = "hospital";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "visit_type");
+
     /**
      * 새로운 병원 방문 기록을 생성합니다.
      *
@@ -90,6 +101,38 @@ public class HospitalService implements RecordService<HospitalCreateRequest, Hos
         return hospitalMapper.mapToGetResponse(record, hospital);
     }
 
+    /**
+     * 여러 병원 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록에 해당하는 병원 데이터를 단일 쿼리로 조회하고,
+     * 변환된 {@link HospitalGetResponse} 목록을 반환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 병원 기록 정보를 포함한 {@link HospitalGetResponse} 목록
+     * @throws BusinessException 병원 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<HospitalGetResponse> getRecords(List<Record> records) {
+        List<Integer> recordIds = records.stream()
+                .map(Record::getRecordId)
+                .toList();
+
+        Map<Integer, Hospital> hospitalMap = hospitalRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(Hospital::getRecordId, Function.identity()));
+
+        return records.stream()
+                .map(record -> {
+                    Hospital hospital = Optional.ofNullable(hospitalMap.get(record.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    return hospitalMapper.mapToGetResponse(record, hospital);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 병원 방문 기록을 업데이트합니다.
      *
@@ -142,4 +185,16 @@ public class HospitalService implements RecordService<HospitalCreateRequest, Hos
     public RecordType getRecordType() {
         return RecordType.HOSPITAL;
     }
+
+    /**
+     * 일괄 생성할 병원 방문 기록의 상세 행을 등록합니다.
+     *
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 병원 방문 기록 생성 요청 객체
+     */
+    @Override
+    public void appendCreateRows(RecordDetailRows rows, Record record, HospitalCreateRequest request) {
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), request.getVisitType());
+    }
 }
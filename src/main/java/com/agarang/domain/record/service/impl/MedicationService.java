@@ -20,6 +20,7 @@ import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.entity.type.Antipyretic;
 import com.agarang.domain.record.entity.type.Medication;
 import com.agarang.domain.record.repository.MedicationRepository;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.AntipyreticRepository;
 import com.agarang.domain.record.repository.type.GrowthStatusRepository;
 import com.agarang.domain.record.service.RecordCommonService;
@@ -35,7 +36,11 @@ import org.springframework.web.multipart.MultipartFile;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
@@ -48,6 +53,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 검증, 상세 행 등록 추가<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -68,6 +74,11 @@ public class MedicationService implements RecordService<MedicationCreateRequest,
     public static final int ACETAMINOPHEN_SAFE_MONTH = 4;
     public static final int IBUPROFEN_SAFE_MONTH = 6;
 
+    private static final String MEDICATION_TABLE = "medication";
+    private static final List<String> MEDICATION_COLUMNS = List.of("record_id", "medication_type");
+    private static final String ANTIPYRETIC_TABLE = "antipyretic";
+    private static final List<String> ANTIPYRETIC_COLUMNS = List.of("record_id", "specific_type", "amount");
+
     /**
      * 새로운 약물 복용 기록을 생성합니다.
      *
@@ -141,6 +152,52 @@ public class MedicationService implements RecordService<MedicationCreateRequest,
 
     }
 
+    /**
+     * 여러 복약 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록의 복약 데이터를 단일 쿼리로 조회하고,
+     * 해열제 기록은 해열제 데이터를 한 번에 추가로 조회하여 함께 변환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 복약 기록 정보를 포함한 {@link MedicationGetResponse} 목록
+     * @throws BusinessException 복약 또는 해열제 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<MedicationGetResponse> getRecords(List<Record> records) {
+        List<Integer> recordIds = records.stream()
+                .map(Record::getRecordId)
+                .toList();
+
+        Map<Integer, Medication> medicationMap = medicationRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(Medication::getRecordId, Function.identity()));
+
+        List<Integer> antipyreticIds = medicationMap.values().stream()
+                .filter(medication -> medication.getMedicationType() == MedicationType.ANTIPYRETIC)
+                .map(Medication::getRecordId)
+                .toList();
+
+        Map<Integer, Antipyretic> antipyreticMap = antipyreticRepository.findAllById(antipyreticIds).stream()
+                .collect(Collectors.toMap(Antipyretic::getRecordId, Function.identity()));
+
+        return records.stream()
+                .map(record -> {
+                    Medication medication = Optional.ofNullable(medicationMap.get(record.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    if(medication.getMedicationType() == MedicationType.OTHERS) {
+                        return medicationMapper.mapToGetResponse(record, medication);
+                    }
+
+                    Antipyretic antipyretic = Optional.ofNullable(antipyreticMap.get(record.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+                    return medicationMapper.mapToGetResponse(record, medication, antipyretic);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 약물 복용 기록을 업데이트합니다.
      *
@@ -224,6 +281,39 @@ public class MedicationService implements RecordService<MedicationCreateRequest,
         return RecordType.MEDICATION;
     }
 
+    /**
+     * 일괄 생성할 약물 복용 기록을 검증합니다.
+     *
+     * @param request 약물 복용 기록 생성 요청 객체
+     * @throws BusinessException 해열제의 유형이나 복용량이 없는 경우 발생
+     */
+    @Override
+    public void validateCreateRequest(MedicationCreateRequest request) {
+        if(request.getMedicationType() == MedicationType.ANTIPYRETIC) {
+            validAntipyretic(request.getSpecificType(), request.getAmount());
+        }
+    }
+
+    /**
+     * 일괄 생성할 약물 복용 기록의 상세 행을 등록합니다.
+     *
+     * <p>
+     * 해열제(`ANTIPYRETIC`)인 경우 `antipyretic` 행도 함께 등록합니다.
+     * </p>
+     *
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 약물 복용 기록 생성 요청 객체
+     */
+    @Override
+    public void appendCreateRows(RecordDetailRows rows, Record record, MedicationCreateRequest request) {
+        rows.add(MEDICATION_TABLE, MEDICATION_COLUMNS, record.getRecordId(), request.getMedicationType());
+
+        if(request.getMedicationType() == MedicationType.ANTIPYRETIC) {
+            rows.add(ANTIPYRETIC_TABLE, ANTIPYRETIC_COLUMNS, record.getRecordId(), request.getSpecificType(), request.getAmount());
+        }
+    }
+
     /**
      * 해열제 복용 가능 여부를 체크합니다.
      *
@@ -9,6 +9,7 @@ import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.FeedingType;
 import com.agarang.domain.record.entity.type.Feeding;
 import com.agarang.domain.record.entity.type.NormalFeeding;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.NormalFeedingRepository;
 import com.agarang.domain.record.service.FeedingTypeService;
 import com.agarang.global.exception.BusinessException;
@@ -17,6 +18,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
@@ -28,6 +34,7 @@ import java.time.LocalDate;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 상세 행 등록 추가<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -36,6 +43,8 @@ public class NormalFeedingService implements FeedingTypeService<NormalFeedingGet
     private final NormalFeedingRepository normalFeedingRepository;
 
     private static final int NORMAL_FEEDING_DEFAULT_AMOUNT = 0;
+    private static final String DETAIL_TABLE = "normal_feeding";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "amount");
 
     /**
      * 일반 수유 기록을 생성합니다.
@@ -81,6 +90,37 @@ public class NormalFeedingService implements FeedingTypeService<NormalFeedingGet
         return normalFeedingMapper.mapToGetResponse(record, feeding, normalFeeding);
     }
 
+    /**
+     * 여러 일반 수유 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 수유 기록 목록에 해당하는 일반 수유 데이터를 단일 쿼리로 조회하고,
+     * 변환된 {@link NormalFeedingGetResponse} 목록을 반환합니다.
+     * </p>
+     *
+     * @param feedings 조회할 수유 기록 목록
+     * @return 조회된 일반 수유 기록 정보를 포함한 {@link NormalFeedingGetResponse} 목록
+     * @throws BusinessException 일반 수유 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<NormalFeedingGetResponse> getFeedingRecords(List<Feeding> feedings) {
+        List<Integer> recordIds = feedings.stream()
+                .map(Feeding::getRecordId)
+                .toList();
+
+        Map<Integer, NormalFeeding> normalFeedingMap = normalFeedingRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(NormalFeeding::getRecordId, Function.identity()));
+
+        return feedings.stream()
+                .map(feeding -> {
+                    NormalFeeding normalFeeding = Optional.ofNullable(normalFeedingMap.get(feeding.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    return normalFeedingMapper.mapToGetResponse(feeding.getRecord(), feeding, normalFeeding);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 일반 수유 기록을 업데이트합니다.
      *
@@ -130,21 +170,24 @@ public class NormalFeedingService implements FeedingTypeService<NormalFeedingGet
     }
 
     /**
-     * 특정 날짜의 총 일반 수유량을 반환합니다.
+     * 일괄 생성할 일반 수유 기록의 상세 행을 등록합니다.
      *
      * <p>
-     * 주어진 아기와 날짜를 기준으로 평균 수유량을 계산하여 반환합니다.
+     * 요청된 수유량이 없으면 같은 요청에서 앞서 등록한 일반 수유량을, 없으면 최근 1개월간의 최신 수유량을 사용합니다.
      * </p>
      *
-     * @param baby 조회할 아기 정보
-     * @param date 조회할 날짜
-     * @return 해당 날짜의 총 수유량
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 수유 기록 생성 요청 객체
      */
     @Override
-    public Integer getDailyTotalAmount(Baby baby, LocalDate date) {Double average = normalFeedingRepository
-                .findAverageByBabyAndDate(baby, date);
+    public void appendCreateRows(RecordDetailRows rows, Record record, FeedingCreateRequest request) {
+        Integer amount = (request.getAmount() != null)
+                ? request.getAmount()
+                : rows.<Integer>latest(getFeedingType(), () -> latestAmount(rows.getBaby()));
 
-        return Math.toIntExact(Math.round(average));
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), amount);
+        rows.updateLatest(getFeedingType(), amount);
     }
 
     /**
@@ -160,14 +203,22 @@ public class NormalFeedingService implements FeedingTypeService<NormalFeedingGet
      * @return 최종 결정된 수유량
      */
     private Integer getAmountValue(Feeding feeding, Integer requestValue) {
+        return (requestValue != null) ? requestValue : latestAmount(feeding.getRecord().getBaby());
+    }
+
+    /**
+     * 최근 1개월간의 일반 수유 기록 중 가장 최근 수유량을 조회합니다.
+     *
+     * @param baby 아기 {@link Baby}
+     * @return 최근 수유량, 기록이 없으면 기본 수유량
+     */
+    private Integer latestAmount(Baby baby) {
         LocalDate end = LocalDate.now();
         LocalDate start = end.minusMonths(1);
 
-        Integer latestValue = normalFeedingRepository
-                .getLatestNormalFeedingByBabyAndStartedAtBetween(feeding.getRecord().getBaby(), start, end)
+        return normalFeedingRepository
+                .getLatestNormalFeedingByBabyAndStartedAtBetween(baby, start, end)
                 .map(NormalFeeding::getAmount)
                 .orElse(NORMAL_FEEDING_DEFAULT_AMOUNT);
-
-        return (requestValue != null) ? requestValue : latestValue;
     }
 }
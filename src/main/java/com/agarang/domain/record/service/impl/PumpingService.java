@@ -8,6 +8,7 @@ import com.agarang.domain.record.dto.response.RecordCreateResponse;
 import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.entity.type.Pumping;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.PumpingRepository;
 import com.agarang.domain.record.service.RecordCommonService;
 import com.agarang.domain.record.service.RecordService;
@@ -19,7 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
@@ -31,6 +36,7 @@ import java.util.Optional;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/26/25          nature1216          최초생성<br>
+ * 10/18/26          nature1216          일괄 생성용 상세 행 등록 추가<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -41,6 +47,8 @@ public class PumpingService implements RecordService<PumpingCreateRequest, Pumpi
     private final PumpingMapper pumpingMapper;
 
     private static final Integer PUMPING_DEFAULT_AMOUNT = 0;
+    private static final String DETAIL_TABLE = "pumping";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "position", "right_amount", "left_amount", "total_amount");
 
     /**
      * 새로운 유축 기록을 생성합니다.
@@ -105,6 +113,38 @@ public class PumpingService implements RecordService<PumpingCreateRequest, Pumpi
         return pumpingMapper.mapToGetResponse(record, pumping);
     }
 
+    /**
+     * 여러 유축 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록에 해당하는 유축 데이터를 단일 쿼리로 조회하고,
+     * 변환된 {@link PumpingGetResponse} 목록을 반환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 유축 기록 정보를 포함한 {@link PumpingGetResponse} 목록
+     * @throws BusinessException 유축 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<PumpingGetResponse> getRecords(List<Record> records) {
+        List<Integer> recordIds = records.stream()
+                .map(Record::getRecordId)
+                .toList();
+
+        Map<Integer, Pumping> pumpingMap = pumpingRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(Pumping::getRecordId, Function.identity()));
+
+        return records.stream()
+                .map(record -> {
+                    Pumping pumping = Optional.ofNullable(pumpingMap.get(record.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    return pumpingMapper.mapToGetResponse(record, pumping);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 유축 기록을 업데이트합니다.
      *
@@ -158,6 +198,38 @@ public class PumpingService implements RecordService<PumpingCreateRequest, Pumpi
         return RecordType.PUMPING;
     }
 
+    /**
+     * 일괄 생성할 유축 기록의 상세 행을 등록합니다.
+     *
+     * <p>
+     * 요청된 유축량이 없으면 같은 요청에서 앞서 등록한 유축 기록을, 없으면 최근 1개월간의 최신 유축 기록을 기준으로 결정합니다.
+     * </p>
+     *
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 유축 기록 생성 요청 객체
+     */
+    @Override
+    public void appendCreateRows(RecordDetailRows rows, Record record, PumpingCreateRequest request) {
+        Optional<Pumping> latestRecordOpt = rows.latest(RecordType.PUMPING, () -> {
+            LocalDate end = LocalDate.now();
+            LocalDate start = end.minusMonths(1);
+            return pumpingRepository.getLatestPumpingByBabyAndStartedAtBetween(rows.getBaby(), start, end);
+        });
+
+        Integer rightAmount = determineAmount(latestRecordOpt.map(Pumping::getRightAmount), request.getRightAmount());
+        Integer leftAmount = determineAmount(latestRecordOpt.map(Pumping::getLeftAmount), request.getLeftAmount());
+        Integer totalAmount = determineAmount(latestRecordOpt.map(Pumping::getTotalAmount), request.getTotalAmount());
+
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), request.getPosition(), rightAmount, leftAmount, totalAmount);
+        rows.updateLatest(RecordType.PUMPING, Optional.of(Pumping.builder()
+                .position(request.getPosition())
+                .rightAmount(rightAmount)
+                .leftAmount(leftAmount)
+                .totalAmount(totalAmount)
+                .build()));
+    }
+
     /**
      * 유축량을 결정합니다.
      *
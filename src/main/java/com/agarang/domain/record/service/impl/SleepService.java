@@ -10,14 +10,17 @@ import com.agarang.domain.record.dto.response.RecordCreateResponse;
 import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.record.entity.type.Sleep;
+import com.agarang.domain.record.repository.RecordDetailRows;
 import com.agarang.domain.record.repository.type.SleepRepository;
 import com.agarang.domain.record.service.RecordCommonService;
 import com.agarang.domain.record.service.RecordService;
+import com.agarang.domain.statistics.event.BabyDailyStatsEvent;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -28,6 +31,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * packageName    : com.agarang.domain.record.service.impl<br>
@@ -39,6 +46,7 @@ import java.util.List;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-23          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          일괄 생성용 상세 행 등록 추가<br>
  * <br>
  */
 @Service
@@ -48,6 +56,10 @@ public class SleepService implements RecordService<SleepCreateRequest, BaseRecor
     private final RecordCommonService recordCommonService;
     private final SleepRepository sleepRepository;
     private final SleepMapper sleepMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String DETAIL_TABLE = "sleep";
+    private static final List<String> DETAIL_COLUMNS = List.of("record_id", "ended_at");
 
     /**
      * 새로운 수면 기록을 생성합니다.
@@ -74,6 +86,7 @@ public class SleepService implements RecordService<SleepCreateRequest, BaseRecor
                 .build();
 
         sleepRepository.save(sleep);
+        publishOvernightDailyStatsEvent(record, record.getStartedAt(), sleep.getEndedAt());
 
         return RecordCreateResponse.builder()
                 .recordId(record.getRecordId())
@@ -103,6 +116,38 @@ public class SleepService implements RecordService<SleepCreateRequest, BaseRecor
         return sleepMapper.mapToGetResponse(record, sleep);
     }
 
+    /**
+     * 여러 수면 기록을 한 번에 조회합니다.
+     *
+     * <p>
+     * 주어진 기록 목록에 해당하는 수면 데이터를 단일 쿼리로 조회하고,
+     * 변환된 {@link BaseRecordGetResponse} 목록을 반환합니다.
+     * 보호 권한 확인은 호출하는 쪽에서 수행합니다.
+     * </p>
+     *
+     * @param records 조회할 기록 목록
+     * @return 조회된 수면 기록 정보를 포함한 {@link BaseRecordGetResponse} 목록
+     * @throws BusinessException 수면 데이터를 찾을 수 없는 경우 발생
+     */
+    @Override
+    public List<BaseRecordGetResponse> getRecords(List<Record> records) {
+        List<Integer> recordIds = records.stream()
+                .map(Record::getRecordId)
+                .toList();
+
+        Map<Integer, Sleep> sleepMap = sleepRepository.findAllById(recordIds).stream()
+                .collect(Collectors.toMap(Sleep::getRecordId, Function.identity()));
+
+        return records.stream()
+                .map(record -> {
+                    Sleep sleep = Optional.ofNullable(sleepMap.get(record.getRecordId()))
+                            .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
+
+                    return sleepMapper.mapToGetResponse(record, sleep);
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 수면 기록을 업데이트합니다.
      *
@@ -121,9 +166,14 @@ public class SleepService implements RecordService<SleepCreateRequest, BaseRecor
     public void updateRecord(Integer userId, Integer recordId, SleepUpdateRequest request, MultipartFile image) {
         Sleep sleep = sleepRepository.findById(recordId)
                 .orElseThrow(() -> new EntityNotFoundException(("Sleep not found")));
+        LocalDateTime previousStartedAt = sleep.getRecord().getStartedAt();
+        LocalDateTime previousEndedAt = sleep.getEndedAt();
 
         recordCommonService.updateRecord(userId, recordId, request, image);
         sleepMapper.updateSleepFromUpdateSleepRequest(request, sleep);
+
+        publishOvernightDailyStatsEvent(sleep.getRecord(), previousStartedAt, previousEndedAt);
+        publishOvernightDailyStatsEvent(sleep.getRecord(), sleep.getRecord().getStartedAt(), sleep.getEndedAt());
     }
 
     /**
@@ -143,6 +193,7 @@ public class SleepService implements RecordService<SleepCreateRequest, BaseRecor
                 .orElseThrow(() -> new BusinessException(ErrorCode.RECORD_NOT_FOUND));
 
         sleepRepository.delete(sleep);
+        publishOvernightDailyStatsEvent(sleep.getRecord(), sleep.getRecord().getStartedAt(), sleep.getEndedAt());
 
         recordCommonService.deleteRecord(userId, recordId);
     }
@@ -156,4 +207,56 @@ public class SleepService implements RecordService<SleepCreateRequest, BaseRecor
     public RecordType getRecordType() {
         return RecordType.SLEEP;
     }
+
+    /**
+     * 일괄 생성할 수면 기록의 상세 행을 등록합니다.
+     *
+     * <p>
+     * 종료 시간이 없으면 {@link Sleep} 저장 시와 같이 시작 시간을 종료 시간으로 사용합니다.
+     * </p>
+     *
+     * @param rows    상세 행 {@link RecordDetailRows}
+     * @param record  저장된 기록
+     * @param request 수면 기록 생성 요청 객체
+     */
+    @Override
+    public void appendCreateRows(RecordDetailRows rows, Record record, SleepCreateRequest request) {
+        rows.add(DETAIL_TABLE, DETAIL_COLUMNS, record.getRecordId(), resolveEndedAt(record, request));
+    }
+
+    /**
+     * 일괄 생성한 수면 기록이 자정을 넘긴 경우 일자별 통계 갱신 이벤트를 발행합니다.
+     *
+     * @param record  저장된 기록
+     * @param request 수면 기록 생성 요청 객체
+     */
+    @Override
+    public void publishCreatedEvents(Record record, SleepCreateRequest request) {
+        publishOvernightDailyStatsEvent(record, record.getStartedAt(), resolveEndedAt(record, request));
+    }
+
+    private LocalDateTime resolveEndedAt(Record record, SleepCreateRequest request) {
+        return request.getEndedAt() != null ? request.getEndedAt() : record.getStartedAt();
+    }
+
+    /**
+     * 자정을 넘긴 수면 기록의 일자별 통계 갱신 이벤트를 발행합니다.
+     *
+     * <p>
+     * 수면 시작 날짜의 통계는 공통 기록 서비스에서 갱신하므로,
+     * 수면이 이어진 다음 날짜부터 종료 날짜까지의 통계만 갱신하도록 합니다.
+     * </p>
+     *
+     * @param record    수면 기록
+     * @param startedAt 수면 시작 시각
+     * @param endedAt   수면 종료 시각
+     */
+    private void publishOvernightDailyStatsEvent(Record record, LocalDateTime startedAt, LocalDateTime endedAt) {
+        LocalDate startDate = startedAt.toLocalDate();
+        LocalDate endDate = endedAt.toLocalDate();
+
+        if(!endDate.isAfter(startDate)) return;
+
+        eventPublisher.publishEvent(new BabyDailyStatsEvent(this, record.getBaby().getBabyId(), RecordType.SLEEP, startDate.plusDays(1), endDate));
+    }
 }
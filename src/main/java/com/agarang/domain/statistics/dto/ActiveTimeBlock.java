@@ -25,12 +25,4 @@ import java.time.LocalTime;
 public class ActiveTimeBlock {
     private LocalTime start;
     private LocalTime end;
-
-    public boolean isConnected(ActiveTimeBlock other) {
-        return this.end.equals(other.start);
-    }
-
-    public ActiveTimeBlock merge(ActiveTimeBlock other) {
-        return new ActiveTimeBlock(this.start, other.end);
-    }
 }
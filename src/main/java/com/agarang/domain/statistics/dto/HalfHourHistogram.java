@@ -0,0 +1,144 @@
+package com.agarang.domain.statistics.dto;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.statistics.dto<br>
+ * fileName       : HalfHourHistogram.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 하루를 30분 단위 48칸으로 나눈 활동 빈도 히스토그램입니다. <br>
+ * <p>
+ * 칸별 빈도는 {@code int[48]}에, 기준 빈도를 넘는 칸은 {@code long} 비트마스크에 담아
+ * 패턴 분석을 객체 생성 없이 배열과 비트 연산으로 처리합니다.
+ * 0번 칸이 00:00~00:30, 47번 칸이 23:30~24:00을 나타냅니다.
+ * </p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+public class HalfHourHistogram {
+    public static final int SLOTS = 48;
+    private static final long ALL_SLOTS = (1L << SLOTS) - 1;
+    private static final int MINUTES_PER_SLOT = 30;
+
+    private final int[] counts = new int[SLOTS];
+
+    /**
+     * 하루의 30분 단위 기록 구간을 히스토그램에 더합니다.
+     *
+     * @param slotMask 기록이 있는 칸의 비트를 켠 값
+     */
+    public void addSlots(long slotMask) {
+        long remaining = slotMask & ALL_SLOTS;
+
+        while (remaining != 0) {
+            counts[Long.numberOfTrailingZeros(remaining)]++;
+            remaining &= remaining - 1;
+        }
+    }
+
+    /**
+     * 특정 칸의 빈도를 반환합니다.
+     *
+     * @param slot 칸 번호
+     * @return 해당 칸의 빈도
+     */
+    public int getCount(int slot) {
+        return counts[slot];
+    }
+
+    /**
+     * 최소 빈도 이상인 칸의 비트를 켠 값을 반환합니다.
+     *
+     * @param minFrequency 최소 빈도 기준
+     * @return 기준 이상인 칸의 비트마스크
+     */
+    public long getFrequentSlots(int minFrequency) {
+        long mask = 0L;
+
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] >= minFrequency) {
+                mask |= 1L << slot;
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * 최소 빈도 이상인 칸을 각각 30분 활동 시간 블록으로 반환합니다.
+     *
+     * @param minFrequency 최소 빈도 기준
+     * @return 시작 시각 순으로 정렬된 활동 시간 블록 리스트
+     */
+    public List<ActiveTimeBlock> findBlocks(int minFrequency) {
+        long mask = getFrequentSlots(minFrequency);
+        List<ActiveTimeBlock> blocks = new ArrayList<>(Long.bitCount(mask));
+
+        while (mask != 0) {
+            int slot = Long.numberOfTrailingZeros(mask);
+            blocks.add(new ActiveTimeBlock(toTime(slot), toTime(slot + 1)));
+            mask &= mask - 1;
+        }
+
+        return blocks;
+    }
+
+    /**
+     * 최소 빈도 이상인 칸 중 연속된 칸을 하나의 활동 시간 블록으로 병합하여 반환합니다.
+     *
+     * <p>
+     * 자정을 넘어 이어지는 구간(23:30~24:00 칸과 00:00~00:30 칸이 모두 포함된 경우)은
+     * 하나의 블록으로 병합되며, 해당 블록의 종료 시각은 시작 시각보다 이릅니다.
+     * </p>
+     *
+     * @param minFrequency 최소 빈도 기준
+     * @return 시작 시각 순으로 정렬된 병합된 활동 시간 블록 리스트
+     */
+    public List<ActiveTimeBlock> findMergedBlocks(int minFrequency) {
+        long mask = getFrequentSlots(minFrequency);
+        List<ActiveTimeBlock> blocks = new ArrayList<>();
+
+        if (mask == ALL_SLOTS) {
+            blocks.add(new ActiveTimeBlock(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT));
+            return blocks;
+        }
+
+        boolean wrapsMidnight = (mask & 1L) != 0 && (mask & (1L << (SLOTS - 1))) != 0;
+        int wrappedEnd = wrapsMidnight ? Long.numberOfTrailingZeros(~mask) : 0;
+        int slot = wrappedEnd;
+
+        while (slot < SLOTS) {
+            long remaining = mask >>> slot;
+            if (remaining == 0) break;
+
+            int runStart = slot + Long.numberOfTrailingZeros(remaining);
+            int runEnd = Math.min(runStart + Long.numberOfTrailingZeros(~(mask >>> runStart)), SLOTS);
+
+            if (wrapsMidnight && runEnd == SLOTS) {
+                blocks.add(new ActiveTimeBlock(toTime(runStart), toTime(wrappedEnd)));
+            } else {
+                blocks.add(new ActiveTimeBlock(toTime(runStart), toTime(runEnd)));
+            }
+
+            slot = runEnd;
+        }
+
+        return blocks;
+    }
+
+    /**
+     * 칸 번호를 해당 칸의 시작 시각으로 변환합니다.
+     *
+     * @param slot 칸 번호 (48은 자정으로 변환)
+     * @return 칸의 시작 시각
+     */
+    private static LocalTime toTime(int slot) {
+        int minutes = (slot % SLOTS) * MINUTES_PER_SLOT;
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+}
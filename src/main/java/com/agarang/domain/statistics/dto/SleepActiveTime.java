@@ -1,33 +0,0 @@
-package com.agarang.domain.statistics.dto;
-
-import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import lombok.experimental.SuperBuilder;
-
-import java.time.LocalDate;
-
-/**
- * packageName    : com.agarang.domain.statistics.dto<br>
- * fileName       : SleepActiveTime.java<br>
- * author         : nature1216 <br>
- * date           : 2/4/25<br>
- * description    : 수면 active time DTO입니다. <br>
- * ===========================================================<br>
- * DATE              AUTHOR             NOTE<br>
- * -----------------------------------------------------------<br>
- * 2/4/25          nature1216          최초생성<br>
- */
-@Data
-@SuperBuilder
-@NoArgsConstructor
-@AllArgsConstructor
-@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
-public class SleepActiveTime extends ActiveTime{
-    @JsonIgnore
-    private LocalDate date;
-}
@@ -0,0 +1,96 @@
+package com.agarang.domain.statistics.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * packageName    : com.agarang.domain.statistics.dto<br>
+ * fileName       : WeeklyWindow.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 주간통계 계산에 사용하는 이번 주·지난 주 기록 묶음 DTO입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WeeklyWindow<T> {
+    public static final int WEEK_DAYS = 7;
+
+    private final LocalDate targetDate;
+    private final List<T> currentWeek;
+    private final List<T> previousWeek;
+
+    /**
+     * 기준 날짜로부터 지난 주 시작 시각을 반환합니다.
+     *
+     * <p>
+     * 이번 주(기준 날짜 포함 7일)와 지난 주(그 이전 7일)를 한 번에 조회할 때의 시작 시각입니다.
+     * </p>
+     *
+     * @param targetDate 기준 날짜
+     * @return 조회 구간의 시작 시각
+     */
+    public static LocalDateTime getStart(LocalDate targetDate) {
+        return targetDate.minusDays(WEEK_DAYS * 2 - 1).atStartOfDay();
+    }
+
+    /**
+     * 기준 날짜의 마지막 시각을 반환합니다.
+     *
+     * @param targetDate 기준 날짜
+     * @return 조회 구간의 종료 시각
+     */
+    public static LocalDateTime getEnd(LocalDate targetDate) {
+        return targetDate.atTime(LocalTime.MAX);
+    }
+
+    /**
+     * 14일 구간에서 조회한 기록을 이번 주와 지난 주로 나누어 묶습니다.
+     *
+     * <p>
+     * 기록 시작 시각이 이번 주 시작 이전이면 지난 주, 그렇지 않으면 이번 주 기록으로 분류합니다.
+     * 기록 목록은 {@link #getStart(LocalDate)}와 {@link #getEnd(LocalDate)} 사이에서 조회된 것이어야 합니다.
+     * </p>
+     *
+     * @param targetDate 기준 날짜
+     * @param records    14일 구간의 기록 목록
+     * @param startedAt  기록의 시작 시각을 반환하는 함수
+     * @param <T>        기록 타입
+     * @return 이번 주와 지난 주로 나뉜 {@link WeeklyWindow}
+     */
+    public static <T> WeeklyWindow<T> of(LocalDate targetDate, List<T> records, Function<T, LocalDateTime> startedAt) {
+        LocalDateTime currentWeekStart = targetDate.minusDays(WEEK_DAYS - 1).atStartOfDay();
+        List<T> currentWeek = new ArrayList<>();
+        List<T> previousWeek = new ArrayList<>();
+
+        for (T record : records) {
+            if (startedAt.apply(record).isBefore(currentWeekStart)) {
+                previousWeek.add(record);
+            } else {
+                currentWeek.add(record);
+            }
+        }
+
+        return new WeeklyWindow<>(targetDate, currentWeek, previousWeek);
+    }
+
+    /**
+     * 이번 주의 첫 날짜를 반환합니다.
+     *
+     * @return 기준 날짜로부터 6일 전 날짜
+     */
+    public LocalDate getCurrentWeekStartDate() {
+        return targetDate.minusDays(WEEK_DAYS - 1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.agarang.domain.statistics.entity;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * packageName    : com.agarang.domain.statistics.entity<br>
+ * fileName       : BabyDailyStats.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 아기의 일자별, 기록 타입별 통계 요약 entity입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          수면 기록별 활동 시간 추가<br>
+ */
+@Entity
+@Table(name = "baby_daily_stats",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"baby_id", "stat_date", "record_type"}))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BabyDailyStats {
+    public static final int HALF_HOUR_SLOTS = 48;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "baby_daily_stats_id")
+    private Integer babyDailyStatsId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "baby_id", nullable = false)
+    private Baby baby;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "record_type", nullable = false, length = 15)
+    @Enumerated(EnumType.STRING)
+    private RecordType recordType;
+
+    @Column(name = "record_count", nullable = false)
+    private Integer recordCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Integer totalAmount;
+
+    @Column(name = "total_sleep_minutes", nullable = false)
+    private Integer totalSleepMinutes;
+
+    /**
+     * 하루를 30분 단위 48칸으로 나누어, 기록이 있는 칸의 비트를 켠 값입니다.
+     * 0번 비트가 00:00~00:30, 47번 비트가 23:30~24:00을 나타냅니다.
+     */
+    @Column(name = "half_hour_slots", nullable = false)
+    private Long halfHourSlots;
+
+    /**
+     * 수면 기록마다 이 날짜에 걸친 구간을 가장 가까운 정각으로 반올림한 "시작-종료" 목록입니다.
+     * 쉼표로 구분하며, 반올림한 시작과 종료가 같은 기록은 포함하지 않습니다.
+     */
+    @Column(name = "sleep_hours", nullable = false, length = 1000)
+    private String sleepHours;
+
+    /**
+     * 비어 있는 일자별 통계를 생성합니다.
+     *
+     * @param baby       아기 객체
+     * @param statDate   통계 날짜
+     * @param recordType 기록 타입
+     * @return 모든 값이 0인 {@link BabyDailyStats}
+     */
+    public static BabyDailyStats empty(Baby baby, LocalDate statDate, RecordType recordType) {
+        return BabyDailyStats.builder()
+                .baby(baby)
+                .statDate(statDate)
+                .recordType(recordType)
+                .recordCount(0)
+                .totalAmount(0)
+                .totalSleepMinutes(0)
+                .halfHourSlots(0L)
+                .sleepHours("")
+                .build();
+    }
+
+    /**
+     * 기록 한 건을 통계에 더합니다.
+     *
+     * @param amount       기록의 수유량 (nullable)
+     * @param sleepMinutes 기록의 수면 시간(분)
+     */
+    public void addRecord(Integer amount, long sleepMinutes) {
+        this.recordCount++;
+        if(amount != null) this.totalAmount += amount;
+        this.totalSleepMinutes += Math.toIntExact(sleepMinutes);
+    }
+
+    /**
+     * 주어진 30분 단위 구간을 기록이 있는 구간으로 표시합니다.
+     *
+     * @param fromSlot 시작 칸 (포함)
+     * @param toSlot   종료 칸 (미포함)
+     */
+    public void occupySlots(int fromSlot, int toSlot) {
+        for(int slot = Math.max(fromSlot, 0); slot < Math.min(toSlot, HALF_HOUR_SLOTS); slot++) {
+            this.halfHourSlots |= 1L << slot;
+        }
+    }
+
+    /**
+     * 수면 기록 한 건의 정각 단위 활동 시간을 추가합니다.
+     *
+     * @param startHour 시작 시각 (0~24)
+     * @param endHour   종료 시각 (0~24)
+     */
+    public void addSleepHours(int startHour, int endHour) {
+        String hours = startHour + "-" + endHour;
+        this.sleepHours = this.sleepHours.isEmpty() ? hours : this.sleepHours + "," + hours;
+    }
+
+    /**
+     * 주어진 30분 단위 칸에 기록이 있는지 확인합니다.
+     *
+     * @param slot 확인할 칸
+     * @return 기록이 있으면 {@code true}
+     */
+    public boolean isOccupied(int slot) {
+        return (halfHourSlots & (1L << slot)) != 0;
+    }
+
+    /**
+     * 다른 통계의 값으로 현재 통계를 갱신합니다.
+     *
+     * @param other 새로 계산된 통계
+     */
+    public void overwrite(BabyDailyStats other) {
+        this.recordCount = other.recordCount;
+        this.totalAmount = other.totalAmount;
+        this.totalSleepMinutes = other.totalSleepMinutes;
+        this.halfHourSlots = other.halfHourSlots;
+        this.sleepHours = other.sleepHours;
+    }
+}
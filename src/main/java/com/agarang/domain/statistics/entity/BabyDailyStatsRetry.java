@@ -0,0 +1,67 @@
+package com.agarang.domain.statistics.entity;
+
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * packageName    : com.agarang.domain.statistics.entity<br>
+ * fileName       : BabyDailyStatsRetry.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 갱신에 실패한 일자별 통계를 다시 계산하기 위해 기록하는 entity입니다. <br>
+ * <p>(baby_id, record_type, stat_date) 가 유일하므로 같은 날짜가 여러 번 실패해도 한 번만 다시 계산합니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+@Entity
+@Table(name = "baby_daily_stats_retry",
+        uniqueConstraints = @UniqueConstraint(name = "uk_baby_daily_stats_retry_baby_id_record_type_stat_date",
+                columnNames = {"baby_id", "record_type", "stat_date"}),
+        indexes = @Index(name = "idx_baby_daily_stats_retry_next_attempt_at", columnList = "next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BabyDailyStatsRetry {
+
+    @Id
+    @Column(name = "baby_daily_stats_retry_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer babyDailyStatsRetryId;
+
+    @Column(name = "baby_id", nullable = false)
+    private Integer babyId;
+
+    @Column(name = "record_type", nullable = false, length = 15)
+    @Enumerated(EnumType.STRING)
+    private RecordType recordType;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BabyDailyStatsRetry(Integer babyId, RecordType recordType, LocalDate statDate, LocalDateTime now) {
+        this.babyId = babyId;
+        this.recordType = recordType;
+        this.statDate = statDate;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+}
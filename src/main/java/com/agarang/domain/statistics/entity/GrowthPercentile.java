@@ -6,8 +6,6 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * packageName    : com.agarang.domain.statistics.entity<br>
@@ -67,18 +65,4 @@ public class GrowthPercentile {
 
     @Column(nullable = false, precision = 5, scale = 3)
     private BigDecimal p99;
-
-    public Map<Integer, BigDecimal> getPercentileMap() {
-        Map<Integer, BigDecimal> percentileMap = new HashMap<>();
-        percentileMap.put(3, this.p3);
-        percentileMap.put(10, this.p10);
-        percentileMap.put(25, this.p25);
-        percentileMap.put(50, this.p50);
-        percentileMap.put(75, this.p75);
-        percentileMap.put(90, this.p90);
-        percentileMap.put(97, this.p97);
-        percentileMap.put(100, this.p99);
-
-        return percentileMap;
-    }
 }
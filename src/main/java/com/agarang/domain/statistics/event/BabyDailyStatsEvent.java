@@ -0,0 +1,45 @@
+package com.agarang.domain.statistics.event;
+
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+
+/**
+ * packageName    : com.agarang.domain.statistics.event<br>
+ * fileName       : BabyDailyStatsEvent.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 일자별 통계 갱신 이벤트 클래스입니다.
+ * <p>이 이벤트는 기록이 생성, 수정, 삭제될 때 발생하며,
+ * 영향을 받은 날짜 구간의 일자별 통계를 다시 계산하도록 합니다.</p> <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+@Getter
+public class BabyDailyStatsEvent extends ApplicationEvent {
+    private final Integer babyId;
+    private final RecordType recordType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * {@code BabyDailyStatsEvent} 생성자입니다.
+     *
+     * @param source     이벤트 발생 객체
+     * @param babyId     기록이 변경된 아기의 ID
+     * @param recordType 변경된 기록 타입 {@link RecordType}
+     * @param startDate  다시 계산할 시작 날짜
+     * @param endDate    다시 계산할 종료 날짜
+     */
+    public BabyDailyStatsEvent(Object source, Integer babyId, RecordType recordType, LocalDate startDate, LocalDate endDate) {
+        super(source);
+        this.babyId = babyId;
+        this.recordType = recordType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
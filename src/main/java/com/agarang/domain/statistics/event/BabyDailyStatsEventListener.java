@@ -0,0 +1,57 @@
+package com.agarang.domain.statistics.event;
+
+import com.agarang.domain.statistics.service.BabyDailyStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.statistics.event<br>
+ * fileName       : BabyDailyStatsEventListener.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 일자별 통계 갱신 이벤트를 처리하는 리스너 클래스입니다.
+ * <p>이 클래스는 {@link BabyDailyStatsEvent} 이벤트를 구독하며,
+ * 기록 변경이 커밋된 후 별도의 트랜잭션에서 일자별 통계를 갱신합니다.
+ * 통계 갱신에 실패해도 기록 변경은 롤백되지 않으며, 실패한 (아기, 날짜, 타입)을 기록해 두고
+ * {@code BabyDailyStatsRebuildJob} 이 다시 계산합니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          커밋 후 갱신으로 변경<br>
+ * 10/18/26          nature1216          갱신 실패 시 재시도 대상으로 기록<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BabyDailyStatsEventListener {
+    private final BabyDailyStatsService babyDailyStatsService;
+
+    /**
+     * 일자별 통계 갱신 이벤트를 처리합니다.
+     *
+     * <p>이 메서드는 트랜잭션 커밋 후에 실행되며,
+     * {@link BabyDailyStatsService#refreshDailyStats} 메서드를 호출하여 변경된 날짜의 통계를 다시 계산합니다.
+     * 실패하면 {@link BabyDailyStatsService#recordRefreshFailure} 로 해당 날짜들을 재시도 대상으로 기록합니다.</p>
+     *
+     * @param event 일자별 통계 갱신 이벤트 {@link BabyDailyStatsEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBabyDailyStatsEvent(BabyDailyStatsEvent event) {
+        try {
+            babyDailyStatsService.refreshDailyStats(event.getBabyId(), event.getRecordType(), event.getStartDate(), event.getEndDate());
+        } catch (Exception e) {
+            log.warn("일자별 통계 갱신 실패. babyId: {}, recordType: {}, {} ~ {}",
+                    event.getBabyId(), event.getRecordType(), event.getStartDate(), event.getEndDate(), e);
+            try {
+                babyDailyStatsService.recordRefreshFailure(event.getBabyId(), event.getRecordType(), event.getStartDate(), event.getEndDate());
+            } catch (Exception retryException) {
+                log.error("일자별 통계 재시도 대상 기록 실패. babyId: {}, recordType: {}, {} ~ {}",
+                        event.getBabyId(), event.getRecordType(), event.getStartDate(), event.getEndDate(), retryException);
+            }
+        }
+    }
+}
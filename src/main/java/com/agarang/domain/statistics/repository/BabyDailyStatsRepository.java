@@ -0,0 +1,59 @@
+package com.agarang.domain.statistics.repository;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.statistics.entity.BabyDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.statistics.repository<br>
+ * fileName       : BabyDailyStatsRepository.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : BabyDailyStats entity의 repository입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          통계 생성이 필요한 아기 조회 추가<br>
+ */
+public interface BabyDailyStatsRepository extends JpaRepository<BabyDailyStats, Integer> {
+    List<BabyDailyStats> findByBabyAndRecordTypeAndStatDateBetween(Baby baby,
+                                                                 RecordType recordType,
+                                                                 LocalDate start,
+                                                                 LocalDate end);
+
+    @Modifying
+    @Query("DELETE FROM BabyDailyStats s WHERE s.baby = :baby")
+    void deleteAllByBaby(@Param("baby") Baby baby);
+
+    /**
+     * 통계 대상 기록이 있지만 해당 타입의 일자별 통계가 하나도 없는 아기 ID 를 조회합니다.
+     *
+     * @param recordTypes 통계 대상 기록 타입
+     * @return 통계를 생성해야 하는 아기 ID 목록
+     */
+    @Query("SELECT DISTINCT r.baby.babyId FROM Record r " +
+            "WHERE r.recordType IN :recordTypes " +
+            "AND NOT EXISTS (SELECT 1 FROM BabyDailyStats s WHERE s.baby = r.baby AND s.recordType = r.recordType)")
+    List<Integer> findBabyIdsWithoutStats(@Param("recordTypes") Collection<RecordType> recordTypes);
+
+    /**
+     * 수면 기록별 활동 시간이 채워지지 않은 수면 통계가 있는 아기 ID 를 조회합니다.
+     *
+     * <p>활동 시간 컬럼이 추가되기 전에 생성된 통계는 값이 비어 있고, 기록 구간은 표시되어 있습니다.</p>
+     *
+     * @return 통계를 다시 생성해야 하는 아기 ID 목록
+     */
+    @Query("SELECT DISTINCT s.baby.babyId FROM BabyDailyStats s " +
+            "WHERE s.recordType = com.agarang.domain.record.entity.enumeration.RecordType.SLEEP " +
+            "AND (s.sleepHours IS NULL OR (s.sleepHours = '' AND s.halfHourSlots <> 0))")
+    List<Integer> findBabyIdsWithoutSleepHours();
+}
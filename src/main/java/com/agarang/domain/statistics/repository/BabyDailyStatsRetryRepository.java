@@ -0,0 +1,30 @@
+package com.agarang.domain.statistics.repository;
+
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.statistics.entity.BabyDailyStatsRetry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.statistics.repository<br>
+ * fileName       : BabyDailyStatsRetryRepository.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : BabyDailyStatsRetry entity의 repository입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ */
+public interface BabyDailyStatsRetryRepository extends JpaRepository<BabyDailyStatsRetry, Integer> {
+    boolean existsByBabyIdAndRecordTypeAndStatDate(Integer babyId, RecordType recordType, LocalDate statDate);
+
+    @Query("SELECT r FROM BabyDailyStatsRetry r WHERE r.nextAttemptAt <= :now ORDER BY r.nextAttemptAt")
+    List<BabyDailyStatsRetry> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,15 +1,7 @@
 package com.agarang.domain.statistics.repository;
 
-import com.agarang.domain.record.entity.enumeration.GrowthStatusType;
-import com.agarang.domain.statistics.dto.response.GrowthAverageResponse;
 import com.agarang.domain.statistics.entity.GrowthPercentile;
-import com.agarang.domain.user.entity.Sex;
-import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-
-import java.util.List;
-import java.util.Optional;
 
 /**
  * packageName    : com.agarang.domain.statistics.repository<br>
@@ -24,17 +16,4 @@ import java.util.Optional;
  * <br>
  */
 public interface GrowthPercentileRepository extends JpaRepository<GrowthPercentile, Integer> {
-    @Query(value = "SELECT new com.agarang.domain.statistics.dto.response.GrowthAverageResponse" +
-            "(gp.day, gp.p50) " +
-            "FROM GrowthPercentile gp " +
-            "WHERE gp.day <= :day " +
-            "AND MOD(gp.day, 14) = 0 " +
-            "AND gp.sex = :sex " +
-            "AND gp.type = :type " +
-            "ORDER BY gp.day")
-    List<GrowthAverageResponse> findGrowthAverageByDayAndSexAndType(@Param("day") Integer day,
-                                                                    @Param("sex") Sex sex,
-                                                                    @Param("type") GrowthStatusType type);
-
-    Optional<GrowthPercentile> findByDayAndSexAndType(Integer day, Sex sex, GrowthStatusType type);
 }
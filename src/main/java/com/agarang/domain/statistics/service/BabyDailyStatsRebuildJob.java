@@ -0,0 +1,114 @@
+package com.agarang.domain.statistics.service;
+
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.statistics.entity.BabyDailyStatsRetry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * packageName    : com.agarang.domain.statistics.service<br>
+ * fileName       : BabyDailyStatsRebuildJob.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 일자별 통계 요약을 기록으로부터 다시 생성하는 작업 클래스입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          기본 재생성 주기, 실패한 갱신 재시도, 시작 시 누락된 통계 생성 추가<br>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BabyDailyStatsRebuildJob {
+    private final BabyRepository babyRepository;
+    private final BabyDailyStatsService babyDailyStatsService;
+
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    /**
+     * 애플리케이션이 시작되면 일자별 통계가 없거나 수면 기록별 활동 시간이 비어 있는 아기의 통계를 생성합니다.
+     *
+     * <p>일자별 통계가 도입되기 전에 쌓인 기록을 한 번 채우기 위한 작업이며, 채운 뒤에는 대상 아기가 없으므로 조회만 실행합니다.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Set<Integer> babyIds;
+        try {
+            babyIds = babyDailyStatsService.findBabyIdsToBackfill();
+        } catch (RuntimeException e) {
+            log.error("일자별 통계 생성 대상 조회 실패", e);
+            return;
+        }
+        if (babyIds.isEmpty()) return;
+
+        log.info("일자별 통계 생성 대상 아기 수: " + babyIds.size());
+        rebuildEach(babyIds);
+    }
+
+    /**
+     * 커밋 후 갱신에 실패하여 기록해 둔 날짜의 통계를 다시 계산합니다.
+     *
+     * <p>{@code statistics.daily-stats.retry-delay-millis} 간격(기본 1분)으로 실행되며,
+     * 실패한 날짜는 {@link BabyDailyStatsService#postponeRetry} 로 다음 실행 시각을 미룹니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${statistics.daily-stats.retry-delay-millis:60000}")
+    public void retryFailedRefreshes() {
+        List<BabyDailyStatsRetry> retries = babyDailyStatsService.findDueRetries(RETRY_BATCH_SIZE);
+
+        for (BabyDailyStatsRetry retry : retries) {
+            try {
+                babyDailyStatsService.retryRefresh(retry);
+            } catch (RuntimeException e) {
+                boolean postponed = babyDailyStatsService.postponeRetry(retry.getBabyDailyStatsRetryId());
+                if (postponed) {
+                    log.warn("일자별 통계 재시도 실패 babyId=" + retry.getBabyId() + ", recordType=" + retry.getRecordType()
+                            + ", statDate=" + retry.getStatDate(), e);
+                } else {
+                    log.error("일자별 통계 재시도 횟수 초과, 다음 재생성에서 복구합니다. babyId=" + retry.getBabyId()
+                            + ", recordType=" + retry.getRecordType() + ", statDate=" + retry.getStatDate(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 모든 아기의 일자별 통계를 다시 생성합니다.
+     *
+     * <p>이 작업은 {@code statistics.daily-stats.rebuild-cron} 설정(기본 매일 04시)에 따라 예약 실행되며,
+     * 설정값을 {@code -} 로 두면 실행하지 않습니다. 아기마다 별도의 트랜잭션으로 통계를 다시 생성합니다.
+     * 한 아기의 통계 생성이 실패해도 나머지 아기의 작업은 계속 진행합니다.</p>
+     */
+    @Scheduled(cron = "${statistics.daily-stats.rebuild-cron:0 0 4 * * ?}")
+    public void rebuildAll() {
+        List<Integer> babyIds = babyRepository.findAllBabyIds();
+        log.info("일자별 통계 재생성 대상 아기 수: " + babyIds.size());
+        rebuildEach(babyIds);
+    }
+
+    private void rebuildEach(Iterable<Integer> babyIds) {
+        for (Integer babyId : babyIds) {
+            try {
+                rebuild(babyId);
+            } catch (RuntimeException e) {
+                log.error("일자별 통계 재생성 실패 babyId=" + babyId, e);
+            }
+        }
+    }
+
+    /**
+     * 특정 아기의 일자별 통계를 다시 생성합니다.
+     *
+     * @param babyId 아기 ID
+     */
+    public void rebuild(Integer babyId) {
+        babyDailyStatsService.rebuildDailyStats(babyId);
+    }
+}
@@ -0,0 +1,364 @@
+package com.agarang.domain.statistics.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.record.dto.ExcretionInfo;
+import com.agarang.domain.record.dto.FeedingAmount;
+import com.agarang.domain.record.dto.SleepHour;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.repository.FeedingRepository;
+import com.agarang.domain.record.repository.RecordRepository;
+import com.agarang.domain.record.repository.type.ExcretionRepository;
+import com.agarang.domain.record.repository.type.SleepRepository;
+import com.agarang.domain.statistics.entity.BabyDailyStats;
+import com.agarang.domain.statistics.entity.BabyDailyStatsRetry;
+import com.agarang.domain.statistics.repository.BabyDailyStatsRepository;
+import com.agarang.domain.statistics.repository.BabyDailyStatsRetryRepository;
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * packageName    : com.agarang.domain.statistics.service<br>
+ * fileName       : BabyDailyStatsService.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 주간통계에 사용하는 일자별 통계 요약을 관리하는 service 클래스입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          아기별 잠금 후 별도 트랜잭션에서 갱신, 수면 기록별 활동 시간 추가<br>
+ * 10/18/26          nature1216          갱신 실패 기록과 재시도, 통계 생성이 필요한 아기 조회 추가<br>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BabyDailyStatsService {
+    private final BabyRepository babyRepository;
+    private final BabyDailyStatsRepository babyDailyStatsRepository;
+    private final BabyDailyStatsRetryRepository babyDailyStatsRetryRepository;
+    private final RecordRepository recordRepository;
+    private final FeedingRepository feedingRepository;
+    private final SleepRepository sleepRepository;
+    private final ExcretionRepository excretionRepository;
+
+    public static final Set<RecordType> STATS_RECORD_TYPES =
+            Collections.unmodifiableSet(EnumSet.of(RecordType.SLEEP, RecordType.FEEDING, RecordType.EXCRETION));
+
+    public static final int MAX_RETRY_ATTEMPTS = 10;
+
+    private static final int MINUTES_PER_SLOT = 30;
+    private static final Duration RETRY_BASE_DELAY = Duration.ofMinutes(1);
+    private static final Duration RETRY_MAX_DELAY = Duration.ofHours(1);
+
+    /**
+     * 특정 아기의 일자별 통계를 조회합니다.
+     *
+     * @param baby       아기 객체
+     * @param recordType 기록 타입
+     * @param start      조회 시작 날짜
+     * @param end        조회 종료 날짜
+     * @return 기록이 있는 날짜의 {@link BabyDailyStats} 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<BabyDailyStats> getDailyStats(Baby baby, RecordType recordType, LocalDate start, LocalDate end) {
+        return babyDailyStatsRepository.findByBabyAndRecordTypeAndStatDateBetween(baby, recordType, start, end);
+    }
+
+    /**
+     * 특정 아기의 일자별 통계를 기록으로부터 다시 계산합니다.
+     *
+     * <p>
+     * 기록 생성, 수정, 삭제 시 변경된 날짜의 통계만 다시 계산하여 반영합니다.
+     * 통계 대상이 아닌 기록 타입은 무시합니다.
+     * 기록 변경이 커밋된 후 별도의 트랜잭션에서 실행되며, 아기 행을 먼저 잠가 같은 아기의 통계 갱신을 차례로 처리합니다.
+     * 잠금을 얻은 후에 기록을 조회하므로, 마지막으로 갱신한 쪽이 그때까지 커밋된 기록을 모두 반영합니다.
+     * </p>
+     *
+     * @param babyId     아기 ID
+     * @param recordType 기록 타입
+     * @param start      다시 계산할 시작 날짜
+     * @param end        다시 계산할 종료 날짜
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refreshDailyStats(Integer babyId, RecordType recordType, LocalDate start, LocalDate end) {
+        if(!STATS_RECORD_TYPES.contains(recordType) || end.isBefore(start)) return;
+
+        Baby baby = lockBaby(babyId);
+        Map<LocalDate, BabyDailyStats> statsByDate =
+                aggregate(baby, recordType, start.atStartOfDay(), end.atTime(LocalTime.MAX));
+        statsByDate.keySet().removeIf(date -> date.isBefore(start) || date.isAfter(end));
+
+        List<BabyDailyStats> savedStats = babyDailyStatsRepository
+                .findByBabyAndRecordTypeAndStatDateBetween(baby, recordType, start, end);
+
+        for(BabyDailyStats saved : savedStats) {
+            BabyDailyStats refreshed = statsByDate.remove(saved.getStatDate());
+
+            if(Objects.isNull(refreshed)) {
+                babyDailyStatsRepository.delete(saved);
+            } else {
+                saved.overwrite(refreshed);
+            }
+        }
+
+        babyDailyStatsRepository.saveAll(statsByDate.values());
+    }
+
+    /**
+     * 갱신에 실패한 날짜를 다시 계산할 대상으로 기록합니다.
+     *
+     * <p>실패한 기록 변경 트랜잭션과 상관없이 저장되도록 별도의 트랜잭션에서 실행되며, 이미 기록된 날짜는 건너뜁니다.</p>
+     *
+     * @param babyId     아기 ID
+     * @param recordType 기록 타입
+     * @param start      갱신에 실패한 시작 날짜
+     * @param end        갱신에 실패한 종료 날짜
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordRefreshFailure(Integer babyId, RecordType recordType, LocalDate start, LocalDate end) {
+        if(!STATS_RECORD_TYPES.contains(recordType)) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        for(LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if(!babyDailyStatsRetryRepository.existsByBabyIdAndRecordTypeAndStatDate(babyId, recordType, date)) {
+                babyDailyStatsRetryRepository.save(new BabyDailyStatsRetry(babyId, recordType, date, now));
+            }
+        }
+    }
+
+    /**
+     * 다시 계산할 시각이 된 날짜를 조회합니다.
+     *
+     * @param limit 조회할 최대 개수
+     * @return 다시 계산할 {@link BabyDailyStatsRetry} 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<BabyDailyStatsRetry> findDueRetries(int limit) {
+        return babyDailyStatsRetryRepository.findDue(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 기록해 둔 날짜의 통계를 다시 계산하고, 성공하면 재시도 기록을 삭제합니다.
+     *
+     * <p>아기가 삭제되어 더 이상 계산할 수 없는 경우에도 재시도 기록을 삭제합니다.</p>
+     *
+     * @param retry 다시 계산할 날짜
+     */
+    public void retryRefresh(BabyDailyStatsRetry retry) {
+        try {
+            refreshDailyStats(retry.getBabyId(), retry.getRecordType(), retry.getStatDate(), retry.getStatDate());
+        } catch (BusinessException e) {
+            if(e.getErrorCode() != ErrorCode.BABY_NOT_FOUND) throw e;
+        }
+        babyDailyStatsRetryRepository.deleteById(retry.getBabyDailyStatsRetryId());
+    }
+
+    /**
+     * 다시 계산에 실패한 날짜의 다음 실행 시각을 지수 백오프로 미룹니다.
+     *
+     * @param babyDailyStatsRetryId 실패한 재시도 기록 ID
+     * @return 다시 실행할 예정이면 true, 최대 횟수에 도달하여 재시도 기록을 삭제했으면 false
+     */
+    public boolean postponeRetry(Integer babyDailyStatsRetryId) {
+        return babyDailyStatsRetryRepository.findById(babyDailyStatsRetryId).map(retry -> {
+            int attempts = retry.getAttempts() + 1;
+            if(attempts >= MAX_RETRY_ATTEMPTS) {
+                babyDailyStatsRetryRepository.delete(retry);
+                return false;
+            }
+
+            Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << Math.min(attempts, 6));
+            retry.setAttempts(attempts);
+            retry.setNextAttemptAt(LocalDateTime.now().plus(delay.compareTo(RETRY_MAX_DELAY) > 0 ? RETRY_MAX_DELAY : delay));
+            return true;
+        }).orElse(false);
+    }
+
+    /**
+     * 일자별 통계를 처음부터 생성해야 하는 아기 ID 를 조회합니다.
+     *
+     * <p>일자별 통계가 도입되기 전에 기록한 아기와, 수면 기록별 활동 시간이 추가되기 전에 생성된 통계가 있는 아기가 해당합니다.</p>
+     *
+     * @return 통계를 생성해야 하는 아기 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> findBabyIdsToBackfill() {
+        Set<Integer> babyIds = new TreeSet<>(babyDailyStatsRepository.findBabyIdsWithoutStats(STATS_RECORD_TYPES));
+        babyIds.addAll(babyDailyStatsRepository.findBabyIdsWithoutSleepHours());
+        return babyIds;
+    }
+
+    /**
+     * 특정 아기의 일자별 통계를 처음부터 다시 생성합니다.
+     *
+     * <p>
+     * 기존 통계를 모두 삭제한 후, 통계 대상 기록 타입별로 전체 기록을 한 번씩 조회하여 통계를 저장합니다.
+     * 기록 변경에 따른 통계 갱신과 겹치지 않도록 아기 행을 먼저 잠급니다.
+     * </p>
+     *
+     * @param babyId 아기 ID
+     */
+    public void rebuildDailyStats(Integer babyId) {
+        Baby baby = lockBaby(babyId);
+        babyDailyStatsRepository.deleteAllByBaby(baby);
+
+        for(RecordType recordType : STATS_RECORD_TYPES) {
+            Optional<LocalDateTime> first = recordRepository.findFirstStartedAtByBabyAndRecordType(baby, recordType);
+            Optional<LocalDateTime> last = recordRepository.findLastStartedAtByBabyAndRecordType(baby, recordType);
+
+            if(first.isEmpty() || last.isEmpty()) continue;
+
+            babyDailyStatsRepository.saveAll(aggregate(baby, recordType, first.get(), last.get()).values());
+        }
+    }
+
+    /**
+     * 주어진 구간의 기록을 조회하여 일자별 통계를 계산합니다.
+     *
+     * <p>
+     * 수면 기록은 구간과 겹치는 기록을 모두 조회하므로, 구간 밖의 날짜 통계가 함께 반환될 수 있습니다.
+     * </p>
+     *
+     * @param baby       아기 객체
+     * @param recordType 기록 타입
+     * @param start      조회 시작 시각
+     * @param end        조회 종료 시각
+     * @return 날짜별 통계 맵
+     */
+    private Map<LocalDate, BabyDailyStats> aggregate(Baby baby, RecordType recordType, LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, BabyDailyStats> statsByDate = new HashMap<>();
+
+        switch(recordType) {
+            case FEEDING -> {
+                for(FeedingAmount feeding : feedingRepository.findFeedingAmountByBabyAndDateBetween(baby, start, end)) {
+                    BabyDailyStats stats = getOrCreate(statsByDate, baby, recordType, feeding.startedAt().toLocalDate());
+                    stats.addRecord(feeding.amount(), 0);
+                    occupyStartSlot(stats, feeding.startedAt());
+                }
+            }
+            case EXCRETION -> {
+                for(ExcretionInfo excretion : excretionRepository.findExcretionInfoByBabyAndDateBetween(baby, start, end)) {
+                    BabyDailyStats stats = getOrCreate(statsByDate, baby, recordType, excretion.startedAt().toLocalDate());
+                    stats.addRecord(null, 0);
+                    occupyStartSlot(stats, excretion.startedAt());
+                }
+            }
+            case SLEEP -> {
+                for(SleepHour sleep : sleepRepository.findSleepByBabyAndOverlapping(baby, start, end)) {
+                    addSleep(statsByDate, baby, sleep);
+                }
+            }
+            default -> {
+            }
+        }
+
+        return statsByDate;
+    }
+
+    /**
+     * 수면 기록 한 건을 일자별 통계에 반영합니다.
+     *
+     * <p>
+     * 수면 횟수와 수면 시간은 수면 시작 날짜에 더하고,
+     * 기록 구간은 자정을 기준으로 나누어 해당하는 날짜마다 표시합니다.
+     * 패턴 분석용 칸은 시작과 종료 시각을 가장 가까운 30분 단위로 반올림하고,
+     * 날짜별 활동 시간은 기록마다 가장 가까운 정각으로 반올림하여 따로 저장합니다.
+     * </p>
+     *
+     * @param statsByDate 날짜별 통계 맵
+     * @param baby        아기 객체
+     * @param sleep       수면 기록
+     */
+    private void addSleep(Map<LocalDate, BabyDailyStats> statsByDate, Baby baby, SleepHour sleep) {
+        LocalDateTime start = sleep.getStart();
+        LocalDateTime end = sleep.getEnd();
+
+        getOrCreate(statsByDate, baby, RecordType.SLEEP, start.toLocalDate())
+                .addRecord(null, Duration.between(start, end).toMinutes());
+
+        for(LocalDate date = start.toLocalDate(); !date.isAfter(end.toLocalDate()); date = date.plusDays(1)) {
+            int fromSlot = date.isEqual(start.toLocalDate()) ? roundToNearestSlot(start.toLocalTime()) : 0;
+            int toSlot = date.isEqual(end.toLocalDate()) ? roundToNearestSlot(end.toLocalTime()) : BabyDailyStats.HALF_HOUR_SLOTS;
+
+            if(fromSlot < toSlot) {
+                getOrCreate(statsByDate, baby, RecordType.SLEEP, date).occupySlots(fromSlot, toSlot);
+            }
+
+            int startHour = date.isEqual(start.toLocalDate()) ? roundToNearestHour(start.toLocalTime()) : 0;
+            int endHour = date.isEqual(end.toLocalDate()) ? roundToNearestHour(end.toLocalTime()) : 24;
+
+            if(startHour < endHour) {
+                getOrCreate(statsByDate, baby, RecordType.SLEEP, date).addSleepHours(startHour, endHour);
+            }
+        }
+    }
+
+    /**
+     * 기록 시작 시각이 속한 30분 단위 칸을 표시합니다.
+     *
+     * @param stats     일자별 통계
+     * @param startedAt 기록 시작 시각
+     */
+    private void occupyStartSlot(BabyDailyStats stats, LocalDateTime startedAt) {
+        int slot = (startedAt.getHour() * 60 + startedAt.getMinute()) / MINUTES_PER_SLOT;
+        stats.occupySlots(slot, slot + 1);
+    }
+
+    /**
+     * 주어진 시간을 가장 가까운 30분 단위 칸 번호로 반올림합니다.
+     *
+     * @param time 반올림할 시간
+     * @return 0부터 48 사이의 칸 번호
+     */
+    private int roundToNearestSlot(LocalTime time) {
+        int minutes = time.getHour() * 60 + time.getMinute();
+        return (minutes + MINUTES_PER_SLOT / 2) / MINUTES_PER_SLOT;
+    }
+
+    /**
+     * 주어진 시간을 가장 가까운 정각 단위로 반올림합니다.
+     *
+     * @param time 반올림할 시간
+     * @return 0부터 24 사이의 시각
+     */
+    private int roundToNearestHour(LocalTime time) {
+        return time.getMinute() >= 30 ? time.getHour() + 1 : time.getHour();
+    }
+
+    /**
+     * 아기 행을 잠그고 조회합니다.
+     *
+     * @param babyId 아기 ID
+     * @return 아기 객체
+     * @throws BusinessException 아기를 찾을 수 없는 경우 발생
+     */
+    private Baby lockBaby(Integer babyId) {
+        return babyRepository.findByIdForUpdate(babyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BABY_NOT_FOUND));
+    }
+
+    /**
+     * 날짜별 통계 맵에서 통계를 조회하고, 없으면 새로 생성합니다.
+     *
+     * @param statsByDate 날짜별 통계 맵
+     * @param baby        아기 객체
+     * @param recordType  기록 타입
+     * @param date        통계 날짜
+     * @return 해당 날짜의 {@link BabyDailyStats}
+     */
+    private BabyDailyStats getOrCreate(Map<LocalDate, BabyDailyStats> statsByDate, Baby baby, RecordType recordType, LocalDate date) {
+        return statsByDate.computeIfAbsent(date, key -> BabyDailyStats.empty(baby, key, recordType));
+    }
+}
@@ -0,0 +1,192 @@
+package com.agarang.domain.statistics.service;
+
+import com.agarang.domain.record.entity.enumeration.GrowthStatusType;
+import com.agarang.domain.statistics.dto.response.GrowthAverageResponse;
+import com.agarang.domain.statistics.entity.GrowthPercentile;
+import com.agarang.domain.statistics.repository.GrowthPercentileRepository;
+import com.agarang.domain.user.entity.Sex;
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.domain.statistics.service<br>
+ * fileName       : GrowthPercentileIndex.java<br>
+ * author         : nature1216 <br>
+ * date           : 10/18/26<br>
+ * description    : 성장 백분위수 표를 메모리에 올려 조회하는 index 클래스입니다. <br>
+ * <p>
+ * growth_percentile 테이블은 변하지 않는 기준 데이터이므로, 시작 시 한 번 읽어
+ * [성별][성장 상태 유형][일수] 순서의 {@code double} 배열에 저장합니다.
+ * 테이블을 다시 적재한 경우 {@link #refresh()}를 호출하여 반영합니다.
+ * </p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 10/18/26          nature1216          최초생성<br>
+ * 10/18/26          nature1216          순위 보간을 이전 계산과 같은 반올림으로 변경<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrowthPercentileIndex {
+    private static final int[] PERCENTILES = {3, 10, 25, 50, 75, 90, 97, 99};
+    private static final int PERCENTILE_COUNT = PERCENTILES.length;
+    private static final int MEDIAN_INDEX = 3;
+    private static final int AVERAGE_INTERVAL_DAYS = 14;
+    private static final int MIN_RANK = 1;
+    private static final int MAX_RANK = 99;
+    private static final long THOUSANDTHS = 1_000;
+    private static final long RATIO_SCALE = 10_000;
+
+    private final GrowthPercentileRepository growthPercentileRepository;
+
+    /**
+     * [성별][성장 상태 유형] 별로 (일수 * 8 + 백분위 순번) 위치에 백분위수 값을 저장한 배열입니다.
+     * 값이 없는 일수는 {@link Double#NaN}으로 채워집니다.
+     */
+    private volatile double[][][] percentiles = new double[Sex.values().length][GrowthStatusType.values().length][0];
+
+    /**
+     * 애플리케이션 시작 시 백분위수 표를 적재합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        refresh();
+    }
+
+    /**
+     * growth_percentile 테이블을 다시 읽어 index를 교체합니다.
+     *
+     * <p>
+     * 새 배열을 모두 만든 뒤 한 번에 교체하므로, 갱신 중에도 조회는 이전 index를 사용합니다.
+     * </p>
+     */
+    public void refresh() {
+        List<GrowthPercentile> rows = growthPercentileRepository.findAll();
+        int[][] maxDays = new int[Sex.values().length][GrowthStatusType.values().length];
+
+        for(int[] days : maxDays) Arrays.fill(days, -1);
+        for(GrowthPercentile row : rows) {
+            int sex = row.getSex().ordinal();
+            int type = row.getType().ordinal();
+            maxDays[sex][type] = Math.max(maxDays[sex][type], row.getDay());
+        }
+
+        double[][][] loaded = new double[Sex.values().length][GrowthStatusType.values().length][];
+        for(int sex = 0; sex < loaded.length; sex++) {
+            for(int type = 0; type < loaded[sex].length; type++) {
+                loaded[sex][type] = new double[(maxDays[sex][type] + 1) * PERCENTILE_COUNT];
+                Arrays.fill(loaded[sex][type], Double.NaN);
+            }
+        }
+
+        for(GrowthPercentile row : rows) {
+            double[] values = loaded[row.getSex().ordinal()][row.getType().ordinal()];
+            int offset = row.getDay() * PERCENTILE_COUNT;
+
+            values[offset] = row.getP3().doubleValue();
+            values[offset + 1] = row.getP10().doubleValue();
+            values[offset + 2] = row.getP25().doubleValue();
+            values[offset + 3] = row.getP50().doubleValue();
+            values[offset + 4] = row.getP75().doubleValue();
+            values[offset + 5] = row.getP90().doubleValue();
+            values[offset + 6] = row.getP97().doubleValue();
+            values[offset + 7] = row.getP99().doubleValue();
+        }
+
+        this.percentiles = loaded;
+        log.info("성장 백분위수 index 적재 완료: {}건", rows.size());
+    }
+
+    /**
+     * 측정값의 백분위 순위를 계산합니다.
+     *
+     * <p>
+     * 해당 일수의 백분위수 값에서 측정값의 위치를 이진 탐색으로 찾은 뒤,
+     * 인접한 두 백분위 사이를 선형 보간하여 순위를 반환합니다.
+     * 3 백분위수보다 작으면 1, 99 백분위수보다 크면 99를 반환합니다.
+     * 백분위수와 측정값은 소수점 셋째 자리까지의 값이므로 보간은 1/1000 단위 정수로 계산하며,
+     * 비율을 소수점 넷째 자리에서 반올림한 뒤 순위를 반올림하여 이전 {@code BigDecimal} 계산과 같은 값을 반환합니다.
+     * </p>
+     *
+     * @param day           생후 일수
+     * @param sex           성별
+     * @param type          성장 상태 유형
+     * @param measuredValue 측정값
+     * @return 성장 백분위 순위 (1~99)
+     * @throws BusinessException 해당 일수의 백분위수가 없는 경우
+     */
+    public int calculateRank(int day, Sex sex, GrowthStatusType type, double measuredValue) {
+        double[] values = percentiles[sex.ordinal()][type.ordinal()];
+        int from = getOffset(values, day);
+        int to = from + PERCENTILE_COUNT;
+
+        int index = Arrays.binarySearch(values, from, to, measuredValue);
+        if(index >= 0) return PERCENTILES[index - from];
+
+        int upper = -index - 1;
+        if(upper == from) return MIN_RANK;
+        if(upper == to) return MAX_RANK;
+
+        long lowerValue = Math.round(values[upper - 1] * THOUSANDTHS);
+        long range = Math.round(values[upper] * THOUSANDTHS) - lowerValue;
+        long position = Math.round(measuredValue * THOUSANDTHS) - lowerValue;
+        int lowerPercentile = PERCENTILES[upper - 1 - from];
+        int upperPercentile = PERCENTILES[upper - from];
+
+        long ratio = (2 * position * RATIO_SCALE + range) / (2 * range);
+        long rank = lowerPercentile * RATIO_SCALE + ratio * (upperPercentile - lowerPercentile);
+        return (int) ((rank + RATIO_SCALE / 2) / RATIO_SCALE);
+    }
+
+    /**
+     * 주어진 일수까지 14일 간격의 평균(50 백분위수) 성장 곡선을 조회합니다.
+     *
+     * @param day  생후 일수
+     * @param sex  성별
+     * @param type 성장 상태 유형
+     * @return 일수 순으로 정렬된 {@link GrowthAverageResponse} 리스트
+     */
+    public List<GrowthAverageResponse> getGrowthAverages(int day, Sex sex, GrowthStatusType type) {
+        double[] values = percentiles[sex.ordinal()][type.ordinal()];
+        int lastDay = Math.min(day, values.length / PERCENTILE_COUNT - 1);
+        List<GrowthAverageResponse> averages = new ArrayList<>(Math.max(lastDay / AVERAGE_INTERVAL_DAYS + 1, 0));
+
+        for(int d = 0; d <= lastDay; d += AVERAGE_INTERVAL_DAYS) {
+            double median = values[d * PERCENTILE_COUNT + MEDIAN_INDEX];
+            if(Double.isNaN(median)) continue;
+
+            averages.add(new GrowthAverageResponse(d, BigDecimal.valueOf(median).setScale(3, RoundingMode.HALF_UP)));
+        }
+
+        return averages;
+    }
+
+    /**
+     * 해당 일수의 백분위수 값이 시작되는 배열 위치를 반환합니다.
+     *
+     * @param values 성별, 성장 상태 유형별 백분위수 배열
+     * @param day    생후 일수
+     * @return 배열 내 시작 위치
+     * @throws BusinessException 해당 일수의 백분위수가 없는 경우
+     */
+    private int getOffset(double[] values, int day) {
+        int offset = day * PERCENTILE_COUNT;
+
+        if(day < 0 || offset >= values.length || Double.isNaN(values[offset])) {
+            throw new BusinessException(ErrorCode.GROWTH_PERCENTILE_NOT_FOUND);
+        }
+
+        return offset;
+    }
+}
@@ -11,8 +11,6 @@ import com.agarang.domain.statistics.dto.response.GrowthAverageResponse;
 import com.agarang.domain.statistics.dto.response.GrowthHistoryResponse;
 import com.agarang.domain.statistics.dto.response.GrowthResponse;
 import com.agarang.domain.statistics.dto.response.GrowthStatisticsResponse;
-import com.agarang.domain.statistics.entity.GrowthPercentile;
-import com.agarang.domain.statistics.repository.GrowthPercentileRepository;
 import com.agarang.domain.user.entity.User;
 import com.agarang.domain.user.service.UserService;
 import com.agarang.global.exception.BusinessException;
@@ -21,9 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.*;
+import java.util.List;
 
 /**
  * packageName    : com.agarang.domain.statistics.service<br>
@@ -44,7 +41,7 @@ public class GrowthStatisticsService {
     private final UserService userService;
     private final CustodyService custodyService;
     private final GrowthStatusRepository growthStatusRepository;
-    private final GrowthPercentileRepository growthPercentileRepository;
+    private final GrowthPercentileIndex growthPercentileIndex;
 
     /**
      * 특정 아기의 성장 상태 이력을 조회합니다.
@@ -66,7 +63,7 @@ public class GrowthStatisticsService {
         custodyService.checkCustody(user, baby);
 
         List<GrowthResponse> histories = growthStatusRepository.findAllByGrowthStatusTypeAndBaby(type, baby);
-        List<GrowthAverageResponse> averages = growthPercentileRepository.findGrowthAverageByDayAndSexAndType(day, baby.getSex(), type);
+        List<GrowthAverageResponse> averages = growthPercentileIndex.getGrowthAverages(day, baby.getSex(), type);
 
 
         return GrowthHistoryResponse.builder()
@@ -134,7 +131,7 @@ public class GrowthStatisticsService {
      * 특정 성장 상태 기록의 백분위 순위를 계산합니다.
      *
      * <p>
-     * 현재 측정된 성장 값을 백분위 데이터와 비교하여 아기의 성장 순위를 반환합니다.
+     * 현재 측정된 성장 값을 메모리에 적재된 백분위 데이터와 비교하여 아기의 성장 순위를 반환합니다.
      * </p>
      *
      * @param baby         아기 객체
@@ -143,38 +140,8 @@ public class GrowthStatisticsService {
      */
     private Integer calculateRank(Baby baby, GrowthStatus growthStatus) {
         Integer day = babyService.calculateDaysSinceBirth(baby.getBabyId());
-        GrowthPercentile percentile = growthPercentileRepository.findByDayAndSexAndType(day, baby.getSex(), growthStatus.getGrowthStatusType())
-                .orElseThrow(() -> new BusinessException(ErrorCode.GROWTH_PERCENTILE_NOT_FOUND));
-        BigDecimal measuredValue = growthStatus.getSize();
 
-        Map<Integer, BigDecimal> percentiles = percentile.getPercentileMap();
-        List<Integer> sortedPercentiles = new ArrayList<>(percentiles.keySet());
-        Collections.sort(sortedPercentiles);
-
-        for(int i=0; i<sortedPercentiles.size()-1; i++) {
-            int lowerPercentile = sortedPercentiles.get(i);
-            int upperPercentile = sortedPercentiles.get(i+1);
-
-            BigDecimal lowerValue = percentiles.get(lowerPercentile);
-            BigDecimal upperValue = percentiles.get(upperPercentile);
-
-            if(measuredValue.compareTo(lowerValue) >= 0
-                    && measuredValue.compareTo(upperValue) <= 0) {
-                BigDecimal range = upperValue.subtract(lowerValue);
-                BigDecimal position = measuredValue.subtract(lowerValue);
-
-                BigDecimal ratio = position.divide(range, 4, RoundingMode.HALF_UP);
-
-                BigDecimal result = BigDecimal.valueOf(lowerPercentile)
-                        .add(ratio.multiply(BigDecimal.valueOf(upperPercentile - lowerPercentile)));
-
-                return result.setScale(0, RoundingMode.HALF_UP).intValue();
-            }
-        }
-
-        if(measuredValue.compareTo(percentiles.get(sortedPercentiles.get(0))) < 0) return 1;
-        if(measuredValue.compareTo(percentiles.get(sortedPercentiles.get(sortedPercentiles.size() - 1))) > 0) return 99;
-
-        return 50;
+        return growthPercentileIndex.calculateRank(day, baby.getSex(),
+                growthStatus.getGrowthStatusType(), growthStatus.getSize().doubleValue());
     }
 }
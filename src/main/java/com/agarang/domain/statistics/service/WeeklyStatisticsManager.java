@@ -26,7 +26,7 @@ import java.util.stream.Collectors;
  */
 @Service
 public class WeeklyStatisticsManager {
-    private final Map<RecordType, WeeklyStatisticsService> statisticsServiceMap;
+    private final Map<RecordType, WeeklyStatisticsService<?>> statisticsServiceMap;
 
     /**
      * 주간 통계 서비스 매니저를 초기화합니다.
@@ -37,7 +37,7 @@ public class WeeklyStatisticsManager {
      *
      * @param weeklyStatisticsServices 주간 통계 서비스를 구현한 서비스 목록
      */
-    public WeeklyStatisticsManager(List<WeeklyStatisticsService> weeklyStatisticsServices) {
+    public WeeklyStatisticsManager(List<WeeklyStatisticsService<?>> weeklyStatisticsServices) {
         this.statisticsServiceMap = weeklyStatisticsServices.stream()
                 .collect(Collectors.toMap(WeeklyStatisticsService::getRecordType, service -> service));
     }
@@ -58,7 +58,7 @@ public class WeeklyStatisticsManager {
      * @throws BusinessException 지원되지 않는 기록 유형인 경우 예외 발생
      */
     public WeeklyGetResponse getWeeklyStatistics(RecordType recordType, LocalDate date, Integer userId, Integer babyId) {
-        WeeklyStatisticsService service = statisticsServiceMap.get(recordType);
+        WeeklyStatisticsService<?> service = statisticsServiceMap.get(recordType);
 
         if(service == null) {
             throw new BusinessException(ErrorCode.RECORD_TYPE_NOT_SUPPORTED);
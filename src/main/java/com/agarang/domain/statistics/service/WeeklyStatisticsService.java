@@ -4,6 +4,7 @@ import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.record.entity.enumeration.RecordType;
 import com.agarang.domain.statistics.dto.ActiveTimeBlock;
 import com.agarang.domain.statistics.dto.DailyActiveTime;
+import com.agarang.domain.statistics.dto.WeeklyWindow;
 import com.agarang.domain.statistics.dto.response.WeeklyGetResponse;
 
 import java.math.BigDecimal;
@@ -21,10 +22,11 @@ import java.util.List;
  * -----------------------------------------------------------<br>
  * 2/4/25          nature1216          최초생성<br>
  */
-public interface WeeklyStatisticsService {
+public interface WeeklyStatisticsService<T> {
     WeeklyGetResponse getWeeklyStatistics(LocalDate date, Integer userId, Integer babyId);
-    List<DailyActiveTime> getActiveTimes(LocalDate date, Baby baby);
-    BigDecimal getAverageCount(LocalDate date, Baby baby);
+    WeeklyWindow<T> getWeeklyWindow(LocalDate date, Baby baby);
+    List<DailyActiveTime> getActiveTimes(WeeklyWindow<T> window);
+    BigDecimal getAverageCount(WeeklyWindow<T> window);
     RecordType getRecordType();
-    List<ActiveTimeBlock> analyzePattern(LocalDate date, Baby baby);
+    List<ActiveTimeBlock> analyzePattern(WeeklyWindow<T> window);
 }
@@ -2,17 +2,21 @@ package com.agarang.domain.statistics.service.impl;
 
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.service.BabyService;
-import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.dto.ExcretionInfo;
 import com.agarang.domain.record.entity.enumeration.ExcretionColor;
 import com.agarang.domain.record.entity.enumeration.ExcretionStatus;
+import com.agarang.domain.record.entity.enumeration.ExcretionType;
 import com.agarang.domain.record.entity.enumeration.RecordType;
-import com.agarang.domain.record.repository.RecordRepository;
 import com.agarang.domain.record.repository.type.ExcretionRepository;
 import com.agarang.domain.statistics.dto.ActiveTime;
 import com.agarang.domain.statistics.dto.ActiveTimeBlock;
 import com.agarang.domain.statistics.dto.DailyActiveTime;
+import com.agarang.domain.statistics.dto.HalfHourHistogram;
+import com.agarang.domain.statistics.dto.WeeklyWindow;
 import com.agarang.domain.statistics.dto.response.ExcretionWeeklyGetResponse;
 import com.agarang.domain.statistics.dto.response.WeeklyGetResponse;
+import com.agarang.domain.statistics.entity.BabyDailyStats;
+import com.agarang.domain.statistics.service.BabyDailyStatsService;
 import com.agarang.domain.statistics.service.WeeklyStatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,7 +25,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -38,9 +41,9 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
-public class ExcretionWeeklyStatisticsService implements WeeklyStatisticsService {
+public class ExcretionWeeklyStatisticsService implements WeeklyStatisticsService<BabyDailyStats> {
     private final BabyService babyService;
-    private final RecordRepository recordRepository;
+    private final BabyDailyStatsService babyDailyStatsService;
     private final ExcretionRepository excretionRepository;
 
     public static final Integer EXCRETION_BLOCK_FREQUENCY = 4;
@@ -51,6 +54,8 @@ public class ExcretionWeeklyStatisticsService implements WeeklyStatisticsService
      * <p>
      * 주어진 날짜를 기준으로 아기의 배변 기록을 분석하여 평균 배변 횟수, 활동 시간 블록, 비정상적인 배변 횟수,
      * 배변 색상 및 상태 통계를 포함한 주간 통계를 반환합니다.
+     * 배변 횟수와 시간대는 일자별 배변 통계 요약으로 계산하고,
+     * 색상 및 상태 통계는 이번 주 배변 기록을 한 번 조회하여 메모리에서 계산합니다.
      * </p>
      *
      * @param date   기준 날짜
@@ -61,12 +66,15 @@ public class ExcretionWeeklyStatisticsService implements WeeklyStatisticsService
     @Override
     public WeeklyGetResponse getWeeklyStatistics(LocalDate date, Integer userId, Integer babyId) {
         Baby baby = babyService.getBabyById(babyId);
-        List<DailyActiveTime> activeTimes = getActiveTimes(date, baby);
-        List<ActiveTimeBlock> activeTimeBlocks = analyzePattern(date, baby);
-        BigDecimal averageCount = getAverageCount(date, baby);
-        Integer abnormalCount = getAbnormalCount(date, baby);
-        Map<ExcretionColor, Integer> colorCount = getCountByExcretionColor(date, baby);
-        Map<ExcretionStatus, Integer> statusCount = getCountByExcretionStatus(date, baby);
+        WeeklyWindow<BabyDailyStats> window = getWeeklyWindow(date, baby);
+        List<DailyActiveTime> activeTimes = getActiveTimes(window);
+        List<ActiveTimeBlock> activeTimeBlocks = analyzePattern(window);
+        BigDecimal averageCount = getAverageCount(window);
+
+        List<ExcretionInfo> stoolRecords = getStoolRecords(date, baby);
+        Integer abnormalCount = getAbnormalCount(stoolRecords);
+        Map<ExcretionColor, Integer> colorCount = getCountByExcretionColor(stoolRecords);
+        Map<ExcretionStatus, Integer> statusCount = getCountByExcretionStatus(stoolRecords);
 
         return ExcretionWeeklyGetResponse.builder()
                 .targetDate(date)
@@ -81,62 +89,85 @@ public class ExcretionWeeklyStatisticsService implements WeeklyStatisticsService
     }
 
     /**
-     * 특정 아기의 주간 배변 활동 시간을 조회합니다.
+     * 특정 아기의 이번 주 배변 통계 요약을 한 번에 조회합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 배변 활동 시간을 분석하여 반환합니다.
+     * 주어진 날짜를 기준으로 최근 7일간의 일자별 배변 통계를 조회하여 반환합니다.
      * </p>
      *
      * @param date 기준 날짜
      * @param baby 아기 객체
-     * @return 각 날짜별 배변 활동 시간을 포함한 {@link DailyActiveTime} 리스트
+     * @return 이번 주 일자별 배변 통계를 포함한 {@link WeeklyWindow}
      */
     @Override
-    public List<DailyActiveTime> getActiveTimes(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-        List<Record> weeklyRecords = recordRepository
-                .findStartedAtByBabyAndDateBetween(baby, start, date.atTime(LocalTime.MAX), RecordType.EXCRETION);
+    public WeeklyWindow<BabyDailyStats> getWeeklyWindow(LocalDate date, Baby baby) {
+        List<BabyDailyStats> dailyStats = babyDailyStatsService
+                .getDailyStats(baby, RecordType.EXCRETION, date.minusDays(WeeklyWindow.WEEK_DAYS - 1), date);
 
-        Map<LocalDate, List<Record>> recordsByDate = weeklyRecords.stream()
-                .collect(Collectors.groupingBy(record -> record.getStartedAt().toLocalDate()));
+        return WeeklyWindow.of(date, dailyStats, stats -> stats.getStatDate().atStartOfDay());
+    }
 
-        return recordsByDate.entrySet().stream()
-                .map(entry -> DailyActiveTime.builder()
-                        .date(entry.getKey())
-                        .dailyActiveTimes(
-                                entry.getValue().stream()
-                                        .map(record -> ActiveTime.builder()
-                                                .start(record.getStartedAt().getHour())
-                                                .end(record.getStartedAt().getHour() + 1)
-                                                .build())
-                                        .sorted(Comparator.comparing(ActiveTime::getStart))
-                                        .collect(Collectors.toList())
-                        )
+    /**
+     * 특정 아기의 주간 배변 활동 시간을 조회합니다.
+     *
+     * <p>
+     * 이번 주 일자별 배변 통계에서 기록이 있는 시간대를 찾아 날짜별 배변 활동 시간을 반환합니다.
+     * </p>
+     *
+     * @param window 이번 주 일자별 배변 통계
+     * @return 각 날짜별 배변 활동 시간을 포함한 {@link DailyActiveTime} 리스트
+     */
+    @Override
+    public List<DailyActiveTime> getActiveTimes(WeeklyWindow<BabyDailyStats> window) {
+        return window.getCurrentWeek().stream()
+                .filter(stats -> stats.getHalfHourSlots() != 0)
+                .map(stats -> DailyActiveTime.builder()
+                        .date(stats.getStatDate())
+                        .dailyActiveTimes(toHourlyActiveTimes(stats))
                         .build())
                 .sorted(Comparator.comparing(DailyActiveTime::getDate))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 일자별 배변 통계를 1시간 단위 활동 시간으로 변환합니다.
+     *
+     * @param stats 일자별 배변 통계
+     * @return 기록이 있는 시간대의 활동 시간 리스트
+     */
+    private List<ActiveTime> toHourlyActiveTimes(BabyDailyStats stats) {
+        List<ActiveTime> activeTimes = new ArrayList<>();
+
+        for(int hour = 0; hour < BabyDailyStats.HALF_HOUR_SLOTS / 2; hour++) {
+            if(stats.isOccupied(hour * 2) || stats.isOccupied(hour * 2 + 1)) {
+                activeTimes.add(ActiveTime.builder()
+                        .start(hour)
+                        .end(hour + 1)
+                        .build());
+            }
+        }
+
+        return activeTimes;
+    }
+
     /**
      * 특정 아기의 주간 평균 배변 횟수를 계산합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 배변 기록을 분석하여 평균 횟수를 계산합니다.
+     * 이번 주 일자별 배변 통계를 합산하여 평균 횟수를 계산합니다.
      * </p>
      *
-     * @param date 기준 날짜
-     * @param baby 아기 객체
+     * @param window 이번 주 일자별 배변 통계
      * @return 7일간의 평균 배변 횟수
      */
     @Override
-    public BigDecimal getAverageCount(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-
-        int totalCount = recordRepository
-                .getCountByRecordTypeAndBaby(baby, RecordType.EXCRETION, start, date.atTime(LocalTime.MAX));
+    public BigDecimal getAverageCount(WeeklyWindow<BabyDailyStats> window) {
+        int totalCount = window.getCurrentWeek().stream()
+                .mapToInt(BabyDailyStats::getRecordCount)
+                .sum();
 
         return BigDecimal.valueOf(totalCount)
-                .divide(BigDecimal.valueOf(7), 1, RoundingMode.HALF_UP);
+                .divide(BigDecimal.valueOf(WeeklyWindow.WEEK_DAYS), 1, RoundingMode.HALF_UP);
     }
 
     /**
@@ -153,155 +184,96 @@ public class ExcretionWeeklyStatisticsService implements WeeklyStatisticsService
      * 특정 아기의 배변 패턴을 분석합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 배변 기록을 분석하여
+     * 이번 주 일자별 배변 통계를 분석하여
      * 일정한 패턴이 있는 활동 시간 블록을 반환합니다.
+     * 30분 단위 칸별로 기록이 있었던 날의 수를 세고, 기준 빈도 이상인 칸만 남깁니다.
      * </p>
      *
-     * @param date 기준 날짜
-     * @param baby 아기 객체
+     * @param window 이번 주 일자별 배변 통계
      * @return 분석된 활동 시간 블록 리스트 {@link ActiveTimeBlock}
      */
     @Override
-    public List<ActiveTimeBlock> analyzePattern(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-        List<LocalDateTime> records = recordRepository
-                .findStartedAtByBabyAndDateBetween(baby, start, date.atTime(LocalTime.MAX), RecordType.EXCRETION).stream()
-                .map(Record::getStartedAt)
-                .toList();
-
-        Map<ActiveTimeBlock, Integer> frequencyMap = extractActiveTimeBlocks(records);
+    public List<ActiveTimeBlock> analyzePattern(WeeklyWindow<BabyDailyStats> window) {
+        HalfHourHistogram histogram = new HalfHourHistogram();
+        window.getCurrentWeek().forEach(stats -> histogram.addSlots(stats.getHalfHourSlots()));
 
-        List<ActiveTimeBlock> result = filterByFrequency(new ArrayList<>(frequencyMap.keySet()), frequencyMap, EXCRETION_BLOCK_FREQUENCY);
-        result.sort(Comparator.comparing(ActiveTimeBlock::getStart));
-
-        return result;
+        return histogram.findBlocks(EXCRETION_BLOCK_FREQUENCY);
     }
 
     /**
-     * 주어진 배변 활동 시간을 기반으로 활동 시간 블록을 생성합니다.
+     * 특정 아기의 비정상적인 배변 횟수를 계산합니다.
      *
      * <p>
-     * 30분 단위로 배변 활동을 그룹화하고 빈도를 계산하여 맵으로 반환합니다.
+     * 소변을 제외한 이번 주 배변 기록 중 상태가 정상이 아닌 기록의 횟수를 계산합니다.
      * </p>
      *
-     * @param data 배변 활동 시간 목록
-     * @return 활동 시간 블록과 해당 빈도를 포함한 맵
-     */
-    private Map<ActiveTimeBlock, Integer> extractActiveTimeBlocks(List<LocalDateTime> data) {
-        Map<ActiveTimeBlock, Integer> frequencyMap = new HashMap<>();
-
-        for(LocalDateTime date: data) {
-            LocalTime start = roundToNearestHalfHour(date.toLocalTime());
-            LocalTime end = start.plusMinutes(30);
-            ActiveTimeBlock block = new ActiveTimeBlock(start, end);
-
-            frequencyMap.put(block, frequencyMap.getOrDefault(block, 0) + 1);
-        }
-
-        return frequencyMap;
-    }
-
-    /**
-     * 주어진 시간을 가장 가까운 30분 단위로 반올림합니다.
-     *
-     * @param time 반올림할 시간
-     * @return 30분 단위로 정렬된 시간
+     * @param stoolRecords 소변을 제외한 이번 주 배변 기록
+     * @return 비정상적인 배변 횟수
      */
-    private LocalTime roundToNearestHalfHour(LocalTime time) {
-        int minute = time.getMinute();
-        int hour = time.getHour();
-
-        if (minute < 30) {
-            return LocalTime.of(hour, 0);
-        } else {
-            return LocalTime.of(hour, 30);
-        }
+    private Integer getAbnormalCount(List<ExcretionInfo> stoolRecords) {
+        return (int) stoolRecords.stream()
+                .filter(record -> record.excretionStatus() != null
+                        && record.excretionStatus() != ExcretionStatus.GOOD)
+                .count();
     }
 
     /**
-     * 일정 빈도 이상 발생한 활동 시간 블록만 필터링하여 반환합니다.
+     * 특정 아기의 배변 상태별 발생 횟수를 계산합니다.
      *
      * <p>
-     * 배변 활동 패턴에서 특정 빈도 이상 발생한 블록만 포함하도록 필터링합니다.
+     * 소변을 제외한 이번 주 배변 기록의 배변 상태(예: 정상, 설사 등)별 빈도를 계산합니다.
      * </p>
      *
-     * @param blocks        활동 시간 블록 리스트
-     * @param frequencyMap  활동 시간 블록별 빈도수 맵
-     * @param minFrequency  최소 빈도 기준
-     * @return 필터링된 활동 시간 블록 리스트
+     * @param stoolRecords 소변을 제외한 이번 주 배변 기록
+     * @return 배변 상태별 빈도를 포함한 맵 {@link ExcretionStatus, Integer}
      */
-    private List<ActiveTimeBlock> filterByFrequency(List<ActiveTimeBlock> blocks, Map<ActiveTimeBlock, Integer> frequencyMap, int minFrequency) {
-        List<ActiveTimeBlock> filteredBlocks = new ArrayList<>();
+    private Map<ExcretionStatus, Integer> getCountByExcretionStatus(List<ExcretionInfo> stoolRecords) {
+        Map<ExcretionStatus, Integer> statusCount = new HashMap<>();
 
-        for (ActiveTimeBlock block : blocks) {
-            if (frequencyMap.getOrDefault(block, 0) >= minFrequency) {
-                filteredBlocks.add(block);
-            }
+        for (ExcretionInfo record : stoolRecords) {
+            statusCount.merge(record.excretionStatus(), 1, Integer::sum);
         }
 
-        return filteredBlocks;
+        return statusCount;
     }
 
     /**
-     * 특정 아기의 비정상적인 배변 횟수를 조회합니다.
+     * 특정 아기의 배변 색상별 발생 횟수를 계산합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 비정상적인 배변 기록 횟수를 조회합니다.
+     * 소변을 제외한 이번 주 배변 기록의 배변 색상별 빈도를 계산합니다.
      * </p>
      *
-     * @param date 기준 날짜
-     * @param baby 아기 객체
-     * @return 비정상적인 배변 횟수
-     */
-    private Integer getAbnormalCount(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-
-        return excretionRepository.countAbnormalExcretionByDateAndBaby(baby, start, date.atTime(LocalTime.MAX));
-    }
-
-    /**
-     * 특정 아기의 배변 상태별 발생 횟수를 조회합니다.
-     *
-     * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 배변 상태(예: 정상, 설사 등)별 빈도를 계산합니다.
-     * </p>
-     *
-     * @param date 기준 날짜
-     * @param baby 아기 객체
-     * @return 배변 상태별 빈도를 포함한 맵 {@link ExcretionStatus, Integer}
+     * @param stoolRecords 소변을 제외한 이번 주 배변 기록
+     * @return 배변 색상별 빈도를 포함한 맵 {@link ExcretionColor, Integer}
      */
-    private Map<ExcretionStatus, Integer> getCountByExcretionStatus(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
+    private Map<ExcretionColor, Integer> getCountByExcretionColor(List<ExcretionInfo> stoolRecords) {
+        Map<ExcretionColor, Integer> colorCount = new HashMap<>();
 
-        List<Object[]> statusCount = excretionRepository.countExcretionStatusByBabyDateBetween(baby, start, date.atTime(LocalTime.MAX));
+        for (ExcretionInfo record : stoolRecords) {
+            colorCount.merge(record.color(), 1, Integer::sum);
+        }
 
-        return statusCount.stream()
-                .collect(Collectors.toMap(
-                        result -> (ExcretionStatus) result[0],
-                        result -> ((Long) result[1]).intValue()
-                ));
+        return colorCount;
     }
 
     /**
-     * 특정 아기의 배변 색상별 발생 횟수를 조회합니다.
+     * 특정 아기의 이번 주 배변 기록 중 소변을 제외한 기록을 조회합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 배변 색상별 빈도를 계산합니다.
+     * 색상 및 상태 통계는 일자별 통계 요약에 포함되지 않으므로, 최근 7일간의 배변 기록을 한 번 조회합니다.
      * </p>
      *
      * @param date 기준 날짜
      * @param baby 아기 객체
-     * @return 배변 색상별 빈도를 포함한 맵 {@link ExcretionColor, Integer}
+     * @return 소변을 제외한 배변 기록 리스트
      */
-    private Map<ExcretionColor, Integer> getCountByExcretionColor(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-
-        List<Object[]> colorCount = excretionRepository.countExcretionColorByBabyDateBetween(baby, start, date.atTime(LocalTime.MAX));
+    private List<ExcretionInfo> getStoolRecords(LocalDate date, Baby baby) {
+        LocalDateTime start = date.minusDays(WeeklyWindow.WEEK_DAYS - 1).atStartOfDay();
 
-        return colorCount.stream()
-                .collect(Collectors.toMap(
-                        result -> (ExcretionColor) result[0],
-                        result -> ((Long) result[1]).intValue()
-                ));
+        return excretionRepository.findExcretionInfoByBabyAndDateBetween(baby, start, WeeklyWindow.getEnd(date)).stream()
+                .filter(record -> record.excretionType() != null
+                        && record.excretionType() != ExcretionType.PEE)
+                .toList();
     }
 }
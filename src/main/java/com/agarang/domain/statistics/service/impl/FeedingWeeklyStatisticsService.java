@@ -2,15 +2,16 @@ package com.agarang.domain.statistics.service.impl;
 
 import com.agarang.domain.baby.entity.Baby;
 import com.agarang.domain.baby.service.BabyService;
-import com.agarang.domain.record.entity.Record;
 import com.agarang.domain.record.entity.enumeration.RecordType;
-import com.agarang.domain.record.repository.RecordRepository;
-import com.agarang.domain.record.service.impl.FeedingService;
 import com.agarang.domain.statistics.dto.ActiveTimeBlock;
 import com.agarang.domain.statistics.dto.DailyActiveTime;
 import com.agarang.domain.statistics.dto.ActiveTime;
+import com.agarang.domain.statistics.dto.HalfHourHistogram;
+import com.agarang.domain.statistics.dto.WeeklyWindow;
 import com.agarang.domain.statistics.dto.response.FeedingWeeklyGetResponse;
 import com.agarang.domain.statistics.dto.response.WeeklyGetResponse;
+import com.agarang.domain.statistics.entity.BabyDailyStats;
+import com.agarang.domain.statistics.service.BabyDailyStatsService;
 import com.agarang.domain.statistics.service.WeeklyStatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,8 +19,6 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,10 +35,9 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
-public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService {
-    private final FeedingService feedingService;
+public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService<BabyDailyStats> {
     private final BabyService babyService;
-    private final RecordRepository recordRepository;
+    private final BabyDailyStatsService babyDailyStatsService;
 
     public static final Integer FEEDING_BLOCK_FREQUENCY = 4;
 
@@ -49,6 +47,7 @@ public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService {
      * <p>
      * 주어진 날짜를 기준으로 아기의 수유 기록을 분석하여 평균 수유량, 활동 시간 블록, 평균 수유 횟수,
      * 주간 변화량 등의 정보를 포함한 주간 통계를 반환합니다.
+     * 수유 기록 대신 최근 14일간의 일자별 수유 통계 요약을 한 번에 조회하여 계산합니다.
      * </p>
      *
      * @param date   기준 날짜
@@ -59,11 +58,12 @@ public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService {
     @Override
     public WeeklyGetResponse getWeeklyStatistics(LocalDate date, Integer userId, Integer babyId) {
         Baby baby = babyService.getBabyById(babyId);
-        Integer averageAmount = feedingService.getWeeklyAverageAmount(baby, date);
-        List<DailyActiveTime> activeTimes = getActiveTimes(date, baby);
-        List<ActiveTimeBlock> activeTimeBlocks = analyzePattern(date, baby);
-        BigDecimal averageCount = getAverageCount(date, baby);
-        BigDecimal weeklyChange = calculateWeeklyChange(date, baby, averageCount);
+        WeeklyWindow<BabyDailyStats> window = getWeeklyWindow(date, baby);
+        Integer averageAmount = getWeeklyAverageAmount(window);
+        List<DailyActiveTime> activeTimes = getActiveTimes(window);
+        List<ActiveTimeBlock> activeTimeBlocks = analyzePattern(window);
+        BigDecimal averageCount = getAverageCount(window);
+        BigDecimal weeklyChange = calculateWeeklyChange(window, averageCount);
 
         return FeedingWeeklyGetResponse.builder()
                 .recordType(RecordType.FEEDING)
@@ -77,59 +77,92 @@ public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService {
     }
 
     /**
-     * 특정 아기의 주간 수유 활동 시간을 조회합니다.
+     * 특정 아기의 이번 주와 지난 주 수유 통계 요약을 한 번에 조회합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 수유 활동 시간을 분석하여 반환합니다.
+     * 주어진 날짜를 기준으로 최근 14일간의 일자별 수유 통계를 조회하여 이번 주와 지난 주로 나눕니다.
      * </p>
      *
      * @param date 기준 날짜
      * @param baby 아기 객체
-     * @return 각 날짜별 수유 활동 시간을 포함한 {@link DailyActiveTime} 리스트
+     * @return 이번 주와 지난 주 일자별 수유 통계를 포함한 {@link WeeklyWindow}
      */
     @Override
-    public List<DailyActiveTime> getActiveTimes(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-        List<Record> weeklyRecords = recordRepository
-                .findStartedAtByBabyAndDateBetween(baby, start, date.atTime(LocalTime.MAX), RecordType.FEEDING);
+    public WeeklyWindow<BabyDailyStats> getWeeklyWindow(LocalDate date, Baby baby) {
+        List<BabyDailyStats> dailyStats = babyDailyStatsService
+                .getDailyStats(baby, RecordType.FEEDING, WeeklyWindow.getStart(date).toLocalDate(), date);
 
-        Map<LocalDate, List<Record>> recordsByDate = weeklyRecords.stream()
-                .collect(Collectors.groupingBy(record -> record.getStartedAt().toLocalDate()));
+        return WeeklyWindow.of(date, dailyStats, stats -> stats.getStatDate().atStartOfDay());
+    }
 
-        return recordsByDate.entrySet().stream()
-                .map(entry -> DailyActiveTime.builder()
-                        .date(entry.getKey())
-                        .dailyActiveTimes(
-                                entry.getValue().stream()
-                                        .map(record -> ActiveTime.builder()
-                                                .start(record.getStartedAt().getHour())
-                                                .end(record.getStartedAt().getHour() + 1)
-                                                .build())
-                                        .sorted(Comparator.comparing(ActiveTime::getStart))
-                                        .collect(Collectors.toList())
-                        )
+    /**
+     * 특정 아기의 주간 수유 활동 시간을 조회합니다.
+     *
+     * <p>
+     * 이번 주 일자별 수유 통계에서 기록이 있는 시간대를 찾아 날짜별 수유 활동 시간을 반환합니다.
+     * </p>
+     *
+     * @param window 이번 주와 지난 주 일자별 수유 통계
+     * @return 각 날짜별 수유 활동 시간을 포함한 {@link DailyActiveTime} 리스트
+     */
+    @Override
+    public List<DailyActiveTime> getActiveTimes(WeeklyWindow<BabyDailyStats> window) {
+        return window.getCurrentWeek().stream()
+                .filter(stats -> stats.getHalfHourSlots() != 0)
+                .map(stats -> DailyActiveTime.builder()
+                        .date(stats.getStatDate())
+                        .dailyActiveTimes(toHourlyActiveTimes(stats))
                         .build())
                 .sorted(Comparator.comparing(DailyActiveTime::getDate))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 일자별 수유 통계를 1시간 단위 활동 시간으로 변환합니다.
+     *
+     * @param stats 일자별 수유 통계
+     * @return 기록이 있는 시간대의 활동 시간 리스트
+     */
+    private List<ActiveTime> toHourlyActiveTimes(BabyDailyStats stats) {
+        List<ActiveTime> activeTimes = new ArrayList<>();
+
+        for(int hour = 0; hour < BabyDailyStats.HALF_HOUR_SLOTS / 2; hour++) {
+            if(stats.isOccupied(hour * 2) || stats.isOccupied(hour * 2 + 1)) {
+                activeTimes.add(ActiveTime.builder()
+                        .start(hour)
+                        .end(hour + 1)
+                        .build());
+            }
+        }
+
+        return activeTimes;
+    }
+
     /**
      * 특정 아기의 주간 평균 수유 횟수를 계산합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 수유 기록을 분석하여 평균 횟수를 계산합니다.
+     * 이번 주 일자별 수유 통계를 합산하여 평균 횟수를 계산합니다.
      * </p>
      *
-     * @param date 기준 날짜
-     * @param baby 아기 객체
+     * @param window 이번 주와 지난 주 일자별 수유 통계
      * @return 7일간의 평균 수유 횟수
      */
     @Override
-    public BigDecimal getAverageCount(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
+    public BigDecimal getAverageCount(WeeklyWindow<BabyDailyStats> window) {
+        return calculateAverageCount(window.getCurrentWeek());
+    }
 
-        int totalCount = recordRepository
-                .getCountByRecordTypeAndBaby(baby, RecordType.FEEDING, start, date.atTime(LocalTime.MAX));
+    /**
+     * 한 주간의 평균 수유 횟수를 계산합니다.
+     *
+     * @param dailyStats 한 주간의 일자별 수유 통계
+     * @return 7일간의 평균 수유 횟수, 기록이 없으면 {@code null}
+     */
+    private BigDecimal calculateAverageCount(List<BabyDailyStats> dailyStats) {
+        int totalCount = dailyStats.stream()
+                .mapToInt(BabyDailyStats::getRecordCount)
+                .sum();
 
         if(totalCount == 0) return null;
 
@@ -151,94 +184,39 @@ public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService {
      * 특정 아기의 수유 패턴을 분석합니다.
      *
      * <p>
-     * 주어진 날짜를 기준으로 최근 7일간의 수유 기록을 분석하여
+     * 이번 주 일자별 수유 통계를 분석하여
      * 일정한 패턴이 있는 활동 시간 블록을 반환합니다.
+     * 30분 단위 칸별로 기록이 있었던 날의 수를 세고, 기준 빈도 이상인 칸만 남깁니다.
      * </p>
      *
-     * @param date 기준 날짜
-     * @param baby 아기 객체
+     * @param window 이번 주와 지난 주 일자별 수유 통계
      * @return 분석된 활동 시간 블록 리스트 {@link ActiveTimeBlock}
      */
     @Override
-    public List<ActiveTimeBlock> analyzePattern(LocalDate date, Baby baby) {
-        LocalDateTime start = date.minusDays(6).atStartOfDay();
-        List<LocalDateTime> records = recordRepository
-                .findStartedAtByBabyAndDateBetween(baby, start, date.atTime(LocalTime.MAX), RecordType.FEEDING).stream()
-                .map(Record::getStartedAt)
-                .toList();
-
-        Map<ActiveTimeBlock, Integer> frequencyMap = extractActiveTimeBlocks(records);
-
-        List<ActiveTimeBlock> result = filterByFrequency(new ArrayList<>(frequencyMap.keySet()), frequencyMap, FEEDING_BLOCK_FREQUENCY);
-        result.sort(Comparator.comparing(ActiveTimeBlock::getStart));
-
-        return result;
-
-    }
-
-    /**
-     * 주어진 수유 활동 시간을 기반으로 활동 시간 블록을 생성합니다.
-     *
-     * <p>
-     * 30분 단위로 수유 활동을 그룹화하고 빈도를 계산하여 맵으로 반환합니다.
-     * </p>
-     *
-     * @param data 수유 활동 시간 목록
-     * @return 활동 시간 블록과 해당 빈도를 포함한 맵
-     */
-    private Map<ActiveTimeBlock, Integer> extractActiveTimeBlocks(List<LocalDateTime> data) {
-        Map<ActiveTimeBlock, Integer> frequencyMap = new HashMap<>();
+    public List<ActiveTimeBlock> analyzePattern(WeeklyWindow<BabyDailyStats> window) {
+        HalfHourHistogram histogram = new HalfHourHistogram();
+        window.getCurrentWeek().forEach(stats -> histogram.addSlots(stats.getHalfHourSlots()));
 
-        for(LocalDateTime date: data) {
-            LocalTime start = roundToNearestHalfHour(date.toLocalTime());
-            LocalTime end = start.plusMinutes(30);
-            ActiveTimeBlock block = new ActiveTimeBlock(start, end);
-
-            frequencyMap.put(block, frequencyMap.getOrDefault(block, 0) + 1);
-        }
-
-        return frequencyMap;
+        return histogram.findBlocks(FEEDING_BLOCK_FREQUENCY);
     }
 
     /**
-     * 일정 빈도 이상 발생한 활동 시간 블록만 필터링하여 반환합니다.
+     * 특정 아기의 주간 평균 수유량을 계산합니다.
      *
      * <p>
-     * 수유 활동 패턴에서 특정 빈도 이상 발생한 블록만 포함하도록 필터링합니다.
+     * 이번 주 일자별 총 수유량을 합산하여 일주일 평균을 반환합니다.
+     * 수유량이 없는 모유 수유는 합산되지 않습니다.
      * </p>
      *
-     * @param blocks        활동 시간 블록 리스트
-     * @param frequencyMap  활동 시간 블록별 빈도수 맵
-     * @param minFrequency  최소 빈도 기준
-     * @return 필터링된 활동 시간 블록 리스트
+     * @param window 이번 주와 지난 주 일자별 수유 통계
+     * @return 주간 평균 수유량
      */
-    private List<ActiveTimeBlock> filterByFrequency(List<ActiveTimeBlock> blocks, Map<ActiveTimeBlock, Integer> frequencyMap, int minFrequency) {
-        List<ActiveTimeBlock> filteredBlocks = new ArrayList<>();
+    private Integer getWeeklyAverageAmount(WeeklyWindow<BabyDailyStats> window) {
+        int totalWeeklyAmount = window.getCurrentWeek().stream()
+                .mapToInt(BabyDailyStats::getTotalAmount)
+                .sum();
 
-        for (ActiveTimeBlock block : blocks) {
-            if (frequencyMap.getOrDefault(block, 0) >= minFrequency) {
-                filteredBlocks.add(block);
-            }
-        }
-
-        return filteredBlocks;
-    }
-
-    /**
-     * 주어진 시간을 가장 가까운 30분 단위로 반올림합니다.
-     *
-     * @param time 반올림할 시간
-     * @return 30분 단위로 정렬된 시간
-     */
-    private LocalTime roundToNearestHalfHour(LocalTime time) {
-        int minute = time.getMinute();
-        int hour = time.getHour();
-
-        if (minute < 30) {
-            return LocalTime.of(hour, 0);
-        } else {
-            return LocalTime.of(hour, 30);
-        }
+        return (int) Math.round((double) totalWeeklyAmount / WeeklyWindow.WEEK_DAYS);
     }
 
     /**
@@ -248,13 +226,12 @@ public class FeedingWeeklyStatisticsService implements WeeklyStatisticsService {
      * 이전 주와 현재 주의 평균 수유 횟수를 비교하여 주간 변화량을 반환합니다.
      * </p>
      *
-     * @param date    기준 날짜
-     * @param baby    아기 객체
+     * @param window  이번 주와 지난 주 일자별 수유 통계
      * @param current 현재 주의 평균 수유 횟수
      * @return 주간 평균 수유 횟수 변화량
      */
-    private BigDecimal calculateWeeklyChange(LocalDate date, Baby baby, BigDecimal current) {
-        BigDecimal previous = getAverageCount(date.minusDays(7), baby);
+    private BigDecimal calculateWeeklyChange(WeeklyWindow<BabyDailyStats> window, BigDecimal current) {
+        BigDecimal previous = calculateAverageCount(window.getPreviousWeek());
 
         if(Objects.isNull(current) || Objects.isNull(previous)) return null;
 
@@ -0,0 +1,26 @@
+package com.agarang.domain.user.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * packageName    : com.agarang.domain.user.event<br>
+ * fileName       : UserTokenDenyEvent.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 사용자의 토큰 인증을 거부하는 event 클래스입니다.<br>
+ * <p>사용자를 익명화할 때 발행합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Getter
+public class UserTokenDenyEvent extends ApplicationEvent {
+    private final Integer userId;
+
+    public UserTokenDenyEvent(Object source, Integer userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.agarang.domain.user.event;
+
+import com.agarang.global.filter.JwtDenyList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * packageName    : com.agarang.domain.user.event<br>
+ * fileName       : UserTokenDenyEventListener.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 사용자 토큰 거부 event 를 처리하는 listener 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ */
+@Component
+@RequiredArgsConstructor
+public class UserTokenDenyEventListener {
+    private final JwtDenyList jwtDenyList;
+
+    /**
+     * 트랜잭션이 커밋된 후, 사용자를 JWT 거부 목록에 기록합니다.
+     *
+     * <p>익명화가 롤백되면 기록하지 않으며, 트랜잭션 동안 Redis 호출로 DB 연결을 붙잡지 않습니다.</p>
+     *
+     * @param event 사용자 토큰 거부 이벤트 {@link UserTokenDenyEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserTokenDenyEvent(UserTokenDenyEvent event) {
+        jwtDenyList.deny(event.getUserId());
+    }
+}
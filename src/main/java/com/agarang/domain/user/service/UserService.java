@@ -1,5 +1,6 @@
 package com.agarang.domain.user.service;
 
+import com.agarang.domain.chat_room.event.ChatContextEvictEvent;
 import com.agarang.domain.custody.repository.CustodyRepository;
 import com.agarang.domain.user.dto.CustomUserDetails;
 import com.agarang.domain.user.dto.mapper.UserMapper;
@@ -8,6 +9,7 @@ import com.agarang.domain.user.dto.request.UserUpdateRequest;
 import com.agarang.domain.user.dto.response.UserResponse;
 import com.agarang.domain.user.entity.Sex;
 import com.agarang.domain.user.entity.User;
+import com.agarang.domain.user.event.UserTokenDenyEvent;
 import com.agarang.domain.user.repository.UserRepository;
 import com.agarang.global.exception.BusinessException;
 import com.agarang.global.exception.ErrorCode;
@@ -15,6 +17,7 @@ import com.agarang.global.s3.S3DefaultImage;
 import com.agarang.global.s3.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -36,6 +39,8 @@ import java.util.Objects;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 1/24/25          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          익명화한 사용자의 토큰 거부<br>
+ * 2026-10-18          nature1216          토큰 거부를 커밋 이후로 이동<br>
  */
 @Slf4j
 @Service
@@ -46,6 +51,7 @@ public class UserService implements UserDetailsService {
     private final CustodyRepository custodyRepository;
     private final UserMapper userMapper;
     private final S3Uploader s3Uploader;
+    private final ApplicationEventPublisher eventPublisher;
 
     public static final String PART_CREATE_USER_DATA = "user";
     public static final String PERMANENT_DELETE_USER_PREFIX = "deleted: ";
@@ -120,6 +126,7 @@ public class UserService implements UserDetailsService {
 
         updateUserImage(image, request.getExistingImage(), user);
         userMapper.updateUserFromUpdateUserRequest(request, user);
+        eventPublisher.publishEvent(new ChatContextEvictEvent(this, userId, null));
 
         int babyCount = custodyRepository.countByUserAndDeletedAtIsNull(user);
 
@@ -131,6 +138,7 @@ public class UserService implements UserDetailsService {
      *
      * <p>
      * 사용자의 계정을 다시 활성화하며, 사용자의 요청에 따라 완전한 익명화 처리도 가능합니다.
+     * 익명화한 사용자는 커밋 이후 {@link com.agarang.global.filter.JwtDenyList} 에 기록하여 이미 발급된 토큰으로 인증할 수 없게 합니다.
      * </p>
      *
      * @param userId  복구할 사용자 ID
@@ -141,6 +149,8 @@ public class UserService implements UserDetailsService {
 
         if(!request.reactivate() || user.isAnonymized()) {
             user.anonymize();
+            eventPublisher.publishEvent(new ChatContextEvictEvent(this, userId, null));
+            eventPublisher.publishEvent(new UserTokenDenyEvent(this, userId));
             return;
         }
 
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 /**
  * packageName    : com.agarang.domain.speechRecognition.controller<br>
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
  * 25.02.13          okeio           최초생성<br>
  * 25.02.13          okeio           최초생성<br>
  * 25.02.19          okeio           classifyText 반환 타입 변경<br>
+ * 26.10.18          okeio           classifyText 가 Mono 를 반환하도록 변경<br>
  * <br>
  */
 @RestController
@@ -45,7 +47,7 @@ public class VoiceRecognitionController {
      * </p>
      *
      * @param classificationRequest 분류할 텍스트 요청 객체
-     * @return JSON 형식의 분류 결과를 포함한 {@link ResponseEntity}
+     * @return JSON 형식의 분류 결과를 포함한 {@link ResponseEntity} 의 {@link Mono}
      */
     @Operation(summary = "텍스트 분류", description = "음성 인식된 텍스트를 기록 카테고리로 분류합니다.")
     @ApiResponses(value = {
@@ -58,11 +60,12 @@ public class VoiceRecognitionController {
                     content = @Content(schema = @Schema(hidden = true)))
     })
     @PostMapping("/classify")
-    public ResponseEntity<JsonNode> classifyText(
+    public Mono<ResponseEntity<JsonNode>> classifyText(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "분류할 텍스트 요청 객체")
             @RequestBody ClassificationRequest classificationRequest) {
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(voiceRecognitionService.classifyTextUsingCompletion(classificationRequest));
+        return voiceRecognitionService.classifyTextUsingCompletion(classificationRequest)
+                .map(parsedJson -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(parsedJson));
     }
 }
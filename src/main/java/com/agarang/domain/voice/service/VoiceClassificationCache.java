@@ -0,0 +1,107 @@
+package com.agarang.domain.voice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * packageName    : com.agarang.domain.voice.service<br>
+ * fileName       : VoiceClassificationCache.java<br>
+ * author         : okeio<br>
+ * date           : 26. 10. 18.<br>
+ * description    : 정규화된 발화별 OpenAI 분류 결과를 보관하는 LRU 캐시 클래스입니다. <br>
+ * <p>최대 {@value #MAX_ENTRIES} 개를 {@link #TTL} 동안 보관합니다. 캐시된 결과를 돌려줄 때는 `started_at`, `ended_at` 을
+ * 처음 분류한 시간과 현재 시간의 차이만큼 옮겨, "30분 전" 과 같은 상대 시간이 요청 시간을 기준으로 다시 계산되도록 합니다.
+ * "3시", "오전", "어제" 처럼 절대 시간이 포함된 발화는 옮길 수 없으므로 캐시하지 않습니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          okeio           최초생성<br>
+ * <br>
+ */
+@Component
+public class VoiceClassificationCache {
+    private static final int MAX_ENTRIES = 1000;
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final List<String> TIME_FIELDS = List.of("started_at", "ended_at");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final Pattern ABSOLUTE_TIME = Pattern.compile(
+            "\\d+\\s*시(?!간)|\\d+\\s*(?:월|일)|오전|오후|새벽|아침|점심|저녁|밤|어제|그제|그저께|정오|자정");
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * 캐시된 분류 결과를 현재 시간 기준으로 옮겨 반환합니다.
+     *
+     * @param normalizedText 정규화된 발화
+     * @param now            현재 시간
+     * @return 분류 결과 JSON 의 복사본, 캐시에 없거나 만료되었으면 빈 값
+     */
+    public Optional<ObjectNode> get(String normalizedText, LocalDateTime now) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(normalizedText);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (now.isAfter(entry.anchoredAt().plus(TTL))) {
+                entries.remove(normalizedText);
+                return Optional.empty();
+            }
+        }
+
+        ObjectNode result = entry.result().deepCopy();
+        Duration shift = Duration.between(entry.anchoredAt(), now);
+        for (String field : TIME_FIELDS) {
+            JsonNode value = result.get(field);
+            if (value != null && value.isTextual()) {
+                shiftTime(result, field, value.asText(), shift);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * OpenAI 분류 결과를 캐시합니다. 절대 시간이 포함된 발화는 캐시하지 않습니다.
+     *
+     * @param normalizedText 정규화된 발화
+     * @param result         분류 결과 JSON
+     * @param anchoredAt     분류 요청 시 OpenAI 에 전달한 현재 시간
+     */
+    public void put(String normalizedText, ObjectNode result, LocalDateTime anchoredAt) {
+        if (ABSOLUTE_TIME.matcher(normalizedText).find()) {
+            return;
+        }
+
+        synchronized (entries) {
+            entries.put(normalizedText, new Entry(result.deepCopy(), anchoredAt));
+        }
+    }
+
+    private static void shiftTime(ObjectNode result, String field, String value, Duration shift) {
+        try {
+            LocalDateTime shifted = LocalDateTime.parse(value).plus(shift).truncatedTo(ChronoUnit.SECONDS);
+            result.put(field, shifted.format(DATE_TIME_FORMATTER));
+        } catch (DateTimeParseException ignored) {
+            // OpenAI 가 형식에 맞지 않는 시간을 돌려준 경우, 캐시하지 않았을 때와 같이 그대로 둡니다.
+        }
+    }
+
+    private record Entry(ObjectNode result, LocalDateTime anchoredAt) {}
+}
@@ -0,0 +1,94 @@
+package com.agarang.domain.voice.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.domain.voice.service<br>
+ * fileName       : VoiceClassificationMetrics.java<br>
+ * author         : okeio<br>
+ * date           : 26. 10. 18.<br>
+ * description    : 텍스트 분류 경로별 처리 건수와 지연 시간을 집계하는 클래스입니다. <br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          okeio           최초생성<br>
+ * <br>
+ */
+@Component
+public class VoiceClassificationMetrics {
+
+    /**
+     * 텍스트 분류 경로입니다.
+     */
+    public enum Path {
+        FAST_PATH, CACHE, LLM;
+    }
+
+    private final Map<Path, LongAdder> counts = new EnumMap<>(Path.class);
+    private final Map<Path, LongAdder> latencyNanos = new EnumMap<>(Path.class);
+
+    public VoiceClassificationMetrics() {
+        for (Path path : Path.values()) {
+            counts.put(path, new LongAdder());
+            latencyNanos.put(path, new LongAdder());
+        }
+    }
+
+    /**
+     * 분류 한 건의 처리 경로와 지연 시간을 기록합니다.
+     *
+     * @param path         처리 경로
+     * @param elapsedNanos 지연 시간(ns)
+     */
+    public void record(Path path, long elapsedNanos) {
+        counts.get(path).increment();
+        latencyNanos.get(path).add(elapsedNanos);
+    }
+
+    /**
+     * 경로별 처리 건수를 반환합니다.
+     *
+     * @param path 처리 경로
+     * @return 처리 건수
+     */
+    public long getCount(Path path) {
+        return counts.get(path).sum();
+    }
+
+    /**
+     * 경로별 평균 지연 시간을 반환합니다.
+     *
+     * @param path 처리 경로
+     * @return 평균 지연 시간(ms)
+     */
+    public double getAverageLatencyMillis(Path path) {
+        long count = counts.get(path).sum();
+        return count == 0 ? 0 : latencyNanos.get(path).sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * OpenAI 를 호출하지 않고 처리한 비율을 반환합니다.
+     *
+     * @return 규칙 또는 캐시로 처리한 건수 / 전체 건수
+     */
+    public double getHitRatio() {
+        long hits = getCount(Path.FAST_PATH) + getCount(Path.CACHE);
+        long total = hits + getCount(Path.LLM);
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * 규칙에 맞지 않은 발화 중 캐시로 처리한 비율을 반환합니다.
+     *
+     * @return 캐시로 처리한 건수 / (캐시 + OpenAI) 건수
+     */
+    public double getCacheHitRatio() {
+        long hits = getCount(Path.CACHE);
+        long total = hits + getCount(Path.LLM);
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,138 @@
+package com.agarang.domain.voice.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * packageName    : com.agarang.domain.voice.service<br>
+ * fileName       : VoiceFastPathClassifier.java<br>
+ * author         : okeio<br>
+ * date           : 26. 10. 18.<br>
+ * description    : 자주 쓰이는 짧은 발화를 키워드와 정규식으로 분류하는 클래스입니다. <br>
+ * <p>시간 표현이 없는 한 가지 카테고리의 발화(목욕, 소변/대변, 수면 시작/종료, ml 단위 수유, 체온)만 처리하며,
+ * OpenAI 응답과 같은 snake_case JSON 을 만듭니다. 규칙에 맞지 않는 발화는 빈 값을 반환하여 OpenAI 로 분류하도록 합니다.</p>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          okeio           최초생성<br>
+ * <br>
+ */
+@Component
+public class VoiceFastPathClassifier {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final Pattern PUNCTUATION = Pattern.compile("[,!?~]+|\\.(?!\\d)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String DONE = "(?:\\s*(?:했어요|했어|했음|했다|함|완료|기록|기록해줘|시켰어|시킴))?";
+    private static final String EXCRETED = "(?:\\s*(?:쌌어요|쌌어|쌌음|봤어|했어|함|기록))?";
+    private static final String PEE = "(?:소변|쉬|오줌)";
+    private static final String POOP = "(?:대변|응가|똥)";
+    private static final String AND = "\\s*(?:이랑|랑|과|와|하고)?\\s*";
+
+    private final List<Rule> rules = List.of(
+            new Rule(Pattern.compile("^(?:아기\\s*)?(?:목욕|샤워)(?:\\s*시작)?" + DONE + "$"),
+                    (matcher, now) -> classified("BATH", now)),
+            new Rule(Pattern.compile("^(?:" + PEE + AND + POOP + "|" + POOP + AND + PEE + ")" + EXCRETED + "$"),
+                    (matcher, now) -> excretion("BOTH", now)),
+            new Rule(Pattern.compile("^" + PEE + EXCRETED + "$"),
+                    (matcher, now) -> excretion("PEE", now)),
+            new Rule(Pattern.compile("^" + POOP + EXCRETED + "$"),
+                    (matcher, now) -> excretion("POOP", now)),
+            new Rule(Pattern.compile("^(?:(?:아기\\s*)?(?:수면|잠|낮잠|밤잠)\\s*(?:시작|들었어|들었음)|잠들었어|재웠어)$"),
+                    (matcher, now) -> classified("SLEEP", now)),
+            new Rule(Pattern.compile("^(?:(?:수면|잠|낮잠|밤잠)\\s*(?:끝|종료|끝났어)|깼어|일어났어|기상)$"),
+                    (matcher, now) -> classified("SLEEP", now).put("ended_at", format(now))),
+            new Rule(Pattern.compile("^(분유|유축\\s*수유|수유|우유)\\s*(\\d{1,4})\\s*(?:ml|미리|밀리|밀리리터|cc)(?:\\s*(?:먹었어|먹음|먹였어|줬어|수유|기록))?$"),
+                    VoiceFastPathClassifier::feeding),
+            new Rule(Pattern.compile("^(?:체온|열)?\\s*(\\d{2}(?:\\.\\d)?)\\s*(?:도|℃)(?:\\s*(?:이야|야|임|나왔어|측정|기록))?$"),
+                    VoiceFastPathClassifier::fever)
+    );
+
+    /**
+     * 발화를 비교하기 쉬운 형태로 정규화합니다.
+     *
+     * <p>문장 부호(숫자 사이의 소수점 제외)를 제거하고, 연속된 공백을 하나로 줄이며, 영문자를 소문자로 바꿉니다.</p>
+     *
+     * @param text 음성 인식된 텍스트
+     * @return 정규화된 텍스트
+     */
+    public static String normalize(String text) {
+        String withoutPunctuation = PUNCTUATION.matcher(text).replaceAll(" ");
+        return WHITESPACE.matcher(withoutPunctuation).replaceAll(" ").trim().toLowerCase();
+    }
+
+    /**
+     * 정규화된 발화를 규칙으로 분류합니다.
+     *
+     * @param normalizedText {@link #normalize(String)} 로 정규화된 텍스트
+     * @param now            기록 시작 시간으로 사용할 현재 시간
+     * @return 분류 결과 JSON, 규칙에 맞지 않으면 빈 값
+     */
+    public Optional<ObjectNode> classify(String normalizedText, LocalDateTime now) {
+        for (Rule rule : rules) {
+            Matcher matcher = rule.pattern().matcher(normalizedText);
+            if (matcher.matches()) {
+                ObjectNode result = rule.mapper().apply(matcher, now);
+                if (result != null) {
+                    return Optional.of(result);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ObjectNode feeding(Matcher matcher, LocalDateTime now) {
+        String feedingType = switch (matcher.group(1).replace(" ", "")) {
+            case "분유" -> "FORMULA_FEEDING";
+            case "유축수유" -> "PUMPING_FEEDING";
+            default -> "NORMAL_FEEDING";
+        };
+
+        ObjectNode result = classified("FEEDING", now);
+        result.put("feeding_type", feedingType);
+        result.put("amount", Integer.parseInt(matcher.group(2)));
+        return result;
+    }
+
+    private static ObjectNode fever(Matcher matcher, LocalDateTime now) {
+        BigDecimal temperature = new BigDecimal(matcher.group(1));
+        if (temperature.compareTo(BigDecimal.valueOf(34)) < 0 || temperature.compareTo(BigDecimal.valueOf(43)) >= 0) {
+            return null;
+        }
+
+        ObjectNode result = classified("FEVER", now);
+        result.put("temperature", temperature.doubleValue());
+        return result;
+    }
+
+    private static ObjectNode excretion(String excretionType, LocalDateTime now) {
+        ObjectNode result = classified("EXCRETION", now);
+        result.put("excretion_type", excretionType);
+        return result;
+    }
+
+    private static ObjectNode classified(String recordType, LocalDateTime now) {
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        result.put("is_classified", true);
+        result.put("record_type", recordType);
+        result.put("started_at", format(now));
+        return result;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.SECONDS).format(DATE_TIME_FORMATTER);
+    }
+
+    private record Rule(Pattern pattern, BiFunction<Matcher, LocalDateTime, ObjectNode> mapper) {}
+}
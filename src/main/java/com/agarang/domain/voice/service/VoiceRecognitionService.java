@@ -20,10 +20,14 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -37,12 +41,16 @@ import java.time.ZoneId;
  * -----------------------------------------------------------<br>
  * 25.02.14          okeio           최초생성<br>
  * 25.02.19          okeio           openai api 호출 로직 변경<br>
+ * 26.10.18          okeio           규칙 기반 분류와 분류 결과 캐시 추가<br>
+ * 26.10.18          okeio           분류 결과를 Mono 로 반환하도록 변경<br>
  * <br>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoiceRecognitionService {
+    private static final Set<String> RECORD_TYPES_REQUIRING_LOOKUP = Set.of("GROWTH_STATUS", "PUMPING", "FEEDING");
+
     private final JsonProcessor jsonProcessor;
     private final OpenAiService openAiService;
     private final BabyRepository babyRepository;
@@ -50,20 +58,92 @@ public class VoiceRecognitionService {
     private final NormalFeedingRepository normalFeedingRepository;
     private final FormulaFeedingRepository formulaFeedingRepository;
     private final PumpingFeedingRepository pumpingFeedingRepository;
+    private final VoiceFastPathClassifier voiceFastPathClassifier;
+    private final VoiceClassificationCache voiceClassificationCache;
+    private final VoiceClassificationMetrics voiceClassificationMetrics;
+    private final Scheduler jpaScheduler;
 
     /**
      * 음성 인식된 텍스트를 기반으로 카테고리를 분류하고 JSON 형식으로 반환합니다.
      *
      * <p>
-     * 이 메서드는 OpenAI API를 호출하여 음성 인식된 텍스트를 특정 카테고리로 분류한 후,
+     * 이 메서드는 자주 쓰이는 짧은 발화를 {@link VoiceFastPathClassifier} 로 먼저 분류하고, 규칙에 맞지 않으면
+     * {@link VoiceClassificationCache} 에 캐시된 결과나 OpenAI API를 호출하여 음성 인식된 텍스트를 특정 카테고리로 분류한 후,
      * 분류된 데이터를 JSON 형태로 반환합니다. 결과 JSON에서 null 필드를 제거하고,
      * 특정 카테고리(`GROWTH_STATUS`, `PUMPING`, `FEEDING`)의 경우 추가적인 데이터 처리를 수행합니다.
      * </p>
      *
+     * <p>OpenAI 응답을 기다리는 동안 스레드를 점유하지 않으며, 추가 데이터 처리에 필요한 JPA 조회는 `jpaScheduler` 에서 실행합니다.</p>
+     *
      * @param classificationRequest 분류할 텍스트 요청 객체
-     * @return 분류된 데이터를 포함한 {@link JsonNode} 객체
+     * @return 분류된 데이터를 포함한 {@link JsonNode} 객체의 {@link Mono}
+     */
+    public Mono<JsonNode> classifyTextUsingCompletion(ClassificationRequest classificationRequest) {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        String normalizedText = VoiceFastPathClassifier.normalize(classificationRequest.getText());
+
+        VoiceClassificationMetrics.Path path;
+        Mono<JsonNode> classified;
+        Optional<ObjectNode> fastPathResult = voiceFastPathClassifier.classify(normalizedText, now);
+        Optional<ObjectNode> cachedResult = fastPathResult.isPresent() ? Optional.empty() : voiceClassificationCache.get(normalizedText, now);
+
+        if (fastPathResult.isPresent()) {
+            path = VoiceClassificationMetrics.Path.FAST_PATH;
+            classified = Mono.just(fastPathResult.get());
+        } else if (cachedResult.isPresent()) {
+            path = VoiceClassificationMetrics.Path.CACHE;
+            classified = Mono.just(cachedResult.get());
+        } else {
+            path = VoiceClassificationMetrics.Path.LLM;
+            classified = classifyTextUsingOpenAi(classificationRequest.getText(), now)
+                    .doOnNext(parsedJson -> {
+                        if (parsedJson.isObject()) {
+                            voiceClassificationCache.put(normalizedText, (ObjectNode) parsedJson, now);
+                        }
+                    });
+        }
+
+        return classified
+                .flatMap(parsedJson -> processRecordDetails(parsedJson, classificationRequest.getBabyId()))
+                .doOnSuccess(parsedJson -> {
+                    long elapsedNanos = System.nanoTime() - startedAt;
+                    voiceClassificationMetrics.record(path, elapsedNanos);
+                    log.debug("텍스트 분류 경로: {}, 처리 시간: {}ms", path, elapsedNanos / 1_000_000);
+                });
+    }
+
+    /**
+     * 분류된 카테고리(`GROWTH_STATUS`, `PUMPING`, `FEEDING`)에 필요한 추가 데이터를 채웁니다.
+     *
+     * <p>추가 데이터는 JPA 로 조회하므로, 해당 카테고리인 경우에만 `jpaScheduler` 로 옮겨 실행합니다.</p>
+     *
+     * @param parsedJson 분류 결과 JSON
+     * @param babyId     아기 ID
+     * @return 추가 데이터가 채워진 {@link JsonNode} 객체의 {@link Mono}
      */
-    public JsonNode classifyTextUsingCompletion(ClassificationRequest classificationRequest) {
+    private Mono<JsonNode> processRecordDetails(JsonNode parsedJson, Integer babyId) {
+        String recordType = parsedJson.path("record_type").asText();
+        if (!RECORD_TYPES_REQUIRING_LOOKUP.contains(recordType)) {
+            return Mono.just(parsedJson);
+        }
+
+        return Mono.fromCallable(() -> switch (recordType) {
+                    case "GROWTH_STATUS" -> processGrowthStatus(parsedJson, babyId);
+                    case "PUMPING" -> processPumping(parsedJson, babyId);
+                    default -> processFeeding(parsedJson, babyId);
+                })
+                .subscribeOn(jpaScheduler);
+    }
+
+    /**
+     * OpenAI API 를 호출하여 텍스트를 분류합니다.
+     *
+     * @param text 분류할 텍스트
+     * @param now  기록 시작 시간의 기준이 되는 현재 시간
+     * @return null 필드가 제거된 분류 결과 {@link JsonNode} 의 {@link Mono}
+     */
+    private Mono<JsonNode> classifyTextUsingOpenAi(String text, LocalDateTime now) {
         String prompt = """
                 You are a text classification model for Korean parenting records. Classify the text into the correct category and return the result in **snake_case JSON** format.
                 
@@ -152,26 +232,16 @@ public class VoiceRecognitionService {
                          10. **GROWTH_STATUS**
                             - growth_status_type(required): HEIGHT, WEIGHT, HEAD_SIZE(머리 둘레)
                             - size (cm, ml)
-                """.formatted(classificationRequest.getText(), LocalDateTime.now(ZoneId.of("Asia/Seoul")));
-
-        String responseData = openAiService.sendPromptForVoiceRecognition(prompt).block();
-        log.debug("responseData: {}", responseData);
-
-        String cleanedJson = jsonProcessor.extractJson(responseData);
-        JsonNode parsedJson = jsonProcessor.parseJson(cleanedJson);
-        parsedJson = jsonProcessor.removeNullFields(parsedJson);
+                """.formatted(text, now);
 
-        if (parsedJson.has("record_type") && "GROWTH_STATUS".equals(parsedJson.get("record_type").asText())) {
-            parsedJson = processGrowthStatus(parsedJson, classificationRequest.getBabyId());
-        }
-        if (parsedJson.has("record_type") && "PUMPING".equals(parsedJson.get("record_type").asText())) {
-            parsedJson = processPumping(parsedJson, classificationRequest.getBabyId());
-        }
-        if (parsedJson.has("record_type") && "FEEDING".equals(parsedJson.get("record_type").asText())) {
-            parsedJson = processFeeding(parsedJson, classificationRequest.getBabyId());
-        }
+        return openAiService.sendPromptForVoiceRecognition(prompt)
+                .map(responseData -> {
+                    log.debug("responseData: {}", responseData);
 
-        return parsedJson;
+                    String cleanedJson = jsonProcessor.extractJson(responseData);
+                    JsonNode parsedJson = jsonProcessor.parseJson(cleanedJson);
+                    return jsonProcessor.removeNullFields(parsedJson);
+                });
     }
 
     private JsonNode processGrowthStatus(JsonNode parsedJson, Integer babyId) {
@@ -0,0 +1,152 @@
+package com.agarang.global.ai;
+
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.agarang.global.ai<br>
+ * fileName       : OpenAiCircuitBreaker.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : OpenAI 가 연속으로 실패하면 일정 시간 요청을 보내지 않고 즉시 실패시키는 클래스입니다.<br>
+ * <p>연속 실패가 기준 횟수에 도달하면 열림 상태가 되어 {@link ErrorCode#OPENAI_UNAVAILABLE} 로 즉시 실패합니다.
+ * 열린 시간이 지나면 요청 하나만 보내 보고, 성공하면 닫고 실패하면 다시 엽니다.
+ * 요청이 몰려 거절되었거나 잘못된 요청처럼 OpenAI 장애가 아닌 실패는 세지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+public class OpenAiCircuitBreaker {
+
+    /**
+     * 회로 상태입니다.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN;
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    /**
+     * OpenAiCircuitBreaker 생성자입니다.
+     *
+     * @param name             로그에 표시할 이름
+     * @param failureThreshold 회로를 여는 연속 실패 횟수
+     * @param openDuration     회로를 열어 두는 시간
+     */
+    public OpenAiCircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 회로 상태에 따라 요청을 실행하고, 결과를 회로 상태에 반영합니다.
+     *
+     * @param request   실행할 요청을 만드는 함수
+     * @param isFailure 실패로 셀 예외인지 판단하는 함수
+     * @param <T>       응답 타입
+     * @return 요청 결과를 포함하는 {@link Mono}, 회로가 열려 있으면 {@link ErrorCode#OPENAI_UNAVAILABLE} 로 실패
+     */
+    public <T> Mono<T> protect(Supplier<Mono<T>> request, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                rejectedCount.increment();
+                return Mono.error(new BusinessException(ErrorCode.OPENAI_UNAVAILABLE));
+            }
+
+            return request.get()
+                    .doOnSuccess(response -> onSuccess())
+                    .doOnError(e -> {
+                        if (isFailure.test(e)) {
+                            onFailure();
+                        } else {
+                            onIgnored();
+                        }
+                    })
+                    .doOnCancel(this::onIgnored);
+        });
+    }
+
+    /**
+     * 현재 회로 상태를 반환합니다.
+     *
+     * @return 회로 상태
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 회로가 열려 있어 즉시 실패시킨 요청 수를 반환합니다.
+     *
+     * @return 즉시 실패시킨 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("[{}] OpenAI 회로를 닫습니다.", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("[{}] OpenAI 요청이 연속으로 {}번 실패하여 회로를 엽니다.", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            probeInFlight = false;
+        }
+    }
+
+    private synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+}
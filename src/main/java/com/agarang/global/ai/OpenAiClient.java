@@ -0,0 +1,223 @@
+package com.agarang.global.ai;
+
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.global.ai<br>
+ * fileName       : OpenAiClient.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : API 키 하나로 OpenAI chat completion 을 호출하는 클래스입니다.<br>
+ * <p>요청마다 다음 정책을 적용합니다.</p>
+ * <ul>
+ *     <li>{@link OpenAiRequestLimiter} 로 동시 요청 수를 제한합니다.</li>
+ *     <li>시도마다 {@link Policy#attemptTimeout()}, 재시도를 포함한 전체 요청에 {@link Policy#deadline()} 을 적용합니다.</li>
+ *     <li>429, 5xx, 연결 실패, 시간 초과는 지터를 둔 지수 백오프로 최대 {@link Policy#maxRetries()} 번 재시도합니다.</li>
+ *     <li>{@link OpenAiCircuitBreaker} 로 OpenAI 장애 시 즉시 실패합니다.</li>
+ *     <li>성공한 요청의 응답 시간을 {@link OpenAiLatencyHistogram} 에 기록합니다.</li>
+ * </ul>
+ * <p>재시도 후에도 실패한 요청은 {@link ErrorCode#OPENAI_UNAVAILABLE} 로 실패합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+public class OpenAiClient {
+    private static final String MODEL = "gpt-4o";
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(500);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final String name;
+    private final WebClient webClient;
+    private final Policy policy;
+    private final OpenAiRequestLimiter requestLimiter;
+    private final OpenAiCircuitBreaker circuitBreaker;
+    private final OpenAiLatencyHistogram latencyHistogram = new OpenAiLatencyHistogram();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder hedgeCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+
+    /**
+     * 요청 정책입니다.
+     *
+     * @param maxConcurrent  동시에 실행할 수 있는 최대 요청 수
+     * @param queueCapacity  실행을 기다릴 수 있는 최대 요청 수
+     * @param attemptTimeout 시도 한 번의 제한 시간
+     * @param deadline       대기와 재시도를 포함한 전체 제한 시간
+     * @param maxRetries     최대 재시도 횟수
+     */
+    public record Policy(int maxConcurrent, int queueCapacity, Duration attemptTimeout, Duration deadline, int maxRetries) {}
+
+    /**
+     * OpenAiClient 생성자입니다.
+     *
+     * @param name      로그에 표시할 이름
+     * @param webClient API 키가 설정된 {@link WebClient}
+     * @param policy    요청 정책
+     */
+    public OpenAiClient(String name, WebClient webClient, Policy policy) {
+        this.name = name;
+        this.webClient = webClient;
+        this.policy = policy;
+        this.requestLimiter = new OpenAiRequestLimiter(name, policy.maxConcurrent(), policy.queueCapacity());
+        this.circuitBreaker = new OpenAiCircuitBreaker(name, CIRCUIT_FAILURE_THRESHOLD, CIRCUIT_OPEN_DURATION);
+    }
+
+    /**
+     * 프롬프트를 전송하여 응답을 받습니다.
+     *
+     * @param prompt 사용자 입력 프롬프트
+     * @return OpenAI의 응답을 포함하는 {@link Mono<String>}
+     */
+    public Mono<String> send(String prompt) {
+        OpenAiRequest request = OpenAiRequest.ofUserPrompt(MODEL, prompt);
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return circuitBreaker.protect(() -> requestLimiter.submit(() -> exchange(request).timeout(policy.attemptTimeout()))
+                                    .retryWhen(retrySpec())
+                                    .timeout(policy.deadline()),
+                            OpenAiClient::isUpstreamFailure)
+                    .doOnSuccess(response -> latencyHistogram.record(System.nanoTime() - startedAt))
+                    .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                        failureCount.increment();
+                        log.warn("[{}] OpenAI 요청 실패", name, e);
+                        return new BusinessException(ErrorCode.OPENAI_UNAVAILABLE);
+                    });
+        });
+    }
+
+    /**
+     * 프롬프트를 전송하고, {@code hedgeDelay} 안에 응답이 없으면 같은 요청을 한 번 더 보내 먼저 도착한 응답을 사용합니다.
+     *
+     * <p>느린 요청 하나가 전체 응답 시간을 결정하지 않도록 지연에 민감한 요청에 사용합니다.
+     * 먼저 응답한 요청이 있으면 나머지 요청은 취소되어 동시 요청 자리를 반납합니다.
+     * {@code hedgeDelay} 가 0 이면 {@link #send(String)} 와 같습니다.</p>
+     *
+     * @param prompt     사용자 입력 프롬프트
+     * @param hedgeDelay 두 번째 요청을 보내기까지 기다리는 시간
+     * @return OpenAI의 응답을 포함하는 {@link Mono<String>}
+     */
+    public Mono<String> sendHedged(String prompt, Duration hedgeDelay) {
+        if (hedgeDelay.isZero() || hedgeDelay.isNegative()) {
+            return send(prompt);
+        }
+
+        Mono<String> hedged = Mono.delay(hedgeDelay)
+                .then(Mono.defer(() -> {
+                    hedgeCount.increment();
+                    return send(prompt);
+                }));
+
+        return Mono.firstWithValue(send(prompt), hedged)
+                .onErrorMap(NoSuchElementException.class, e -> e.getCause() == null ? e : Exceptions.unwrapMultiple(e.getCause()).get(0));
+    }
+
+    /**
+     * 성공한 요청의 응답 시간 분포를 반환합니다.
+     *
+     * @return {@link OpenAiLatencyHistogram}
+     */
+    public OpenAiLatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    /**
+     * 재시도한 횟수를 반환합니다.
+     *
+     * @return 재시도 횟수
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * 두 번째 요청을 보낸 횟수를 반환합니다.
+     *
+     * @return 두 번째 요청 횟수
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    /**
+     * 재시도 후에도 실패한 요청 수를 반환합니다.
+     *
+     * @return 실패한 요청 수
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 동시 요청 수 제한 상태를 반환합니다.
+     *
+     * @return {@link OpenAiRequestLimiter}
+     */
+    public OpenAiRequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
+    /**
+     * 회로 상태를 반환합니다.
+     *
+     * @return {@link OpenAiCircuitBreaker}
+     */
+    public OpenAiCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private Mono<String> exchange(OpenAiRequest request) {
+        return webClient.post()
+                .uri("/chat/completions")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OpenAiResponse.class)
+                .flatMap(response -> {
+                    if (response.getChoices() != null && !response.getChoices().isEmpty()) {
+                        return Mono.justOrEmpty(response.getChoices().get(0).getMessage().getContent());
+                    }
+                    return Mono.error(new BusinessException(ErrorCode.OPENAI_EMPTY_RESPONSE));
+                })
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.OPENAI_EMPTY_RESPONSE)));
+    }
+
+    private Retry retrySpec() {
+        return Retry.backoff(policy.maxRetries(), MIN_BACKOFF)
+                .maxBackoff(MAX_BACKOFF)
+                .jitter(0.5)
+                .filter(OpenAiClient::isUpstreamFailure)
+                .doBeforeRetry(signal -> {
+                    retryCount.increment();
+                    log.debug("[{}] OpenAI 요청 재시도 {}회: {}", name, signal.totalRetries() + 1, signal.failure().toString());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * 재시도하고 회로 차단 실패로 셀 예외인지 판단합니다. 429, 5xx, 연결 실패, 시간 초과가 해당합니다.
+     */
+    private static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
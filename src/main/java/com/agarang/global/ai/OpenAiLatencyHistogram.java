@@ -0,0 +1,106 @@
+package com.agarang.global.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.global.ai<br>
+ * fileName       : OpenAiLatencyHistogram.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : OpenAI 요청의 응답 시간을 구간별로 집계하는 클래스입니다.<br>
+ * <p>구간 경계는 {@link #BUCKET_BOUNDS_MILLIS} 이며, 마지막 구간은 가장 큰 경계를 넘는 모든 요청을 셉니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public class OpenAiLatencyHistogram {
+    public static final long[] BUCKET_BOUNDS_MILLIS = {100, 250, 500, 1_000, 2_000, 4_000, 8_000, 15_000, 30_000, 60_000};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public OpenAiLatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 응답 시간 하나를 기록합니다.
+     *
+     * @param elapsedNanos 응답 시간(ns)
+     */
+    public void record(long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        int index = 0;
+        while (index < BUCKET_BOUNDS_MILLIS.length && elapsedMillis > BUCKET_BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        totalNanos.add(elapsedNanos);
+    }
+
+    /**
+     * 구간별 요청 수를 반환합니다. i 번째 값은 {@code BUCKET_BOUNDS_MILLIS[i]} ms 이하인 요청 중 이전 구간에 속하지 않는 요청 수입니다.
+     *
+     * @return 구간별 요청 수
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * 기록된 요청 수를 반환합니다.
+     *
+     * @return 요청 수
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * 평균 응답 시간을 반환합니다.
+     *
+     * @return 평균 응답 시간(ms)
+     */
+    public double getAverageMillis() {
+        long count = getCount();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * 백분위 응답 시간의 상한을 반환합니다.
+     *
+     * @param percentile 0 초과 100 이하의 백분위
+     * @return 해당 백분위가 속한 구간의 경계(ms), 마지막 구간이면 {@link Long#MAX_VALUE}, 기록이 없으면 0
+     */
+    public long getPercentileUpperBoundMillis(double percentile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return i < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+}
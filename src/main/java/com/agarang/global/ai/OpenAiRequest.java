@@ -0,0 +1,30 @@
+package com.agarang.global.ai;
+
+import java.util.List;
+
+/**
+ * packageName    : com.agarang.global.ai<br>
+ * fileName       : OpenAiRequest.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    :  Open ai chat completion request dto 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux            최초생성<br>
+ */
+public record OpenAiRequest(String model, List<Message> messages) {
+
+    /**
+     * 사용자 프롬프트 하나로 이루어진 요청을 생성합니다.
+     *
+     * @param model  사용할 모델
+     * @param prompt 사용자 입력 프롬프트
+     * @return {@link OpenAiRequest}
+     */
+    public static OpenAiRequest ofUserPrompt(String model, String prompt) {
+        return new OpenAiRequest(model, List.of(new Message("user", prompt)));
+    }
+
+    public record Message(String role, String content) {}
+}
@@ -0,0 +1,192 @@
+package com.agarang.global.ai;
+
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * packageName    : com.agarang.global.ai<br>
+ * fileName       : OpenAiRequestLimiter.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : OpenAI 로 동시에 보내는 요청 수를 제한하는 클래스입니다.<br>
+ * <p>동시에 실행 중인 요청이 최대 개수에 도달하면 이후 요청은 대기열에서 기다리며, 실행 중인 요청이 끝나면 순서대로 시작합니다.
+ * 스레드를 점유하지 않고 구독 시점만 늦추므로, 대기 중인 요청도 서블릿 스레드를 사용하지 않습니다.
+ * 대기열까지 가득 차면 {@link ErrorCode#OPENAI_REQUEST_LIMIT_EXCEEDED} 로 즉시 실패합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+public class OpenAiRequestLimiter {
+    private final String name;
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final Semaphore permits;
+    private final Queue<Task<?>> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * OpenAiRequestLimiter 생성자입니다.
+     *
+     * @param name          로그에 표시할 이름
+     * @param maxConcurrent 동시에 실행할 수 있는 최대 요청 수
+     * @param queueCapacity 실행을 기다릴 수 있는 최대 요청 수
+     */
+    public OpenAiRequestLimiter(String name, int maxConcurrent, int queueCapacity) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 동시 실행 수 제한 안에서 요청을 실행하는 {@link Mono} 를 반환합니다.
+     *
+     * <p>요청은 반환된 {@link Mono} 를 구독한 뒤 실행 가능한 자리가 생겼을 때 만들어집니다.
+     * 대기 중이거나 실행 중에 구독이 취소되면 자리를 즉시 반납합니다.</p>
+     *
+     * @param request 실행할 요청을 만드는 함수
+     * @param <T>     응답 타입
+     * @return 요청 결과를 포함하는 {@link Mono}
+     */
+    public <T> Mono<T> submit(Supplier<Mono<T>> request) {
+        return Mono.create(sink -> {
+            Task<T> task = new Task<>(sink, request);
+            sink.onDispose(task::cancel);
+
+            if (permits.tryAcquire()) {
+                if (!task.start()) {
+                    release();
+                }
+                return;
+            }
+
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                rejectedCount.increment();
+                log.warn("[{}] OpenAI 요청 대기열이 가득 찼습니다. 대기 중인 요청: {}", name, queueCapacity);
+                sink.error(new BusinessException(ErrorCode.OPENAI_REQUEST_LIMIT_EXCEEDED));
+                return;
+            }
+
+            waiting.offer(task);
+            drain();
+        });
+    }
+
+    /**
+     * 실행 중인 요청 수를 반환합니다.
+     *
+     * @return 실행 중인 요청 수
+     */
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * 실행을 기다리는 요청 수를 반환합니다.
+     *
+     * @return 대기 중인 요청 수
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * 대기열이 가득 차서 거절한 요청 수를 반환합니다.
+     *
+     * @return 거절한 요청 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            Task<?> task = waiting.poll();
+            if (task == null) {
+                permits.release();
+                return;
+            }
+
+            queued.decrementAndGet();
+            if (!task.start()) {
+                permits.release();
+            }
+        }
+    }
+
+    private final class Task<T> {
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final MonoSink<T> sink;
+        private final Supplier<Mono<T>> request;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private volatile Disposable subscription;
+
+        private Task(MonoSink<T> sink, Supplier<Mono<T>> request) {
+            this.sink = sink;
+            this.request = request;
+        }
+
+        private boolean start() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return false;
+            }
+
+            Mono<T> source;
+            try {
+                source = request.get();
+            } catch (RuntimeException e) {
+                finish();
+                sink.error(e);
+                return true;
+            }
+
+            subscription = source
+                    .doFinally(signal -> finish())
+                    .subscribe(sink::success, sink::error, sink::success);
+            return true;
+        }
+
+        private void finish() {
+            if (state.getAndSet(DONE) == RUNNING) {
+                release();
+            }
+        }
+
+        private void cancel() {
+            if (state.compareAndSet(QUEUED, DONE)) {
+                if (waiting.remove(this)) {
+                    queued.decrementAndGet();
+                }
+                return;
+            }
+
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+}
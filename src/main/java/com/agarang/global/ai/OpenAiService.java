@@ -7,10 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
 
 /**
  * packageName    : com.agarang.global.ai<br>
@@ -23,43 +20,66 @@ import java.util.Map;
  * -----------------------------------------------------------<br>
  * 25.02.13          Fiat_lux           최초생성<br>
  * 25.02.20          okeio              별도의 api key를 가지는 webClient 추가<br>
+ * 26.10.18          Fiat_lux           api key 별 동시 요청 수 제한 추가<br>
+ * 26.10.18          Fiat_lux           시간 제한, 재시도, 회로 차단, hedging 을 적용하는 OpenAiClient 로 요청 위임<br>
  * <br>
  */
 @Service
 public class OpenAiService {
-    private final WebClient webClient;
-    private final WebClient webClientForVoiceRecognition;
-
-    private final String apiKey;
-    private final String apiKeyForVoiceRecognition;
+    private final OpenAiClient client;
+    private final OpenAiClient clientForVoiceRecognition;
+    private final Duration hedgeDelayForVoiceRecognition;
 
     /**
      * OpenAiService 생성자입니다.
      *
-     * <p>일반적인 GPT API와 음성 인식을 위한 API를 각각 다른 API 키로 설정할 수 있도록 `WebClient`를 두 개 생성합니다.</p>
+     * <p>일반적인 GPT API와 음성 인식을 위한 API를 각각 다른 API 키로 설정할 수 있도록 {@link OpenAiClient}를 두 개 생성합니다.
+     * API 키마다 동시 요청 수 제한과 회로 차단을 따로 두어, 한쪽 요청이 몰리거나 실패해도 다른 쪽 요청이 영향을 받지 않도록 합니다.
+     * 음성 인식은 사용자가 응답을 기다리므로 더 짧은 시간 제한을 사용합니다.</p>
      *
-     * @param webClientBuilder          `WebClient` 빌더
-     * @param apiKey                    일반 GPT API 요청을 위한 OpenAI API 키
-     * @param apiKeyForVoiceRecognition 음성 인식을 위한 OpenAI API 키
+     * @param webClientBuilder              `WebClient` 빌더
+     * @param baseUrl                       OpenAI API 주소
+     * @param apiKey                        일반 GPT API 요청을 위한 OpenAI API 키
+     * @param apiKeyForVoiceRecognition     음성 인식을 위한 OpenAI API 키
+     * @param maxConcurrentRequests         API 키별 최대 동시 요청 수
+     * @param maxQueuedRequests             API 키별 최대 대기 요청 수
+     * @param maxRetries                    최대 재시도 횟수
+     * @param attemptTimeout                일반 요청의 시도당 제한 시간
+     * @param deadline                      일반 요청의 전체 제한 시간
+     * @param attemptTimeoutForVoice        음성 인식 요청의 시도당 제한 시간
+     * @param deadlineForVoice              음성 인식 요청의 전체 제한 시간
+     * @param hedgeDelayForVoiceRecognition 음성 인식 요청을 한 번 더 보내기까지 기다리는 시간, 0 이면 보내지 않음
      */
     public OpenAiService(
             WebClient.Builder webClientBuilder,
+            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
             @Value("${openai.api-key}") String apiKey,
-            @Value("${openai.api-key2}") String apiKeyForVoiceRecognition) {
-        this.apiKey = apiKey;
-        this.apiKeyForVoiceRecognition = apiKeyForVoiceRecognition;
-
-        this.webClient = webClientBuilder
-                .baseUrl("https://api.openai.com/v1")
+            @Value("${openai.api-key2}") String apiKeyForVoiceRecognition,
+            @Value("${openai.max-concurrent-requests:8}") int maxConcurrentRequests,
+            @Value("${openai.max-queued-requests:100}") int maxQueuedRequests,
+            @Value("${openai.max-retries:2}") int maxRetries,
+            @Value("${openai.attempt-timeout:20s}") Duration attemptTimeout,
+            @Value("${openai.deadline:60s}") Duration deadline,
+            @Value("${openai.voice.attempt-timeout:8s}") Duration attemptTimeoutForVoice,
+            @Value("${openai.voice.deadline:15s}") Duration deadlineForVoice,
+            @Value("${openai.voice.hedge-delay:0s}") Duration hedgeDelayForVoiceRecognition) {
+        WebClient webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("Authorization", "Bearer " + apiKey)
                 .build();
 
-        this.webClientForVoiceRecognition = webClientBuilder
-                .baseUrl("https://api.openai.com/v1")
+        WebClient webClientForVoiceRecognition = webClientBuilder.clone()
+                .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("Authorization", "Bearer " + apiKeyForVoiceRecognition)
                 .build();
+
+        this.client = new OpenAiClient("openai", webClient,
+                new OpenAiClient.Policy(maxConcurrentRequests, maxQueuedRequests, attemptTimeout, deadline, maxRetries));
+        this.clientForVoiceRecognition = new OpenAiClient("openai-voice", webClientForVoiceRecognition,
+                new OpenAiClient.Policy(maxConcurrentRequests, maxQueuedRequests, attemptTimeoutForVoice, deadlineForVoice, maxRetries));
+        this.hedgeDelayForVoiceRecognition = hedgeDelayForVoiceRecognition;
     }
 
     /**
@@ -69,66 +89,51 @@ public class OpenAiService {
      *
      * <h3>예제</h3>
      * <pre>
-     * String response = openAiService.sendPrompt("오늘 날씨 어때?").block();
-     * System.out.println(response);
+     * openAiService.sendPrompt("오늘 날씨 어때?")
+     *         .subscribe(System.out::println);
      * </pre>
      *
      * @param prompt 사용자 입력 프롬프트
      * @return OpenAI의 응답을 포함하는 {@link Mono<String>}
      */
     public Mono<String> sendPrompt(String prompt) {
-        return sendPromptWithClient(prompt, webClient);
+        return client.send(prompt);
     }
 
     /**
      * 음성 인식 관련 프롬프트를 OpenAI에 전송하여 응답을 받습니다.
      *
-     * <p>음성 데이터를 텍스트로 변환하거나 음성과 관련된 AI 모델을 사용할 경우 이 메서드를 사용합니다.</p>
+     * <p>음성 데이터를 텍스트로 변환하거나 음성과 관련된 AI 모델을 사용할 경우 이 메서드를 사용합니다.
+     * `openai.voice.hedge-delay` 가 설정되어 있으면 그 시간 안에 응답이 없을 때 같은 요청을 한 번 더 보냅니다.</p>
      *
      * <h3>예제</h3>
      * <pre>
-     * String response = openAiService.sendPromptForVoiceRecognition("음성을 분석해주세요.").block();
-     * System.out.println(response);
+     * openAiService.sendPromptForVoiceRecognition("음성을 분석해주세요.")
+     *         .subscribe(System.out::println);
      * </pre>
      *
      * @param prompt 사용자 입력 프롬프트
      * @return OpenAI의 응답을 포함하는 {@link Mono<String>}
      */
     public Mono<String> sendPromptForVoiceRecognition(String prompt) {
-        return sendPromptWithClient(prompt, webClientForVoiceRecognition);
+        return clientForVoiceRecognition.sendHedged(prompt, hedgeDelayForVoiceRecognition);
     }
 
     /**
-     * 지정된 WebClient를 사용하여 OpenAI API에 프롬프트를 전송하고 응답을 받습니다.
+     * 일반 GPT API 요청의 {@link OpenAiClient} 를 반환합니다. 응답 시간 분포와 재시도, 회로 상태를 확인할 때 사용합니다.
      *
-     * <p>이 메서드는 `sendPrompt` 및 `sendPromptForVoiceRecognition`에서 내부적으로 사용되며,
-     * 요청하는 WebClient를 선택적으로 지정할 수 있도록 설계되었습니다.</p>
-     *
-     * @param prompt    사용자 입력 프롬프트
-     * @param webClient 사용할 WebClient 객체 (일반 요청 또는 음성 인식 요청용)
-     * @return OpenAI의 응답을 포함하는 {@link Mono<String>}
+     * @return 일반 요청용 {@link OpenAiClient}
      */
-    public Mono<String> sendPromptWithClient(String prompt, WebClient webClient) {
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", "gpt-4o");
-
-        List<Map<String, String>> messages = new ArrayList<>();
-        Map<String, String> message = new HashMap<>();
-        message.put("role", "user");
-        message.put("content", prompt);
-        messages.add(message);
-        requestBody.put("messages", messages);
+    public OpenAiClient getClient() {
+        return client;
+    }
 
-        return webClient.post()
-                .uri("/chat/completions")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(OpenAiResponse.class)
-                .map(response -> {
-                    if (response.getChoices() != null && !response.getChoices().isEmpty()) {
-                        return response.getChoices().get(0).getMessage().getContent();
-                    }
-                    return "응답이 없습니다.";
-                });
+    /**
+     * 음성 인식 요청의 {@link OpenAiClient} 를 반환합니다. 응답 시간 분포와 재시도, 회로 상태를 확인할 때 사용합니다.
+     *
+     * @return 음성 인식 요청용 {@link OpenAiClient}
+     */
+    public OpenAiClient getClientForVoiceRecognition() {
+        return clientForVoiceRecognition;
     }
 }
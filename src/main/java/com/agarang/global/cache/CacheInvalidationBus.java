@@ -0,0 +1,126 @@
+package com.agarang.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * packageName    : com.agarang.global.cache<br>
+ * fileName       : CacheInvalidationBus.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 서버 메모리 캐시의 제거 요청을 Redis 채널로 모든 서버에 전달하는 클래스입니다.<br>
+ * <p>캐시마다 채널을 정해 {@link #subscribe(String, Consumer)} 로 구독하고, 값이 바뀌면 {@link #publish(String, String)} 로 발행합니다.
+ * 발행한 서버도 자신의 메시지를 받으므로, 구독자는 같은 제거 요청을 두 번 처리해도 문제가 없어야 합니다.
+ * 모든 구독은 하나의 Redis 연결을 공유합니다.</p>
+ * <p>{@code cache.invalidation.redis-sync} 가 false 이면 (서버가 하나인 경우) 발행과 구독을 하지 않습니다.
+ * 발행이 유실되더라도 각 캐시의 항목은 보관 기간이 지나면 다시 조회됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean redisSync;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public CacheInvalidationBus(RedisConnectionFactory redisConnectionFactory,
+                                StringRedisTemplate stringRedisTemplate,
+                                @Value("${cache.invalidation.redis-sync:true}") boolean redisSync) {
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisSync = redisSync;
+    }
+
+    /**
+     * {@code cache.invalidation.redis-sync} 가 true 이면 제거 요청을 받을 Redis 연결을 시작합니다.
+     */
+    @PostConstruct
+    protected void init() {
+        if (!redisSync) {
+            return;
+        }
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    /**
+     * 구독을 해제합니다.
+     */
+    @PreDestroy
+    protected void destroy() throws Exception {
+        if (Objects.nonNull(listenerContainer)) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 다른 서버가 발행한 제거 요청을 구독합니다.
+     *
+     * <p>구독자의 예외는 기록만 하고 다음 메시지를 계속 처리합니다.</p>
+     *
+     * @param channel 채널 이름
+     * @param handler 제거 요청 내용을 처리할 구독자
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        if (!redisSync) {
+            return;
+        }
+
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                handler.accept(payload);
+            } catch (RuntimeException e) {
+                log.warn("캐시 제거 요청을 처리할 수 없습니다. channel: {}, payload: {}", channel, payload, e);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    /**
+     * 모든 서버에 제거 요청을 발행합니다.
+     *
+     * @param channel 채널 이름
+     * @param payload 제거 요청 내용
+     */
+    public void publish(String channel, String payload) {
+        if (!redisSync) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            log.warn("캐시 제거 요청 발행 실패. channel: {}, payload: {}", channel, payload, e);
+        }
+    }
+
+    /**
+     * 다른 서버와 제거 요청을 주고받는지 여부를 반환합니다.
+     *
+     * @return Redis 로 주고받으면 {@code true}
+     */
+    public boolean isRedisSync() {
+        return redisSync;
+    }
+}
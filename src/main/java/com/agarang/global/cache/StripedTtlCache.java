@@ -0,0 +1,184 @@
+package com.agarang.global.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * packageName    : com.agarang.global.cache<br>
+ * fileName       : StripedTtlCache.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 크기와 보관 기간이 정해진 서버 메모리 캐시 클래스입니다.<br>
+ * <p>키를 {@value #STRIPES} 개의 구간으로 나누어 구간마다 따로 잠그고, 구간마다 최근에 사용한 항목만 남겨
+ * 전체 최대 항목 수를 넘지 않도록 합니다. 항목은 보관 기간이 지나면 다시 조회됩니다.</p>
+ * <p>항목을 제거할 때마다 세대 번호를 올립니다. DB 에서 값을 읽기 전에 {@link #generation()} 을 받아 두고
+ * {@link #put(Object, Object, long, long)} 에 넘기면, 읽는 동안 제거 요청이 있었던 값은 보관하지 않으므로
+ * 제거와 동시에 읽은 이전 값이 다시 캐시되지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public class StripedTtlCache<K, V> {
+    private static final int STRIPES = 16;
+
+    private final Stripe<K, V>[] stripes;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * {@code StripedTtlCache} 생성자입니다.
+     *
+     * @param maxEntries 최대 항목 수
+     * @param ttl        항목 보관 기간
+     */
+    @SuppressWarnings("unchecked")
+    public StripedTtlCache(int maxEntries, Duration ttl) {
+        this.stripes = new Stripe[STRIPES];
+        this.ttlNanos = ttl.toNanos();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(Math.max(1, maxEntries / STRIPES));
+        }
+    }
+
+    /**
+     * 보관된 값을 조회합니다.
+     *
+     * @param key      키
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return 보관된 값, 없거나 만료되었으면 빈 값
+     */
+    public Optional<V> get(K key, long nowNanos) {
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (Objects.nonNull(entry) && nowNanos - entry.expiresAtNanos() < 0) {
+                hitCount.increment();
+                return Optional.of(entry.value());
+            }
+            if (Objects.nonNull(entry)) {
+                stripe.remove(key);
+            }
+        }
+        missCount.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 현재 세대 번호를 반환합니다. 값을 읽기 전에 받아 두었다가 {@link #put(Object, Object, long, long)} 에 넘깁니다.
+     *
+     * @return 세대 번호
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 받아 둔 세대 이후에 제거 요청이 없었으면 값을 보관합니다.
+     *
+     * @param key        키
+     * @param value      보관할 값
+     * @param generation 값을 읽기 전에 받은 세대 번호
+     * @param nowNanos   현재 시각 ({@link System#nanoTime()})
+     * @return 보관했으면 {@code true}
+     */
+    public boolean put(K key, V value, long generation, long nowNanos) {
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            if (this.generation.get() != generation) {
+                return false;
+            }
+            stripe.put(key, new Entry<>(value, nowNanos + ttlNanos));
+            return true;
+        }
+    }
+
+    /**
+     * 키의 값을 제거합니다.
+     *
+     * @param key 키
+     */
+    public void remove(K key) {
+        generation.incrementAndGet();
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /**
+     * 조건을 만족하는 값을 모두 제거합니다.
+     *
+     * @param predicate 제거할 값의 조건
+     */
+    public void removeIf(Predicate<V> predicate) {
+        generation.incrementAndGet();
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.values().removeIf(entry -> predicate.test(entry.value()));
+            }
+        }
+    }
+
+    /**
+     * 보관된 값을 사용한 횟수를 반환합니다.
+     *
+     * @return 적중 수
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 보관된 값이 없어 다시 조회해야 했던 횟수를 반환합니다.
+     *
+     * @return 미적중 수
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 보관된 값을 사용한 비율을 반환합니다.
+     *
+     * @return 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private Stripe<K, V> stripe(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {}
+
+    /**
+     * 최근에 사용한 항목을 최대 {@code capacity} 개까지 보관하는 구간입니다.
+     */
+    private static final class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
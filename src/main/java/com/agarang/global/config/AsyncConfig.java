@@ -0,0 +1,110 @@
+package com.agarang.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * packageName    : com.agarang.global.config<br>
+ * fileName       : AsyncConfig.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 비동기 작업에 사용하는 executor 설정 클래스입니다.
+ * <p>모든 executor 는 최대 스레드 수와 대기열 크기가 정해져 있으며, 대기열이 가득 차면 호출한 스레드에서 작업을 실행하여
+ * 작업이 유실되지 않도록 합니다.
+ * 예약 작업 스레드에서 작업을 넘기는 worker 는 {@link #remainingCapacity} 만큼만 선점하여, 예약 작업 스레드가 작업을 직접 실행하지 않도록 합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           reactive 파이프라인의 JPA 조회용 scheduler 추가<br>
+ * 26.10.18          Fiat_lux           일기 키워드 추출용 executor 추가<br>
+ * 26.10.18          Fiat_lux           executor 의 남은 수용량 계산 추가<br>
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * FCM 알림 전송에 사용하는 executor 빈을 생성합니다.
+     *
+     * @return FCM 알림 전송용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fcmSendExecutor() {
+        return boundedExecutor("fcm-send-", 4, 8, 1000);
+    }
+
+    /**
+     * 예약 시간이 된 알림을 선점하고 전송하는 executor 빈을 생성합니다.
+     *
+     * @return 예약 알림 전송용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationDispatchExecutor() {
+        return boundedExecutor("notification-dispatch-", 2, 4, 1000);
+    }
+
+    /**
+     * 알림 outbox 에서 선점한 알림을 전송하는 executor 빈을 생성합니다.
+     *
+     * @return 알림 outbox 전송용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationOutboxExecutor() {
+        return boundedExecutor("notification-outbox-", 4, 8, 200);
+    }
+
+    /**
+     * 일기 키워드 추출 작업을 실행하는 executor 빈을 생성합니다.
+     *
+     * @return 일기 키워드 추출용 {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor diaryKeywordExecutor() {
+        return boundedExecutor("diary-keyword-", 2, 4, 100);
+    }
+
+    /**
+     * reactive 파이프라인에서 JPA 조회처럼 스레드를 점유하는 작업을 실행하는 scheduler 빈을 생성합니다.
+     *
+     * <p>스레드 수를 DB 커넥션 풀 크기(기본 10)에 맞추어, 커넥션을 기다리며 멈춰 있는 스레드가 늘어나지 않도록 합니다.</p>
+     *
+     * @return JPA 조회용 {@link Scheduler}
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler() {
+        return Schedulers.newBoundedElastic(10, 1000, "jpa-blocking");
+    }
+
+    /**
+     * executor 가 호출한 스레드에서 실행하지 않고 받을 수 있는 작업 수를 반환합니다.
+     *
+     * <p>대기열의 남은 자리와 더 만들 수 있는 스레드 수를 더한 값입니다.
+     * 다른 스레드가 동시에 작업을 넘기지 않는 동안에는 이 수만큼 넘겨도 호출한 스레드에서 실행되지 않습니다.</p>
+     *
+     * @param executor 수용량을 확인할 executor
+     * @return 받을 수 있는 작업 수
+     */
+    public static int remainingCapacity(ThreadPoolTaskExecutor executor) {
+        ThreadPoolExecutor threadPoolExecutor = executor.getThreadPoolExecutor();
+        long spareThreads = Math.max(0, threadPoolExecutor.getMaximumPoolSize() - threadPoolExecutor.getPoolSize());
+        return (int) Math.min(Integer.MAX_VALUE, threadPoolExecutor.getQueue().remainingCapacity() + spareThreads);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,8 +1,10 @@
 package com.agarang.global.config;
 
 import com.agarang.global.filter.JwtAuthenticationFilter;
+import com.agarang.global.filter.JwtDenyList;
+import com.agarang.global.filter.VerifiedTokenCache;
 import com.agarang.global.util.JwtUtility;
-import com.agarang.domain.user.service.UserService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -38,6 +40,8 @@ import java.util.Collections;
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.24          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           비동기 응답 dispatch 허용<br>
+ * 26.10.18          Fiat_lux           JWT 필터가 사용자 DB 조회 대신 검증된 토큰 캐시를 사용하도록 변경<br>
  */
 @Configurable
 @Configuration
@@ -55,7 +59,8 @@ public class SecurityConfig {
     };
 
     private final JwtUtility jwtUtility;
-    private final UserService userService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtDenyList jwtDenyList;
 
     /**
      * JWT 인증 필터를 빈으로 등록합니다.
@@ -66,7 +71,7 @@ public class SecurityConfig {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtility, userService);
+        return new JwtAuthenticationFilter(jwtUtility, verifiedTokenCache, jwtDenyList);
     }
 
     /**
@@ -79,6 +84,7 @@ public class SecurityConfig {
      *     <li>폼 로그인 및 기본 HTTP 인증을 비활성화합니다.</li>
      *     <li>세션을 사용하지 않고 상태 저장 없이 JWT 기반 인증을 수행합니다.</li>
      *     <li>허용된 URL 패턴에 대해 인증 없이 접근을 허용합니다.</li>
+     *     <li>`Mono` 등 비동기 응답을 쓰는 ASYNC dispatch 는 최초 요청에서 이미 인증했으므로 허용합니다.</li>
      *     <li>그 외 모든 요청에 대해 인증을 요구합니다.</li>
      *     <li>JWT 인증 필터를 Spring Security 필터 체인에 추가합니다.</li>
      * </ul>
@@ -101,6 +107,7 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(request -> request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(allowUrls).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,197 @@
+package com.agarang.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * packageName    : com.agarang.global.datasource<br>
+ * fileName       : ConnectionHoldTimeMetrics.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : DB 커넥션 풀에서 커넥션을 빌려 반납하기까지의 점유 시간을 구간별로 집계하는 클래스입니다.<br>
+ * <p>{@link HikariDataSource} 에 {@link MetricsTrackerFactory} 로 등록되어, 커넥션을 반납할 때마다 점유 시간을 기록합니다.
+ * 커넥션을 얻기까지 기다린 시간과 시간 초과 횟수도 함께 셉니다.
+ * 구간 경계는 {@link #BUCKET_BOUNDS_MILLIS} 이며, 마지막 구간은 가장 큰 경계를 넘는 모든 점유를 셉니다.</p>
+ * <p>다른 지표 수집기가 이미 등록된 풀에는 등록하지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Component
+public class ConnectionHoldTimeMetrics implements MetricsTrackerFactory, BeanPostProcessor {
+    public static final long[] BUCKET_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 250, 500, 1_000, 5_000, 30_000};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final LongAdder totalHoldMillis = new LongAdder();
+    private final LongAccumulator maxHoldMillis = new LongAccumulator(Math::max, 0);
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder totalAcquireNanos = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    public ConnectionHoldTimeMetrics() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 커넥션 풀이 시작되기 전에 이 클래스를 지표 수집기로 등록합니다.
+     *
+     * @param bean     초기화된 빈
+     * @param beanName 빈 이름
+     * @return 전달받은 빈
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+                && dataSource.getMetricsTrackerFactory() == null
+                && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(this);
+        }
+        return bean;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireCount.increment();
+                totalAcquireNanos.add(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                record(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeoutCount.increment();
+            }
+        };
+    }
+
+    /**
+     * 커넥션 점유 시간 하나를 기록합니다.
+     *
+     * @param holdMillis 점유 시간(ms)
+     */
+    public void record(long holdMillis) {
+        int index = 0;
+        while (index < BUCKET_BOUNDS_MILLIS.length && holdMillis > BUCKET_BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        totalHoldMillis.add(holdMillis);
+        maxHoldMillis.accumulate(holdMillis);
+    }
+
+    /**
+     * 구간별 점유 횟수를 반환합니다. i 번째 값은 {@code BUCKET_BOUNDS_MILLIS[i]} ms 이하인 점유 중 이전 구간에 속하지 않는 점유 횟수입니다.
+     *
+     * @return 구간별 점유 횟수
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * 커넥션을 반납한 횟수를 반환합니다.
+     *
+     * @return 반납 횟수
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * 커넥션 점유 시간의 합을 반환합니다.
+     *
+     * @return 점유 시간의 합(ms)
+     */
+    public long getTotalHoldMillis() {
+        return totalHoldMillis.sum();
+    }
+
+    /**
+     * 평균 커넥션 점유 시간을 반환합니다.
+     *
+     * @return 평균 점유 시간(ms)
+     */
+    public double getAverageHoldMillis() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalHoldMillis.sum() / count;
+    }
+
+    /**
+     * 가장 긴 커넥션 점유 시간을 반환합니다.
+     *
+     * @return 가장 긴 점유 시간(ms)
+     */
+    public long getMaxHoldMillis() {
+        return maxHoldMillis.get();
+    }
+
+    /**
+     * 백분위 커넥션 점유 시간의 상한을 반환합니다.
+     *
+     * @param percentile 0 초과 100 이하의 백분위
+     * @return 해당 백분위가 속한 구간의 경계(ms), 마지막 구간이면 {@link Long#MAX_VALUE}, 기록이 없으면 0
+     */
+    public long getPercentileUpperBoundMillis(double percentile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return i < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * 커넥션을 얻기까지 기다린 평균 시간을 반환합니다.
+     *
+     * @return 평균 대기 시간(ms)
+     */
+    public double getAverageAcquireMillis() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0 : totalAcquireNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * 커넥션을 얻지 못하고 시간 초과된 횟수를 반환합니다.
+     *
+     * @return 시간 초과 횟수
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.http.HttpStatus;
  * 25.01.23          okeio           최초생성<br>
  * 25.01.30          Fiat_lux           diary, custody, piyong <br>
  * 25.01.31          Fiat_lux           custody redis exception<br>
+ * 26.10.18          nature1216         record batch exception<br>
  */
 @Getter
 @AllArgsConstructor
@@ -39,6 +40,8 @@ public enum ErrorCode {
     INVALID_MODIFY_REQUEST(HttpStatus.BAD_REQUEST, "RECORD-004", "잘못된 수정 요청입니다."),
     RECORD_TYPE_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "RECORD-005", "지원하지 않는 카테고리입니다."),
     INVALID_CREATE_REQUEST(HttpStatus.BAD_REQUEST, "RECORD-006", "잘못된 생성 요청입니다"),
+    RECORD_BATCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "RECORD-007", "기록을 일괄 추가할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    RECORD_BATCH_CONFLICT(HttpStatus.CONFLICT, "RECORD-008", "같은 멱등성 키의 요청이 동시에 처리되었습니다. 잠시 후 다시 시도해주세요."),
 
     BABY_NOT_FOUND(HttpStatus.NOT_FOUND, "BABY-001", "아기를 찾을 수 없습니다."),
 
@@ -62,9 +65,14 @@ public enum ErrorCode {
     GROWTH_PERCENTILE_NOT_FOUND(HttpStatus.NOT_FOUND, "STATISTICS-001", "백분위수를 찾을 수 없습니다."),
 
     NOTIFICATION_INVALID_SCHEDULED_DATE(HttpStatus.BAD_REQUEST, "NOTIFICATION-001", "과거 날짜로 알림을 등록할 수 없습니다."),
+    NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "NOTIFICATION-002", "알림을 찾을 수 없습니다."),
 
     INVALID_JSON_FORMAT(HttpStatus.INTERNAL_SERVER_ERROR, "JSON-001", "JSON 변환 중 오류가 발생했습니다."),
 
+    OPENAI_REQUEST_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "OPENAI-001", "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    OPENAI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "OPENAI-002", "AI 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    OPENAI_EMPTY_RESPONSE(HttpStatus.BAD_GATEWAY, "OPENAI-003", "AI 서비스의 응답이 비어 있습니다."),
+
     VOICE_DATA_PROCESSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "VOICE-RECOGNITION-001", "음성 인식 데이터 처리 중 오류가 발생했습니다."),
 
     DIARY_KEYWORD_NOT_FOUND(HttpStatus.NOT_FOUND, "DIARY-KEYWORD-001", "삭제할 키워드가 존재하지 않습니다."),
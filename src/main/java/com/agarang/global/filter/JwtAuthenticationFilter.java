@@ -1,8 +1,9 @@
 package com.agarang.global.filter;
 
+import com.agarang.domain.user.dto.CustomUserDetails;
 import com.agarang.global.exception.ErrorCode;
 import com.agarang.global.util.JwtUtility;
-import com.agarang.domain.user.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,13 +11,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * packageName    : com.agarang.global.filter<br>
@@ -24,17 +25,21 @@ import java.util.Objects;
  * author         : nature1216 <br>
  * date           : 2025-01-24<br>
  * description    : JWT 인증을 처리하는 필터 클래스입니다.
- * <p>이 필터는 요청이 들어올 때마다 실행되며, JWT 토큰을 검증하여 사용자 인증을 수행합니다.</p><br>
+ * <p>이 필터는 요청이 들어올 때마다 실행되며, JWT 토큰을 검증하여 사용자 인증을 수행합니다.</p>
+ * <p>토큰은 한 번만 파싱하여 검증하고, 검증된 토큰은 {@link VerifiedTokenCache} 에 만료 시각까지 보관합니다.
+ * 인증 정보는 토큰의 사용자 ID 로 바로 만들며 DB 를 조회하지 않습니다.</p><br>
  * ===========================================================<br>
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 2025-01-24          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          검증된 토큰 캐시, 사용자 DB 조회 제거<br>
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtility jwtUtility;
-    private final UserService userService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtDenyList jwtDenyList;
 
     private static final String[] AllowUrls = new String[]{
             "/api/auth/",
@@ -77,32 +82,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
-        if (jwtUtility.validateToken(token)) {
-            processValidAccessToken(token);
-        } else {
+        Optional<Integer> userId = authenticate(token);
+        if (userId.isEmpty()) {
             writeErrorResponse(response, ErrorCode.INVALID_TOKEN);
             return;
         }
 
+        processValidAccessToken(userId.get());
         filterChain.doFilter(request, response);
     }
 
     /**
-     * 유효한 JWT 토큰을 처리하여 보안 컨텍스트를 설정하는 메서드입니다.
+     * JWT 토큰을 검증하고 사용자 ID 를 반환하는 메서드입니다.
      *
-     * <p>JWT에서 사용자 정보를 추출하여 {@link UserDetails} 객체를 생성하고,
-     * Spring Security의 컨텍스트에 인증 객체를 설정합니다.</p>
+     * <p>캐시된 토큰은 서명 검증을 생략하며, 캐시에 없는 토큰은 한 번 파싱하여 검증한 뒤 만료 시각까지 캐시합니다.
+     * 거부 목록에 있는 사용자의 토큰은 유효하지 않은 것으로 처리합니다.</p>
      *
-     * @param accessToken 검증된 액세스 토큰
+     * @param token 액세스 토큰
+     * @return 사용자 ID, 유효하지 않은 토큰이면 빈 값
      */
-    private void processValidAccessToken(String accessToken) {
-        UserDetails userDetails = userService.loadUserByUsername(jwtUtility.getUserId(accessToken));
+    private Optional<Integer> authenticate(String token) {
+        long now = System.currentTimeMillis();
+        String tokenHash = VerifiedTokenCache.hash(token);
+
+        Optional<VerifiedTokenCache.VerifiedToken> verifiedToken = verifiedTokenCache.get(tokenHash, now)
+                .or(() -> jwtUtility.verifyClaims(token).flatMap(JwtAuthenticationFilter::toVerifiedToken)
+                        .map(verified -> {
+                            verifiedTokenCache.put(tokenHash, verified);
+                            return verified;
+                        }));
+
+        return verifiedToken
+                .map(VerifiedTokenCache.VerifiedToken::userId)
+                .filter(userId -> !jwtDenyList.isDenied(userId));
+    }
+
+    /**
+     * 인증 정보를 보안 컨텍스트에 설정하는 메서드입니다.
+     *
+     * <p>토큰의 사용자 ID 로 {@link CustomUserDetails} 를 만들어 Spring Security 의 컨텍스트에 인증 객체를 설정합니다.</p>
+     *
+     * @param userId 검증된 토큰의 사용자 ID
+     */
+    private void processValidAccessToken(int userId) {
+        CustomUserDetails userDetails = new CustomUserDetails(userId);
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
+    private static Optional<VerifiedTokenCache.VerifiedToken> toVerifiedToken(Claims claims) {
+        if (Objects.isNull(claims.getExpiration()) || Objects.isNull(claims.getSubject())) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new VerifiedTokenCache.VerifiedToken(Integer.parseInt(claims.getSubject()), claims.getExpiration().getTime()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * 오류 응답을 생성하여 클라이언트에 반환하는 메서드입니다.
      *
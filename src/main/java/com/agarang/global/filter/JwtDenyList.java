@@ -0,0 +1,94 @@
+package com.agarang.global.filter;
+
+import com.agarang.global.cache.StripedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * packageName    : com.agarang.global.filter<br>
+ * fileName       : JwtDenyList.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 더 이상 인증을 허용하지 않을 사용자를 Redis 에 기록하는 클래스입니다.
+ * <p>JWT 인증은 DB 를 조회하지 않으므로, 익명화된 사용자의 토큰은 만료될 때까지 유효합니다.
+ * {@code jwt.deny-list.enabled} 가 true 이면 요청마다 이 목록을 확인하여 해당 사용자의 요청을 거부합니다.
+ * 서버마다 사용자별 확인 결과를 {@link #RECHECK_INTERVAL} 동안 보관하므로, 요청마다 Redis 를 조회하지는 않습니다.
+ * Redis 에 접근할 수 없으면 요청을 거부하지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          확인 결과를 구간별 잠금 캐시로 보관<br>
+ */
+@Slf4j
+@Component
+public class JwtDenyList {
+    private static final String DENY_PREFIX = "jwt:deny:";
+    private static final Duration RECHECK_INTERVAL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration denyDuration;
+
+    private final StripedTtlCache<Integer, Boolean> checkResults = new StripedTtlCache<>(MAX_ENTRIES, RECHECK_INTERVAL);
+
+    public JwtDenyList(StringRedisTemplate redisTemplate,
+                       @Value("${jwt.deny-list.enabled:false}") boolean enabled,
+                       @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.denyDuration = Duration.ofMillis(refreshTokenValidity);
+    }
+
+    /**
+     * 사용자의 인증을 거부하도록 기록합니다.
+     *
+     * <p>이미 발급된 토큰이 모두 만료될 때까지(refresh token 유효기간) 보관합니다.</p>
+     *
+     * @param userId 인증을 거부할 사용자 ID
+     */
+    public void deny(int userId) {
+        try {
+            redisTemplate.opsForValue().set(DENY_PREFIX + userId, "1", denyDuration);
+        } catch (Exception e) {
+            log.warn("JWT 거부 목록 기록 실패. userId: {}", userId, e);
+        }
+        checkResults.remove(userId);
+    }
+
+    /**
+     * 사용자의 인증이 거부되었는지 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 거부 목록이 켜져 있고 사용자가 목록에 있으면 true
+     */
+    public boolean isDenied(int userId) {
+        if (!enabled) {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        long generation = checkResults.generation();
+        Optional<Boolean> checkResult = checkResults.get(userId, now);
+        if (checkResult.isPresent()) {
+            return checkResult.get();
+        }
+
+        boolean denied;
+        try {
+            denied = Boolean.TRUE.equals(redisTemplate.hasKey(DENY_PREFIX + userId));
+        } catch (Exception e) {
+            log.warn("JWT 거부 목록 조회 실패. userId: {}", userId, e);
+            return false;
+        }
+
+        checkResults.put(userId, denied, generation, now);
+        return denied;
+    }
+}
@@ -0,0 +1,102 @@
+package com.agarang.global.filter;
+
+import com.agarang.global.cache.StripedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * packageName    : com.agarang.global.filter<br>
+ * fileName       : VerifiedTokenCache.java<br>
+ * author         : nature1216 <br>
+ * date           : 2026-10-18<br>
+ * description    : 서명 검증을 마친 JWT 토큰을 만료 시각까지 보관하는 LRU 캐시 클래스입니다.
+ * <p>같은 토큰으로 반복되는 요청은 서명을 다시 검증하지 않고 캐시된 사용자 ID 를 사용합니다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하며, 최대 {@value #MAX_ENTRIES} 개를 보관합니다.
+ * 모든 요청이 거치므로 하나의 잠금 대신 {@link StripedTtlCache} 로 구간마다 따로 잠급니다.
+ * 항목은 액세스 토큰 유효기간이 지나면 제거되며, 그 전이라도 토큰의 만료 시각이 지나면 사용하지 않습니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 2026-10-18          nature1216          최초생성<br>
+ * 2026-10-18          nature1216          구간별 잠금 캐시로 변경<br>
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final StripedTtlCache<String, VerifiedToken> entries;
+
+    public VerifiedTokenCache(@Value("${jwt.access-token-validity}") long accessTokenValidity) {
+        this.entries = new StripedTtlCache<>(MAX_ENTRIES, Duration.ofMillis(accessTokenValidity));
+    }
+
+    /**
+     * 검증된 토큰 정보입니다.
+     *
+     * @param userId          토큰의 사용자 ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch milliseconds)
+     */
+    public record VerifiedToken(int userId, long expiresAtMillis) {}
+
+    /**
+     * 캐시된 토큰 정보를 조회합니다.
+     *
+     * @param tokenHash 토큰 해시 {@link #hash(String)}
+     * @param nowMillis 현재 시각 (epoch milliseconds)
+     * @return 검증된 토큰 정보, 캐시에 없거나 만료되었으면 빈 값
+     */
+    public Optional<VerifiedToken> get(String tokenHash, long nowMillis) {
+        return entries.get(tokenHash, System.nanoTime())
+                .filter(verifiedToken -> nowMillis < verifiedToken.expiresAtMillis());
+    }
+
+    /**
+     * 검증된 토큰 정보를 캐시합니다.
+     *
+     * @param tokenHash     토큰 해시 {@link #hash(String)}
+     * @param verifiedToken 검증된 토큰 정보
+     */
+    public void put(String tokenHash, VerifiedToken verifiedToken) {
+        entries.put(tokenHash, verifiedToken, entries.generation(), System.nanoTime());
+    }
+
+    /**
+     * 캐시에서 찾은 요청 수를 반환합니다.
+     *
+     * @return 캐시 적중 수
+     */
+    public long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    /**
+     * 캐시에 없어 서명을 검증한 요청 수를 반환합니다.
+     *
+     * @return 캐시 미적중 수
+     */
+    public long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    /**
+     * 캐시 키로 사용할 토큰의 SHA-256 해시를 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return Base64 로 인코딩된 해시
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.agarang.global.purge;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * packageName    : com.agarang.global.purge<br>
+ * fileName       : ChunkedPurger.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 오래된 행을 기본 키 구간 단위로 나누어 삭제하는 클래스입니다.<br>
+ * <p>기본 키 순서로 최대 {@value #CHUNK_SIZE} 건씩 구간을 정해 한 번의 DELETE 로 삭제하며, 구간마다 트랜잭션을 커밋합니다.
+ * 마지막으로 삭제한 기본 키는 Redis 에 기록하여, 중간에 서버가 종료되어도 다음 실행에서 이어서 삭제합니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedPurger {
+    private static final int CHUNK_SIZE = 1000;
+    private static final String CHECKPOINT_PREFIX = "purge:checkpoint:";
+    private static final Duration CHECKPOINT_EXPIRATION = Duration.ofDays(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 삭제 조건을 만족하는 행을 모두 삭제합니다.
+     *
+     * @param target    삭제할 테이블과 조건
+     * @param threshold 삭제 조건에 바인딩할 기준값
+     * @return 삭제 결과 {@link PurgeResult}
+     */
+    public PurgeResult purge(PurgeTarget target, Object threshold) {
+        String upperBoundSql = "SELECT MAX(" + target.idColumn() + ") FROM (" +
+                "SELECT " + target.idColumn() + " FROM " + target.table() +
+                " WHERE " + target.idColumn() + " > ? AND " + target.condition() +
+                " ORDER BY " + target.idColumn() + " LIMIT " + CHUNK_SIZE + ") chunk";
+        String deleteSql = "DELETE FROM " + target.table() +
+                " WHERE " + target.idColumn() + " > ? AND " + target.idColumn() + " <= ? AND " + target.condition();
+
+        long checkpoint = readCheckpoint(target);
+        long deletedRows = 0;
+        int chunks = 0;
+        long maxChunkMillis = 0;
+        long startedAt = System.currentTimeMillis();
+
+        while (true) {
+            long chunkStartedAt = System.currentTimeMillis();
+            Long upperBound = jdbcTemplate.queryForObject(upperBoundSql, Long.class, checkpoint, threshold);
+            if (Objects.isNull(upperBound)) {
+                break;
+            }
+
+            long lowerBound = checkpoint;
+            Integer deleted = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(deleteSql, lowerBound, upperBound, threshold));
+
+            checkpoint = upperBound;
+            writeCheckpoint(target, checkpoint);
+
+            long chunkMillis = System.currentTimeMillis() - chunkStartedAt;
+            deletedRows += Objects.requireNonNullElse(deleted, 0);
+            chunks++;
+            maxChunkMillis = Math.max(maxChunkMillis, chunkMillis);
+            log.debug("[{}] 구간 삭제: ~{}, {}건, {}ms", target.name(), checkpoint, deleted, chunkMillis);
+        }
+
+        clearCheckpoint(target);
+
+        PurgeResult result = new PurgeResult(target.name(), deletedRows, chunks, System.currentTimeMillis() - startedAt, maxChunkMillis);
+        log.info("[{}] 삭제 완료: {}건, 구간 {}개, 전체 {}ms, 최대 구간 {}ms",
+                result.name(), result.deletedRows(), result.chunks(), result.elapsedMillis(), result.maxChunkMillis());
+        return result;
+    }
+
+    private long readCheckpoint(PurgeTarget target) {
+        try {
+            String checkpoint = redisTemplate.opsForValue().get(CHECKPOINT_PREFIX + target.name());
+            return Objects.isNull(checkpoint) ? 0L : Long.parseLong(checkpoint);
+        } catch (RuntimeException e) {
+            log.warn("[{}] 삭제 진행 위치를 읽지 못해 처음부터 삭제합니다.", target.name(), e);
+            return 0L;
+        }
+    }
+
+    private void writeCheckpoint(PurgeTarget target, long checkpoint) {
+        try {
+            redisTemplate.opsForValue().set(CHECKPOINT_PREFIX + target.name(), Long.toString(checkpoint), CHECKPOINT_EXPIRATION);
+        } catch (RuntimeException e) {
+            log.warn("[{}] 삭제 진행 위치를 기록하지 못했습니다. checkpoint: {}", target.name(), checkpoint, e);
+        }
+    }
+
+    private void clearCheckpoint(PurgeTarget target) {
+        try {
+            redisTemplate.delete(CHECKPOINT_PREFIX + target.name());
+        } catch (RuntimeException e) {
+            log.warn("[{}] 삭제 진행 위치를 지우지 못했습니다.", target.name(), e);
+        }
+    }
+}
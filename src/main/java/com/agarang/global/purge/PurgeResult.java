@@ -0,0 +1,20 @@
+package com.agarang.global.purge;
+
+/**
+ * packageName    : com.agarang.global.purge<br>
+ * fileName       : PurgeResult.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 나누어 삭제한 결과를 담는 클래스입니다.<br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ */
+public record PurgeResult(
+        String name,
+        long deletedRows,
+        int chunks,
+        long elapsedMillis,
+        long maxChunkMillis
+) {}
@@ -0,0 +1,36 @@
+package com.agarang.global.purge;
+
+/**
+ * packageName    : com.agarang.global.purge<br>
+ * fileName       : PurgeTarget.java<br>
+ * author         : Fiat_lux<br>
+ * date           : 2026-10-18<br>
+ * description    : 나누어 삭제할 테이블과 삭제 조건을 담는 클래스입니다.<br>
+ * <p>{@code condition} 은 {@code ?} 하나를 포함하는 SQL 조건식이며, 삭제 기준값이 바인딩됩니다.</p><br>
+ * ===========================================================<br>
+ * DATE              AUTHOR             NOTE<br>
+ * -----------------------------------------------------------<br>
+ * 26.10.18          Fiat_lux           최초생성<br>
+ * 26.10.18          Fiat_lux           기록 변경 이력 추가<br>
+ */
+public record PurgeTarget(
+        String name,
+        String table,
+        String idColumn,
+        String condition
+) {
+    public static final PurgeTarget STALE_FCM_TOKEN =
+            new PurgeTarget("fcm-token", "fcm_token", "fcm_token_id", "updated_at < ?");
+
+    public static final PurgeTarget SENT_NOTIFICATION_JOB =
+            new PurgeTarget("notification-job", "notification_job", "notification_job_id", "flag_send = true AND scheduled_at < ?");
+
+    public static final PurgeTarget DELIVERED_NOTIFICATION_OUTBOX =
+            new PurgeTarget("notification-outbox", "notification_outbox", "notification_outbox_id", "status <> 'PENDING' AND created_at < ?");
+
+    public static final PurgeTarget OLD_CHATTING =
+            new PurgeTarget("chatting", "chatting", "chatting_id", "created_at < ?");
+
+    public static final PurgeTarget OLD_RECORD_CHANGE =
+            new PurgeTarget("record-change", "record_change", "record_change_id", "changed_at < ?");
+}
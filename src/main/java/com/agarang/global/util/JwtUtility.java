@@ -2,6 +2,7 @@ package com.agarang.global.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -14,6 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * packageName    : com.agarang.global.util<br>
@@ -27,11 +29,13 @@ import java.util.Date;
  *      <li>토큰에서 사용자 ID 추출</li>
  *      <li>토큰 유효성 검증</li>
  * </ul>
+ * <p>서명 키와 {@link JwtParser} 는 시작할 때 한 번 만들어 재사용합니다. {@link JwtParser} 는 불변 객체이므로 여러 스레드에서 함께 사용할 수 있습니다.</p>
  * <br>
  * ===========================================================<br>
  * DATE              AUTHOR             NOTE<br>
  * -----------------------------------------------------------<br>
  * 25.01.24         Fiat_lux            최초생성<br>
+ * 26.10.18         Fiat_lux            서명 키와 parser 재사용, 한 번의 파싱으로 검증하는 메서드 추가<br>
  */
 @Service
 @RequiredArgsConstructor
@@ -46,14 +50,21 @@ public class JwtUtility {
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
+    private Key signingKey;
+    private JwtParser jwtParser;
+
     /**
      * JWT 서명 키를 초기화합니다.
      *
-     * <p>Base64 인코딩된 비밀 키를 사용하여 HMAC SHA 키를 생성합니다.</p>
+     * <p>Base64 인코딩된 비밀 키를 사용하여 HMAC SHA 키와 토큰 검증에 사용할 {@link JwtParser} 를 생성합니다.</p>
      */
     @PostConstruct
     protected void init() {
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -94,7 +105,7 @@ public class JwtUtility {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -119,14 +130,23 @@ public class JwtUtility {
      * @return 유효한 경우 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
+        return verifyClaims(token).isPresent();
+    }
+
+    /**
+     * JWT 토큰을 검증하고 클레임(Claims)을 반환합니다.
+     *
+     * <p>서명과 만료 시간을 한 번의 파싱으로 확인하므로, {@link #validateToken(String)} 뒤에 {@link #getUserId(String)} 를
+     * 호출하여 같은 토큰을 두 번 파싱하는 대신 사용합니다.</p>
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 검증된 Claims, 유효하지 않은 토큰이면 빈 값
+     */
+    public Optional<Claims> verifyClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return Optional.of(parseClaims(token));
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -137,15 +157,6 @@ public class JwtUtility {
      * @return 파싱된 Claims 객체
      */
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
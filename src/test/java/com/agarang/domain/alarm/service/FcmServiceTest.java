@@ -0,0 +1,107 @@
+package com.agarang.domain.alarm.service;
+
+import com.agarang.domain.alarm.repository.FcmTokenRepository;
+import com.agarang.domain.alarm.sender.FakePushSender;
+import com.agarang.domain.alarm.sender.PushResult;
+import com.agarang.domain.alarm.sender.PushSender;
+import com.agarang.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link FcmService#sendNotificationToTokens} 가 토큰을 multicast 묶음으로 나누어 전송하고 결과를 합치는지 확인하는 테스트입니다.
+ *
+ * <p>Firebase 대신 {@link FakePushSender} 로 전송하며, 토큰 삭제는 mock repository 로 확인합니다.</p>
+ */
+class FcmServiceTest {
+    private static final int TOKENS = 1_200;
+    private static final List<String> UNREGISTERED = List.of("token-0", "token-499", "token-500", "token-777", "token-1199");
+
+    private FakePushSender pushSender;
+    private FcmTokenRepository fcmTokenRepository;
+    private NotificationRecipientCache notificationRecipientCache;
+    private ThreadPoolTaskExecutor fcmSendExecutor;
+    private FcmService fcmService;
+
+    @BeforeEach
+    void setUp() {
+        pushSender = new FakePushSender();
+        fcmTokenRepository = mock(FcmTokenRepository.class);
+        notificationRecipientCache = mock(NotificationRecipientCache.class);
+
+        fcmSendExecutor = new ThreadPoolTaskExecutor();
+        fcmSendExecutor.setThreadNamePrefix("fcm-send-test-");
+        fcmSendExecutor.setCorePoolSize(4);
+        fcmSendExecutor.initialize();
+
+        fcmService = new FcmService(mock(UserRepository.class), fcmTokenRepository, pushSender, fcmSendExecutor,
+                notificationRecipientCache, mock(ApplicationEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmSendExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("중복을 제거한 토큰을 500개씩 나누어 전송하고, 등록 해제된 토큰을 한 번의 쿼리로 삭제한다")
+    void sendsInBatchesAndDeletesUnregisteredTokensOnce() throws Exception {
+        UNREGISTERED.forEach(pushSender::markUnregistered);
+        given(fcmTokenRepository.deleteByFcmTokenIn(any())).willReturn(UNREGISTERED.size());
+
+        List<String> tokens = new ArrayList<>(tokens(TOKENS));
+        tokens.addAll(tokens(100));
+        tokens.add(null);
+        tokens.addAll(UNREGISTERED);
+
+        PushResult result = fcmService.sendNotificationToTokens(tokens, "제목", "내용").get(10, TimeUnit.SECONDS);
+
+        assertThat(pushSender.getSentBatches()).isEqualTo(3);
+        assertThat(pushSender.getSentMessages()).isEqualTo(TOKENS - UNREGISTERED.size());
+        assertThat(result.successCount()).isEqualTo(TOKENS - UNREGISTERED.size());
+        assertThat(result.failureCount()).isEqualTo(UNREGISTERED.size());
+        assertThat(result.unregisteredTokens()).containsExactlyInAnyOrderElementsOf(UNREGISTERED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(fcmTokenRepository, times(1)).deleteByFcmTokenIn(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrderElementsOf(UNREGISTERED);
+        verify(notificationRecipientCache).evictTokens(any());
+    }
+
+    @Test
+    @DisplayName("등록 해제된 토큰이 없으면 토큰을 삭제하지 않는다")
+    void doesNotDeleteWhenNoTokenIsUnregistered() throws Exception {
+        PushResult result = fcmService.sendNotificationToTokens(tokens(PushSender.MAX_MULTICAST_SIZE), "제목", "내용")
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(pushSender.getSentBatches()).isEqualTo(1);
+        assertThat(result).isEqualTo(new PushResult(PushSender.MAX_MULTICAST_SIZE, 0, List.of()));
+        verify(fcmTokenRepository, never()).deleteByFcmTokenIn(any());
+    }
+
+    private static List<String> tokens(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "token-" + i)
+                .toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.agarang.domain.alarm.service;
+
+import com.agarang.domain.alarm.entity.FcmToken;
+import com.agarang.domain.alarm.repository.FcmTokenRepository;
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.custody.entity.Custody;
+import com.agarang.domain.custody.entity.CustodyType;
+import com.agarang.domain.custody.repository.CustodyRepository;
+import com.agarang.domain.user.entity.User;
+import com.agarang.global.cache.CacheInvalidationBus;
+import com.agarang.support.QueryCounter;
+import com.agarang.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 알림 10,000건의 수신자 조회 비용을 비교하는 벤치마크입니다.
+ *
+ * <p>보호자마다 FCM 토큰을 조회하던 이전 방식과, 한 번의 쿼리로 조회한 결과를 아기별로 보관하는
+ * {@link NotificationRecipientCache} 의 쿼리 수와 소요 시간을 측정합니다.
+ * 알림 하나는 각자의 트랜잭션에서 처리되므로, 알림마다 영속성 컨텍스트를 비웁니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("query-count")
+@Import(NotificationRecipientCache.class)
+class NotificationRecipientBenchmarkTest {
+    private static final int BABIES = 1_000;
+    private static final int CAREGIVERS_PER_BABY = 2;
+    private static final int JOBS = 10_000;
+
+    @MockitoBean
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Autowired
+    private NotificationRecipientCache notificationRecipientCache;
+    @Autowired
+    private CustodyRepository custodyRepository;
+    @Autowired
+    private FcmTokenRepository fcmTokenRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("예약 알림 10,000건의 수신자를 보호자별 조회와 아기별 캐시로 조회한다")
+    void compareRecipientResolution() {
+        List<Baby> babies = saveBabies();
+        List<Integer> jobBabyIds = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            jobBabyIds.add(babies.get(i % BABIES).getBabyId());
+        }
+
+        Result perCaregiver = measure(jobBabyIds, this::findTokensPerCaregiver);
+        Result cached = measure(jobBabyIds, notificationRecipientCache::getTokens);
+
+        System.out.printf("recipient lookup for %d jobs: per-caregiver %d statements / %d ms, cached %d statements / %d ms%n",
+                JOBS, perCaregiver.statements(), perCaregiver.millis(), cached.statements(), cached.millis());
+
+        assertThat(cached.tokens()).isEqualTo(perCaregiver.tokens());
+        assertThat(perCaregiver.statements()).isGreaterThanOrEqualTo((long) JOBS * (1 + CAREGIVERS_PER_BABY));
+        assertThat(cached.statements()).isEqualTo(BABIES);
+    }
+
+    /**
+     * 이전 방식: 아기의 보호자를 조회한 후 보호자마다 FCM 토큰을 조회합니다.
+     */
+    private List<String> findTokensPerCaregiver(Integer babyId) {
+        Baby baby = entityManager.getEntityManager().getReference(Baby.class, babyId);
+        return custodyRepository.findByBabyAndDeletedAtIsNull(baby).stream()
+                .map(Custody::getUser)
+                .flatMap(user -> fcmTokenRepository.findByUser(user).stream())
+                .map(FcmToken::getFcmToken)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private Result measure(List<Integer> jobBabyIds, Function<Integer, List<String>> lookup) {
+        QueryCounter queryCounter = QueryCounter.start(entityManagerFactory);
+
+        long tokens = 0;
+        long started = System.nanoTime();
+        for (Integer babyId : jobBabyIds) {
+            entityManager.clear();
+            tokens += lookup.apply(babyId).size();
+        }
+        long millis = (System.nanoTime() - started) / 1_000_000;
+
+        return new Result(queryCounter.statements(), millis, tokens);
+    }
+
+    private List<Baby> saveBabies() {
+        List<Baby> babies = new ArrayList<>(BABIES);
+        for (int b = 0; b < BABIES; b++) {
+            Baby baby = entityManager.persist(TestFixtures.baby("아가" + b, LocalDateTime.of(2024, 1, 1, 0, 0)));
+            for (int c = 0; c < CAREGIVERS_PER_BABY; c++) {
+                User user = entityManager.persist(TestFixtures.parent("보호자" + c, "parent" + b + "-" + c + "@agarang.com"));
+                entityManager.persist(new Custody(baby, user, c == 0 ? CustodyType.MAIN : CustodyType.SUB));
+                entityManager.persist(new FcmToken("token-" + b + "-" + c, user));
+            }
+            babies.add(baby);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return babies;
+    }
+
+    private record Result(long statements, long millis, long tokens) {}
+}
@@ -0,0 +1,153 @@
+package com.agarang.domain.chat_room.broker;
+
+import com.agarang.domain.chat_room.dto.response.MessageResponse;
+import com.agarang.domain.chat_room.entity.ChattingType;
+import com.agarang.domain.custody.entity.CustodyType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 서버가 Redis 로 채팅 메시지를 주고받는지 확인하는 테스트입니다.
+ *
+ * <p>내장 Redis 하나에 {@link RedisChatBroadcaster} 만 띄운 애플리케이션 컨텍스트 두 개를 연결합니다.
+ * 각 서버의 구독자 전달은 {@link SimpMessagingTemplate} mock 으로 확인합니다.</p>
+ */
+class RedisChatBroadcasterTest {
+    private static final int MESSAGES = 250;
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    private static RedisServer redisServer;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @Configuration
+    @ImportAutoConfiguration({RedisAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @Import(RedisChatBroadcaster.class)
+    static class RelayNode {
+        @Bean
+        SimpMessagingTemplate simpMessagingTemplate() {
+            return mock(SimpMessagingTemplate.class);
+        }
+    }
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        nodeA = startNode(port);
+        nodeB = startNode(port);
+    }
+
+    @AfterAll
+    static void stopNodes() throws IOException {
+        if (Objects.nonNull(nodeA)) {
+            nodeA.close();
+        }
+        if (Objects.nonNull(nodeB)) {
+            nodeB.close();
+        }
+        if (Objects.nonNull(redisServer)) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("한 서버에서 보낸 채팅방 메시지를 두 서버의 구독자가 보낸 순서대로 받는다")
+    void relaysMessagesToBothNodesInOrder() {
+        int babyId = 1;
+        RedisChatBroadcaster sender = nodeA.getBean(RedisChatBroadcaster.class);
+
+        IntStream.rangeClosed(1, MESSAGES).forEach(chattingId -> sender.broadcast(babyId, message(chattingId)));
+
+        List<Integer> expected = IntStream.rangeClosed(1, MESSAGES).boxed().toList();
+        assertThat(receivedChattingIds(nodeA, babyId)).containsExactlyElementsOf(expected);
+        assertThat(receivedChattingIds(nodeB, babyId)).containsExactlyElementsOf(expected);
+        assertThat(sender.getFailedPublishes()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 서버가 동시에 보낸 채팅방별 메시지가 모든 서버에 채팅방마다 순서대로 전달되고, 빈 대기열은 제거된다")
+    void relaysMessagesFromBothNodesPerRoom() {
+        int roomOfA = 2;
+        int roomOfB = 3;
+        RedisChatBroadcaster senderA = nodeA.getBean(RedisChatBroadcaster.class);
+        RedisChatBroadcaster senderB = nodeB.getBean(RedisChatBroadcaster.class);
+
+        Thread threadA = new Thread(() -> IntStream.rangeClosed(1, MESSAGES).forEach(id -> senderA.broadcast(roomOfA, message(id))));
+        Thread threadB = new Thread(() -> IntStream.rangeClosed(1, MESSAGES).forEach(id -> senderB.broadcast(roomOfB, message(id))));
+        threadA.start();
+        threadB.start();
+
+        List<Integer> expected = IntStream.rangeClosed(1, MESSAGES).boxed().toList();
+        for (ConfigurableApplicationContext node : List.of(nodeA, nodeB)) {
+            assertThat(receivedChattingIds(node, roomOfA)).containsExactlyElementsOf(expected);
+            assertThat(receivedChattingIds(node, roomOfB)).containsExactlyElementsOf(expected);
+        }
+
+        await().atMost(Duration.ofMillis(TIMEOUT_MILLIS)).until(() -> senderA.getOutboxCount() == 0 && senderB.getOutboxCount() == 0);
+    }
+
+    private static List<Integer> receivedChattingIds(ConfigurableApplicationContext node, int babyId) {
+        SimpMessagingTemplate messagingTemplate = node.getBean(SimpMessagingTemplate.class);
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+
+        verify(messagingTemplate, timeout(TIMEOUT_MILLIS).times(MESSAGES))
+                .convertAndSend(eq(ChatBroadcaster.CHAT_ROOM_TOPIC_PREFIX + babyId), payloads.capture());
+
+        return payloads.getAllValues().stream()
+                .map(payload -> ((MessageResponse) payload).getChattingId())
+                .toList();
+    }
+
+    private static MessageResponse message(int chattingId) {
+        return new MessageResponse(chattingId, 1, "보호자", CustodyType.MAIN, "user.png",
+                "메시지 " + chattingId, LocalDateTime.of(2025, 1, 1, 0, 0), ChattingType.NORMAL);
+    }
+
+    private static ConfigurableApplicationContext startNode(int redisPort) {
+        return new SpringApplicationBuilder(RelayNode.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "chat.broker.type=redis",
+                        "spring.data.redis.host=localhost",
+                        "spring.data.redis.port=" + redisPort)
+                .run();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.agarang.domain.diary.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.diary.entity.Diary;
+import com.agarang.domain.diary.entity.DiaryKeyword;
+import com.agarang.domain.diary.repository.DiaryKeywordRepository;
+import com.agarang.domain.user.entity.User;
+import com.agarang.global.datasource.ConnectionHoldTimeMetrics;
+import com.agarang.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 일기 20건의 키워드를 추출하는 동안 DB 커넥션을 점유하는 시간을 비교하는 벤치마크입니다.
+ *
+ * <p>OpenAI 키워드 추출은 {@value #EXTRACT_DELAY_MILLIS}ms 뒤에 응답하는 mock 으로 대신합니다.
+ * 이전 방식은 일기를 저장하는 트랜잭션 안에서 키워드를 추출하고, 현재 방식은 일기와 작업만 저장한 뒤
+ * {@link DiaryKeywordJobWorker} 가 트랜잭션 밖에서 추출합니다.
+ * 커넥션 점유 시간은 {@link ConnectionHoldTimeMetrics} 로 측정하며, 트랜잭션 밖에서 저장한 데이터는 테스트 후 컨텍스트와 함께 지웁니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("query-count")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+@Import({DiaryKeywordJobService.class, DiaryKeywordJobWorker.class, ConnectionHoldTimeMetrics.class,
+        DiaryKeywordHoldTimeBenchmarkTest.ExtractExecutor.class})
+class DiaryKeywordHoldTimeBenchmarkTest {
+    private static final int DIARIES = 20;
+    private static final long EXTRACT_DELAY_MILLIS = 300;
+    private static final List<String> KEYWORDS = List.of("산책", "낮잠");
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    @TestConfiguration
+    static class ExtractExecutor {
+        @Bean
+        ThreadPoolTaskExecutor diaryKeywordExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix("diary-keyword-");
+            executor.setCorePoolSize(4);
+            executor.setMaxPoolSize(4);
+            executor.initialize();
+            return executor;
+        }
+    }
+
+    @MockitoBean
+    private KeywordService keywordService;
+
+    @Autowired
+    private DiaryKeywordJobWorker diaryKeywordJobWorker;
+    @Autowired
+    private ConnectionHoldTimeMetrics connectionHoldTimeMetrics;
+    @Autowired
+    private DiaryKeywordRepository diaryKeywordRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private Baby baby;
+
+    @BeforeEach
+    void setUp() {
+        given(keywordService.extractKeywords(anyString()))
+                .willReturn(Mono.delay(Duration.ofMillis(EXTRACT_DELAY_MILLIS)).thenReturn(KEYWORDS));
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            user = entityManager.persist(TestFixtures.parent());
+            baby = entityManager.persist(TestFixtures.baby(LocalDateTime.of(2024, 10, 1, 0, 0)));
+        });
+    }
+
+    @Test
+    @DisplayName("키워드 추출을 작업 대기열로 옮기면 OpenAI 응답을 기다리는 동안 DB 커넥션을 점유하지 않는다")
+    void compareConnectionHoldTime() {
+        Snapshot started = Snapshot.of(connectionHoldTimeMetrics);
+        for (int day = 0; day < DIARIES; day++) {
+            registerDiaryExtractingInTransaction(FIRST_DAY.plusDays(day));
+        }
+        Snapshot inTransaction = Snapshot.of(connectionHoldTimeMetrics).minus(started);
+
+        Snapshot beforeQueue = Snapshot.of(connectionHoldTimeMetrics);
+        for (int day = DIARIES; day < DIARIES * 2; day++) {
+            registerDiaryWithJob(FIRST_DAY.plusDays(day));
+        }
+        diaryKeywordJobWorker.drain();
+        await().atMost(Duration.ofSeconds(30)).until(() -> diaryKeywordJobWorker.getCompletedJobs() == DIARIES);
+        Snapshot queued = Snapshot.of(connectionHoldTimeMetrics).minus(beforeQueue);
+
+        System.out.printf("connection hold time for %d diaries: in-transaction %d checkouts / avg %.1f ms / %d over %d ms, "
+                        + "job queue %d checkouts / avg %.1f ms / %d over %d ms%n",
+                DIARIES, inTransaction.count(), inTransaction.averageMillis(), inTransaction.slowCount(), slowBoundMillis(),
+                queued.count(), queued.averageMillis(), queued.slowCount(), slowBoundMillis());
+
+        assertThat(diaryKeywordRepository.count()).isEqualTo((long) DIARIES * 2 * KEYWORDS.size());
+        assertThat(inTransaction.slowCount()).isGreaterThanOrEqualTo(DIARIES);
+        assertThat(queued.slowCount()).isZero();
+        assertThat(queued.totalMillis()).isLessThan(inTransaction.totalMillis());
+    }
+
+    /**
+     * 이전 방식: 일기를 저장한 트랜잭션 안에서 키워드를 추출하여 저장합니다.
+     */
+    private void registerDiaryExtractingInTransaction(LocalDate writtenDate) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Diary diary = entityManager.persist(new Diary("<p>오늘은 산책을 다녀왔다</p>", "emoji.png", writtenDate, baby, user));
+            List<String> keywords = keywordService.extractKeywords(diary.getContent()).block();
+            keywords.forEach(keyword -> entityManager.persist(new DiaryKeyword(keyword, diary)));
+        });
+    }
+
+    /**
+     * 현재 방식: 일기와 키워드 추출 작업만 저장합니다.
+     *
+     * <p>작업 저장에 사용하는 upsert 는 MySQL 전용 구문이므로, 같은 행을 직접 저장합니다.</p>
+     */
+    private void registerDiaryWithJob(LocalDate writtenDate) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Diary diary = entityManager.persist(new Diary("<p>오늘은 산책을 다녀왔다</p>", "emoji.png", writtenDate, baby, user));
+            entityManager.flush();
+            jdbcTemplate.update("INSERT INTO diary_keyword_job (diary_id, content_hash, status, attempts, next_attempt_at, created_at) "
+                            + "VALUES (?, ?, 'PENDING', 0, ?, ?)",
+                    diary.getDiaryId(), DiaryKeywordJobService.contentHash(diary.getContent()),
+                    LocalDateTime.now().minusSeconds(1), LocalDateTime.now());
+        });
+    }
+
+    /**
+     * 추출 지연보다 짧은 구간 경계 중 가장 큰 값입니다. 이 값을 넘는 점유는 추출을 기다린 점유로 봅니다.
+     */
+    private static long slowBoundMillis() {
+        long bound = 0;
+        for (long candidate : ConnectionHoldTimeMetrics.BUCKET_BOUNDS_MILLIS) {
+            if (candidate < EXTRACT_DELAY_MILLIS) {
+                bound = candidate;
+            }
+        }
+        return bound;
+    }
+
+    private record Snapshot(long count, long totalMillis, long slowCount) {
+        static Snapshot of(ConnectionHoldTimeMetrics metrics) {
+            long[] buckets = metrics.getBucketCounts();
+            long slowCount = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                if (i >= ConnectionHoldTimeMetrics.BUCKET_BOUNDS_MILLIS.length
+                        || ConnectionHoldTimeMetrics.BUCKET_BOUNDS_MILLIS[i] > slowBoundMillis()) {
+                    slowCount += buckets[i];
+                }
+            }
+            return new Snapshot(metrics.getCount(), metrics.getTotalHoldMillis(), slowCount);
+        }
+
+        Snapshot minus(Snapshot other) {
+            return new Snapshot(count - other.count, totalMillis - other.totalMillis, slowCount - other.slowCount);
+        }
+
+        double averageMillis() {
+            return count == 0 ? 0 : (double) totalMillis / count;
+        }
+    }
+}
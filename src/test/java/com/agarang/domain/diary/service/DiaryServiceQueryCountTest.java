@@ -0,0 +1,105 @@
+package com.agarang.domain.diary.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.diary.dto.mapper.DiaryMapper;
+import com.agarang.domain.diary.dto.response.DiaryListResponse;
+import com.agarang.domain.diary.entity.Diary;
+import com.agarang.domain.diary.entity.DiaryKeyword;
+import com.agarang.domain.diary.search.DiarySearchIndex;
+import com.agarang.domain.user.entity.User;
+import com.agarang.support.QueryCounter;
+import com.agarang.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월별 다이어리 목록 조회가 다이어리 수와 상관없이 2번의 쿼리로 끝나는지 확인하는 테스트입니다.
+ *
+ * <p>다이어리 목록 1번, 키워드 1번만 조회해야 합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("query-count")
+@Import(DiaryService.class)
+class DiaryServiceQueryCountTest {
+    private static final YearMonth MONTH = YearMonth.of(2025, 1);
+
+    @MockitoBean
+    private CaregiverContextResolver caregiverContextResolver;
+    @MockitoBean
+    private DiaryMapper diaryMapper;
+    @MockitoBean
+    private DiaryKeywordJobService diaryKeywordJobService;
+    @MockitoBean
+    private DiarySearchIndex diarySearchIndex;
+
+    @Autowired
+    private DiaryService diaryService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Baby baby;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.parent());
+        baby = entityManager.persist(TestFixtures.baby(MONTH.atDay(1).minusMonths(3).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("월별 다이어리 목록은 다이어리 수와 상관없이 2번의 쿼리로 조회한다")
+    void getDiaryListRunsTwoQueries() {
+        saveDiaries(1, 3);
+        assertThat(countStatementsOfDiaryList(null, 3)).isEqualTo(2);
+
+        saveDiaries(4, 31);
+        assertThat(countStatementsOfDiaryList(null, 31)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색어가 있어도 월별 다이어리 목록은 2번의 쿼리로 조회한다")
+    void getDiaryListWithSearchRunsTwoQueries() {
+        saveDiaries(1, 31);
+
+        assertThat(countStatementsOfDiaryList("산책", 31)).isEqualTo(2);
+    }
+
+    private long countStatementsOfDiaryList(String search, int expectedDiaries) {
+        entityManager.flush();
+        entityManager.clear();
+
+        QueryCounter queryCounter = QueryCounter.start(entityManagerFactory);
+
+        List<DiaryListResponse> responses = diaryService.getDiaryList(user.getUserId(), baby.getBabyId(), MONTH, search);
+
+        assertThat(responses).hasSize(expectedDiaries);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getKeyWordResponseList()).hasSize(2));
+        return queryCounter.statements();
+    }
+
+    private void saveDiaries(int fromDay, int toDay) {
+        for (int day = fromDay; day <= toDay; day++) {
+            Diary diary = entityManager.persist(new Diary("오늘의 일기", "emoji.png", MONTH.atDay(day), baby, user));
+            entityManager.persist(new DiaryKeyword("산책", diary, false));
+            entityManager.persist(new DiaryKeyword("목욕", diary, true));
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.baby.service.BabyService;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.record.dto.request.BaseRecordCreateRequest;
+import com.agarang.domain.record.dto.request.RecordBatchCreateRequest;
+import com.agarang.domain.record.dto.request.RecordBatchItemRequest;
+import com.agarang.domain.record.dto.response.RecordBatchItemResponse;
+import com.agarang.domain.record.dto.response.RecordBatchItemResponse.Status;
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.event.RecordBatchCreatedEventListener;
+import com.agarang.domain.record.repository.RecordBatchRepository;
+import com.agarang.domain.user.entity.User;
+import com.agarang.domain.user.repository.UserRepository;
+import com.agarang.global.exception.ErrorCode;
+import com.agarang.global.purge.ChunkedPurger;
+import com.agarang.global.s3.S3Uploader;
+import com.agarang.support.TestFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link RecordBatchService#createRecords} 의 기록 일괄 추가와 멱등성 키 처리를 확인하는 테스트입니다.
+ *
+ * <p>기록은 H2 에, 멱등성 키는 내장 Redis 에 저장합니다.
+ * 커밋과 롤백 후의 멱등성 키 처리를 확인해야 하므로 테스트 트랜잭션을 사용하지 않고, 테스트가 끝나면 저장한 행과 키를 지웁니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("query-count")
+@ImportAutoConfiguration(RedisAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecordBatchServiceTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 30);
+    private static final String KEY_PREFIX = "record:idempotency:";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private static RedisServer redisServer;
+    private static int redisPort;
+
+    @TestConfiguration
+    @ComponentScan(basePackages = {
+            "com.agarang.domain.record.service",
+            "com.agarang.domain.record.dto.mapper",
+            "com.agarang.domain.record.repository"
+    })
+    @Import(RecordBatchCreatedEventListener.class)
+    static class RecordServiceConfig {
+    }
+
+    @MockitoBean
+    private CaregiverContextResolver caregiverContextResolver;
+    @MockitoBean
+    private BabyService babyService;
+    @MockitoBean
+    private S3Uploader s3Uploader;
+    @MockitoBean
+    private ChunkedPurger chunkedPurger;
+
+    @Autowired
+    private RecordBatchService recordBatchService;
+    @Autowired
+    private RecordBatchRepository recordBatchRepository;
+    @Autowired
+    private RecordIdempotencyStore recordIdempotencyStore;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BabyRepository babyRepository;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Baby baby;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisPort = freePort();
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (Objects.nonNull(redisServer)) {
+            redisServer.stop();
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestFixtures.parent());
+        baby = babyRepository.save(TestFixtures.baby(DATE.minusMonths(3).atStartOfDay()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        List.of("record_change", "record_change_sequence", "sleep", "excretion", "record", "baby", "user")
+                .forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+        redisTemplate.delete(redisTemplate.keys(KEY_PREFIX + "*"));
+    }
+
+    @Test
+    @DisplayName("여러 타입이 섞인 요청에서 생성된 기록 ID 를 요청 항목에 순서대로 돌려주고, 상세 행과 변경 이력도 같은 ID 로 저장한다")
+    void mapsGeneratedIdsBackToItemsOfMixedTypes() {
+        List<RecordBatchItemRequest> items = List.of(
+                sleep("sleep-1", DATE.atTime(1, 0), DATE.atTime(2, 30)),
+                excretion("excretion-1", DATE.atTime(3, 0), "POOP"),
+                antipyreticWithoutType("medication-1", DATE.atTime(4, 0)),
+                bath("bath-1", DATE.atTime(5, 0)),
+                sleep("sleep-2", DATE.atTime(23, 0), DATE.plusDays(1).atTime(1, 0)),
+                excretion("excretion-2", DATE.atTime(6, 0), "PEE"),
+                bath("sleep-1", DATE.atTime(7, 0)));
+
+        List<RecordBatchItemResponse> results = createRecords(items);
+
+        assertThat(results).extracting(RecordBatchItemResponse::getIdempotencyKey)
+                .containsExactly("sleep-1", "excretion-1", "medication-1", "bath-1", "sleep-2", "excretion-2", "sleep-1");
+        assertThat(results).extracting(RecordBatchItemResponse::getStatus)
+                .containsExactly(Status.CREATED, Status.CREATED, Status.REJECTED, Status.CREATED, Status.CREATED, Status.CREATED, Status.DUPLICATE);
+        assertThat(results.get(2).getErrorCode()).isEqualTo(ErrorCode.INVALID_CREATE_REQUEST.getCode());
+        assertThat(results.get(6).getRecordId()).isEqualTo(results.get(0).getRecordId());
+
+        List<Integer> createdIds = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results.get(i).getStatus() != Status.CREATED) continue;
+
+            Integer recordId = results.get(i).getRecordId();
+            createdIds.add(recordId);
+            List<String> row = jdbcTemplate.queryForObject(
+                    "SELECT record_type, idempotency_key, content FROM record WHERE record_id = ?",
+                    (rs, rowNum) -> List.of(rs.getString("record_type"), rs.getString("idempotency_key"), rs.getString("content")),
+                    recordId);
+            String key = items.get(i).getIdempotencyKey();
+            assertThat(row).containsExactly(items.get(i).getRecord().getRecordType().name(), key, key);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT ended_at FROM sleep WHERE record_id = ?", LocalDateTime.class,
+                results.get(0).getRecordId())).isEqualTo(DATE.atTime(2, 30));
+        assertThat(jdbcTemplate.queryForObject("SELECT ended_at FROM sleep WHERE record_id = ?", LocalDateTime.class,
+                results.get(4).getRecordId())).isEqualTo(DATE.plusDays(1).atTime(1, 0));
+        assertThat(jdbcTemplate.queryForObject("SELECT excretion_type FROM excretion WHERE record_id = ?", String.class,
+                results.get(1).getRecordId())).isEqualTo("POOP");
+        assertThat(jdbcTemplate.queryForObject("SELECT excretion_type FROM excretion WHERE record_id = ?", String.class,
+                results.get(5).getRecordId())).isEqualTo("PEE");
+
+        assertThat(jdbcTemplate.queryForList("SELECT record_id FROM record_change WHERE baby_id = ? ORDER BY change_seq",
+                Integer.class, baby.getBabyId())).containsExactlyElementsOf(createdIds);
+        assertThat(redisTemplate.opsForValue().get(redisKey("bath-1"))).isEqualTo(String.valueOf(results.get(3).getRecordId()));
+        assertThat(redisTemplate.hasKey(redisKey("medication-1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 다시 요청하면 기록을 추가하지 않고 처음 생성한 기록 ID 를 반환한다")
+    void returnsOriginalRecordIdForReplayedKey() {
+        List<RecordBatchItemRequest> items = List.of(
+                sleep("sleep-1", DATE.atTime(1, 0), DATE.atTime(2, 0)),
+                bath("bath-1", DATE.atTime(5, 0)));
+        List<RecordBatchItemResponse> created = createRecords(items);
+
+        List<RecordBatchItemResponse> replayed = createRecords(items);
+
+        assertThat(replayed).extracting(RecordBatchItemResponse::getStatus).containsOnly(Status.DUPLICATE);
+        assertThat(replayed).extracting(RecordBatchItemResponse::getRecordId)
+                .containsExactlyElementsOf(created.stream().map(RecordBatchItemResponse::getRecordId).toList());
+        assertThat(countRecords()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 의 완료 기록이 사라져도 DB 에서 처음 생성한 기록 ID 를 찾아 반환하고, Redis 에 다시 기록한다")
+    void returnsOriginalRecordIdFromDatabaseWhenRedisLostKey() {
+        List<RecordBatchItemRequest> items = List.of(excretion("excretion-1", DATE.atTime(3, 0), "PEE"));
+        Integer recordId = createRecords(items).get(0).getRecordId();
+        redisTemplate.delete(redisKey("excretion-1"));
+
+        RecordBatchItemResponse replayed = createRecords(items).get(0);
+
+        assertThat(replayed.getStatus()).isEqualTo(Status.DUPLICATE);
+        assertThat(replayed.getRecordId()).isEqualTo(recordId);
+        assertThat(countRecords()).isEqualTo(1);
+        assertThat(redisTemplate.opsForValue().get(redisKey("excretion-1"))).isEqualTo(String.valueOf(recordId));
+    }
+
+    @Test
+    @DisplayName("이전 요청이 아직 처리 중인 멱등성 키는 IN_PROGRESS 로 반환하고 나머지 항목만 추가한다")
+    void reportsInFlightKeyAsInProgress() {
+        redisTemplate.opsForValue().set(redisKey("sleep-1"), "PENDING");
+
+        List<RecordBatchItemResponse> results = createRecords(List.of(
+                sleep("sleep-1", DATE.atTime(1, 0), DATE.atTime(2, 0)),
+                bath("bath-1", DATE.atTime(5, 0))));
+
+        assertThat(results).extracting(RecordBatchItemResponse::getStatus).containsExactly(Status.IN_PROGRESS, Status.CREATED);
+        assertThat(results.get(0).getRecordId()).isNull();
+        assertThat(countRecords()).isEqualTo(1);
+        assertThat(redisTemplate.opsForValue().get(redisKey("sleep-1"))).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 예약한 멱등성 키를 해제하여, 같은 키로 다시 요청하면 기록을 추가한다")
+    void releasesReservedKeysOnRollback() {
+        List<RecordBatchItemRequest> items = List.of(
+                sleep("sleep-1", DATE.atTime(1, 0), DATE.atTime(2, 0)),
+                bath("bath-1", DATE.atTime(5, 0)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            createRecords(items);
+            assertThat(redisTemplate.opsForValue().get(redisKey("sleep-1"))).isEqualTo("PENDING");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(redisTemplate.hasKey(redisKey("sleep-1"))).isFalse();
+        assertThat(redisTemplate.hasKey(redisKey("bath-1"))).isFalse();
+        assertThat(countRecords()).isZero();
+
+        assertThat(createRecords(items)).extracting(RecordBatchItemResponse::getStatus).containsOnly(Status.CREATED);
+        assertThat(countRecords()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예약한 키는 새 키로, 처리 중인 키는 빈 값으로, 완료한 키는 기록 ID 로 반환한다")
+    void reserveReportsPendingAndCompletedKeys() {
+        Integer babyId = baby.getBabyId();
+        recordIdempotencyStore.reserve(babyId, List.of("pending", "completed"));
+        recordIdempotencyStore.complete(babyId, Map.of("completed", 42));
+
+        Map<String, Optional<Integer>> existing = recordIdempotencyStore.reserve(babyId, List.of("pending", "completed", "new"));
+
+        assertThat(existing).containsOnlyKeys("pending", "completed");
+        assertThat(existing.get("pending")).isEmpty();
+        assertThat(existing.get("completed")).contains(42);
+        assertThat(redisTemplate.opsForValue().get(redisKey("new"))).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("한 INSERT 문의 최대 행 수를 넘는 기록도 생성된 ID 를 행 순서대로 설정한다")
+    void insertRecordsSetsGeneratedIdsAcrossStatements() {
+        List<Record> records = IntStream.range(0, 501)
+                .mapToObj(i -> Record.builder()
+                        .user(user)
+                        .baby(baby)
+                        .recordType(RecordType.BATH)
+                        .startedAt(DATE.atStartOfDay().plusMinutes(i))
+                        .idempotencyKey("key-" + i)
+                        .build())
+                .toList();
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> recordBatchRepository.insertRecords(records, LocalDateTime.now()));
+
+        Map<Integer, String> keysById = new HashMap<>();
+        jdbcTemplate.query("SELECT record_id, idempotency_key FROM record WHERE baby_id = ?",
+                rs -> {
+                    keysById.put(rs.getInt("record_id"), rs.getString("idempotency_key"));
+                }, baby.getBabyId());
+
+        assertThat(keysById).hasSize(records.size());
+        assertThat(records).allSatisfy(record ->
+                assertThat(keysById.get(record.getRecordId())).isEqualTo(record.getIdempotencyKey()));
+    }
+
+    private List<RecordBatchItemResponse> createRecords(List<RecordBatchItemRequest> items) {
+        return recordBatchService.createRecords(user.getUserId(), baby.getBabyId(), new RecordBatchCreateRequest(items))
+                .getResults();
+    }
+
+    private long countRecords() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM record WHERE baby_id = ?", Long.class, baby.getBabyId());
+    }
+
+    private String redisKey(String idempotencyKey) {
+        return KEY_PREFIX + baby.getBabyId() + ":" + idempotencyKey;
+    }
+
+    private static RecordBatchItemRequest sleep(String key, LocalDateTime startedAt, LocalDateTime endedAt) {
+        return item(key, """
+                {"record_type": "SLEEP", "started_at": "%s", "content": "%s", "ended_at": "%s"}
+                """.formatted(DATE_TIME_FORMAT.format(startedAt), key, DATE_TIME_FORMAT.format(endedAt)));
+    }
+
+    private static RecordBatchItemRequest excretion(String key, LocalDateTime startedAt, String excretionType) {
+        return item(key, """
+                {"record_type": "EXCRETION", "started_at": "%s", "content": "%s", "excretion_type": "%s"}
+                """.formatted(DATE_TIME_FORMAT.format(startedAt), key, excretionType));
+    }
+
+    private static RecordBatchItemRequest bath(String key, LocalDateTime startedAt) {
+        return item(key, """
+                {"record_type": "BATH", "started_at": "%s", "content": "%s"}
+                """.formatted(DATE_TIME_FORMAT.format(startedAt), key));
+    }
+
+    private static RecordBatchItemRequest antipyreticWithoutType(String key, LocalDateTime startedAt) {
+        return item(key, """
+                {"record_type": "MEDICATION", "started_at": "%s", "content": "%s", "medication_type": "ANTIPYRETIC"}
+                """.formatted(DATE_TIME_FORMAT.format(startedAt), key));
+    }
+
+    private static RecordBatchItemRequest item(String key, String recordJson) {
+        try {
+            return new RecordBatchItemRequest(key, OBJECT_MAPPER.readValue(recordJson, BaseRecordCreateRequest.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(recordJson, e);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
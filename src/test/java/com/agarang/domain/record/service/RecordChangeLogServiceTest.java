@@ -0,0 +1,267 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.service.BabyService;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.record.dto.request.BaseRecordCreateRequest;
+import com.agarang.domain.record.dto.request.BathUpdateRequest;
+import com.agarang.domain.record.dto.response.BaseRecordGetResponse;
+import com.agarang.domain.record.dto.response.RecordChangesResponse;
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.RecordChange;
+import com.agarang.domain.record.entity.enumeration.RecordChangeType;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.repository.RecordChangeRepository;
+import com.agarang.domain.user.entity.User;
+import com.agarang.global.purge.ChunkedPurger;
+import com.agarang.global.s3.S3Uploader;
+import com.agarang.support.TestFixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * {@link RecordChangeLogService} 가 남긴 변경 이력과 {@link RecordQueryService#getRecordChanges} 의 변경분 조회를 확인하는 테스트입니다.
+ *
+ * <p>기록은 {@link RecordCommonService} 로 추가, 수정, 삭제하고, 변경 이력 정리는 이력 행을 직접 지워 재현합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("query-count")
+class RecordChangeLogServiceTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 30);
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    @TestConfiguration
+    @ComponentScan(basePackages = {
+            "com.agarang.domain.record.service",
+            "com.agarang.domain.record.dto.mapper",
+            "com.agarang.domain.record.repository"
+    })
+    static class RecordServiceConfig {
+    }
+
+    @MockitoBean
+    private CaregiverContextResolver caregiverContextResolver;
+    @MockitoBean
+    private BabyService babyService;
+    @MockitoBean
+    private S3Uploader s3Uploader;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+    @MockitoBean
+    private ChunkedPurger chunkedPurger;
+
+    @Autowired
+    private RecordCommonService recordCommonService;
+    @Autowired
+    private RecordChangeLogService recordChangeLogService;
+    @Autowired
+    private RecordQueryService recordQueryService;
+    @Autowired
+    private RecordChangeRepository recordChangeRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Baby baby;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.parent());
+        baby = entityManager.persist(TestFixtures.baby(DATE.minusMonths(3).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("기록의 추가, 수정, 삭제마다 1부터 순서대로 번호를 붙인 변경 이력을 남기고, 삭제는 DELETE 이력으로 남긴다")
+    void appendsOrderedChangesWithTombstoneForDelete() {
+        Record first = createBath(DATE.atTime(1, 0));
+        Record second = createBath(DATE.atTime(2, 0));
+        Record third = createBath(DATE.atTime(3, 0));
+        updateBath(first, "수정한 메모");
+        recordCommonService.deleteRecord(user.getUserId(), second.getRecordId());
+
+        assertThat(findChanges(0L))
+                .extracting(RecordChange::getChangeSeq, RecordChange::getRecordId, RecordChange::getRecordType, RecordChange::getChangeType)
+                .containsExactly(
+                        tuple(1L, first.getRecordId(), RecordType.BATH, RecordChangeType.UPSERT),
+                        tuple(2L, second.getRecordId(), RecordType.BATH, RecordChangeType.UPSERT),
+                        tuple(3L, third.getRecordId(), RecordType.BATH, RecordChangeType.UPSERT),
+                        tuple(4L, first.getRecordId(), RecordType.BATH, RecordChangeType.UPSERT),
+                        tuple(5L, second.getRecordId(), RecordType.BATH, RecordChangeType.DELETE));
+    }
+
+    @Test
+    @DisplayName("변경분 조회는 기록마다 마지막 변경만 마지막 변경 순서대로 반환하고, 삭제된 기록은 ID 만 반환한다")
+    void returnsLatestChangePerRecordAndDeletedIds() {
+        Record first = createBath(DATE.atTime(1, 0));
+        Record second = createBath(DATE.atTime(2, 0));
+        Record third = createBath(DATE.atTime(3, 0));
+        updateBath(first, "수정한 메모");
+        recordCommonService.deleteRecord(user.getUserId(), second.getRecordId());
+
+        RecordChangesResponse all = getRecordChanges(0L);
+
+        assertThat(recordIds(all)).containsExactly(third.getRecordId(), first.getRecordId());
+        assertThat(all.getDeletedRecordIds()).containsExactly(second.getRecordId());
+        assertThat(all.getNextCursor()).isEqualTo(5L);
+        assertThat(all.getHasMore()).isFalse();
+        assertThat(all.getFullSyncRequired()).isFalse();
+
+        RecordChangesResponse afterThird = getRecordChanges(3L);
+
+        assertThat(recordIds(afterThird)).containsExactly(first.getRecordId());
+        assertThat(afterThird.getDeletedRecordIds()).containsExactly(second.getRecordId());
+        assertThat(afterThird.getNextCursor()).isEqualTo(5L);
+
+        RecordChangesResponse latest = getRecordChanges(5L);
+
+        assertThat(latest.getRecords()).isEmpty();
+        assertThat(latest.getDeletedRecordIds()).isEmpty();
+        assertThat(latest.getNextCursor()).isEqualTo(5L);
+        assertThat(latest.getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경분이 한 번에 조회할 수 있는 수보다 많으면 나누어 반환하고, 다음 커서로 남은 변경분을 이어서 반환한다")
+    void pagesChangesWithNextCursor() {
+        int total = RecordQueryService.MAX_CHANGES_PER_REQUEST + 20;
+        List<Record> records = IntStream.range(0, total)
+                .mapToObj(i -> entityManager.persist(record(DATE.atStartOfDay().plusMinutes(i))))
+                .toList();
+        recordChangeLogService.append(baby.getBabyId(), records, RecordChangeType.UPSERT);
+
+        RecordChangesResponse firstPage = getRecordChanges(0L);
+
+        assertThat(recordIds(firstPage)).containsExactlyElementsOf(recordIdsOf(records.subList(0, RecordQueryService.MAX_CHANGES_PER_REQUEST)));
+        assertThat(firstPage.getNextCursor()).isEqualTo((long) RecordQueryService.MAX_CHANGES_PER_REQUEST);
+        assertThat(firstPage.getHasMore()).isTrue();
+
+        RecordChangesResponse secondPage = getRecordChanges(firstPage.getNextCursor());
+
+        assertThat(recordIds(secondPage)).containsExactlyElementsOf(recordIdsOf(records.subList(RecordQueryService.MAX_CHANGES_PER_REQUEST, total)));
+        assertThat(secondPage.getNextCursor()).isEqualTo((long) total);
+        assertThat(secondPage.getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서의 변경 이력이 보관 기간이 지나 정리되었으면 변경분 없이 fullSyncRequired 를 반환한다")
+    void requiresFullSyncWhenCursorWasPurged() {
+        List<Record> records = LongStream.range(0, 4)
+                .mapToObj(i -> createBath(DATE.atTime(1, 0).plusHours(i)))
+                .toList();
+        jdbcTemplate.update("DELETE FROM record_change WHERE baby_id = ? AND change_seq <= ?", baby.getBabyId(), 2L);
+
+        RecordChangesResponse purged = getRecordChanges(1L);
+
+        assertThat(purged.getFullSyncRequired()).isTrue();
+        assertThat(purged.getRecords()).isEmpty();
+        assertThat(purged.getDeletedRecordIds()).isEmpty();
+        assertThat(purged.getNextCursor()).isZero();
+        assertThat(purged.getHasMore()).isTrue();
+
+        RecordChangesResponse kept = getRecordChanges(3L);
+
+        assertThat(kept.getFullSyncRequired()).isFalse();
+        assertThat(recordIds(kept)).containsExactly(records.get(3).getRecordId());
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 변경 이력이 없는 기록의 UPSERT 이력을 먼저 남겨 모든 기록을 반환한다")
+    void backfillsRecordsWithoutChangesOnFirstSync() {
+        Record legacy = entityManager.persist(record(DATE.atTime(1, 0)));
+        Record created = createBath(DATE.atTime(2, 0));
+
+        RecordChangesResponse all = getRecordChanges(0L);
+
+        assertThat(recordIds(all)).containsExactly(created.getRecordId(), legacy.getRecordId());
+        assertThat(all.getNextCursor()).isEqualTo(2L);
+        assertThat(findChanges(1L)).extracting(RecordChange::getRecordId).containsExactly(legacy.getRecordId());
+    }
+
+    private Record createBath(LocalDateTime startedAt) {
+        return recordCommonService.createRecord(user.getUserId(), baby.getBabyId(), bathCreateRequest(startedAt));
+    }
+
+    private void updateBath(Record record, String content) {
+        BathUpdateRequest request = new BathUpdateRequest();
+        request.setRecordType(RecordType.BATH);
+        request.setStartedAt(record.getStartedAt());
+        request.setContent(content);
+
+        recordCommonService.updateRecord(user.getUserId(), record.getRecordId(), request, null);
+    }
+
+    private RecordChangesResponse getRecordChanges(Long since) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return recordQueryService.getRecordChanges(user.getUserId(), baby.getBabyId(), since);
+    }
+
+    private List<RecordChange> findChanges(Long since) {
+        entityManager.flush();
+
+        return recordChangeRepository.findAllByBabyIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(
+                baby.getBabyId(), since, PageRequest.of(0, 100));
+    }
+
+    private Record record(LocalDateTime startedAt) {
+        return Record.builder()
+                .user(user)
+                .baby(baby)
+                .recordType(RecordType.BATH)
+                .startedAt(startedAt)
+                .build();
+    }
+
+    private static List<Integer> recordIds(RecordChangesResponse response) {
+        return response.getRecords().stream()
+                .map(BaseRecordGetResponse::getRecordId)
+                .toList();
+    }
+
+    private static List<Integer> recordIdsOf(List<Record> records) {
+        return records.stream()
+                .map(Record::getRecordId)
+                .toList();
+    }
+
+    private static BaseRecordCreateRequest bathCreateRequest(LocalDateTime startedAt) {
+        String json = """
+                {"record_type": "BATH", "started_at": "%s"}
+                """.formatted(DATE_TIME_FORMAT.format(startedAt));
+        try {
+            return OBJECT_MAPPER.readValue(json, BaseRecordCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(json, e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.agarang.domain.record.service;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.baby.service.BabyService;
+import com.agarang.domain.custody.service.CaregiverContextResolver;
+import com.agarang.domain.record.dto.response.RecordListResponse;
+import com.agarang.domain.record.entity.Record;
+import com.agarang.domain.record.entity.enumeration.ExcretionType;
+import com.agarang.domain.record.entity.enumeration.RecordType;
+import com.agarang.domain.record.entity.type.Excretion;
+import com.agarang.domain.record.entity.type.Sleep;
+import com.agarang.domain.user.entity.User;
+import com.agarang.global.purge.ChunkedPurger;
+import com.agarang.global.s3.S3Uploader;
+import com.agarang.support.QueryCounter;
+import com.agarang.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하루 기록 목록 조회의 쿼리 수가 기록 수와 상관없이 일정한지 확인하는 테스트입니다.
+ *
+ * <p>기록 목록 1번과 상세 테이블이 있는 기록 타입마다 1번씩 조회해야 합니다.
+ * 목욕 기록은 상세 테이블이 없으므로, 수면, 배변, 목욕 기록을 섞으면 3번 조회합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("query-count")
+class RecordQueryServiceQueryCountTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 30);
+
+    @TestConfiguration
+    @ComponentScan(basePackages = {
+            "com.agarang.domain.record.service",
+            "com.agarang.domain.record.dto.mapper",
+            "com.agarang.domain.record.repository"
+    })
+    static class RecordServiceConfig {
+    }
+
+    @MockitoBean
+    private CaregiverContextResolver caregiverContextResolver;
+    @MockitoBean
+    private BabyService babyService;
+    @MockitoBean
+    private S3Uploader s3Uploader;
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+    @MockitoBean
+    private ChunkedPurger chunkedPurger;
+
+    @Autowired
+    private RecordQueryService recordQueryService;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Baby baby;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestFixtures.parent());
+        baby = entityManager.persist(TestFixtures.baby(DATE.minusMonths(3).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("하루 기록 목록은 기록 수와 상관없이 같은 수의 쿼리로 조회한다")
+    void getRecordListByDateRunsConstantQueries() {
+        saveRecords(3);
+        long fewRecordsCount = countStatementsOfRecordList(9);
+
+        saveRecords(30);
+        long manyRecordsCount = countStatementsOfRecordList(99);
+
+        assertThat(fewRecordsCount).isEqualTo(3);
+        assertThat(manyRecordsCount).isEqualTo(fewRecordsCount);
+    }
+
+    private long countStatementsOfRecordList(int expectedRecords) {
+        entityManager.flush();
+        entityManager.clear();
+
+        QueryCounter queryCounter = QueryCounter.start(entityManagerFactory);
+
+        RecordListResponse response = recordQueryService.getRecordListByDate(user.getUserId(), baby.getBabyId(), DATE);
+
+        assertThat(response.getRecords()).hasSize(expectedRecords);
+        return queryCounter.statements();
+    }
+
+    private void saveRecords(int countPerType) {
+        for (int i = 0; i < countPerType; i++) {
+            LocalDateTime startedAt = DATE.atTime(1, 0).plusMinutes(i * 10L);
+
+            Record sleep = entityManager.persist(record(RecordType.SLEEP, startedAt));
+            entityManager.persist(Sleep.builder().record(sleep).endedAt(startedAt.plusMinutes(5)).build());
+
+            Record excretion = entityManager.persist(record(RecordType.EXCRETION, startedAt));
+            entityManager.persist(Excretion.builder().record(excretion).excretionType(ExcretionType.PEE).build());
+
+            entityManager.persist(record(RecordType.BATH, startedAt));
+        }
+    }
+
+    private Record record(RecordType recordType, LocalDateTime startedAt) {
+        return Record.builder()
+                .user(user)
+                .baby(baby)
+                .recordType(recordType)
+                .startedAt(startedAt)
+                .build();
+    }
+}
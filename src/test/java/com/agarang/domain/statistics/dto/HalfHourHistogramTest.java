@@ -0,0 +1,97 @@
+package com.agarang.domain.statistics.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link HalfHourHistogram#findMergedBlocks(int)} 가 연속된 칸을 올바른 활동 시간 블록으로 병합하는지 확인하는 테스트입니다.
+ */
+class HalfHourHistogramTest {
+
+    @Test
+    @DisplayName("자정을 넘어 이어지는 칸은 종료 시각이 시작 시각보다 이른 하나의 블록으로 병합한다")
+    void mergesRunWrappingMidnight() {
+        HalfHourHistogram histogram = histogramOf(slots(46, 47, 0, 1, 10, 11));
+
+        assertThat(histogram.findMergedBlocks(1)).containsExactly(
+                block(5, 0, 6, 0),
+                block(23, 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("한 칸만 빠진 하루는 빠진 칸 다음부터 빠진 칸까지 자정을 넘는 하나의 블록이 된다")
+    void mergesEverythingButOneSlotAcrossMidnight() {
+        long mask = slots(IntStream.range(0, HalfHourHistogram.SLOTS).filter(slot -> slot != 20).toArray());
+
+        assertThat(histogramOf(mask).findMergedBlocks(1)).containsExactly(block(10, 30, 10, 0));
+    }
+
+    @Test
+    @DisplayName("48칸이 모두 기준 이상이면 자정부터 자정까지의 블록 하나를 반환한다")
+    void returnsWholeDayForFullMask() {
+        long mask = slots(IntStream.range(0, HalfHourHistogram.SLOTS).toArray());
+
+        assertThat(histogramOf(mask).findMergedBlocks(1)).containsExactly(block(0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("23:30 칸 하나만 있으면 23:30~00:00 블록을 반환한다")
+    void returnsLastSlotAlone() {
+        assertThat(histogramOf(slots(47)).findMergedBlocks(1)).containsExactly(block(23, 30, 0, 0));
+    }
+
+    @Test
+    @DisplayName("00:00 칸만 있고 23:30 칸이 없으면 자정을 넘는 블록으로 만들지 않는다")
+    void doesNotWrapWithoutLastSlot() {
+        assertThat(histogramOf(slots(0, 1)).findMergedBlocks(1)).containsExactly(block(0, 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("최소 빈도와 같은 칸은 포함하고, 하나 적은 칸은 제외한다")
+    void includesSlotsAtThreshold() {
+        HalfHourHistogram histogram = new HalfHourHistogram();
+        for (int day = 0; day < 3; day++) {
+            histogram.addSlots(slots(10));
+        }
+        for (int day = 0; day < 2; day++) {
+            histogram.addSlots(slots(11, 12));
+        }
+
+        assertThat(histogram.getCount(10)).isEqualTo(3);
+        assertThat(histogram.getCount(11)).isEqualTo(2);
+        assertThat(histogram.findMergedBlocks(3)).containsExactly(block(5, 0, 5, 30));
+        assertThat(histogram.findMergedBlocks(2)).containsExactly(block(5, 0, 6, 30));
+        assertThat(histogram.findMergedBlocks(4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("48번째 이후의 비트는 무시한다")
+    void ignoresBitsBeyondLastSlot() {
+        HalfHourHistogram histogram = histogramOf(slots(3) | (1L << HalfHourHistogram.SLOTS) | Long.MIN_VALUE);
+
+        assertThat(histogram.findMergedBlocks(1)).containsExactly(block(1, 30, 2, 0));
+    }
+
+    private static HalfHourHistogram histogramOf(long mask) {
+        HalfHourHistogram histogram = new HalfHourHistogram();
+        histogram.addSlots(mask);
+        return histogram;
+    }
+
+    private static long slots(int... slots) {
+        long mask = 0L;
+        for (int slot : slots) {
+            mask |= 1L << slot;
+        }
+        return mask;
+    }
+
+    private static ActiveTimeBlock block(int startHour, int startMinute, int endHour, int endMinute) {
+        return new ActiveTimeBlock(LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+    }
+}
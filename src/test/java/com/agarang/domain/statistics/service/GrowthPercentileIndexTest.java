@@ -0,0 +1,132 @@
+package com.agarang.domain.statistics.service;
+
+import com.agarang.domain.record.entity.enumeration.GrowthStatusType;
+import com.agarang.domain.statistics.entity.GrowthPercentile;
+import com.agarang.domain.statistics.repository.GrowthPercentileRepository;
+import com.agarang.domain.user.entity.Sex;
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link GrowthPercentileIndex#calculateRank} 가 이전 {@code BigDecimal} 계산과 같은 순위를 반환하는지 확인하는 테스트입니다.
+ *
+ * <p>기대값은 index 도입 전 {@code GrowthStatisticsService.calculateRank} 의 계산으로 구했습니다.
+ * 이전 계산은 99 백분위수를 100 으로 보간했으나, index 는 1~99 순위 범위에 맞추어 99 로 보간하므로
+ * {@link #legacyRank} 도 99 를 사용합니다.</p>
+ */
+class GrowthPercentileIndexTest {
+    private static final int DAY = 30;
+    private static final int[] PERCENTILES = {3, 10, 25, 50, 75, 90, 97, 99};
+    private static final String[] VALUES = {"2.500", "2.900", "3.200", "3.500", "3.900", "4.200", "4.500", "4.800"};
+
+    private GrowthPercentileIndex growthPercentileIndex;
+
+    @BeforeEach
+    void setUp() {
+        GrowthPercentileRepository growthPercentileRepository = mock(GrowthPercentileRepository.class);
+        given(growthPercentileRepository.findAll()).willReturn(List.of(percentile(DAY)));
+
+        growthPercentileIndex = new GrowthPercentileIndex(growthPercentileRepository);
+        growthPercentileIndex.refresh();
+    }
+
+    @ParameterizedTest(name = "{0}kg -> {1}")
+    @CsvSource({
+            // 백분위수와 같은 값
+            "2.50, 3", "2.90, 10", "3.20, 25", "3.50, 50", "3.90, 75", "4.20, 90", "4.50, 97", "4.80, 99",
+            // 백분위수 사이의 값
+            "2.70, 7", "3.30, 33", "3.35, 38", "3.70, 63", "4.65, 98", "4.70, 98",
+            // 반올림 경계: 비율을 소수점 넷째 자리에서 반올림한 뒤 순위를 반올림
+            "2.91, 10", "3.05, 18", "4.05, 83", "4.35, 94",
+            // 3 백분위수 미만, 99 백분위수 초과
+            "2.49, 1", "1.00, 1", "4.81, 99", "9.99, 99"
+    })
+    @DisplayName("백분위수와 같거나 사이에 있거나 범위를 벗어난 측정값의 순위를 이전 계산과 같게 반환한다")
+    void calculatesRank(String measuredValue, int expectedRank) {
+        BigDecimal value = new BigDecimal(measuredValue);
+
+        assertThat(legacyRank(value)).isEqualTo(expectedRank);
+        assertThat(growthPercentileIndex.calculateRank(DAY, Sex.MALE, GrowthStatusType.WEIGHT, value.doubleValue()))
+                .isEqualTo(expectedRank);
+    }
+
+    @Test
+    @DisplayName("0.01 단위의 모든 측정값에서 이전 계산과 같은 순위를 반환한다")
+    void matchesLegacyRankForEveryHundredth() {
+        for (int hundredths = 200; hundredths <= 550; hundredths++) {
+            BigDecimal value = BigDecimal.valueOf(hundredths, 2);
+
+            assertThat(growthPercentileIndex.calculateRank(DAY, Sex.MALE, GrowthStatusType.WEIGHT, value.doubleValue()))
+                    .as("measuredValue %s", value)
+                    .isEqualTo(legacyRank(value));
+        }
+    }
+
+    @Test
+    @DisplayName("백분위수가 없는 일수, 성별, 유형은 GROWTH_PERCENTILE_NOT_FOUND 예외가 발생한다")
+    void throwsWhenPercentileIsMissing() {
+        assertNotFound(DAY - 1, Sex.MALE, GrowthStatusType.WEIGHT);
+        assertNotFound(DAY + 1, Sex.MALE, GrowthStatusType.WEIGHT);
+        assertNotFound(-1, Sex.MALE, GrowthStatusType.WEIGHT);
+        assertNotFound(DAY, Sex.FEMALE, GrowthStatusType.WEIGHT);
+        assertNotFound(DAY, Sex.MALE, GrowthStatusType.HEIGHT);
+    }
+
+    private void assertNotFound(int day, Sex sex, GrowthStatusType type) {
+        assertThatThrownBy(() -> growthPercentileIndex.calculateRank(day, sex, type, 3.5))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GROWTH_PERCENTILE_NOT_FOUND);
+    }
+
+    /**
+     * 이전 방식: 인접한 두 백분위수 사이의 비율을 소수점 넷째 자리에서 반올림하여 보간한 뒤, 순위를 반올림합니다.
+     */
+    private static int legacyRank(BigDecimal measuredValue) {
+        for (int i = 0; i < PERCENTILES.length - 1; i++) {
+            BigDecimal lowerValue = new BigDecimal(VALUES[i]);
+            BigDecimal upperValue = new BigDecimal(VALUES[i + 1]);
+
+            if (measuredValue.compareTo(lowerValue) >= 0 && measuredValue.compareTo(upperValue) <= 0) {
+                BigDecimal ratio = measuredValue.subtract(lowerValue).divide(upperValue.subtract(lowerValue), 4, RoundingMode.HALF_UP);
+                BigDecimal result = BigDecimal.valueOf(PERCENTILES[i])
+                        .add(ratio.multiply(BigDecimal.valueOf(PERCENTILES[i + 1] - PERCENTILES[i])));
+                return result.setScale(0, RoundingMode.HALF_UP).intValue();
+            }
+        }
+
+        if (measuredValue.compareTo(new BigDecimal(VALUES[0])) < 0) return 1;
+        if (measuredValue.compareTo(new BigDecimal(VALUES[VALUES.length - 1])) > 0) return 99;
+        return 50;
+    }
+
+    private static GrowthPercentile percentile(int day) {
+        return GrowthPercentile.builder()
+                .sex(Sex.MALE)
+                .type(GrowthStatusType.WEIGHT)
+                .day(day)
+                .p3(new BigDecimal(VALUES[0]))
+                .p10(new BigDecimal(VALUES[1]))
+                .p25(new BigDecimal(VALUES[2]))
+                .p50(new BigDecimal(VALUES[3]))
+                .p75(new BigDecimal(VALUES[4]))
+                .p90(new BigDecimal(VALUES[5]))
+                .p97(new BigDecimal(VALUES[6]))
+                .p99(new BigDecimal(VALUES[7]))
+                .build();
+    }
+}
@@ -0,0 +1,247 @@
+package com.agarang.domain.voice.controller;
+
+import com.agarang.domain.baby.repository.BabyRepository;
+import com.agarang.domain.record.repository.type.FormulaFeedingRepository;
+import com.agarang.domain.record.repository.type.NormalFeedingRepository;
+import com.agarang.domain.record.repository.type.PumpingFeedingRepository;
+import com.agarang.domain.record.repository.type.PumpingRepository;
+import com.agarang.domain.voice.dto.request.ClassificationRequest;
+import com.agarang.domain.voice.service.VoiceClassificationCache;
+import com.agarang.domain.voice.service.VoiceClassificationMetrics;
+import com.agarang.domain.voice.service.VoiceFastPathClassifier;
+import com.agarang.domain.voice.service.VoiceRecognitionService;
+import com.agarang.global.ai.OpenAiService;
+import com.agarang.global.util.JsonProcessor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 음성 분류 요청 100건이 동시에 OpenAI 응답을 기다릴 때 사용하는 Tomcat 스레드 수를 측정하는 부하 테스트입니다.
+ *
+ * <p>WireMock 으로 띄운 로컬 서버가 2초 뒤에 응답하는 OpenAI 를 대신합니다.
+ * 모든 요청이 OpenAI 응답을 기다리는 시점에 작업 중인 Tomcat 스레드 수를 확인하여,
+ * {@code Mono} 를 반환하는 현재 API 와 같은 서비스를 {@code block()} 하는 이전 방식의 API 를 비교합니다.
+ * DB 조회가 필요 없는 분류 결과(BATH)를 사용하고, 빠른 분류와 캐시는 거치지 않습니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class VoiceRecognitionLoadTest {
+    private static final int CONCURRENT_REQUESTS = 100;
+    private static final int OPENAI_DELAY_MILLIS = 2_000;
+    private static final String CLASSIFICATION = "{\"is_classified\":true,\"record_type\":\"BATH\",\"started_at\":\"2025-02-06T11:51:00\"}";
+
+    @RegisterExtension
+    static WireMockExtension openAi = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().containerThreads(CONCURRENT_REQUESTS + 20))
+            .build();
+
+    private static ConfigurableApplicationContext server;
+    private static HttpClient httpClient;
+
+    @Configuration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class, JacksonAutoConfiguration.class,
+            CodecsAutoConfiguration.class, WebClientAutoConfiguration.class})
+    @Import({VoiceRecognitionController.class, BlockingVoiceRecognitionController.class, VoiceRecognitionService.class,
+            OpenAiService.class, JsonProcessor.class})
+    static class VoiceNode {
+        @Bean(destroyMethod = "dispose")
+        Scheduler jpaScheduler() {
+            return Schedulers.newBoundedElastic(10, 1000, "jpa-blocking");
+        }
+
+        @Bean
+        BabyRepository babyRepository() {
+            return mock(BabyRepository.class);
+        }
+
+        @Bean
+        PumpingRepository pumpingRepository() {
+            return mock(PumpingRepository.class);
+        }
+
+        @Bean
+        NormalFeedingRepository normalFeedingRepository() {
+            return mock(NormalFeedingRepository.class);
+        }
+
+        @Bean
+        FormulaFeedingRepository formulaFeedingRepository() {
+            return mock(FormulaFeedingRepository.class);
+        }
+
+        @Bean
+        PumpingFeedingRepository pumpingFeedingRepository() {
+            return mock(PumpingFeedingRepository.class);
+        }
+
+        @Bean
+        VoiceFastPathClassifier voiceFastPathClassifier() {
+            return mock(VoiceFastPathClassifier.class);
+        }
+
+        @Bean
+        VoiceClassificationCache voiceClassificationCache() {
+            return mock(VoiceClassificationCache.class);
+        }
+
+        @Bean
+        VoiceClassificationMetrics voiceClassificationMetrics() {
+            return mock(VoiceClassificationMetrics.class);
+        }
+    }
+
+    /**
+     * 이전 방식: 서블릿 스레드에서 OpenAI 응답을 기다립니다.
+     */
+    @RestController
+    static class BlockingVoiceRecognitionController {
+        private final VoiceRecognitionService voiceRecognitionService;
+
+        BlockingVoiceRecognitionController(VoiceRecognitionService voiceRecognitionService) {
+            this.voiceRecognitionService = voiceRecognitionService;
+        }
+
+        @PostMapping("/api/voice/classify-blocking")
+        ResponseEntity<JsonNode> classifyText(@RequestBody ClassificationRequest classificationRequest) {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(voiceRecognitionService.classifyTextUsingCompletion(classificationRequest).block());
+        }
+    }
+
+    @BeforeAll
+    static void startServer() {
+        server = new SpringApplicationBuilder(VoiceNode.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=200",
+                        "openai.base-url=" + openAi.baseUrl(),
+                        "openai.api-key=test-key",
+                        "openai.api-key2=test-key",
+                        "openai.max-concurrent-requests=" + CONCURRENT_REQUESTS,
+                        "openai.max-queued-requests=" + CONCURRENT_REQUESTS)
+                .run();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (Objects.nonNull(server)) {
+            server.close();
+        }
+    }
+
+    @BeforeEach
+    void stubOpenAi() throws IOException {
+        String completion = new ObjectMapper().writeValueAsString(
+                Map.of("choices", List.of(Map.of("message", Map.of("role", "assistant", "content", CLASSIFICATION)))));
+        openAi.stubFor(post("/chat/completions").willReturn(okJson(completion).withFixedDelay(OPENAI_DELAY_MILLIS)));
+    }
+
+    @Test
+    @DisplayName("Mono 를 반환하는 음성 분류 API 는 동시 요청 100건이 OpenAI 를 기다리는 동안 Tomcat 스레드를 점유하지 않는다")
+    void reactiveEndpointDoesNotHoldTomcatThreads() throws InterruptedException {
+        Result result = load("/api/voice/classify");
+
+        System.out.printf("reactive /api/voice/classify: %d concurrent requests, busy tomcat threads while waiting %d, pool size %d, %d ms%n",
+                CONCURRENT_REQUESTS, result.busyWhileWaiting(), result.poolSize(), result.millis());
+
+        assertThat(result.statuses()).containsOnly(HttpStatus.CREATED.value());
+        assertThat(result.busyWhileWaiting()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("block() 하는 이전 방식은 동시 요청마다 Tomcat 스레드를 하나씩 점유한다")
+    void blockingEndpointHoldsTomcatThreadPerRequest() throws InterruptedException {
+        Result result = load("/api/voice/classify-blocking");
+
+        System.out.printf("blocking /api/voice/classify-blocking: %d concurrent requests, busy tomcat threads while waiting %d, pool size %d, %d ms%n",
+                CONCURRENT_REQUESTS, result.busyWhileWaiting(), result.poolSize(), result.millis());
+
+        assertThat(result.statuses()).containsOnly(HttpStatus.CREATED.value());
+        assertThat(result.busyWhileWaiting()).isGreaterThanOrEqualTo(CONCURRENT_REQUESTS * 9 / 10);
+    }
+
+    /**
+     * 요청을 동시에 보내고, OpenAI 응답 지연의 절반이 지났을 때 작업 중인 Tomcat 스레드 수를 기록합니다.
+     */
+    private Result load(String path) throws InterruptedException {
+        TomcatWebServer tomcat = (TomcatWebServer) ((ServletWebServerApplicationContext) server).getWebServer();
+        ThreadPoolExecutor tomcatExecutor = (ThreadPoolExecutor) tomcat.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + tomcat.getPort() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"text\":\"아기 목욕시켰어\",\"baby_id\":1}"))
+                .build();
+
+        long started = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+                .mapToObj(i -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .toList();
+
+        Thread.sleep(OPENAI_DELAY_MILLIS / 2);
+        int busyWhileWaiting = tomcatExecutor.getActiveCount();
+
+        List<Integer> statuses = responses.stream()
+                .map(CompletableFuture::join)
+                .map(HttpResponse::statusCode)
+                .toList();
+        long millis = (System.nanoTime() - started) / 1_000_000;
+
+        return new Result(statuses, busyWhileWaiting, tomcatExecutor.getPoolSize(), millis);
+    }
+
+    private record Result(List<Integer> statuses, int busyWhileWaiting, int poolSize, long millis) {}
+
+}
@@ -0,0 +1,117 @@
+package com.agarang.domain.voice.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link VoiceFastPathClassifier} 의 규칙이 자주 쓰이는 발화를 분류하고, 그 외의 발화는 OpenAI 로 넘기는지 확인하는 테스트입니다.
+ *
+ * <p>발화는 실제 요청과 같이 {@link VoiceFastPathClassifier#normalize(String)} 로 정규화한 뒤 분류합니다.</p>
+ */
+class VoiceFastPathClassifierTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 2, 6, 11, 51, 30, 123_000_000);
+    private static final String STARTED_AT = "2025-02-06T11:51:30";
+
+    private final VoiceFastPathClassifier classifier = new VoiceFastPathClassifier();
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "소변, PEE", "쉬 했어, PEE", "쉬했어, PEE", "오줌 쌌어요, PEE",
+            "대변 봤어, POOP", "응가했어, POOP", "똥 쌌어!, POOP",
+            "소변이랑 대변, BOTH", "똥하고 쉬 했어, BOTH", "응가랑 오줌 쌌어, BOTH"
+    })
+    @DisplayName("소변, 대변, 소변과 대변 발화를 배변 기록으로 분류한다")
+    void classifiesExcretion(String text, String excretionType) {
+        ObjectNode result = classify(text).orElseThrow();
+
+        assertClassified(result, "EXCRETION");
+        assertThat(result.get("excretion_type").asText()).isEqualTo(excretionType);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"목욕", "아기 목욕 시켰어", "샤워 완료", "목욕 시작"})
+    @DisplayName("목욕 발화를 목욕 기록으로 분류한다")
+    void classifiesBath(String text) {
+        assertClassified(classify(text).orElseThrow(), "BATH");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"잠 들었어", "낮잠 시작", "잠들었어", "아기 밤잠 시작", "재웠어"})
+    @DisplayName("수면 시작 발화는 종료 시각 없이 수면 기록으로 분류한다")
+    void classifiesSleepStart(String text) {
+        ObjectNode result = classify(text).orElseThrow();
+
+        assertClassified(result, "SLEEP");
+        assertThat(result.has("ended_at")).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"깼어", "낮잠 끝", "수면 종료", "일어났어", "기상"})
+    @DisplayName("수면 종료 발화는 현재 시각을 종료 시각으로 하는 수면 기록으로 분류한다")
+    void classifiesSleepEnd(String text) {
+        ObjectNode result = classify(text).orElseThrow();
+
+        assertClassified(result, "SLEEP");
+        assertThat(result.get("ended_at").asText()).isEqualTo(STARTED_AT);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} {2}")
+    @CsvSource({
+            "분유 120ml 먹었어, FORMULA_FEEDING, 120",
+            "분유 120 ML, FORMULA_FEEDING, 120",
+            "유축 수유 80cc, PUMPING_FEEDING, 80",
+            "유축수유 80미리, PUMPING_FEEDING, 80",
+            "수유 100 밀리리터, NORMAL_FEEDING, 100",
+            "우유 90ml 줬어, NORMAL_FEEDING, 90"
+    })
+    @DisplayName("ml, cc 단위의 분유, 유축 수유, 수유 발화를 수유 기록으로 분류한다")
+    void classifiesFeeding(String text, String feedingType, int amount) {
+        ObjectNode result = classify(text).orElseThrow();
+
+        assertClassified(result, "FEEDING");
+        assertThat(result.get("feeding_type").asText()).isEqualTo(feedingType);
+        assertThat(result.get("amount").asInt()).isEqualTo(amount);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "체온 34도, 34.0", "34.0도, 34.0", "열 42.9도, 42.9", "체온 38.5도 나왔어, 38.5", "체온 38.5도야., 38.5", "37℃, 37.0"
+    })
+    @DisplayName("34도 이상 43도 미만의 체온 발화를 발열 기록으로 분류한다")
+    void classifiesFever(String text, double temperature) {
+        ObjectNode result = classify(text).orElseThrow();
+
+        assertClassified(result, "FEVER");
+        assertThat(result.get("temperature").asDouble()).isEqualTo(temperature);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "쉬었어",
+            "33.9도", "43도", "43.0도",
+            "3시에 분유 120ml 먹었어", "오후 2시에 목욕했어", "10분 전에 쉬했어", "2시간 전에 잠들었어",
+            "분유 120ml 하고 쉬 했어", "분유 먹었어", "오늘 너무 피곤하다"
+    })
+    @DisplayName("규칙에 맞지 않거나 시간 표현이 있는 발화는 분류하지 않고 OpenAI 로 넘긴다")
+    void fallsThroughToLlm(String text) {
+        assertThat(classify(text)).isEmpty();
+    }
+
+    private Optional<ObjectNode> classify(String text) {
+        return classifier.classify(VoiceFastPathClassifier.normalize(text), NOW);
+    }
+
+    private static void assertClassified(ObjectNode result, String recordType) {
+        assertThat(result.get("is_classified").asBoolean()).isTrue();
+        assertThat(result.get("record_type").asText()).isEqualTo(recordType);
+        assertThat(result.get("started_at").asText()).isEqualTo(STARTED_AT);
+    }
+}
@@ -0,0 +1,241 @@
+package com.agarang.global.ai;
+
+import com.agarang.global.exception.BusinessException;
+import com.agarang.global.exception.ErrorCode;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.serviceUnavailable;
+import static com.github.tomakehurst.wiremock.client.WireMock.status;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenAI 호출의 재시도와 회로 차단을 확인하는 테스트입니다.
+ *
+ * <p>WireMock 으로 띄운 로컬 서버가 OpenAI chat completion API 를 대신합니다.
+ * 재시도 사이의 대기 시간이 최소 500ms 이므로, 재시도하는 테스트는 수 초가 걸립니다.</p>
+ */
+class OpenAiClientTest {
+    private static final String COMPLETIONS = "/chat/completions";
+    private static final String ANSWER = "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"수유\"}}]}";
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+
+    @RegisterExtension
+    static WireMockExtension openAi = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @Test
+    @DisplayName("429 와 5xx 응답은 재시도하여 성공한 응답을 반환한다")
+    void retriesTooManyRequestsAndServerErrors() {
+        openAi.stubFor(post(COMPLETIONS).inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(status(429))
+                .willSetStateTo("rate-limited"));
+        openAi.stubFor(post(COMPLETIONS).inScenario("retry")
+                .whenScenarioStateIs("rate-limited")
+                .willReturn(serviceUnavailable())
+                .willSetStateTo("recovered"));
+        openAi.stubFor(post(COMPLETIONS).inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(okJson(ANSWER)));
+        OpenAiClient client = client(2, Duration.ofSeconds(2));
+
+        String response = client.send("분유 120ml 먹었어").block();
+
+        assertThat(response).isEqualTo("수유");
+        assertThat(client.getRetryCount()).isEqualTo(2);
+        assertThat(client.getFailureCount()).isZero();
+        assertThat(client.getLatencyHistogram().getCount()).isEqualTo(1);
+        openAi.verify(3, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("시도 제한 시간을 넘긴 요청은 재시도한다")
+    void retriesAttemptTimeout() {
+        openAi.stubFor(post(COMPLETIONS).inScenario("timeout")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(okJson(ANSWER).withFixedDelay(1_000))
+                .willSetStateTo("fast"));
+        openAi.stubFor(post(COMPLETIONS).inScenario("timeout")
+                .whenScenarioStateIs("fast")
+                .willReturn(okJson(ANSWER)));
+        OpenAiClient client = client(1, Duration.ofMillis(300));
+
+        assertThat(client.send("분유 120ml 먹었어").block()).isEqualTo("수유");
+        assertThat(client.getRetryCount()).isEqualTo(1);
+        openAi.verify(2, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 사용하면 OPENAI_UNAVAILABLE 로 실패한다")
+    void failsAfterRetriesAreExhausted() {
+        openAi.stubFor(post(COMPLETIONS).willReturn(serviceUnavailable()));
+        OpenAiClient client = client(2, Duration.ofSeconds(2));
+
+        assertErrorCode(client.send("분유 120ml 먹었어"), ErrorCode.OPENAI_UNAVAILABLE);
+        assertThat(client.getRetryCount()).isEqualTo(2);
+        assertThat(client.getFailureCount()).isEqualTo(1);
+        openAi.verify(3, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않고 회로 차단 실패로도 세지 않는다")
+    void doesNotRetryClientErrors() {
+        openAi.stubFor(post(COMPLETIONS).willReturn(status(400)));
+        OpenAiClient client = client(2, Duration.ofSeconds(2));
+
+        for (int i = 0; i < 6; i++) {
+            assertErrorCode(client.send("분유 120ml 먹었어"), ErrorCode.OPENAI_UNAVAILABLE);
+        }
+
+        assertThat(client.getRetryCount()).isZero();
+        assertThat(client.getCircuitBreaker().getState()).isEqualTo(OpenAiCircuitBreaker.State.CLOSED);
+        openAi.verify(6, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("choices 가 비어 있으면 OPENAI_EMPTY_RESPONSE 로 실패한다")
+    void failsOnEmptyChoices() {
+        openAi.stubFor(post(COMPLETIONS).willReturn(okJson("{\"choices\":[]}")));
+        OpenAiClient client = client(2, Duration.ofSeconds(2));
+
+        assertErrorCode(client.send("분유 120ml 먹었어"), ErrorCode.OPENAI_EMPTY_RESPONSE);
+        openAi.verify(1, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("hedging 지연 안에 응답이 없으면 두 번째 요청을 보내 먼저 도착한 응답을 사용한다")
+    void hedgesSlowRequest() {
+        openAi.stubFor(post(COMPLETIONS).inScenario("hedge")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(okJson(ANSWER.replace("수유", "느린 응답")).withFixedDelay(2_000))
+                .willSetStateTo("hedged"));
+        openAi.stubFor(post(COMPLETIONS).inScenario("hedge")
+                .whenScenarioStateIs("hedged")
+                .willReturn(okJson(ANSWER)));
+        OpenAiClient client = client(0, Duration.ofSeconds(5));
+
+        assertThat(client.sendHedged("분유 120ml 먹었어", Duration.ofMillis(200)).block(Duration.ofSeconds(1))).isEqualTo("수유");
+        assertThat(client.getHedgeCount()).isEqualTo(1);
+        openAi.verify(2, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("연속으로 5번 실패하면 회로가 열려 요청을 보내지 않고 즉시 실패한다")
+    void opensCircuitAfterConsecutiveFailures() {
+        openAi.stubFor(post(COMPLETIONS).willReturn(serviceUnavailable()));
+        OpenAiClient client = client(0, Duration.ofSeconds(2));
+
+        for (int i = 0; i < 5; i++) {
+            assertErrorCode(client.send("분유 120ml 먹었어"), ErrorCode.OPENAI_UNAVAILABLE);
+        }
+        assertThat(client.getCircuitBreaker().getState()).isEqualTo(OpenAiCircuitBreaker.State.OPEN);
+
+        assertErrorCode(client.send("분유 120ml 먹었어"), ErrorCode.OPENAI_UNAVAILABLE);
+        assertThat(client.getCircuitBreaker().getRejectedCount()).isEqualTo(1);
+        openAi.verify(5, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 동시에 들어온 요청 중 하나만 보내 보고, 성공하면 회로를 닫는다")
+    void sendsSingleProbeWhenHalfOpen() throws InterruptedException {
+        OpenAiCircuitBreaker circuitBreaker = openCircuit();
+        openAi.resetRequests();
+        openAi.stubFor(post(COMPLETIONS).willReturn(okJson(ANSWER).withFixedDelay(500)));
+
+        Thread.sleep(OPEN_DURATION.plusMillis(100).toMillis());
+        List<String> results = Flux.range(0, 10)
+                .flatMap(i -> circuitBreaker.protect(this::exchange, OpenAiClientTest::isServerError)
+                        .onErrorResume(BusinessException.class, e -> Mono.just(e.getErrorCode().name()))
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        assertThat(results).containsOnlyOnce(ANSWER);
+        assertThat(results).filteredOn(ErrorCode.OPENAI_UNAVAILABLE.name()::equals).hasSize(9);
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenAiCircuitBreaker.State.CLOSED);
+        openAi.verify(1, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지난 뒤 보내 본 요청이 실패하면 회로를 다시 연다")
+    void reopensWhenProbeFails() throws InterruptedException {
+        OpenAiCircuitBreaker circuitBreaker = openCircuit();
+        openAi.resetRequests();
+
+        Thread.sleep(OPEN_DURATION.plusMillis(100).toMillis());
+        assertThatThrownBy(() -> circuitBreaker.protect(this::exchange, OpenAiClientTest::isServerError).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenAiCircuitBreaker.State.OPEN);
+        assertErrorCode(circuitBreaker.protect(this::exchange, OpenAiClientTest::isServerError), ErrorCode.OPENAI_UNAVAILABLE);
+        openAi.verify(1, postRequestedFor(urlEqualTo(COMPLETIONS)));
+    }
+
+    /**
+     * 실패 기준이 2번이고 열린 시간이 {@link #OPEN_DURATION} 인 회로를 503 응답으로 엽니다.
+     */
+    private OpenAiCircuitBreaker openCircuit() {
+        openAi.stubFor(post(COMPLETIONS).willReturn(serviceUnavailable()));
+        OpenAiCircuitBreaker circuitBreaker = new OpenAiCircuitBreaker("test", 2, OPEN_DURATION);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> circuitBreaker.protect(this::exchange, OpenAiClientTest::isServerError).block())
+                    .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(OpenAiCircuitBreaker.State.OPEN);
+        return circuitBreaker;
+    }
+
+    private Mono<String> exchange() {
+        return webClient().post()
+                .uri(COMPLETIONS)
+                .bodyValue(OpenAiRequest.ofUserPrompt("gpt-4o", "분유 120ml 먹었어"))
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    private static boolean isServerError(Throwable e) {
+        return e instanceof WebClientResponseException responseException && responseException.getStatusCode().is5xxServerError();
+    }
+
+    private static OpenAiClient client(int maxRetries, Duration attemptTimeout) {
+        return new OpenAiClient("test", webClient(),
+                new OpenAiClient.Policy(4, 10, attemptTimeout, Duration.ofSeconds(30), maxRetries));
+    }
+
+    private static WebClient webClient() {
+        return WebClient.builder()
+                .baseUrl(openAi.baseUrl())
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader("Authorization", "Bearer test-key")
+                .build();
+    }
+
+    private static void assertErrorCode(Mono<String> response, ErrorCode errorCode) {
+        assertThatThrownBy(response::block)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+}
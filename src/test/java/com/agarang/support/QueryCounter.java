@@ -0,0 +1,40 @@
+package com.agarang.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate 통계로 실행한 SQL 문 수를 세는 클래스입니다.
+ *
+ * <p>{@code hibernate.generate_statistics} 가 켜진 {@code query-count} 프로필에서 사용합니다.
+ * 통계는 세션 팩토리 전체에서 공유하므로, 측정하는 동안 다른 스레드가 쿼리를 실행하지 않아야 합니다.</p>
+ */
+public final class QueryCounter {
+    private final Statistics statistics;
+
+    private QueryCounter(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * 지금까지의 통계를 지우고 새로 세기 시작합니다.
+     *
+     * @param entityManagerFactory 통계를 수집하는 {@link EntityManagerFactory}
+     * @return 세기 시작한 {@link QueryCounter}
+     */
+    public static QueryCounter start(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return new QueryCounter(statistics);
+    }
+
+    /**
+     * 세기 시작한 뒤 준비한 SQL 문 수를 반환합니다.
+     *
+     * @return 준비한 SQL 문 수
+     */
+    public long statements() {
+        return statistics.getPrepareStatementCount();
+    }
+}
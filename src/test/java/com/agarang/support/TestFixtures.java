@@ -0,0 +1,67 @@
+package com.agarang.support;
+
+import com.agarang.domain.baby.entity.Baby;
+import com.agarang.domain.user.entity.Sex;
+import com.agarang.domain.user.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 테스트에서 저장하는 보호자와 아기 엔티티를 만드는 클래스입니다.
+ *
+ * <p>저장하지 않은 엔티티를 반환하므로, 테스트에서 {@code TestEntityManager} 등으로 저장해서 사용합니다.</p>
+ */
+public final class TestFixtures {
+    private static final LocalDate PARENT_BIRTH = LocalDate.of(1995, 1, 1);
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 기본 보호자를 만듭니다.
+     *
+     * @return 저장하지 않은 {@link User}
+     */
+    public static User parent() {
+        return parent("보호자", "parent@agarang.com");
+    }
+
+    /**
+     * 이름과 이메일을 지정한 보호자를 만듭니다. 이메일은 보호자마다 달라야 합니다.
+     *
+     * @param name  이름
+     * @param email 이메일
+     * @return 저장하지 않은 {@link User}
+     */
+    public static User parent(String name, String email) {
+        return User.builder()
+                .name(name)
+                .birth(PARENT_BIRTH)
+                .email(email)
+                .sex(Sex.FEMALE)
+                .userImage("user.png")
+                .build();
+    }
+
+    /**
+     * 지정한 시각에 태어난 기본 아기를 만듭니다.
+     *
+     * @param birth 출생 시각
+     * @return 저장하지 않은 {@link Baby}
+     */
+    public static Baby baby(LocalDateTime birth) {
+        return baby("아가", birth);
+    }
+
+    /**
+     * 이름과 출생 시각을 지정한 아기를 만듭니다.
+     *
+     * @param name  이름
+     * @param birth 출생 시각
+     * @return 저장하지 않은 {@link Baby}
+     */
+    public static Baby baby(String name, LocalDateTime birth) {
+        return new Baby(name, birth, Sex.MALE, "baby.png");
+    }
+}